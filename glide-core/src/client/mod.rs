@@ -8,7 +8,9 @@ use futures::FutureExt;
 use logger_core::log_info;
 use redis::aio::ConnectionLike;
 use redis::cluster_async::ClusterConnection;
-use redis::cluster_routing::{RoutingInfo, SingleNodeRoutingInfo};
+use redis::cluster_routing::{
+    MultipleNodeRoutingInfo, ResponsePolicy, Routable, RoutingInfo, SingleNodeRoutingInfo,
+};
 use redis::RedisResult;
 use redis::{Cmd, ErrorKind, Value};
 pub use standalone_client::StandaloneClient;
@@ -22,12 +24,21 @@ mod reconnecting_connection;
 mod standalone_client;
 mod value_conversion;
 
+tokio::task_local! {
+    /// The address of the node which served the request of the current task. Recorded only in the
+    /// scope of requests which report it, and only by the standalone client, which chooses the node.
+    pub static SERVED_BY: std::cell::Cell<Option<String>>;
+}
+
 pub const HEARTBEAT_SLEEP_DURATION: Duration = Duration::from_secs(1);
 
 pub const DEFAULT_RESPONSE_TIMEOUT: Duration = Duration::from_millis(250);
 pub const DEFAULT_CONNECTION_ATTEMPT_TIMEOUT: Duration = Duration::from_millis(250);
 pub const DEFAULT_PERIODIC_CHECKS_INTERVAL: Duration = Duration::from_secs(60);
 pub const INTERNAL_CONNECTION_TIMEOUT: Duration = Duration::from_millis(250);
+/// Extension of the timeout of blocking commands beyond their own blocking timeout, for the
+/// response to arrive once the server stops blocking.
+pub const BLOCKING_CMD_TIMEOUT_EXTENSION: Duration = Duration::from_millis(500);
 
 pub(super) fn get_port(address: &NodeAddress) -> u16 {
     const DEFAULT_PORT: u16 = 6379;
@@ -95,13 +106,50 @@ pub struct Client {
 }
 
 async fn run_with_timeout<T>(
-    timeout: Duration,
+    timeout: Option<Duration>,
     future: impl futures::Future<Output = RedisResult<T>> + Send,
 ) -> redis::RedisResult<T> {
-    tokio::time::timeout(timeout, future)
-        .await
-        .map_err(|_| io::Error::from(io::ErrorKind::TimedOut).into())
-        .and_then(|res| res)
+    match timeout {
+        Some(timeout) => tokio::time::timeout(timeout, future)
+            .await
+            .map_err(|_| io::Error::from(io::ErrorKind::TimedOut).into())
+            .and_then(|res| res),
+        None => future.await,
+    }
+}
+
+/// Returns the timeout of a command. Blocking commands wait on the server up to their own blocking
+/// timeout, so they are bounded by it instead of by the request timeout, and are not bounded at all
+/// when they block indefinitely.
+fn get_request_timeout(cmd: &Cmd, request_timeout: Duration) -> Option<Duration> {
+    let blocking_timeout = match cmd.command().as_deref() {
+        Some(b"BLPOP" | b"BRPOP" | b"BLMOVE" | b"BRPOPLPUSH" | b"BZPOPMIN" | b"BZPOPMAX") => {
+            let last = cmd.args_iter().count().saturating_sub(1);
+            cmd.arg_idx(last)
+                .and_then(|timeout| parse_blocking_timeout(timeout, 1000.0))
+        }
+        Some(b"BLMPOP" | b"BZMPOP") => cmd
+            .arg_idx(1)
+            .and_then(|timeout| parse_blocking_timeout(timeout, 1000.0)),
+        Some(b"XREAD" | b"XREADGROUP") => cmd
+            .position(b"BLOCK")
+            .and_then(|index| cmd.arg_idx(index + 1))
+            .and_then(|timeout| parse_blocking_timeout(timeout, 1.0)),
+        _ => None,
+    };
+    match blocking_timeout {
+        None => Some(request_timeout),
+        Some(timeout) if timeout.is_zero() => None,
+        Some(timeout) => Some(timeout + BLOCKING_CMD_TIMEOUT_EXTENSION),
+    }
+}
+
+/// Parses the blocking timeout argument of a command, given in units of `unit_millis` milliseconds.
+/// Invalid timeouts are left for the server to reject.
+fn parse_blocking_timeout(timeout: &[u8], unit_millis: f64) -> Option<Duration> {
+    let timeout: f64 = std::str::from_utf8(timeout).ok()?.parse().ok()?;
+    (timeout.is_finite() && timeout >= 0.0)
+        .then(|| Duration::from_secs_f64(timeout * unit_millis / 1000.0))
 }
 
 impl Client {
@@ -111,7 +159,8 @@ impl Client {
         routing: Option<RoutingInfo>,
     ) -> redis::RedisFuture<'a, Value> {
         let expected_type = expected_type_for_cmd(cmd);
-        run_with_timeout(self.request_timeout, async move {
+        let request_timeout = get_request_timeout(cmd, self.request_timeout);
+        run_with_timeout(request_timeout, async move {
             match self.internal_client {
                 ClientWrapper::Standalone(ref mut client) => client.send_command(cmd).await,
 
@@ -189,7 +238,7 @@ impl Client {
     ) -> redis::RedisFuture<'a, Value> {
         let command_count = pipeline.cmd_iter().count();
         let offset = command_count + 1;
-        run_with_timeout(self.request_timeout, async move {
+        run_with_timeout(Some(self.request_timeout), async move {
             let values = match self.internal_client {
                 ClientWrapper::Standalone(ref mut client) => {
                     client.send_pipeline(pipeline, offset, 1).await
@@ -225,7 +274,7 @@ impl Client {
                 return Err(err);
             };
             let load = load_cmd(code.as_str());
-            self.send_command(&load, None).await?;
+            self.send_command(&load, Some(load_routing(&eval, routing.clone()))).await?;
             self.send_command(&eval, routing).await
         } else {
             Err(err)
@@ -239,6 +288,20 @@ fn load_cmd(code: &str) -> Cmd {
     cmd
 }
 
+/// Returns the routing of the `SCRIPT LOAD` which precedes the retry of a script invocation: the
+/// nodes the invocation is routed to, or all primaries if the invocation goes to a random node.
+fn load_routing(eval: &Cmd, routing: Option<RoutingInfo>) -> RoutingInfo {
+    match routing.or_else(|| RoutingInfo::for_routable(eval)) {
+        Some(RoutingInfo::SingleNode(SingleNodeRoutingInfo::Random)) | None => {
+            RoutingInfo::MultiNode((
+                MultipleNodeRoutingInfo::AllMasters,
+                Some(ResponsePolicy::AllSucceeded),
+            ))
+        }
+        Some(routing) => routing,
+    }
+}
+
 fn eval_cmd<T: Deref<Target = str>>(hash: &str, keys: Vec<T>, args: Vec<T>) -> Cmd {
     let mut cmd = redis::cmd("EVALSHA");
     cmd.arg(hash).arg(keys.len());
@@ -269,7 +332,9 @@ async fn create_cluster_client(
         .map(|address| get_connection_info(&address, tls_mode, redis_connection_info.clone()))
         .collect();
     let read_from = request.read_from.unwrap_or_default();
-    let read_from_replicas = !matches!(read_from, ReadFrom::Primary); // TODO - implement different read from replica strategies.
+    // TODO - the cluster client has no replica selection strategies, so latency and AZ aware reads
+    // are spread over all replicas.
+    let read_from_replicas = !matches!(read_from, ReadFrom::Primary);
     let periodic_checks = match request.periodic_checks {
         Some(PeriodicCheck::Disabled) => None,
         Some(PeriodicCheck::Enabled) => Some(DEFAULT_PERIODIC_CHECKS_INTERVAL),
@@ -367,12 +432,15 @@ fn sanitized_request_string(request: &ConnectionRequest) -> String {
     let database_id = format!("\ndatabase ID: {}", request.database_id);
     let rfr_strategy = request
         .read_from
+        .as_ref()
         .map(|rfr| {
             format!(
                 "\nRead from Replica mode: {}",
                 match rfr {
-                    ReadFrom::Primary => "Only primary",
-                    ReadFrom::PreferReplica => "Prefer replica",
+                    ReadFrom::Primary => "Only primary".to_string(),
+                    ReadFrom::PreferReplica => "Prefer replica".to_string(),
+                    ReadFrom::LowestLatency => "Lowest latency".to_string(),
+                    ReadFrom::AZAffinity(client_az) => format!("AZ affinity ({client_az})"),
                 }
             )
         })
@@ -472,3 +540,87 @@ impl GlideClientForTests for StandaloneClient {
         self.send_command(cmd).boxed()
     }
 }
+
+#[cfg(test)]
+mod tests {
+    use super::*;
+    use redis::cluster_routing::{Route, SlotAddr};
+
+    const REQUEST_TIMEOUT: Duration = Duration::from_millis(250);
+
+    #[test]
+    fn test_request_timeout_of_non_blocking_command() {
+        let cmd = redis::cmd("GET").arg("key").clone();
+        assert_eq!(
+            get_request_timeout(&cmd, REQUEST_TIMEOUT),
+            Some(REQUEST_TIMEOUT)
+        );
+    }
+
+    #[test]
+    fn test_request_timeout_of_blocking_command() {
+        let cmd = redis::cmd("BLPOP").arg("key1").arg("key2").arg("1.5").clone();
+        assert_eq!(
+            get_request_timeout(&cmd, REQUEST_TIMEOUT),
+            Some(Duration::from_millis(1500) + BLOCKING_CMD_TIMEOUT_EXTENSION)
+        );
+
+        let cmd = redis::cmd("XREAD")
+            .arg("BLOCK")
+            .arg("2000")
+            .arg("STREAMS")
+            .arg("key")
+            .arg("$")
+            .clone();
+        assert_eq!(
+            get_request_timeout(&cmd, REQUEST_TIMEOUT),
+            Some(Duration::from_millis(2000) + BLOCKING_CMD_TIMEOUT_EXTENSION)
+        );
+    }
+
+    #[test]
+    fn test_request_timeout_of_indefinitely_blocking_command() {
+        let cmd = redis::cmd("BZPOPMIN").arg("key").arg("0").clone();
+        assert_eq!(get_request_timeout(&cmd, REQUEST_TIMEOUT), None);
+    }
+
+    #[test]
+    fn test_request_timeout_of_blocking_command_with_invalid_timeout() {
+        let cmd = redis::cmd("BRPOP").arg("key").arg("forever").clone();
+        assert_eq!(
+            get_request_timeout(&cmd, REQUEST_TIMEOUT),
+            Some(REQUEST_TIMEOUT)
+        );
+    }
+
+    #[test]
+    fn test_script_load_routing_follows_invocation() {
+        let eval = eval_cmd("hash", vec!["key"], vec!["arg"]);
+        let key_route = Route::new(redis::cluster_topology::get_slot(b"key"), SlotAddr::Master);
+        assert!(matches!(
+            load_routing(&eval, None),
+            RoutingInfo::SingleNode(SingleNodeRoutingInfo::SpecificNode(route))
+                if route == key_route
+        ));
+
+        let route = Route::new(0, SlotAddr::Master);
+        let routing = RoutingInfo::SingleNode(SingleNodeRoutingInfo::SpecificNode(route));
+        assert!(matches!(
+            load_routing(&eval, Some(routing)),
+            RoutingInfo::SingleNode(SingleNodeRoutingInfo::SpecificNode(load_route))
+                if load_route == route
+        ));
+    }
+
+    #[test]
+    fn test_script_load_routing_of_random_invocation_is_all_primaries() {
+        let eval = eval_cmd("hash", Vec::<&str>::new(), vec![]);
+        let random = RoutingInfo::SingleNode(SingleNodeRoutingInfo::Random);
+        for routing in [None, Some(random)] {
+            assert!(matches!(
+                load_routing(&eval, routing),
+                RoutingInfo::MultiNode((MultipleNodeRoutingInfo::AllMasters, _))
+            ));
+        }
+    }
+}
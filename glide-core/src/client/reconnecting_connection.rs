@@ -149,6 +149,16 @@ impl ReconnectingConnection {
         create_connection(backend, connection_retry_strategy).await
     }
 
+    /// Returns the address of the node, as `host:port`.
+    pub(super) fn node_address(&self) -> String {
+        self.inner
+            .backend
+            .connection_info
+            .get_connection_info()
+            .addr
+            .to_string()
+    }
+
     pub(super) fn is_dropped(&self) -> bool {
         self.inner
             .backend
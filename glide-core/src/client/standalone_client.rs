@@ -3,7 +3,9 @@
  */
 use super::get_redis_connection_info;
 use super::reconnecting_connection::ReconnectingConnection;
-use super::{ConnectionRequest, NodeAddress, TlsMode};
+use super::{
+    to_duration, ConnectionRequest, NodeAddress, TlsMode, DEFAULT_RESPONSE_TIMEOUT, SERVED_BY,
+};
 use crate::retry_strategies::RetryStrategy;
 use futures::{future, stream, StreamExt};
 #[cfg(standalone_heartbeat)]
@@ -11,16 +13,36 @@ use logger_core::log_debug;
 use logger_core::log_warn;
 use redis::cluster_routing::{self, is_readonly_cmd, ResponsePolicy, Routable, RoutingInfo};
 use redis::{RedisError, RedisResult, Value};
-use std::sync::atomic::AtomicUsize;
+use std::collections::HashMap;
+use std::sync::atomic::{AtomicU64, AtomicUsize, Ordering};
 use std::sync::Arc;
+use std::time::{Duration, Instant};
 #[cfg(standalone_heartbeat)]
 use tokio::task;
 
+/// With the lowest latency strategy, one read in this many is sent to the next replica in turn,
+/// so the latencies of all replicas stay up to date.
+const LATENCY_PROBE_INTERVAL: usize = 16;
+
 enum ReadFrom {
     Primary,
     PreferReplica {
         latest_read_replica_index: Arc<std::sync::atomic::AtomicUsize>,
     },
+    LowestLatency {
+        /// Moving average of the read latency of each node in microseconds, `0` until measured.
+        latencies: Vec<AtomicU64>,
+        /// The least latency recorded for a read which failed or timed out: the request timeout.
+        failure_penalty: Duration,
+        read_count: AtomicUsize,
+        latest_read_replica_index: Arc<std::sync::atomic::AtomicUsize>,
+    },
+    AZAffinity {
+        client_az: String,
+        /// Availability zone of each node, `None` if the node didn't report it.
+        node_azs: Vec<Option<String>>,
+        latest_read_replica_index: Arc<std::sync::atomic::AtomicUsize>,
+    },
 }
 
 struct DropWrapper {
@@ -38,6 +60,22 @@ impl Drop for DropWrapper {
     }
 }
 
+/// Records the latency of a read from a node when dropped, whether the read completed or was
+/// dropped before completion because the request timed out.
+struct LatencyRecorder<'a> {
+    client: &'a StandaloneClient,
+    index: usize,
+    start: Instant,
+    /// Whether the node responded, set once the read completes.
+    responded: bool,
+}
+
+impl Drop for LatencyRecorder<'_> {
+    fn drop(&mut self) {
+        self.client.record_latency(self.index, self.start.elapsed(), self.responded);
+    }
+}
+
 #[derive(Clone)]
 pub struct StandaloneClient {
     inner: Arc<DropWrapper>,
@@ -152,7 +190,9 @@ impl StandaloneClient {
                 ),
             );
         }
-        let read_from = get_read_from(connection_request.read_from);
+        let request_timeout =
+            to_duration(connection_request.request_timeout, DEFAULT_RESPONSE_TIMEOUT);
+        let read_from = get_read_from(connection_request.read_from, &nodes, request_timeout).await;
 
         #[cfg(standalone_heartbeat)]
         for node in nodes.iter() {
@@ -172,21 +212,23 @@ impl StandaloneClient {
         self.inner.nodes.get(self.inner.primary_index).unwrap()
     }
 
-    fn round_robin_read_from_replica(
+    /// Returns the index of the next connected replica which matches `filter`, in round-robin order.
+    fn round_robin_replica_index(
         &self,
         latest_read_replica_index: &Arc<AtomicUsize>,
-    ) -> &ReconnectingConnection {
-        let initial_index = latest_read_replica_index.load(std::sync::atomic::Ordering::Relaxed);
+        filter: impl Fn(usize) -> bool,
+    ) -> Option<usize> {
+        let initial_index = latest_read_replica_index.load(Ordering::Relaxed);
         let mut check_count = 0;
         loop {
             check_count += 1;
 
             // Looped through all replicas, no connected replica was found.
             if check_count > self.inner.nodes.len() {
-                return self.get_primary_connection();
+                return None;
             }
             let index = (initial_index + check_count) % self.inner.nodes.len();
-            if index == self.inner.primary_index {
+            if index == self.inner.primary_index || !filter(index) {
                 continue;
             }
             let Some(connection) = self.inner.nodes.get(index) else {
@@ -196,25 +238,88 @@ impl StandaloneClient {
                 let _ = latest_read_replica_index.compare_exchange_weak(
                     initial_index,
                     index,
-                    std::sync::atomic::Ordering::Relaxed,
-                    std::sync::atomic::Ordering::Relaxed,
+                    Ordering::Relaxed,
+                    Ordering::Relaxed,
                 );
-                return connection;
+                return Some(index);
             }
         }
     }
 
-    fn get_connection(&self, readonly: bool) -> &ReconnectingConnection {
+    /// Returns the index of the connected replica with the lowest measured latency.
+    fn lowest_latency_replica_index(&self, latencies: &[AtomicU64]) -> Option<usize> {
+        self.inner
+            .nodes
+            .iter()
+            .enumerate()
+            .filter(|(index, connection)| {
+                *index != self.inner.primary_index && connection.is_connected()
+            })
+            .min_by_key(|(index, _)| latencies[*index].load(Ordering::Relaxed))
+            .map(|(index, _)| index)
+    }
+
+    fn get_connection_index(&self, readonly: bool) -> usize {
         if self.inner.nodes.len() == 1 || !readonly {
-            return self.get_primary_connection();
+            return self.inner.primary_index;
         }
 
-        match &self.inner.read_from {
-            ReadFrom::Primary => self.get_primary_connection(),
+        let replica_index = match &self.inner.read_from {
+            ReadFrom::Primary => None,
             ReadFrom::PreferReplica {
                 latest_read_replica_index,
-            } => self.round_robin_read_from_replica(latest_read_replica_index),
-        }
+            } => self.round_robin_replica_index(latest_read_replica_index, |_| true),
+            ReadFrom::LowestLatency {
+                latencies,
+                read_count,
+                latest_read_replica_index,
+            } => {
+                if read_count.fetch_add(1, Ordering::Relaxed) % LATENCY_PROBE_INTERVAL == 0 {
+                    self.round_robin_replica_index(latest_read_replica_index, |_| true)
+                } else {
+                    self.lowest_latency_replica_index(latencies)
+                }
+            }
+            ReadFrom::AZAffinity {
+                client_az,
+                node_azs,
+                latest_read_replica_index,
+            } => self
+                .round_robin_replica_index(latest_read_replica_index, |index| {
+                    node_azs[index].as_deref() == Some(client_az.as_str())
+                })
+                .or_else(|| self.round_robin_replica_index(latest_read_replica_index, |_| true)),
+        };
+        // Without a connected replica, reads go to the primary.
+        replica_index.unwrap_or(self.inner.primary_index)
+    }
+
+    /// Updates the moving average of the read latency of a node, if the client reads from the
+    /// replica with the lowest latency. A read which got no response counts as taking at least the
+    /// request timeout, so a replica which fails or times out stops being preferred.
+    fn record_latency(&self, index: usize, latency: Duration, responded: bool) {
+        let ReadFrom::LowestLatency {
+            latencies,
+            failure_penalty,
+            ..
+        } = &self.inner.read_from
+        else {
+            return;
+        };
+        let latency = if responded {
+            latency
+        } else {
+            latency.max(*failure_penalty)
+        };
+        let sample = (latency.as_micros() as u64).max(1);
+        let average = &latencies[index];
+        let current = average.load(Ordering::Relaxed);
+        let updated = if current == 0 {
+            sample
+        } else {
+            current - current / 8 + sample / 8
+        };
+        average.store(updated.max(1), Ordering::Relaxed);
     }
 
     async fn send_request(
@@ -291,8 +396,28 @@ impl StandaloneClient {
         cmd: &redis::Cmd,
         readonly: bool,
     ) -> RedisResult<Value> {
-        let reconnecting_connection = self.get_connection(readonly);
-        Self::send_request(cmd, reconnecting_connection).await
+        let index = self.get_connection_index(readonly);
+        let reconnecting_connection = &self.inner.nodes[index];
+        let _ = SERVED_BY.try_with(|served_by| {
+            served_by.set(Some(reconnecting_connection.node_address()));
+        });
+        if !readonly || !matches!(self.inner.read_from, ReadFrom::LowestLatency { .. }) {
+            return Self::send_request(cmd, reconnecting_connection).await;
+        }
+        // The recorder also records the latency if the request is dropped on timeout.
+        let mut recorder = LatencyRecorder {
+            client: self,
+            index,
+            start: Instant::now(),
+            responded: false,
+        };
+        let result = Self::send_request(cmd, reconnecting_connection).await;
+        recorder.responded = match &result {
+            Ok(_) => true,
+            // An error reply is a response of the node, unlike a connection error.
+            Err(err) => !(err.is_io_error() || err.is_timeout() || err.is_unrecoverable_error()),
+        };
+        result
     }
 
     pub async fn send_command(&mut self, cmd: &redis::Cmd) -> RedisResult<Value> {
@@ -404,12 +529,55 @@ async fn get_connection_and_replication_info(
     }
 }
 
-fn get_read_from(read_from: Option<super::ReadFrom>) -> ReadFrom {
+/// Returns the availability zone reported by a node, on servers which support it.
+async fn get_availability_zone(reconnecting_connection: &ReconnectingConnection) -> Option<String> {
+    let mut connection = reconnecting_connection.try_get_connection().await?;
+    let value = connection
+        .send_packed_command(redis::cmd("CONFIG").arg("GET").arg("availability-zone"))
+        .await
+        .ok()?;
+    redis::from_owned_redis_value::<HashMap<String, String>>(value)
+        .ok()?
+        .remove("availability-zone")
+        .filter(|zone| !zone.is_empty())
+}
+
+async fn get_read_from(
+    read_from: Option<super::ReadFrom>,
+    nodes: &[ReconnectingConnection],
+    request_timeout: Duration,
+) -> ReadFrom {
     match read_from {
         Some(super::ReadFrom::Primary) => ReadFrom::Primary,
         Some(super::ReadFrom::PreferReplica) => ReadFrom::PreferReplica {
             latest_read_replica_index: Default::default(),
         },
+        Some(super::ReadFrom::LowestLatency) => ReadFrom::LowestLatency {
+            latencies: nodes.iter().map(|_| AtomicU64::new(0)).collect(),
+            failure_penalty: request_timeout,
+            read_count: Default::default(),
+            latest_read_replica_index: Default::default(),
+        },
+        Some(super::ReadFrom::AZAffinity(client_az)) => {
+            let node_azs = future::join_all(nodes.iter().map(get_availability_zone)).await;
+            let local_nodes = node_azs
+                .iter()
+                .filter(|zone| zone.as_deref() == Some(client_az.as_str()))
+                .count();
+            if local_nodes == 0 {
+                log_warn(
+                    "client creation",
+                    format!(
+                        "No node reported the availability zone `{client_az}`, reading from all replicas."
+                    ),
+                );
+            }
+            ReadFrom::AZAffinity {
+                client_az,
+                node_azs,
+                latest_read_replica_index: Default::default(),
+            }
+        }
         None => ReadFrom::Primary,
     }
 }
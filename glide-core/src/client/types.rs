@@ -47,11 +47,14 @@ impl ::std::fmt::Display for NodeAddress {
     }
 }
 
-#[derive(PartialEq, Eq, Clone, Copy, Default)]
+#[derive(PartialEq, Eq, Clone, Default)]
 pub enum ReadFrom {
     #[default]
     Primary,
     PreferReplica,
+    LowestLatency,
+    /// Prefer replicas in the availability zone of the client.
+    AZAffinity(String),
 }
 
 #[derive(PartialEq, Eq, Clone, Copy, Default)]
@@ -92,8 +95,11 @@ impl From<protobuf::ConnectionRequest> for ConnectionRequest {
         let read_from = value.read_from.enum_value().ok().map(|val| match val {
             protobuf::ReadFrom::Primary => ReadFrom::Primary,
             protobuf::ReadFrom::PreferReplica => ReadFrom::PreferReplica,
-            protobuf::ReadFrom::LowestLatency => todo!(),
-            protobuf::ReadFrom::AZAffinity => todo!(),
+            protobuf::ReadFrom::LowestLatency => ReadFrom::LowestLatency,
+            protobuf::ReadFrom::AZAffinity => match chars_to_string_option(&value.client_az) {
+                Some(client_az) => ReadFrom::AZAffinity(client_az),
+                None => ReadFrom::PreferReplica,
+            },
         });
 
         let client_name = chars_to_string_option(&value.client_name);
@@ -7,7 +7,10 @@ use once_cell::sync::Lazy;
 use sha1_smol::Sha1;
 use std::{collections::HashMap, sync::Mutex};
 
-static CONTAINER: Lazy<Mutex<HashMap<String, ArcStr>>> = Lazy::new(|| Mutex::new(HashMap::new()));
+/// The scripts by hash, with the number of times each script was added. Equal scripts share an
+/// entry, which is removed once every addition is removed.
+static CONTAINER: Lazy<Mutex<HashMap<String, (ArcStr, usize)>>> =
+    Lazy::new(|| Mutex::new(HashMap::new()));
 
 pub fn add_script(script: &str) -> String {
     let mut hash = Sha1::new();
@@ -20,12 +23,18 @@ pub fn add_script(script: &str) -> String {
     CONTAINER
         .lock()
         .unwrap()
-        .insert(hash.clone(), script.into());
+        .entry(hash.clone())
+        .or_insert_with(|| (script.into(), 0))
+        .1 += 1;
     hash
 }
 
 pub fn get_script(hash: &str) -> Option<ArcStr> {
-    CONTAINER.lock().unwrap().get(hash).cloned()
+    CONTAINER
+        .lock()
+        .unwrap()
+        .get(hash)
+        .map(|(script, _)| script.clone())
 }
 
 pub fn remove_script(hash: &str) {
@@ -33,5 +42,29 @@ pub fn remove_script(hash: &str) {
         "script lifetime",
         format!("Removed script with hash: `{hash}`"),
     );
-    CONTAINER.lock().unwrap().remove(hash);
+    let mut container = CONTAINER.lock().unwrap();
+    if let Some((_, count)) = container.get_mut(hash) {
+        *count -= 1;
+        if *count == 0 {
+            container.remove(hash);
+        }
+    }
+}
+
+#[cfg(test)]
+mod tests {
+    use super::*;
+
+    #[test]
+    fn test_script_is_kept_until_every_addition_is_removed() {
+        let script = "return 'test_script_is_kept_until_every_addition_is_removed'";
+        let hash = add_script(script);
+        assert_eq!(add_script(script), hash);
+
+        remove_script(&hash);
+        assert_eq!(get_script(&hash).as_deref(), Some(script));
+
+        remove_script(&hash);
+        assert!(get_script(&hash).is_none());
+    }
 }
@@ -2,7 +2,7 @@
  * Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0
  */
 use super::rotating_buffer::RotatingBuffer;
-use crate::client::Client;
+use crate::client::{Client, SERVED_BY};
 use crate::connection_request::ConnectionRequest;
 use crate::errors::{error_message, error_type, RequestErrorType};
 use crate::redis_request::{
@@ -27,6 +27,7 @@ use signal_hook::consts::signal::*;
 use signal_hook_tokio::Signals;
 use std::cell::Cell;
 use std::rc::Rc;
+use std::time::{SystemTime, UNIX_EPOCH};
 use std::{env, str};
 use std::{io, thread};
 use thiserror::Error;
@@ -179,10 +180,22 @@ async fn write_closing_error(
     write_to_writer(response, writer).await
 }
 
-/// Create response and write it to the writer
+/// Microseconds since the UNIX epoch, used to report request timings to the wrapper.
+fn now_micros() -> u64 {
+    SystemTime::now()
+        .duration_since(UNIX_EPOCH)
+        .map(|duration| duration.as_micros() as u64)
+        .unwrap_or_default()
+}
+
+/// Create response and write it to the writer.
+/// If `received_at` is set, the response reports when the request was received and answered, and
+/// the node which served it, if known.
 async fn write_result(
     resp_result: ClientUsageResult<Value>,
     callback_index: u32,
+    received_at: Option<u64>,
+    served_by: Option<String>,
     writer: &Rc<Writer>,
 ) -> Result<(), io::Error> {
     let mut response = Response::new();
@@ -235,6 +248,16 @@ async fn write_result(
             Some(response::response::Value::RequestError(request_error))
         }
     };
+    if let Some(received_at_micros) = received_at {
+        response.core_timings = protobuf::MessageField::some(response::CoreTimings {
+            received_at_micros,
+            sent_at_micros: now_micros(),
+            ..Default::default()
+        });
+        if let Some(served_by) = served_by {
+            response.served_by = served_by.into();
+        }
+    }
     write_to_writer(response, writer).await
 }
 
@@ -365,6 +388,10 @@ fn get_command(request: &Command) -> Option<Cmd> {
         RequestType::Rename => Some(cmd("RENAME")),
         RequestType::DBSize => Some(cmd("DBSIZE")),
         RequestType::Brpop => Some(cmd("BRPOP")),
+        RequestType::Append => Some(cmd("APPEND")),
+        RequestType::Blpop => Some(cmd("BLPOP")),
+        RequestType::BLMove => Some(cmd("BLMOVE")),
+        RequestType::BZPopMin => Some(cmd("BZPOPMIN")),
     }
 }
 
@@ -516,47 +543,57 @@ fn get_route(
 }
 
 fn handle_request(request: RedisRequest, client: Client, writer: Rc<Writer>) {
+    let received_at = request.record_timings.then(now_micros);
     task::spawn_local(async move {
-        let result = match request.command {
-            Some(action) => match action {
-                redis_request::Command::SingleCommand(command) => {
-                    match get_redis_command(&command) {
-                        Ok(cmd) => match get_route(request.route.0, Some(&cmd)) {
-                            Ok(routes) => send_command(cmd, client, routes).await,
-                            Err(e) => Err(e),
-                        },
+        let callback_idx = request.callback_idx;
+        let (result, served_by) = if received_at.is_some() {
+            SERVED_BY
+                .scope(Cell::new(None), async move {
+                    let result = execute_request(request, client).await;
+                    (result, SERVED_BY.with(Cell::take))
+                })
+                .await
+        } else {
+            (execute_request(request, client).await, None)
+        };
+
+        let _res = write_result(result, callback_idx, received_at, served_by, &writer).await;
+    });
+}
+
+async fn execute_request(request: RedisRequest, client: Client) -> ClientUsageResult<Value> {
+    match request.command {
+        Some(action) => match action {
+            redis_request::Command::SingleCommand(command) => {
+                match get_redis_command(&command) {
+                    Ok(cmd) => match get_route(request.route.0, Some(&cmd)) {
+                        Ok(routes) => send_command(cmd, client, routes).await,
                         Err(e) => Err(e),
-                    }
+                    },
+                    Err(e) => Err(e),
                 }
-                redis_request::Command::Transaction(transaction) => {
-                    match get_route(request.route.0, None) {
-                        Ok(routes) => send_transaction(transaction, client, routes).await,
-                        Err(e) => Err(e),
-                    }
+            }
+            redis_request::Command::Transaction(transaction) => {
+                match get_route(request.route.0, None) {
+                    Ok(routes) => send_transaction(transaction, client, routes).await,
+                    Err(e) => Err(e),
                 }
-                redis_request::Command::ScriptInvocation(script) => {
-                    match get_route(request.route.0, None) {
-                        Ok(routes) => invoke_script(script, client, routes).await,
-                        Err(e) => Err(e),
-                    }
+            }
+            redis_request::Command::ScriptInvocation(script) => {
+                match get_route(request.route.0, None) {
+                    Ok(routes) => invoke_script(script, client, routes).await,
+                    Err(e) => Err(e),
                 }
-            },
-            None => {
-                log_debug(
-                    "received error",
-                    format!(
-                        "Received empty request for callback {}",
-                        request.callback_idx
-                    ),
-                );
-                Err(ClienUsageError::Internal(
-                    "Received empty request".to_string(),
-                ))
             }
-        };
-
-        let _res = write_result(result, request.callback_idx, &writer).await;
-    });
+        },
+        None => {
+            log_debug(
+                "received error",
+                format!("Received empty request for callback {}", request.callback_idx),
+            );
+            Err(ClienUsageError::Internal("Received empty request".to_string()))
+        }
+    }
 }
 
 async fn handle_requests(
@@ -584,7 +621,7 @@ async fn create_client(
         Ok(client) => client,
         Err(err) => return Err(ClientCreationError::ConnectionError(err)),
     };
-    write_result(Ok(Value::Okay), 0, writer).await?;
+    write_result(Ok(Value::Okay), 0, None, None, writer).await?;
     Ok(client)
 }
 
@@ -9,9 +9,11 @@ mod cluster_client_tests {
 
     use super::*;
     use glide_core::connection_request::ReadFrom;
+    use glide_core::scripts_container::{add_script, remove_script};
     use redis::cluster_routing::{
         MultipleNodeRoutingInfo, Route, RoutingInfo, SingleNodeRoutingInfo, SlotAddr,
     };
+    use redis::Value;
     use rstest::rstest;
     use utilities::cluster::{setup_test_basics_internal, SHORT_CLUSTER_TEST_TIMEOUT};
     use utilities::*;
@@ -118,6 +120,46 @@ mod cluster_client_tests {
         });
     }
 
+    #[rstest]
+    #[timeout(SHORT_CLUSTER_TEST_TIMEOUT)]
+    fn test_invoke_script_loads_script_where_it_is_invoked() {
+        block_on_all(async {
+            let mut test_basics = setup_test_basics_internal(TestConfiguration {
+                cluster_mode: ClusterMode::Enabled,
+                shared_server: true,
+                ..Default::default()
+            })
+            .await;
+
+            // A new script, which no node has loaded yet.
+            let value = generate_random_string(10);
+            let hash = add_script(&format!("return '{value}'"));
+            // The keys are in slots of the 3 primaries, so each invocation goes to another node,
+            // which loads the script when the invocation fails with NOSCRIPT.
+            for key in ["b", "c", "a"] {
+                let result = test_basics
+                    .client
+                    .invoke_script(&hash, vec![key], vec![], None)
+                    .await
+                    .unwrap();
+                assert_eq!(result, Value::BulkString(value.clone().into_bytes()));
+            }
+            // Without keys, the invocation goes to a random node, so the script is loaded on all
+            // primaries.
+            let other_hash = add_script(&format!("return '{value}{value}'"));
+            for _ in 0..3 {
+                let result = test_basics
+                    .client
+                    .invoke_script(&other_hash, Vec::<&str>::new(), vec![], None)
+                    .await
+                    .unwrap();
+                assert_eq!(result, Value::BulkString(value.repeat(2).into_bytes()));
+            }
+            remove_script(&hash);
+            remove_script(&other_hash);
+        });
+    }
+
     #[rstest]
     #[timeout(SHORT_CLUSTER_TEST_TIMEOUT)]
     fn test_send_routing_by_slot_to_primary() {
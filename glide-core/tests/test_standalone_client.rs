@@ -246,6 +246,70 @@ mod standalone_client_tests {
         });
     }
 
+    #[rstest]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_lowest_latency_measures_every_replica() {
+        test_read_from_replica(ReadFromReplicaTestConfig {
+            read_from: ReadFrom::LowestLatency,
+            expected_primary_reads: 0,
+            expected_replica_reads: vec![1, 1, 1],
+            ..Default::default()
+        });
+    }
+
+    #[rstest]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_lowest_latency_read_from_primary_if_no_replica_is_connected() {
+        test_read_from_replica(ReadFromReplicaTestConfig {
+            read_from: ReadFrom::LowestLatency,
+            expected_primary_reads: 3,
+            expected_replica_reads: vec![],
+            number_of_missing_replicas: 3,
+            ..Default::default()
+        });
+    }
+
+    #[rstest]
+    #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
+    fn test_read_from_replica_lowest_latency_avoids_replica_which_timed_out() {
+        let mocks = create_primary_mock_with_replicas(2);
+        let (slow_replica, fast_replica) = (&mocks[1], &mocks[2]);
+        let mut cmd = redis::cmd("GET");
+        cmd.arg("foo");
+        slow_replica.add_delayed_response(&cmd, "$-1\r\n".to_string(), Duration::from_secs(5));
+        for _ in 0..6 {
+            fast_replica.add_response(&cmd, "$-1\r\n".to_string());
+        }
+
+        let addresses: Vec<redis::ConnectionAddr> =
+            mocks.iter().flat_map(|mock| mock.get_addresses()).collect();
+        let mut connection_request = create_connection_request(
+            addresses.as_slice(),
+            &TestConfiguration {
+                request_timeout: Some(1000),
+                ..Default::default()
+            },
+        );
+        connection_request.read_from = ReadFrom::LowestLatency.into();
+
+        block_on_all(async {
+            let mut client = StandaloneClient::create_client(connection_request.into())
+                .await
+                .unwrap();
+            for _ in 0..6 {
+                // Dropping the read on timeout, as the client does, records the timeout as the
+                // latency of the replica.
+                let read = client.send_command(&cmd);
+                let _ = tokio::time::timeout(Duration::from_millis(100), read).await;
+            }
+        });
+
+        // Only the first read sent to the slow replica times out, the next ones go to the fast one.
+        assert_eq!(mocks[0].get_number_of_received_commands(), 0);
+        assert_eq!(slow_replica.get_number_of_received_commands(), 1);
+        assert_eq!(fast_replica.get_number_of_received_commands(), 5);
+    }
+
     #[rstest]
     #[timeout(SHORT_STANDALONE_TEST_TIMEOUT)]
     fn test_read_from_replica_round_robin_with_single_replica() {
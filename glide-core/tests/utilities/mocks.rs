@@ -11,6 +11,7 @@ use std::sync::{
     atomic::{AtomicU16, Ordering},
     Arc,
 };
+use std::time::Duration;
 use tokio::io::AsyncWriteExt;
 use tokio::net::TcpStream;
 use tokio::sync::mpsc::UnboundedSender;
@@ -18,6 +19,8 @@ use tokio::sync::mpsc::UnboundedSender;
 pub struct MockedRequest {
     pub expected_message: String,
     pub response: String,
+    /// Time to wait before responding.
+    pub delay: Duration,
 }
 
 pub struct ServerMock {
@@ -94,6 +97,9 @@ async fn receive_and_respond_to_next_message(
     };
     received_commands.fetch_add(1, Ordering::AcqRel);
     assert_eq!(message, request.expected_message);
+    if !request.delay.is_zero() {
+        tokio::time::sleep(request.delay).await;
+    }
     socket.write_all(request.response.as_bytes()).await.unwrap();
     true
 }
@@ -159,6 +165,16 @@ impl ServerMock {
         }
     }
 
+    /// Adds a response which is sent only after `delay`, like the response of a slow node.
+    pub fn add_delayed_response(&self, request: &Cmd, response: String, delay: Duration) {
+        let expected_message = String::from_utf8(request.get_packed_command()).unwrap();
+        let _ = self.request_sender.send(MockedRequest {
+            expected_message,
+            response,
+            delay,
+        });
+    }
+
     pub async fn close(self) {
         self.closing_signal.set();
         self.closing_completed_signal.wait().await;
@@ -175,6 +191,7 @@ impl Mock for ServerMock {
         let _ = self.request_sender.send(MockedRequest {
             expected_message,
             response,
+            delay: Duration::ZERO,
         });
     }
 
@@ -0,0 +1,152 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks;
+
+import glide.api.compression.CompressionCodec;
+import glide.api.compression.DeflateCompressor;
+import glide.api.models.configuration.CompressionConfiguration;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark of the value compression codec. For a mix of JSON values of different sizes, and for
+ * each compression threshold, reports the bytes sent and stored (network and memory), the time to
+ * encode and decode a value (CPU) and the bytes allocated on the heap per value. It runs offline,
+ * without a Redis server.
+ */
+public class CompressionBenchmark {
+
+    private static final int[] VALUE_SIZES = {64, 256, 1024, 4096, 16384, 65536};
+
+    private static final int[] THRESHOLDS = {Integer.MAX_VALUE, 128, 512, 1024, 4096, 16384};
+
+    private static final int[] LEVELS = {1, 6};
+
+    private static final int VALUES_PER_SIZE = 50;
+
+    private static final int WARMUP_ROUNDS = 20;
+
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        List<String> values = sampleValues();
+        long rawBytes = 0;
+        for (String value : values) {
+            rawBytes += value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        System.out.printf(
+                "%d JSON values of %s bytes, %d bytes in total%n%n",
+                values.size(), Arrays.toString(VALUE_SIZES), rawBytes);
+        System.out.printf(
+                "%-6s %-10s %12s %8s %14s %14s %16s%n",
+                "level",
+                "threshold",
+                "stored bytes",
+                "ratio",
+                "encode us/op",
+                "decode us/op",
+                "alloc bytes/op");
+
+        for (int level : LEVELS) {
+            for (int threshold : THRESHOLDS) {
+                var codec =
+                        new CompressionCodec(
+                                CompressionConfiguration.builder()
+                                        .threshold(threshold)
+                                        .compressor(new DeflateCompressor(level))
+                                        .build());
+                report(level, threshold, codec, values, rawBytes);
+            }
+        }
+    }
+
+    private static void report(
+            int level, int threshold, CompressionCodec codec, List<String> values, long rawBytes) {
+        String[] encoded = new String[values.size()];
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            encodeAll(codec, values, encoded);
+            decodeAll(codec, encoded);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            encodeAll(codec, values, encoded);
+            long middle = System.nanoTime();
+            decodeAll(codec, encoded);
+            encodeNanos += middle - start;
+            decodeNanos += System.nanoTime() - middle;
+        }
+        long operations = (long) ROUNDS * values.size();
+        long allocated = (allocatedBytes() - allocatedBefore) / operations;
+
+        long storedBytes = 0;
+        for (String value : encoded) {
+            storedBytes += value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        System.out.printf(
+                "%-6d %-10s %12d %8.2f %14.2f %14.2f %16d%n",
+                level,
+                threshold == Integer.MAX_VALUE ? "off" : Integer.toString(threshold),
+                storedBytes,
+                (double) storedBytes / rawBytes,
+                encodeNanos / 1e3 / operations,
+                decodeNanos / 1e3 / operations,
+                allocated);
+    }
+
+    private static void encodeAll(CompressionCodec codec, List<String> values, String[] encoded) {
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = codec.encode(values.get(i));
+        }
+    }
+
+    private static void decodeAll(CompressionCodec codec, String[] encoded) {
+        for (String value : encoded) {
+            if (codec.decode(value) == null) {
+                throw new IllegalStateException("Unexpected null value");
+            }
+        }
+    }
+
+    /** Returns the bytes allocated by the current thread, or 0 if the JVM does not report them. */
+    private static long allocatedBytes() {
+        var threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /** Builds JSON documents of the given sizes, with the repetition of typical API payloads. */
+    private static List<String> sampleValues() {
+        var random = new Random(42);
+        String[] words = {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel"};
+        List<String> values = new ArrayList<>();
+        for (int size : VALUE_SIZES) {
+            for (int v = 0; v < VALUES_PER_SIZE; v++) {
+                var json = new StringBuilder("{\"items\":[");
+                for (int i = 0; json.length() < size - 2; i++) {
+                    json.append(i == 0 ? "" : ",")
+                            .append("{\"id\":")
+                            .append(random.nextInt(1_000_000))
+                            .append(",\"name\":\"")
+                            .append(words[random.nextInt(words.length)])
+                            .append("\",\"score\":")
+                            .append(random.nextDouble())
+                            .append(",\"active\":")
+                            .append(random.nextBoolean())
+                            .append("}");
+                }
+                values.add(json.append("]}").toString());
+            }
+        }
+        return values;
+    }
+}
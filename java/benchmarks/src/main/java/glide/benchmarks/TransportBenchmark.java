@@ -0,0 +1,182 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks;
+
+import glide.connectors.handlers.ProtobufSocketChannelInitializer;
+import glide.connectors.resources.Platform;
+import glide.connectors.resources.ThreadPoolResource;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.kqueue.KQueueServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark of the UDS transport between the client and the core. Producer threads write small
+ * frames to a local domain socket server, once flushing every request and once with the flush
+ * consolidation used by the client. For each number of producers, reports the throughput, the
+ * number of flushes which reach the socket per request (each writes the pending requests with one
+ * syscall) and the number of reads of the server per request. It runs offline, without a Redis
+ * server.
+ */
+public class TransportBenchmark {
+
+    private static final int[] PRODUCERS = {1, 4, 16, 64};
+
+    private static final int REQUESTS = 200_000;
+
+    private static final int WARMUP_REQUESTS = 50_000;
+
+    /** About the size of an encoded GET request. */
+    private static final int FRAME_SIZE = 32;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println(Platform.getCapabilities());
+        System.out.printf(
+                "%d requests of %d bytes%n%n%-14s %-10s %14s %14s %14s%n",
+                REQUESTS, FRAME_SIZE, "flush", "producers", "requests/s", "flushes/req", "reads/req");
+
+        ThreadPoolResource resource = Platform.getThreadPoolResourceSupplier().get();
+        Path socketPath = Files.createTempFile("TransportBenchmark", null);
+        Files.delete(socketPath);
+        var receiver = new Receiver();
+        Channel server =
+                new ServerBootstrap()
+                        .group(resource.getEventLoopGroup())
+                        .channel(
+                                Platform.getCapabilities().isEPollAvailable()
+                                        ? EpollServerDomainSocketChannel.class
+                                        : KQueueServerDomainSocketChannel.class)
+                        .childHandler(receiver)
+                        .bind(new DomainSocketAddress(socketPath.toString()))
+                        .sync()
+                        .channel();
+        try {
+            for (boolean consolidate : new boolean[] {false, true}) {
+                for (int producers : PRODUCERS) {
+                    var flushes = new FlushCounter();
+                    Channel client = connect(resource, socketPath, flushes, consolidate);
+                    run(client, receiver, producers, WARMUP_REQUESTS);
+                    long flushesBefore = flushes.count.get();
+                    long readsBefore = receiver.reads.get();
+                    long start = System.nanoTime();
+                    run(client, receiver, producers, REQUESTS);
+                    long nanos = System.nanoTime() - start;
+                    System.out.printf(
+                            "%-14s %-10d %14.0f %14.3f %14.3f%n",
+                            consolidate ? "consolidated" : "per request",
+                            producers,
+                            REQUESTS * 1e9 / nanos,
+                            (flushes.count.get() - flushesBefore) / (double) REQUESTS,
+                            (receiver.reads.get() - readsBefore) / (double) REQUESTS);
+                    client.close().sync();
+                }
+            }
+        } finally {
+            server.close().sync();
+            resource.getEventLoopGroup().shutdownGracefully().sync();
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    private static Channel connect(
+            ThreadPoolResource resource, Path socketPath, FlushCounter flushes, boolean consolidate)
+            throws InterruptedException {
+        return new Bootstrap()
+                .group(resource.getEventLoopGroup())
+                .channel(resource.getDomainSocketChannelClass())
+                .handler(
+                        new ChannelInitializer<Channel>() {
+                            @Override
+                            protected void initChannel(Channel ch) {
+                                ch.pipeline().addLast(flushes);
+                                if (consolidate) {
+                                    ch.pipeline()
+                                            .addLast(
+                                                    new FlushConsolidationHandler(
+                                                            ProtobufSocketChannelInitializer.MAX_CONSOLIDATED_FLUSHES, true));
+                                }
+                            }
+                        })
+                .connect(new DomainSocketAddress(socketPath.toString()))
+                .sync()
+                .channel();
+    }
+
+    /** Write the requests from the producer threads, and wait until the server has read them. */
+    private static void run(Channel client, Receiver receiver, int producers, int requests)
+            throws InterruptedException {
+        var received = receiver.expect((long) requests * FRAME_SIZE);
+        ByteBuf frame = Unpooled.unreleasableBuffer(Unpooled.directBuffer(FRAME_SIZE));
+        frame.writeZero(FRAME_SIZE);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            int count = requests / producers + (i < requests % producers ? 1 : 0);
+            var thread =
+                    new Thread(
+                            () -> {
+                                for (int j = 0; j < count; j++) {
+                                    client.writeAndFlush(frame.duplicate());
+                                }
+                            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (!received.await(60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The server did not receive all requests");
+        }
+    }
+
+    /** Counts the flushes which reach the socket. */
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            count.incrementAndGet();
+            ctx.flush();
+        }
+    }
+
+    /** Discards the bytes read by the server, and counts them down. */
+    @Sharable
+    private static class Receiver extends ChannelInboundHandlerAdapter {
+        private final AtomicLong remaining = new AtomicLong();
+        private final AtomicLong reads = new AtomicLong();
+        private volatile CountDownLatch done;
+
+        CountDownLatch expect(long bytes) {
+            done = new CountDownLatch(1);
+            remaining.set(bytes);
+            return done;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ByteBuf buffer = (ByteBuf) msg;
+            reads.incrementAndGet();
+            if (remaining.addAndGet(-buffer.readableBytes()) == 0) {
+                done.countDown();
+            }
+            buffer.release();
+        }
+    }
+}
@@ -3,9 +3,15 @@ package glide.api;
 
 import static glide.ffi.resolvers.SocketListenerResolver.getSocket;
 import static glide.utils.ArrayTransformUtils.castArray;
+import static glide.utils.ArrayTransformUtils.castArrayOrNull;
 import static glide.utils.ArrayTransformUtils.concatenateArrays;
 import static glide.utils.ArrayTransformUtils.convertMapToKeyValueStringArray;
 import static glide.utils.ArrayTransformUtils.convertMapToValueKeyStringArray;
+import static redis_request.RedisRequestOuterClass.RequestType.Append;
+import static redis_request.RedisRequestOuterClass.RequestType.BLMove;
+import static redis_request.RedisRequestOuterClass.RequestType.BZPopMin;
+import static redis_request.RedisRequestOuterClass.RequestType.Blpop;
+import static redis_request.RedisRequestOuterClass.RequestType.Brpop;
 import static redis_request.RedisRequestOuterClass.RequestType.Decr;
 import static redis_request.RedisRequestOuterClass.RequestType.DecrBy;
 import static redis_request.RedisRequestOuterClass.RequestType.Del;
@@ -53,11 +59,21 @@ import glide.api.commands.ListBaseCommands;
 import glide.api.commands.SetBaseCommands;
 import glide.api.commands.SortedSetBaseCommands;
 import glide.api.commands.StringCommands;
+import glide.api.compression.CompressionCodec;
+import glide.api.models.PreparedCommand;
+import glide.api.models.Script;
+import glide.api.models.StreamedValue;
+import glide.api.models.ValueCodec;
+import glide.api.models.ValueCodecs;
 import glide.api.models.commands.ExpireOptions;
+import glide.api.models.commands.ListDirection;
+import glide.api.models.commands.ScriptOptions;
 import glide.api.models.commands.SetOptions;
 import glide.api.models.commands.ZaddOptions;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.exceptions.RedisException;
+import glide.api.models.exceptions.RequestException;
+import glide.connectors.handlers.AffinityChannelHandler;
 import glide.connectors.handlers.CallbackDispatcher;
 import glide.connectors.handlers.ChannelHandler;
 import glide.connectors.resources.Platform;
@@ -65,21 +81,37 @@ import glide.connectors.resources.ThreadPoolResource;
 import glide.connectors.resources.ThreadPoolResourceAllocator;
 import glide.ffi.resolvers.RedisValueResolver;
 import glide.managers.BaseCommandResponseResolver;
+import glide.managers.BlockingConnectionPool;
 import glide.managers.CommandManager;
+import glide.managers.ConcurrencyLimiter;
 import glide.managers.ConnectionManager;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.function.BiFunction;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import response.ResponseOuterClass.ConstantResponse;
 import response.ResponseOuterClass.Response;
 
 /** Base Client class for Redis */
-@AllArgsConstructor
 public abstract class BaseClient
         implements AutoCloseable,
                 GenericBaseCommands,
@@ -95,8 +127,26 @@ public abstract class BaseClient
     protected final ConnectionManager connectionManager;
     protected final CommandManager commandManager;
 
+    /** Compresses values of string and hash commands, or <code>null</code> without compression. */
+    protected final CompressionCodec compression;
+
+    protected BaseClient(ConnectionManager connectionManager, CommandManager commandManager) {
+        this(connectionManager, commandManager, null);
+    }
+
+    protected BaseClient(
+            ConnectionManager connectionManager,
+            CommandManager commandManager,
+            CompressionCodec compression) {
+        this.connectionManager = connectionManager;
+        this.commandManager = commandManager;
+        this.compression = compression;
+    }
+
     /**
-     * Async request for an async (non-blocking) Redis client.
+     * Async request for an async (non-blocking) Redis client. The caller is not blocked while the
+     * client connects to the core and to Redis: errors, including those of the socket listener of the
+     * core, complete the returned future.
      *
      * @param config Redis client Configuration
      * @param constructor Redis client constructor reference
@@ -104,29 +154,117 @@ public abstract class BaseClient
      * @return a Future to connect and return a RedisClient
      */
     protected static <T> CompletableFuture<T> CreateClient(
-            BaseClientConfiguration config,
-            BiFunction<ConnectionManager, CommandManager, T> constructor) {
+            BaseClientConfiguration config, ClientConstructor<T> constructor) {
         try {
-            ThreadPoolResource threadPoolResource = config.getThreadPoolResource();
-            if (threadPoolResource == null) {
-                threadPoolResource =
-                        ThreadPoolResourceAllocator.getOrCreate(Platform.getThreadPoolResourceSupplier());
-            }
-            ChannelHandler channelHandler = buildChannelHandler(threadPoolResource);
+            ChannelHandler channelHandler = buildChannelHandler(getThreadPoolResource(config), config);
             ConnectionManager connectionManager = buildConnectionManager(channelHandler);
-            CommandManager commandManager = buildCommandManager(channelHandler);
-            // TODO: Support exception throwing, including interrupted exceptions
+            CommandManager commandManager = buildCommandManager(channelHandler, config);
+            CompressionCodec compression =
+                    config.getCompression() == null ? null : new CompressionCodec(config.getCompression());
             return connectionManager
                     .connectToRedis(config)
-                    .thenApply(ignore -> constructor.apply(connectionManager, commandManager));
-        } catch (InterruptedException e) {
-            // Something bad happened while we were establishing netty connection to UDS
-            var future = new CompletableFuture<T>();
-            future.completeExceptionally(e);
-            return future;
+                    .thenApply(ignore -> constructor.apply(connectionManager, commandManager, compression));
+        } catch (RuntimeException e) {
+            // the socket listener of the core failed to start
+            return CompletableFuture.failedFuture(e);
         }
     }
 
+    /**
+     * Async request for several async (non-blocking) Redis clients, which connect in parallel. The
+     * clients share the socket listener of the core, started once by the first of them, and their
+     * connections to Redis are established concurrently.
+     *
+     * @param configs Redis client configurations, one per client
+     * @param factory Redis client factory, such as <code>RedisClient::CreateClient</code>
+     * @param <C> Configuration type
+     * @param <T> Client type
+     * @return A Future to connect and return the clients in the order of <code>configs</code>. If any
+     *     of them fails to connect, the others are closed and, once their connections are closed, the
+     *     future fails with its error.
+     */
+    protected static <C extends BaseClientConfiguration, T extends BaseClient>
+            CompletableFuture<List<T>> CreateClients(
+                    List<C> configs, Function<C, CompletableFuture<T>> factory) {
+        List<CompletableFuture<T>> clients = new ArrayList<>(configs.size());
+        for (C config : configs) {
+            clients.add(factory.apply(config));
+        }
+        return CompletableFuture.allOf(clients.toArray(new CompletableFuture[0]))
+                .handle(
+                        (ignore, error) -> {
+                            if (error == null) {
+                                return CompletableFuture.completedFuture(
+                                        clients.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+                            }
+                            List<CompletableFuture<Void>> closed = new ArrayList<>();
+                            for (CompletableFuture<T> client : clients) {
+                                if (!client.isCompletedExceptionally()) {
+                                    closed.add(client.join().connectionManager.closeConnection());
+                                }
+                            }
+                            CompletionException failure =
+                                    error instanceof CompletionException
+                                            ? (CompletionException) error
+                                            : new CompletionException(error);
+                            return CompletableFuture.allOf(closed.toArray(new CompletableFuture[0]))
+                                    .<List<T>>handle(
+                                            (closeIgnore, closeError) -> {
+                                                if (closeError != null) {
+                                                    failure.addSuppressed(closeError);
+                                                }
+                                                throw failure;
+                                            });
+                        })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Converts the deadline of a client view to milliseconds. A deadline of zero milliseconds would
+     * turn the deadline off, so shorter deadlines are rejected.
+     *
+     * @param deadline Request deadline
+     * @return The deadline in milliseconds
+     * @throws IllegalArgumentException If <code>deadline</code> is shorter than one millisecond
+     */
+    protected static long toRequestDeadline(Duration deadline) {
+        long millis = deadline.toMillis();
+        if (millis < 1) {
+            throw new IllegalArgumentException(
+                    "Request deadline must be at least 1 millisecond, got " + deadline);
+        }
+        return millis;
+    }
+
+    /**
+     * Checks whether requests can be submitted without being buffered above the high water mark of
+     * the channel to the core.
+     *
+     * @see glide.api.models.configuration.BackpressureConfiguration
+     * @return <code>true</code> if the channel is writable.
+     */
+    public boolean isWritable() {
+        return commandManager.isWritable();
+    }
+
+    /**
+     * Waits for the channel to the core to become writable, without blocking. Producers submitting
+     * requests faster than they are written can wait on the promise before submitting more requests.
+     *
+     * @see glide.api.models.configuration.BackpressureConfiguration
+     * @return A promise completed once the channel is writable, or when it is closed.
+     * @example
+     *     <pre>{@code
+     * for (String key : keys) {
+     *     client.awaitWritable().get();
+     *     client.set(key, value);
+     * }
+     * }</pre>
+     */
+    public CompletableFuture<Void> awaitWritable() {
+        return commandManager.awaitWritable();
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources. This method is invoked
      * automatically on objects managed by the try-with-resources statement.
@@ -144,18 +282,102 @@ public abstract class BaseClient
         }
     }
 
-    protected static ChannelHandler buildChannelHandler(ThreadPoolResource threadPoolResource)
-            throws InterruptedException {
-        CallbackDispatcher callbackDispatcher = new CallbackDispatcher();
-        return new ChannelHandler(callbackDispatcher, getSocket(), threadPoolResource);
+    private static ThreadPoolResource getThreadPoolResource(BaseClientConfiguration config) {
+        ThreadPoolResource threadPoolResource = config.getThreadPoolResource();
+        if (threadPoolResource == null) {
+            threadPoolResource =
+                    ThreadPoolResourceAllocator.getOrCreate(Platform.getThreadPoolResourceSupplier());
+        }
+        return threadPoolResource;
+    }
+
+    protected static ChannelHandler buildChannelHandler(
+            ThreadPoolResource threadPoolResource, BaseClientConfiguration config) {
+        long requestDeadline =
+                config.getRequestDeadline() == null
+                        ? CallbackDispatcher.NO_DEADLINE
+                        : config.getRequestDeadline();
+        if (config.isEventLoopAffinity()) {
+            return new AffinityChannelHandler(
+                    requestDeadline,
+                    config.getMetrics(),
+                    getSocket(),
+                    threadPoolResource,
+                    config.getBackpressure());
+        }
+        CallbackDispatcher callbackDispatcher =
+                new CallbackDispatcher(requestDeadline, config.getMetrics());
+        return new ChannelHandler(
+                callbackDispatcher, getSocket(), threadPoolResource, config.getBackpressure());
     }
 
     protected static ConnectionManager buildConnectionManager(ChannelHandler channelHandler) {
         return new ConnectionManager(channelHandler);
     }
 
-    protected static CommandManager buildCommandManager(ChannelHandler channelHandler) {
-        return new CommandManager(channelHandler);
+    protected static CommandManager buildCommandManager(
+            ChannelHandler channelHandler, BaseClientConfiguration config) {
+        ConcurrencyLimiter concurrencyLimiter =
+                config.getConcurrencyLimit() == null
+                        ? null
+                        : new ConcurrencyLimiter(config.getConcurrencyLimit());
+        BlockingConnectionPool blockingConnections =
+                new BlockingConnectionPool(
+                        config.getMaxBlockingConnections(),
+                        config.getMaxIdleBlockingConnections(),
+                        () -> connectBlockingConnection(config));
+        // the dedicated connections live as long as the channel of the client
+        channelHandler.closeFuture().addListener(future -> blockingConnections.close());
+        return new CommandManager(
+                channelHandler,
+                concurrencyLimiter,
+                config.getMetrics(),
+                config.getRequestTracer(),
+                blockingConnections);
+    }
+
+    /**
+     * Open a dedicated connection for blocking commands. It is a single channel without concurrency
+     * limit, since one command runs on it at a time, and without Java-side request deadline, since
+     * blocking commands are bounded by their own timeout in the core.
+     */
+    private static CompletableFuture<BlockingConnectionPool.Connection> connectBlockingConnection(
+            BaseClientConfiguration config) {
+        try {
+            ChannelHandler channelHandler =
+                    new ChannelHandler(
+                            new CallbackDispatcher(CallbackDispatcher.NO_DEADLINE, config.getMetrics()),
+                            getSocket(),
+                            getThreadPoolResource(config),
+                            config.getBackpressure());
+            ConnectionManager connectionManager = buildConnectionManager(channelHandler);
+            CommandManager commandManager =
+                    new CommandManager(channelHandler, null, config.getMetrics(), config.getRequestTracer());
+            return connectionManager
+                    .connectToRedis(config)
+                    .whenComplete(
+                            (ignore, error) -> {
+                                if (error != null) {
+                                    connectionManager.closeConnection();
+                                }
+                            })
+                    .thenApply(
+                            ignore -> new BlockingConnectionPool.Connection(connectionManager, commandManager));
+        } catch (RuntimeException e) {
+            // the socket listener of the core failed to start
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Returns the adaptive concurrency limiter of the client, which reports the current limit, the
+     * number of requests in flight, the queue depth and the number of rejected requests.
+     *
+     * @return The limiter, or <code>null</code> if the client was created without a concurrency
+     *     limit.
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return commandManager.getConcurrencyLimiter();
     }
 
     /**
@@ -189,6 +411,195 @@ public abstract class BaseClient
                         + classType.getSimpleName());
     }
 
+    /**
+     * Passes the bytes of a string response to a consumer, straight from native memory, and releases
+     * the response.
+     *
+     * @param response Redis protobuf message
+     * @param consumer Consumer of the bytes, which are valid only during the call
+     * @return The number of bytes, or <code>null</code> for a nil response
+     * @throws RedisException If the response is not a string
+     */
+    protected Long handleBytesOrNullResponse(Response response, ValueConsumer consumer)
+            throws RedisException {
+        if (!response.hasRespPointer()) {
+            return null;
+        }
+        long pointer = response.getRespPointer();
+        try {
+            ByteBuffer value = RedisValueResolver.bytesFromPointer(pointer);
+            if (value == null) {
+                return null;
+            }
+            long length = value.remaining();
+            consumer.accept(value.asReadOnlyBuffer());
+            return length;
+        } catch (IOException e) {
+            throw new RequestException("Unable to write the value: " + e.getMessage());
+        } finally {
+            RedisValueResolver.dropValue(pointer);
+        }
+    }
+
+    /**
+     * Decodes a string response with a codec, straight from native memory, and releases the response.
+     *
+     * @param response Redis protobuf message
+     * @param codec The codec of the value
+     * @return The decoded value, or <code>null</code> for a nil response
+     * @throws RedisException If the response is not a string
+     */
+    protected <T> T handleValueOrNullResponse(Response response, ValueCodec<T> codec)
+            throws RedisException {
+        if (!response.hasRespPointer()) {
+            return null;
+        }
+        long pointer = response.getRespPointer();
+        try {
+            ByteBuffer value = RedisValueResolver.bytesFromPointer(pointer);
+            return value == null ? null : codec.decode(decodeValue(value).asReadOnlyBuffer());
+        } finally {
+            RedisValueResolver.dropValue(pointer);
+        }
+    }
+
+    /**
+     * Decodes a map response with string values, decoding the values with a codec straight from
+     * native memory, and releases the response.
+     *
+     * @param response Redis protobuf message
+     * @param codec The codec of the values
+     * @return A map of the keys and their decoded values
+     * @throws RedisException If the response is not a map of strings
+     */
+    protected <T> Map<String, T> handleMapOfValuesResponse(Response response, ValueCodec<T> codec)
+            throws RedisException {
+        if (!response.hasRespPointer()) {
+            throw new RedisException("Unexpected return type from Redis: got null expected Map");
+        }
+        long pointer = response.getRespPointer();
+        try {
+            ByteBuffer[] elements = RedisValueResolver.bytesArrayFromPointer(pointer);
+            Map<String, T> map = new HashMap<>();
+            for (int i = 0; i + 1 < elements.length; i += 2) {
+                String key = ValueCodecs.UTF8.decode(elements[i].asReadOnlyBuffer());
+                ByteBuffer value = elements[i + 1];
+                map.put(key, value == null ? null : codec.decode(decodeValue(value).asReadOnlyBuffer()));
+            }
+            return map;
+        } finally {
+            RedisValueResolver.dropValue(pointer);
+        }
+    }
+
+    /** Copies a value into a buffer, or fails without changing the buffer if it is too small. */
+    static void copyValue(ByteBuffer value, ByteBuffer destination) throws RequestException {
+        if (value.remaining() > destination.remaining()) {
+            throw new RequestException(
+                    "Value of "
+                            + value.remaining()
+                            + " bytes does not fit in the "
+                            + destination.remaining()
+                            + " remaining bytes of the buffer");
+        }
+        destination.put(value);
+    }
+
+    /**
+     * Writes a whole value to a blocking channel. On a thread of a {@link ForkJoinPool}, like the
+     * common pool which decodes responses by default, the write runs as a managed block, so the pool
+     * can start another thread to decode other responses meanwhile.
+     */
+    static void writeValue(ByteBuffer value, WritableByteChannel channel) throws IOException {
+        var writer = new ValueWriter(value, channel);
+        try {
+            ForkJoinPool.managedBlock(writer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing the value");
+        }
+        if (writer.failure != null) {
+            throw writer.failure;
+        }
+    }
+
+    /** Writes a value to a blocking channel as a {@link ForkJoinPool.ManagedBlocker}. */
+    @RequiredArgsConstructor
+    private static class ValueWriter implements ForkJoinPool.ManagedBlocker {
+        private final ByteBuffer value;
+        private final WritableByteChannel channel;
+        private IOException failure;
+
+        @Override
+        public boolean block() {
+            try {
+                while (value.hasRemaining()) {
+                    channel.write(value);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return !value.hasRemaining();
+        }
+    }
+
+    /** Constructor of a client, given its managers and its optional value compression. */
+    @FunctionalInterface
+    protected interface ClientConstructor<T> {
+        T apply(
+                ConnectionManager connectionManager,
+                CommandManager commandManager,
+                CompressionCodec compression);
+    }
+
+    /** Compresses a value to store, if the client is configured with compression. */
+    protected String encodeValue(String value) {
+        return compression == null ? value : compression.encode(value);
+    }
+
+    /** Decompresses a stored value, if the client is configured with compression. */
+    protected String decodeValue(String value) {
+        return compression == null ? value : compression.decode(value);
+    }
+
+    /** Decompresses the bytes of a stored value, if the client is configured with compression. */
+    private ByteBuffer decodeValue(ByteBuffer value) {
+        return compression == null ? value : compression.decode(value);
+    }
+
+    /** Encodes a typed value as text, to store it through compression. */
+    private static <T> String encodeAsText(T value, ValueCodec<T> codec) {
+        ByteBuffer bytes = ByteBuffer.allocate(codec.encodedLength(value));
+        codec.encode(value, bytes);
+        return new String(bytes.array(), StandardCharsets.UTF_8);
+    }
+
+    /** Compresses every other value from index <code>from</code>, such as the values of pairs. */
+    private String[] encodeValues(String[] values, int from) {
+        return compression == null ? values : compression.encode(values, from, 2);
+    }
+
+    /** Decompresses stored values, in place. */
+    private String[] decodeValues(String[] values) {
+        return compression == null ? values : compression.decode(values);
+    }
+
+    /** Decompresses the stored values of a map, in place. */
+    private Map<String, String> decodeValues(Map<String, String> map) {
+        return compression == null ? map : compression.decode(map);
+    }
+
+    /** Consumer of the bytes of a value in native memory. */
+    @FunctionalInterface
+    protected interface ValueConsumer {
+        void accept(ByteBuffer value) throws IOException;
+    }
+
     protected Object handleObjectOrNullResponse(Response response) throws RedisException {
         return handleRedisResponse(Object.class, true, response);
     }
@@ -245,34 +656,115 @@ public abstract class BaseClient
         return commandManager.submitNewCommand(Del, keys, this::handleLongResponse);
     }
 
+    @Override
+    public <T> CompletableFuture<T> execute(
+            @NonNull PreparedCommand<T> command, @NonNull String... parameters) {
+        return commandManager.submitPreparedCommand(
+                command.getTemplate(),
+                parameters,
+                response ->
+                        handleRedisResponse(command.getResponseClass(), command.isNullable(), response));
+    }
+
     @Override
     public CompletableFuture<String> get(@NonNull String key) {
         return commandManager.submitNewCommand(
-                GetString, new String[] {key}, this::handleStringOrNullResponse);
+                GetString,
+                new String[] {key},
+                response -> decodeValue(handleStringOrNullResponse(response)));
+    }
+
+    @Override
+    public void get(@NonNull String key, @NonNull BiConsumer<String, Throwable> callback) {
+        commandManager.submitNewCommand(
+                GetString,
+                new String[] {key},
+                response -> decodeValue(handleStringOrNullResponse(response)),
+                callback);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(@NonNull String key, @NonNull ValueCodec<T> codec) {
+        return commandManager.submitNewCommand(
+                GetString, new String[] {key}, response -> handleValueOrNullResponse(response, codec));
+    }
+
+    @Override
+    public CompletableFuture<Long> get(@NonNull String key, @NonNull ByteBuffer destination) {
+        return commandManager.submitNewCommand(
+                GetString,
+                new String[] {key},
+                response -> handleBytesOrNullResponse(response, value -> copyValue(value, destination)));
+    }
+
+    @Override
+    public CompletableFuture<Long> get(@NonNull String key, @NonNull WritableByteChannel channel) {
+        return commandManager.submitNewCommand(
+                GetString,
+                new String[] {key},
+                response -> handleBytesOrNullResponse(response, value -> writeValue(value, channel)));
+    }
+
+    @Override
+    public CompletableFuture<Long> get(@NonNull String key, @NonNull OutputStream stream) {
+        return get(key, Channels.newChannel(stream));
     }
 
     @Override
     public CompletableFuture<String> set(@NonNull String key, @NonNull String value) {
         return commandManager.submitNewCommand(
-                SetString, new String[] {key, value}, this::handleStringResponse);
+                SetString, new String[] {key, encodeValue(value)}, this::handleStringResponse);
     }
 
     @Override
     public CompletableFuture<String> set(
             @NonNull String key, @NonNull String value, @NonNull SetOptions options) {
-        String[] arguments = ArrayUtils.addAll(new String[] {key, value}, options.toArgs());
-        return commandManager.submitNewCommand(SetString, arguments, this::handleStringOrNullResponse);
+        String[] arguments =
+                ArrayUtils.addAll(new String[] {key, encodeValue(value)}, options.toArgs());
+        return commandManager.submitNewCommand(
+                SetString, arguments, response -> decodeValue(handleStringOrNullResponse(response)));
+    }
+
+    @Override
+    public void set(
+            @NonNull String key, @NonNull String value, @NonNull BiConsumer<String, Throwable> callback) {
+        commandManager.submitNewCommand(
+                SetString, new String[] {key, encodeValue(value)}, this::handleStringResponse, callback);
+    }
+
+    @Override
+    public CompletableFuture<String> set(@NonNull String key, @NonNull StreamedValue value) {
+        return commandManager.submitNewCommand(
+                SetString, new String[] {key}, value, this::handleStringResponse);
+    }
+
+    @Override
+    public <T> CompletableFuture<String> set(
+            @NonNull String key, @NonNull T value, @NonNull ValueCodec<T> codec) {
+        if (compression != null) {
+            return set(key, encodeAsText(value, codec));
+        }
+        return commandManager.submitNewCommand(
+                SetString, new String[] {key}, value, codec, this::handleStringResponse);
+    }
+
+    @Override
+    public CompletableFuture<Long> append(@NonNull String key, @NonNull StreamedValue value) {
+        return commandManager.submitNewCommand(
+                Append, new String[] {key}, value, this::handleLongResponse);
     }
 
     @Override
     public CompletableFuture<String[]> mget(@NonNull String[] keys) {
         return commandManager.submitNewCommand(
-                MGet, keys, response -> castArray(handleArrayOrNullResponse(response), String.class));
+                MGet,
+                keys,
+                response -> decodeValues(castArray(handleArrayOrNullResponse(response), String.class)));
     }
 
     @Override
     public CompletableFuture<String> mset(@NonNull Map<String, String> keyValueMap) {
-        String[] args = convertMapToKeyValueStringArray(keyValueMap);
+        String[] args = encodeValues(convertMapToKeyValueStringArray(keyValueMap), 1);
         return commandManager.submitNewCommand(MSet, args, this::handleStringResponse);
     }
 
@@ -307,14 +799,61 @@ public abstract class BaseClient
     @Override
     public CompletableFuture<String> hget(@NonNull String key, @NonNull String field) {
         return commandManager.submitNewCommand(
-                HashGet, new String[] {key, field}, this::handleStringOrNullResponse);
+                HashGet,
+                new String[] {key, field},
+                response -> decodeValue(handleStringOrNullResponse(response)));
+    }
+
+    @Override
+    public void hget(
+            @NonNull String key, @NonNull String field, @NonNull BiConsumer<String, Throwable> callback) {
+        commandManager.submitNewCommand(
+                HashGet,
+                new String[] {key, field},
+                response -> decodeValue(handleStringOrNullResponse(response)),
+                callback);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> hget(
+            @NonNull String key, @NonNull String field, @NonNull ValueCodec<T> codec) {
+        return commandManager.submitNewCommand(
+                HashGet, new String[] {key, field}, response -> handleValueOrNullResponse(response, codec));
     }
 
     @Override
     public CompletableFuture<Long> hset(
             @NonNull String key, @NonNull Map<String, String> fieldValueMap) {
-        String[] args = ArrayUtils.addFirst(convertMapToKeyValueStringArray(fieldValueMap), key);
-        return commandManager.submitNewCommand(HashSet, args, this::handleLongResponse);
+        String[] args = encodeValues(convertMapToKeyValueStringArray(fieldValueMap), 1);
+        return commandManager.submitNewCommand(
+                HashSet, ArrayUtils.addFirst(args, key), this::handleLongResponse);
+    }
+
+    @Override
+    public void hset(
+            @NonNull String key,
+            @NonNull Map<String, String> fieldValueMap,
+            @NonNull BiConsumer<Long, Throwable> callback) {
+        String[] args = encodeValues(convertMapToKeyValueStringArray(fieldValueMap), 1);
+        commandManager.submitNewCommand(
+                HashSet, ArrayUtils.addFirst(args, key), this::handleLongResponse, callback);
+    }
+
+    @Override
+    public CompletableFuture<Long> hset(
+            @NonNull String key, @NonNull String field, @NonNull StreamedValue value) {
+        return commandManager.submitNewCommand(
+                HashSet, new String[] {key, field}, value, this::handleLongResponse);
+    }
+
+    @Override
+    public <T> CompletableFuture<Long> hset(
+            @NonNull String key, @NonNull String field, @NonNull T value, @NonNull ValueCodec<T> codec) {
+        if (compression != null) {
+            return hset(key, Map.of(field, encodeAsText(value, codec)));
+        }
+        return commandManager.submitNewCommand(
+                HashSet, new String[] {key, field}, value, codec, this::handleLongResponse);
     }
 
     @Override
@@ -327,7 +866,9 @@ public abstract class BaseClient
     public CompletableFuture<String[]> hmget(@NonNull String key, @NonNull String[] fields) {
         String[] arguments = ArrayUtils.addFirst(fields, key);
         return commandManager.submitNewCommand(
-                HashMGet, arguments, response -> castArray(handleArrayResponse(response), String.class));
+                HashMGet,
+                arguments,
+                response -> decodeValues(castArray(handleArrayResponse(response), String.class)));
     }
 
     @Override
@@ -338,7 +879,17 @@ public abstract class BaseClient
 
     @Override
     public CompletableFuture<Map<String, String>> hgetall(@NonNull String key) {
-        return commandManager.submitNewCommand(HashGetAll, new String[] {key}, this::handleMapResponse);
+        return commandManager.submitNewCommand(
+                HashGetAll,
+                new String[] {key},
+                response -> decodeValues(this.<String>handleMapResponse(response)));
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<String, T>> hgetall(
+            @NonNull String key, @NonNull ValueCodec<T> codec) {
+        return commandManager.submitNewCommand(
+                HashGetAll, new String[] {key}, response -> handleMapOfValuesResponse(response, codec));
     }
 
     @Override
@@ -423,6 +974,37 @@ public abstract class BaseClient
                 response -> castArray(handleArrayOrNullResponse(response), String.class));
     }
 
+    @Override
+    public CompletableFuture<String[]> blpop(@NonNull String[] keys, double timeout) {
+        return commandManager.submitBlockingCommand(
+                Blpop,
+                ArrayUtils.add(keys, Double.toString(timeout)),
+                response -> castArrayOrNull(handleArrayOrNullResponse(response), String.class));
+    }
+
+    @Override
+    public CompletableFuture<String[]> brpop(@NonNull String[] keys, double timeout) {
+        return commandManager.submitBlockingCommand(
+                Brpop,
+                ArrayUtils.add(keys, Double.toString(timeout)),
+                response -> castArrayOrNull(handleArrayOrNullResponse(response), String.class));
+    }
+
+    @Override
+    public CompletableFuture<String> blmove(
+            @NonNull String source,
+            @NonNull String destination,
+            @NonNull ListDirection whereFrom,
+            @NonNull ListDirection whereTo,
+            double timeout) {
+        return commandManager.submitBlockingCommand(
+                BLMove,
+                new String[] {
+                    source, destination, whereFrom.name(), whereTo.name(), Double.toString(timeout)
+                },
+                this::handleStringOrNullResponse);
+    }
+
     @Override
     public CompletableFuture<Long> sadd(@NonNull String key, @NonNull String[] members) {
         String[] arguments = ArrayUtils.addFirst(members, key);
@@ -519,6 +1101,19 @@ public abstract class BaseClient
         return commandManager.submitNewCommand(TTL, new String[] {key}, this::handleLongResponse);
     }
 
+    @Override
+    public CompletableFuture<Object> invokeScript(@NonNull Script script) {
+        return commandManager.submitScript(
+                script, List.of(), List.of(), this::handleObjectOrNullResponse);
+    }
+
+    @Override
+    public CompletableFuture<Object> invokeScript(
+            @NonNull Script script, @NonNull ScriptOptions options) {
+        return commandManager.submitScript(
+                script, options.getKeys(), options.getArgs(), this::handleObjectOrNullResponse);
+    }
+
     @Override
     public CompletableFuture<Long> zadd(
             @NonNull String key,
@@ -586,4 +1181,10 @@ public abstract class BaseClient
     public CompletableFuture<Long> zcard(@NonNull String key) {
         return commandManager.submitNewCommand(Zcard, new String[] {key}, this::handleLongResponse);
     }
+
+    @Override
+    public CompletableFuture<Object[]> bzpopmin(@NonNull String[] keys, double timeout) {
+        return commandManager.submitBlockingCommand(
+                BZPopMin, ArrayUtils.add(keys, Double.toString(timeout)), this::handleArrayOrNullResponse);
+    }
 }
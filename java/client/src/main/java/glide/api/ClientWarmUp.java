@@ -0,0 +1,117 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import connection_request.ConnectionRequestOuterClass;
+import glide.connectors.handlers.CallbackDispatcher;
+import glide.connectors.handlers.ChannelHandler;
+import glide.connectors.handlers.CommandRequest;
+import glide.connectors.handlers.ReadHandler;
+import glide.connectors.handlers.RequestEncoder;
+import glide.connectors.resources.Platform;
+import glide.connectors.resources.ThreadPoolResource;
+import glide.connectors.resources.ThreadPoolResourceAllocator;
+import glide.ffi.resolvers.NativeLibrary;
+import glide.ffi.resolvers.RedisValueResolver;
+import glide.ffi.resolvers.SocketListenerResolver;
+import glide.managers.CommandManager;
+import glide.managers.ConnectionManager;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.experimental.UtilityClass;
+import redis_request.RedisRequestOuterClass;
+import response.ResponseOuterClass;
+
+/**
+ * Prepares the process for clients ahead of time, so the first client does not pay for it. The
+ * warm-up loads the native library, starts the socket listener of the core, creates and starts the
+ * default event loops, builds the protobuf descriptors and initializes the classes used to send
+ * requests. It runs once, in the background.
+ *
+ * @example
+ *     <pre>{@code
+ * // at startup, before the first client is needed
+ * ClientWarmUp.warmUp();
+ * // later
+ * RedisClient client = RedisClient.CreateClient(config).get();
+ * }</pre>
+ */
+@UtilityClass
+public class ClientWarmUp {
+
+    /** Classes of the request path, initialized by the warm-up. */
+    private static final Class<?>[] REQUEST_PATH_CLASSES = {
+        BaseClient.class,
+        RedisClient.class,
+        RedisClusterClient.class,
+        ConnectionManager.class,
+        CommandManager.class,
+        ChannelHandler.class,
+        CallbackDispatcher.class,
+        ReadHandler.class,
+        RequestEncoder.class,
+        CommandRequest.class,
+        RedisValueResolver.class
+    };
+
+    private static final AtomicReference<CompletableFuture<Void>> warmUp = new AtomicReference<>();
+
+    /**
+     * Start the warm-up in the background, unless it is running or done. A failed warm-up is started
+     * again by the next call.
+     *
+     * @return A promise completed once the warm-up is done. It fails if the native library can not be
+     *     loaded or the socket listener can not be started.
+     */
+    public static CompletableFuture<Void> warmUp() {
+        CompletableFuture<Void> current = warmUp.get();
+        if (current != null && !current.isCompletedExceptionally()) {
+            return current;
+        }
+        var next = new CompletableFuture<Void>();
+        if (!warmUp.compareAndSet(current, next)) {
+            return warmUp.get();
+        }
+        var thread =
+                new Thread(
+                        () -> {
+                            try {
+                                run();
+                                next.complete(null);
+                            } catch (Throwable e) {
+                                next.completeExceptionally(e);
+                            }
+                        },
+                        "glide-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+        return next;
+    }
+
+    /**
+     * @return <code>true</code> if a warm-up has completed successfully.
+     */
+    public static boolean isWarm() {
+        CompletableFuture<Void> current = warmUp.get();
+        return current != null && current.isDone() && !current.isCompletedExceptionally();
+    }
+
+    private static void run() throws ClassNotFoundException {
+        NativeLibrary.load();
+        SocketListenerResolver.getSocket();
+
+        ThreadPoolResource threadPoolResource =
+                ThreadPoolResourceAllocator.getOrCreate(Platform.getThreadPoolResourceSupplier());
+        // event loop threads are started by their first task
+        for (EventExecutor eventLoop : threadPoolResource.getEventLoopGroup()) {
+            eventLoop.submit(() -> {}).syncUninterruptibly();
+        }
+
+        ConnectionRequestOuterClass.getDescriptor();
+        RedisRequestOuterClass.getDescriptor();
+        ResponseOuterClass.getDescriptor();
+        for (Class<?> type : REQUEST_PATH_CLASSES) {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        }
+    }
+}
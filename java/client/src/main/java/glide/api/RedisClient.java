@@ -16,11 +16,15 @@ import static redis_request.RedisRequestOuterClass.RequestType.Select;
 import glide.api.commands.ConnectionManagementCommands;
 import glide.api.commands.GenericCommands;
 import glide.api.commands.ServerManagementCommands;
+import glide.api.compression.CompressionCodec;
 import glide.api.models.Transaction;
 import glide.api.models.commands.InfoOptions;
 import glide.api.models.configuration.RedisClientConfiguration;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
@@ -36,6 +40,13 @@ public class RedisClient extends BaseClient
         super(connectionManager, commandManager);
     }
 
+    protected RedisClient(
+            ConnectionManager connectionManager,
+            CommandManager commandManager,
+            CompressionCodec compression) {
+        super(connectionManager, commandManager, compression);
+    }
+
     /**
      * Async request for an async (non-blocking) Redis client in Standalone mode.
      *
@@ -47,6 +58,81 @@ public class RedisClient extends BaseClient
         return CreateClient(config, RedisClient::new);
     }
 
+    /**
+     * Async request for a handle to an async (non-blocking) Redis client in Standalone mode, shared
+     * with the other callers which pass an equal configuration. The handles multiplex their requests
+     * over one connection, so the core opens one set of connections to Redis for all of them. Closing
+     * a handle releases it, and the connection is closed once every handle is closed. Only
+     * configurations which are equal in every field, including the order of their addresses, share a
+     * connection.
+     *
+     * @example
+     *     <pre>{@code
+     * RedisClient client = RedisClient.CreateSharedClient(config).get();
+     * }</pre>
+     *
+     * @param config Redis client Configuration
+     * @return A Future to connect and return a handle to the shared client
+     */
+    public static CompletableFuture<RedisClient> CreateSharedClient(
+            @NonNull RedisClientConfiguration config) {
+        return SharedClientRegistry.acquire(config, RedisClient::new);
+    }
+
+    /**
+     * Async request for several async (non-blocking) Redis clients in Standalone mode, such as to
+     * isolate workloads on separate connections. The clients connect in parallel.
+     *
+     * @example
+     *     <pre>{@code
+     * List<RedisClient> shards = RedisClient.CreateClients(config, 4).get();
+     * }</pre>
+     *
+     * @param config Redis client Configuration shared by the clients
+     * @param count The number of clients
+     * @return A Future to connect and return the clients. If any of them fails to connect, the others
+     *     are closed and the future fails with its error.
+     */
+    public static CompletableFuture<List<RedisClient>> CreateClients(
+            @NonNull RedisClientConfiguration config, int count) {
+        return CreateClients(Collections.nCopies(count, config));
+    }
+
+    /**
+     * Async request for several async (non-blocking) Redis clients in Standalone mode, one per
+     * configuration. The clients connect in parallel.
+     *
+     * @param configs Redis client Configurations, one per client
+     * @return A Future to connect and return the clients in the order of <code>configs</code>. If any
+     *     of them fails to connect, the others are closed and the future fails with its error.
+     */
+    public static CompletableFuture<List<RedisClient>> CreateClients(
+            @NonNull List<RedisClientConfiguration> configs) {
+        return CreateClients(configs, RedisClient::CreateClient);
+    }
+
+    /**
+     * Returns a view of this client whose requests are bound by the given Java-side deadline instead
+     * of the configured <code>requestDeadline</code> configuration. The view shares the connection
+     * with this client, so closing either of them closes both.
+     *
+     * @example
+     *     <pre>
+     * String value = client.withRequestDeadline(Duration.ofMillis(50)).get("key").get();
+     * </pre>
+     *
+     * @param deadline The deadline of each request submitted through the view, of at least one
+     *     millisecond
+     * @return A client view bound by <code>deadline</code>
+     * @throws IllegalArgumentException If <code>deadline</code> is shorter than one millisecond
+     */
+    public RedisClient withRequestDeadline(@NonNull Duration deadline) {
+        return new RedisClient(
+                connectionManager,
+                commandManager.withRequestDeadline(toRequestDeadline(deadline)),
+                compression);
+    }
+
     @Override
     public CompletableFuture<Object> customCommand(@NonNull String[] args) {
         return commandManager.submitNewCommand(CustomCommand, args, this::handleObjectOrNullResponse);
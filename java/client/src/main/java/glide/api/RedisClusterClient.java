@@ -15,6 +15,7 @@ import static redis_request.RedisRequestOuterClass.RequestType.Ping;
 import glide.api.commands.ConnectionManagementClusterCommands;
 import glide.api.commands.GenericClusterCommands;
 import glide.api.commands.ServerManagementClusterCommands;
+import glide.api.compression.CompressionCodec;
 import glide.api.models.ClusterTransaction;
 import glide.api.models.ClusterValue;
 import glide.api.models.commands.InfoOptions;
@@ -22,7 +23,10 @@ import glide.api.models.configuration.RedisClusterClientConfiguration;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -42,6 +46,13 @@ public class RedisClusterClient extends BaseClient
         super(connectionManager, commandManager);
     }
 
+    protected RedisClusterClient(
+            ConnectionManager connectionManager,
+            CommandManager commandManager,
+            CompressionCodec compression) {
+        super(connectionManager, commandManager, compression);
+    }
+
     /**
      * Async request for an async (non-blocking) Redis client in Cluster mode.
      *
@@ -53,6 +64,81 @@ public class RedisClusterClient extends BaseClient
         return CreateClient(config, RedisClusterClient::new);
     }
 
+    /**
+     * Async request for a handle to an async (non-blocking) Redis client in Cluster mode, shared with
+     * the other callers which pass an equal configuration. The handles multiplex their requests over
+     * one connection, so the core opens one set of connections to Redis for all of them. Closing a
+     * handle releases it, and the connection is closed once every handle is closed. Only
+     * configurations which are equal in every field, including the order of their addresses, share a
+     * connection.
+     *
+     * @example
+     *     <pre>{@code
+     * RedisClusterClient client = RedisClusterClient.CreateSharedClient(config).get();
+     * }</pre>
+     *
+     * @param config Redis client Configuration
+     * @return A Future to connect and return a handle to the shared client
+     */
+    public static CompletableFuture<RedisClusterClient> CreateSharedClient(
+            @NonNull RedisClusterClientConfiguration config) {
+        return SharedClientRegistry.acquire(config, RedisClusterClient::new);
+    }
+
+    /**
+     * Async request for several async (non-blocking) Redis clients in Cluster mode, such as to
+     * isolate workloads on separate connections. The clients connect in parallel.
+     *
+     * @example
+     *     <pre>{@code
+     * List<RedisClusterClient> shards = RedisClusterClient.CreateClients(config, 4).get();
+     * }</pre>
+     *
+     * @param config Redis client Configuration shared by the clients
+     * @param count The number of clients
+     * @return A Future to connect and return the clients. If any of them fails to connect, the others
+     *     are closed and the future fails with its error.
+     */
+    public static CompletableFuture<List<RedisClusterClient>> CreateClients(
+            @NonNull RedisClusterClientConfiguration config, int count) {
+        return CreateClients(Collections.nCopies(count, config));
+    }
+
+    /**
+     * Async request for several async (non-blocking) Redis clients in Cluster mode, one per
+     * configuration. The clients connect in parallel.
+     *
+     * @param configs Redis client Configurations, one per client
+     * @return A Future to connect and return the clients in the order of <code>configs</code>. If any
+     *     of them fails to connect, the others are closed and the future fails with its error.
+     */
+    public static CompletableFuture<List<RedisClusterClient>> CreateClients(
+            @NonNull List<RedisClusterClientConfiguration> configs) {
+        return CreateClients(configs, RedisClusterClient::CreateClient);
+    }
+
+    /**
+     * Returns a view of this client whose requests are bound by the given Java-side deadline instead
+     * of the configured <code>requestDeadline</code> configuration. The view shares the connection
+     * with this client, so closing either of them closes both.
+     *
+     * @example
+     *     <pre>
+     * String value = client.withRequestDeadline(Duration.ofMillis(50)).get("key").get();
+     * </pre>
+     *
+     * @param deadline The deadline of each request submitted through the view, of at least one
+     *     millisecond
+     * @return A client view bound by <code>deadline</code>
+     * @throws IllegalArgumentException If <code>deadline</code> is shorter than one millisecond
+     */
+    public RedisClusterClient withRequestDeadline(@NonNull Duration deadline) {
+        return new RedisClusterClient(
+                connectionManager,
+                commandManager.withRequestDeadline(toRequestDeadline(deadline)),
+                compression);
+    }
+
     @Override
     public CompletableFuture<ClusterValue<Object>> customCommand(@NonNull String[] args) {
         // TODO if a command returns a map as a single value, ClusterValue misleads user
@@ -0,0 +1,114 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import glide.api.BaseClient.ClientConstructor;
+import glide.api.models.configuration.BaseClientConfiguration;
+import glide.managers.ConnectionManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Registry of clients shared between callers which create clients with equal configurations. Each
+ * caller gets its own handle, and all handles of a configuration multiplex their requests over one
+ * connection to the core, so the core keeps one set of connections to Redis for them. The shared
+ * connection is closed once the last handle is closed.
+ *
+ * <p>Configurations are compared with {@link Object#equals(Object)}, so only configurations which
+ * are equal in every field share a client: for example, the same addresses listed in a different
+ * order make a different configuration, with its own connection.
+ */
+@UtilityClass
+class SharedClientRegistry {
+
+    /** The shared clients, by configuration. Guarded by the class lock. */
+    private static final Map<BaseClientConfiguration, SharedClient<?>> clients = new HashMap<>();
+
+    /**
+     * Get a handle to the shared client of a configuration, and create the client if there is none.
+     *
+     * @param config Redis client Configuration
+     * @param constructor Redis client constructor reference
+     * @param <T> Client type
+     * @return A Future to connect and return a handle to the shared client
+     */
+    static synchronized <T extends BaseClient> CompletableFuture<T> acquire(
+            BaseClientConfiguration config, ClientConstructor<T> constructor) {
+        @SuppressWarnings("unchecked")
+        SharedClient<T> shared = (SharedClient<T>) clients.get(config);
+        if (shared == null) {
+            shared = new SharedClient<>(config, BaseClient.CreateClient(config, constructor));
+            clients.put(config, shared);
+            SharedClient<T> created = shared;
+            // a client which failed to connect, or whose connection was closed, is not shared, so the
+            // next caller connects again
+            created.client.whenComplete(
+                    (client, error) -> {
+                        if (error != null) {
+                            remove(created);
+                        } else {
+                            client.connectionManager.closeFuture().thenRun(() -> remove(created));
+                        }
+                    });
+        }
+        shared.references++;
+        SharedClient<T> acquired = shared;
+        return shared.client.thenApply(
+                client ->
+                        constructor.apply(
+                                new SharedConnectionManager(client.connectionManager, acquired),
+                                client.commandManager,
+                                client.compression));
+    }
+
+    /**
+     * @return The number of configurations which have a shared client.
+     */
+    static synchronized int size() {
+        return clients.size();
+    }
+
+    private static synchronized void remove(SharedClient<?> shared) {
+        clients.remove(shared.config, shared);
+    }
+
+    /** Release a handle, and close the shared client if it was the last one. */
+    private static synchronized CompletableFuture<Void> release(SharedClient<?> shared) {
+        if (--shared.references > 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        remove(shared);
+        return shared.client.join().connectionManager.closeConnection();
+    }
+
+    @RequiredArgsConstructor
+    private static class SharedClient<T extends BaseClient> {
+        private final BaseClientConfiguration config;
+        private final CompletableFuture<T> client;
+
+        /** The number of open handles. Guarded by the registry lock. */
+        private int references;
+    }
+
+    /** The connection manager of a handle, which releases the shared connection when closed. */
+    private static class SharedConnectionManager extends ConnectionManager {
+        private final SharedClient<?> shared;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SharedConnectionManager(ConnectionManager delegate, SharedClient<?> shared) {
+            super(delegate);
+            this.shared = shared;
+        }
+
+        @Override
+        public CompletableFuture<Void> closeConnection() {
+            if (released.getAndSet(true)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return release(shared);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.commands;
 
+import glide.api.models.PreparedCommand;
+import glide.api.models.Script;
 import glide.api.models.commands.ExpireOptions;
+import glide.api.models.commands.ScriptOptions;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -269,4 +272,61 @@ public interface GenericBaseCommands {
      * }</pre>
      */
     CompletableFuture<Long> ttl(String key);
+
+    /**
+     * Invokes a Lua script. The script is invoked by its SHA1 hash with <code>EVALSHA</code>, and if
+     * Redis does not have it cached yet, it is loaded with <code>SCRIPT LOAD</code> and invoked
+     * again.
+     *
+     * @see <a href="https://redis.io/commands/evalsha/">redis.io</a> for details.
+     * @param script The Lua script to execute.
+     * @return A value that depends on the script that was executed.
+     * @example
+     *     <pre>{@code
+     * try (Script luaScript = new Script("return 'Hello'")) {
+     *     String result = (String) client.invokeScript(luaScript).get();
+     *     assert result.equals("Hello");
+     * }
+     * }</pre>
+     */
+    CompletableFuture<Object> invokeScript(Script script);
+
+    /**
+     * Invokes a Lua script with its keys and arguments. The script is invoked by its SHA1 hash with
+     * <code>EVALSHA</code>, and if Redis does not have it cached yet, it is loaded with <code>
+     * SCRIPT LOAD</code> and invoked again.
+     *
+     * @see <a href="https://redis.io/commands/evalsha/">redis.io</a> for details.
+     * @param script The Lua script to execute.
+     * @param options The script option that contains keys and arguments for the script.
+     * @return A value that depends on the script that was executed.
+     * @example
+     *     <pre>{@code
+     * try (Script luaScript = new Script("return { KEYS[1], ARGV[1] }")) {
+     *     ScriptOptions scriptOptions = ScriptOptions.builder().key("foo").arg("bar").build();
+     *     Object[] result = (Object[]) client.invokeScript(luaScript, scriptOptions).get();
+     *     assert result[0].equals("foo");
+     *     assert result[1].equals("bar");
+     * }
+     * }</pre>
+     */
+    CompletableFuture<Object> invokeScript(Script script, ScriptOptions options);
+
+    /**
+     * Executes a prepared command with the given parameters. Only the parameters are encoded, the
+     * rest of the command was encoded when it was prepared.
+     *
+     * @see PreparedCommand
+     * @param command The prepared command.
+     * @param parameters The parameters, in the order of the command placeholders.
+     * @return The command result, see the factory which prepared the command.
+     * @throws IllegalArgumentException If the number of parameters does not match the command.
+     * @example
+     *     <pre>{@code
+     * PreparedCommand<String> getCommand = PreparedCommand.get();
+     * String value = client.execute(getCommand, "my_key").get();
+     * assert value.equals("my_value");
+     * }</pre>
+     */
+    <T> CompletableFuture<T> execute(PreparedCommand<T> command, String... parameters);
 }
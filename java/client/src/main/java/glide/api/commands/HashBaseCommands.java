@@ -1,8 +1,11 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.commands;
 
+import glide.api.models.StreamedValue;
+import glide.api.models.ValueCodec;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * Supports commands and transactions for the "Hash Commands" group for standalone clients and
@@ -31,6 +34,43 @@ public interface HashBaseCommands {
      */
     CompletableFuture<String> hget(String key, String field);
 
+    /**
+     * Retrieves the value associated with <code>field</code> in the hash stored at <code>key</code>,
+     * decoded by <code>codec</code> straight from the bytes of the response.
+     *
+     * @see <a href="https://redis.io/commands/hget/">redis.io</a> for details.
+     * @param key The key of the hash.
+     * @param field The field in the hash stored at <code>key</code> to retrieve from the database.
+     * @param codec The codec of the value.
+     * @return The decoded value, or <code>null</code> if <code>field</code> is not presented in the
+     *     hash or <code>key</code> does not exist.
+     * @example
+     *     <pre>{@code
+     * Double score = client.hget("scores", "player1", ValueCodecs.DOUBLE).get();
+     * assert score == 12.5;
+     * }</pre>
+     */
+    <T> CompletableFuture<T> hget(String key, String field, ValueCodec<T> codec);
+
+    /**
+     * Retrieves the value associated with <code>field</code> in the hash stored at <code>key</code>,
+     * and passes it to a callback instead of returning a <code>CompletableFuture</code>. The callback
+     * is called once, straight from the thread which reads the response, so it must return quickly
+     * and must not block.
+     *
+     * @see <a href="https://redis.io/commands/hget/">redis.io</a> for details.
+     * @param key The key of the hash.
+     * @param field The field in the hash stored at <code>key</code> to retrieve from the database.
+     * @param callback Called with the value, or <code>null</code> if <code>field</code> is not
+     *     presented in the hash or <code>key</code> does not exist, and <code>null</code> as the
+     *     error. If the command fails, called with <code>null</code> and the error.
+     * @example
+     *     <pre>{@code
+     * client.hget("my_hash", "field1", (value, error) -> System.out.println(value));
+     * }</pre>
+     */
+    void hget(String key, String field, BiConsumer<String, Throwable> callback);
+
     /**
      * Sets the specified fields to their respective values in the hash stored at <code>key</code>.
      *
@@ -47,6 +87,65 @@ public interface HashBaseCommands {
      */
     CompletableFuture<Long> hset(String key, Map<String, String> fieldValueMap);
 
+    /**
+     * Sets the specified fields to their respective values in the hash stored at <code>key</code>,
+     * and passes the response to a callback instead of returning a <code>CompletableFuture</code>.
+     * The callback is called once, straight from the thread which reads the response, so it must
+     * return quickly and must not block.
+     *
+     * @see <a href="https://redis.io/commands/hset/">redis.io</a> for details.
+     * @param key The key of the hash.
+     * @param fieldValueMap A field-value map consisting of fields and their corresponding values to
+     *     be set in the hash stored at the specified key.
+     * @param callback Called with the number of fields that were added and <code>null</code> as the
+     *     error. If the command fails, called with <code>null</code> and the error.
+     * @example
+     *     <pre>{@code
+     * client.hset("my_hash", Map.of("field", "value"), (added, error) -> latch.countDown());
+     * }</pre>
+     */
+    void hset(String key, Map<String, String> fieldValueMap, BiConsumer<Long, Throwable> callback);
+
+    /**
+     * Sets a field of the hash stored at <code>key</code> to a value read from a stream, a channel or
+     * a buffer. The value is copied into native memory and sent from there, without building a <code>
+     * String</code>.
+     *
+     * @see <a href="https://redis.io/commands/hset/">redis.io</a> for details.
+     * @param key The key of the hash.
+     * @param field The field to set.
+     * @param value The value to set.
+     * @return The number of fields that were added.
+     * @example
+     *     <pre>{@code
+     * try (FileChannel file = FileChannel.open(path)) {
+     *     MappedByteBuffer region = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+     *     Long num = client.hset("models", "ranking", StreamedValue.of(region)).get();
+     *     assert num == 1L;
+     * }
+     * }</pre>
+     */
+    CompletableFuture<Long> hset(String key, String field, StreamedValue value);
+
+    /**
+     * Sets <code>field</code> in the hash stored at <code>key</code> to a value encoded by <code>
+     * codec</code> straight into the request. If the client compresses values, the encoded value is
+     * compressed like a <code>String</code> value instead.
+     *
+     * @see <a href="https://redis.io/commands/hset/">redis.io</a> for details.
+     * @param key The key of the hash.
+     * @param field The field to set.
+     * @param value The value to set.
+     * @param codec The codec of the value.
+     * @return The number of fields that were added.
+     * @example
+     *     <pre>{@code
+     * Long num = client.hset("scores", "player1", 12.5, ValueCodecs.DOUBLE).get();
+     * assert num == 1L;
+     * }</pre>
+     */
+    <T> CompletableFuture<Long> hset(String key, String field, T value, ValueCodec<T> codec);
+
     /**
      * Removes the specified fields from the hash stored at <code>key</code>. Specified fields that do
      * not exist within this hash are ignored.
@@ -119,6 +218,23 @@ public interface HashBaseCommands {
      */
     CompletableFuture<Map<String, String>> hgetall(String key);
 
+    /**
+     * Returns all fields and values of the hash stored at <code>key</code>, with the values decoded
+     * by <code>codec</code> straight from the bytes of the response.
+     *
+     * @see <a href="https://redis.io/commands/hgetall/">redis.io</a> for details.
+     * @param key The key of the hash.
+     * @param codec The codec of the values.
+     * @return A <code>Map</code> of fields and their decoded values.<br>
+     *     If <code>key</code> does not exist, it returns an empty map.
+     * @example
+     *     <pre>{@code
+     * Map<String, Long> counters = client.hgetall("counters", ValueCodecs.LONG).get();
+     * assert counters.equals(Map.of("visits", 10L, "likes", 3L));
+     * }</pre>
+     */
+    <T> CompletableFuture<Map<String, T>> hgetall(String key, ValueCodec<T> codec);
+
     /**
      * Increments the number stored at <code>field</code> in the hash stored at <code>key</code> by
      * increment. By using a negative increment value, the value stored at <code>field</code> in the
@@ -1,6 +1,7 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.commands;
 
+import glide.api.models.commands.ListDirection;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -225,4 +226,88 @@ public interface ListBaseCommands {
      * }</pre>
      */
     CompletableFuture<String[]> rpopCount(String key, long count);
+
+    /**
+     * Pops an element from the head of the first list that is non-empty, with the given <code>keys
+     * </code> being checked in the order that they are given. Blocks the connection when there are no
+     * elements to pop from any of the given lists.<br>
+     * The command runs on a dedicated connection, so it does not delay the other requests of the
+     * client while it blocks, and it is bounded by <code>timeout</code> instead of by the request
+     * timeout of the client.<br>
+     * In cluster mode, all <code>keys</code> must map to the same hash slot.
+     *
+     * @see <a href="https://redis.io/commands/blpop/">redis.io</a> for details.
+     * @param keys The <code>keys</code> of the lists to pop from.
+     * @param timeout The number of seconds to wait for a blocking operation to complete. A value of
+     *     <code>0</code> will block indefinitely.
+     * @return A two-element <code>array</code> containing the <code>key</code> from which the element
+     *     was popped and the <code>value</code> of the popped element, formatted as <code>
+     *     [key, value]</code>. If no element could be popped and the timeout expired, returns <code>
+     *     null</code>.
+     * @example
+     *     <pre>{@code
+     * String[] response = client.blpop(new String[] {"list1", "list2"}, 0.5).get();
+     * assert response[0].equals("list1");
+     * assert response[1].equals("element");
+     * }</pre>
+     */
+    CompletableFuture<String[]> blpop(String[] keys, double timeout);
+
+    /**
+     * Pops an element from the tail of the first list that is non-empty, with the given <code>keys
+     * </code> being checked in the order that they are given. Blocks the connection when there are no
+     * elements to pop from any of the given lists.<br>
+     * The command runs on a dedicated connection, so it does not delay the other requests of the
+     * client while it blocks, and it is bounded by <code>timeout</code> instead of by the request
+     * timeout of the client.<br>
+     * In cluster mode, all <code>keys</code> must map to the same hash slot.
+     *
+     * @see <a href="https://redis.io/commands/brpop/">redis.io</a> for details.
+     * @param keys The <code>keys</code> of the lists to pop from.
+     * @param timeout The number of seconds to wait for a blocking operation to complete. A value of
+     *     <code>0</code> will block indefinitely.
+     * @return A two-element <code>array</code> containing the <code>key</code> from which the element
+     *     was popped and the <code>value</code> of the popped element, formatted as <code>
+     *     [key, value]</code>. If no element could be popped and the timeout expired, returns <code>
+     *     null</code>.
+     * @example
+     *     <pre>{@code
+     * String[] response = client.brpop(new String[] {"list1", "list2"}, 0.5).get();
+     * assert response[0].equals("list1");
+     * assert response[1].equals("element");
+     * }</pre>
+     */
+    CompletableFuture<String[]> brpop(String[] keys, double timeout);
+
+    /**
+     * Atomically pops an element from one end of the list stored at <code>source</code>, and pushes
+     * it to one end of the list stored at <code>destination</code>. Blocks the connection when <code>
+     * source</code> is empty.<br>
+     * The command runs on a dedicated connection, so it does not delay the other requests of the
+     * client while it blocks, and it is bounded by <code>timeout</code> instead of by the request
+     * timeout of the client.<br>
+     * In cluster mode, <code>source</code> and <code>destination</code> must map to the same hash
+     * slot.
+     *
+     * @see <a href="https://redis.io/commands/blmove/">redis.io</a> for details.
+     * @param source The key of the list to pop from.
+     * @param destination The key of the list to push to.
+     * @param whereFrom The end of <code>source</code> to pop from.
+     * @param whereTo The end of <code>destination</code> to push to.
+     * @param timeout The number of seconds to wait for a blocking operation to complete. A value of
+     *     <code>0</code> will block indefinitely.
+     * @return The moved element, or <code>null</code> if <code>source</code> stayed empty and the
+     *     timeout expired.
+     * @example
+     *     <pre>{@code
+     * String element = client.blmove("jobs", "processing", ListDirection.RIGHT, ListDirection.LEFT, 5).get();
+     * assert element.equals("job1");
+     * }</pre>
+     */
+    CompletableFuture<String> blmove(
+            String source,
+            String destination,
+            ListDirection whereFrom,
+            ListDirection whereTo,
+            double timeout);
 }
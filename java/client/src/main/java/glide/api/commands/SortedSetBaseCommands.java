@@ -183,4 +183,28 @@ public interface SortedSetBaseCommands {
      * }</pre>
      */
     CompletableFuture<Long> zcard(String key);
+
+    /**
+     * Pops the member with the lowest score from the first non-empty sorted set, with the given
+     * <code>keys</code> being checked in the order that they are given. Blocks the connection when
+     * there are no members to pop from any of the given sorted sets.<br>
+     * The command runs on a dedicated connection, so it does not delay the other requests of the
+     * client while it blocks, and it is bounded by <code>timeout</code> instead of by the request
+     * timeout of the client.<br>
+     * In cluster mode, all <code>keys</code> must map to the same hash slot.
+     *
+     * @see <a href="https://redis.io/commands/bzpopmin/">redis.io</a> for more details.
+     * @param keys The keys of the sorted sets.
+     * @param timeout The number of seconds to wait for a blocking operation to complete. A value of
+     *     <code>0</code> will block indefinitely.
+     * @return An <code>array</code> containing the key where the member was popped out, the member
+     *     itself, and the member score. If no member could be popped and the timeout expired, returns
+     *     <code>null</code>.
+     * @example
+     *     <pre>{@code
+     * Object[] data = client.bzpopmin(new String[] {"zset1", "zset2"}, 0.5).get();
+     * System.out.printf("Popped '%s' with score %s from sorted set '%s'%n", data[1], data[2], data[0]);
+     * }</pre>
+     */
+    CompletableFuture<Object[]> bzpopmin(String[] keys, double timeout);
 }
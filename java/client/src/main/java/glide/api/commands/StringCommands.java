@@ -1,11 +1,18 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.commands;
 
+import glide.api.models.StreamedValue;
+import glide.api.models.ValueCodec;
 import glide.api.models.commands.SetOptions;
 import glide.api.models.commands.SetOptions.ConditionalSet;
 import glide.api.models.commands.SetOptions.SetOptionsBuilder;
+import glide.api.models.exceptions.RequestException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * Supports commands and transactions for the "String Commands" group for standalone clients and
@@ -34,6 +41,103 @@ public interface StringCommands {
      */
     CompletableFuture<String> get(String key);
 
+    /**
+     * Get the value associated with the given <code>key</code>, decoded by <code>codec</code>
+     * straight from the bytes of the response, without building a <code>String</code>.
+     *
+     * @see <a href="https://redis.io/commands/get/">redis.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @param codec The codec of the value.
+     * @return The decoded value, or <code>null</code> if <code>key</code> does not exist.
+     * @example
+     *     <pre>{@code
+     * Long visits = client.get("visits", ValueCodecs.LONG).get();
+     * assert visits == 10L;
+     * }</pre>
+     */
+    <T> CompletableFuture<T> get(String key, ValueCodec<T> codec);
+
+    /**
+     * Get the value associated with the given <code>key</code>, and pass it to a callback instead of
+     * returning a <code>CompletableFuture</code>. The callback is called once, straight from the
+     * thread which reads the response, so it must return quickly and must not block.
+     *
+     * @see <a href="https://redis.io/commands/get/">redis.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @param callback Called with the value, or <code>null</code> if <code>key</code> does not exist,
+     *     and <code>null</code> as the error. If the command fails, called with <code>null</code> and
+     *     the error.
+     * @example
+     *     <pre>{@code
+     * client.get("key", (value, error) -> {
+     *     if (error == null) {
+     *         cache.put("key", value);
+     *     }
+     * });
+     * }</pre>
+     */
+    void get(String key, BiConsumer<String, Throwable> callback);
+
+    /**
+     * Get the value associated with the given <code>key</code> into a buffer. The bytes are copied
+     * once from native memory into the buffer, without building a <code>String</code>.
+     *
+     * @see <a href="https://redis.io/commands/get/">redis.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @param destination The buffer to write the value to, from its position. Its position is
+     *     advanced by the length of the value.
+     * @return The length of the value in bytes, or <code>null</code> if <code>key</code> does not
+     *     exist. If the value does not fit in the remaining bytes of <code>destination</code>, the
+     *     future fails with a {@link RequestException} and the buffer is not changed.
+     * @example
+     *     <pre>{@code
+     * ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+     * Long length = client.get("key", buffer).get();
+     * assert length == buffer.position();
+     * }</pre>
+     */
+    CompletableFuture<Long> get(String key, ByteBuffer destination);
+
+    /**
+     * Get the value associated with the given <code>key</code> into a channel. The bytes are written
+     * to the channel straight from native memory, without building a <code>String</code>.
+     *
+     * @see <a href="https://redis.io/commands/get/">redis.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @param channel A blocking channel to write the value to. It is not closed. It is written by the
+     *     thread which decodes the response, a thread of the completion executor of the client or of
+     *     the common pool, so writes to it should not wait on other requests of the client.
+     * @return The length of the value in bytes, or <code>null</code> if <code>key</code> does not
+     *     exist. If writing fails, the future fails with a {@link RequestException}.
+     * @example
+     *     <pre>{@code
+     * try (FileChannel file = FileChannel.open(path, CREATE, WRITE)) {
+     *     Long length = client.get("artifact", file).get();
+     * }
+     * }</pre>
+     */
+    CompletableFuture<Long> get(String key, WritableByteChannel channel);
+
+    /**
+     * Get the value associated with the given <code>key</code> into a stream. The bytes are written
+     * to the stream in small chunks from native memory, without building a <code>String</code>.
+     *
+     * @see <a href="https://redis.io/commands/get/">redis.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @param stream The stream to write the value to. It is neither flushed nor closed. It is written
+     *     by the thread which decodes the response, like the channel of {@link #get(String,
+     *     WritableByteChannel)}.
+     * @return The length of the value in bytes, or <code>null</code> if <code>key</code> does not
+     *     exist. If writing fails, the future fails with a {@link RequestException}.
+     * @example
+     *     <pre>{@code
+     * try (OutputStream stream = Files.newOutputStream(path)) {
+     *     Long length = client.get("artifact", stream).get();
+     * }
+     * }</pre>
+     */
+    CompletableFuture<Long> get(String key, OutputStream stream);
+
     /**
      * Set the given <code>key</code> with the given value.
      *
@@ -74,6 +178,81 @@ public interface StringCommands {
      */
     CompletableFuture<String> set(String key, String value, SetOptions options);
 
+    /**
+     * Set the given <code>key</code> with the given value, and pass the response to a callback
+     * instead of returning a <code>CompletableFuture</code>. The callback is called once, straight
+     * from the thread which reads the response, so it must return quickly and must not block.
+     *
+     * @see <a href="https://redis.io/commands/set/">redis.io</a> for details.
+     * @param key The <code>key</code> to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @param callback Called with <code>"OK"</code> and <code>null</code> as the error. If the
+     *     command fails, called with <code>null</code> and the error.
+     * @example
+     *     <pre>{@code
+     * client.set("key", "value", (ok, error) -> {
+     *     if (error != null) {
+     *         failures.increment();
+     *     }
+     * });
+     * }</pre>
+     */
+    void set(String key, String value, BiConsumer<String, Throwable> callback);
+
+    /**
+     * Set the given <code>key</code> with a value read from a stream, a channel or a buffer. The
+     * value is copied into native memory and sent from there, without building a <code>String
+     * </code>.
+     *
+     * @see <a href="https://redis.io/commands/set/">redis.io</a> for details.
+     * @param key The <code>key</code> to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @return Response from Redis containing <code>"OK"</code>.
+     * @example
+     *     <pre>{@code
+     * try (InputStream model = Files.newInputStream(path)) {
+     *     String payload = client.set("model", StreamedValue.of(model, (int) Files.size(path))).get();
+     *     assert payload.equals("OK");
+     * }
+     * }</pre>
+     */
+    CompletableFuture<String> set(String key, StreamedValue value);
+
+    /**
+     * Set the given <code>key</code> with a value encoded by <code>codec</code> straight into the
+     * request, without building a <code>String</code>. If the client compresses values, the encoded
+     * value is compressed like a <code>String</code> value instead.
+     *
+     * @see <a href="https://redis.io/commands/set/">redis.io</a> for details.
+     * @param key The <code>key</code> to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @param codec The codec of the value.
+     * @return Response from Redis containing <code>"OK"</code>.
+     * @example
+     *     <pre>{@code
+     * String payload = client.set("visits", 10L, ValueCodecs.LONG).get();
+     * assert payload.equals("OK");
+     * }</pre>
+     */
+    <T> CompletableFuture<String> set(String key, T value, ValueCodec<T> codec);
+
+    /**
+     * Appends a value read from a stream, a channel or a buffer to the string stored at <code>key
+     * </code>. If <code>key</code> does not exist, it is created and set to the value. The value is
+     * copied into native memory and sent from there, without building a <code>String</code>.
+     *
+     * @see <a href="https://redis.io/commands/append/">redis.io</a> for details.
+     * @param key The <code>key</code> of the string.
+     * @param value The value to append.
+     * @return The length of the string after the append operation.
+     * @example
+     *     <pre>{@code
+     * Long length = client.append("log", StreamedValue.of(ByteBuffer.wrap(chunk))).get();
+     * assert length >= chunk.length;
+     * }</pre>
+     */
+    CompletableFuture<Long> append(String key, StreamedValue value);
+
     /**
      * Retrieve the values of multiple <code>keys</code>.
      *
@@ -0,0 +1,325 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.compression;
+
+import glide.api.models.configuration.CompressionConfiguration;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Compresses values before they are stored and decompresses them when they are read back. Values
+ * are sent as UTF-8 text, so compressed bytes are stored in Base64, after a two-character header:
+ *
+ * <ul>
+ *   <li><code>"\0" + id</code> - the Base64 of a value compressed by the algorithm with the given
+ *       {@link ValueCompressor#getId() id}.
+ *   <li><code>"\0" + "0"</code> - an uncompressed value which starts with <code>"\0"</code>.
+ *   <li>Values which do not start with <code>"\0"</code> are stored as is.
+ * </ul>
+ *
+ * Values which do not shrink when compressed are stored uncompressed. The UTF-8 and Base64 buffers
+ * are kept per thread and reused, up to {@link #MAX_RETAINED_BUFFER_SIZE}: larger values use
+ * buffers allocated for the call, so a single large value does not pin memory on every thread.
+ */
+public final class CompressionCodec {
+
+    /** The first character of values with a header. */
+    static final char MARKER = '\0';
+
+    /** The identifier of uncompressed values which start with {@link #MARKER}. */
+    static final char UNCOMPRESSED = '0';
+
+    static final int HEADER_LENGTH = 2;
+
+    static final int INITIAL_BUFFER_SIZE = 4096;
+
+    /** The largest buffer kept per thread. Larger buffers are allocated for each call. */
+    static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] BASE64_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+                    .getBytes(StandardCharsets.US_ASCII);
+
+    private static final int[] BASE64_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, -1);
+        for (int i = 0; i < BASE64_ALPHABET.length; i++) {
+            BASE64_VALUES[BASE64_ALPHABET[i]] = i;
+        }
+    }
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    /** The length in characters from which values are compressed. */
+    @Getter private final int threshold;
+
+    private final ValueCompressor compressor;
+
+    private final Map<Character, ValueCompressor> decompressors = new HashMap<>();
+
+    public CompressionCodec(CompressionConfiguration configuration) {
+        this.threshold = configuration.getThreshold();
+        this.compressor = configuration.getCompressor();
+        for (ValueCompressor decompressor : configuration.getDecompressors()) {
+            register(decompressor);
+        }
+        register(compressor);
+    }
+
+    /**
+     * Encodes a value to store.
+     *
+     * @param value The value.
+     * @return The compressed value with a header, or the value itself, escaped if it starts with a
+     *     header marker.
+     */
+    public String encode(String value) {
+        if (value.length() < threshold) {
+            return escape(value);
+        }
+        Buffers buffers = BUFFERS.get();
+        ByteBuffer utf8 = buffers.encodeUtf8(value);
+        int utf8Length = utf8.remaining();
+        ByteBuffer compressed = compressor.compress(utf8);
+        int encodedLength = HEADER_LENGTH + 4 * ((compressed.remaining() + 2) / 3);
+        if (encodedLength >= utf8Length) {
+            return escape(value);
+        }
+        byte[] text = buffers.text(encodedLength);
+        text[0] = MARKER;
+        text[1] = (byte) compressor.getId();
+        encodeBase64(compressed, text, HEADER_LENGTH);
+        return new String(text, 0, encodedLength, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decodes a stored value.
+     *
+     * @param value The stored value, or <code>null</code>.
+     * @return The original value. Values without a header, and values with the header of an unknown
+     *     algorithm, are returned as is.
+     * @throws IllegalArgumentException If a compressed value is corrupt.
+     */
+    public String decode(String value) {
+        if (value == null || value.length() < HEADER_LENGTH || value.charAt(0) != MARKER) {
+            return value;
+        }
+        char id = value.charAt(1);
+        if (id == UNCOMPRESSED) {
+            return value.substring(HEADER_LENGTH);
+        }
+        ValueCompressor decompressor = decompressors.get(id);
+        if (decompressor == null) {
+            return value;
+        }
+        ByteBuffer compressed = decodeBase64(value, BUFFERS.get());
+        if (compressed == null) {
+            return value;
+        }
+        ByteBuffer utf8 = decompressor.decompress(compressed);
+        if (utf8.hasArray()) {
+            return new String(
+                    utf8.array(),
+                    utf8.arrayOffset() + utf8.position(),
+                    utf8.remaining(),
+                    StandardCharsets.UTF_8);
+        }
+        return StandardCharsets.UTF_8.decode(utf8).toString();
+    }
+
+    /**
+     * Decodes the bytes of a stored value. Values without a header are returned as is, so they are
+     * not copied.
+     *
+     * @param value The UTF-8 bytes of the stored value, between its position and limit.
+     * @return The UTF-8 bytes of the original value.
+     * @throws IllegalArgumentException If a compressed value is corrupt.
+     */
+    public ByteBuffer decode(ByteBuffer value) {
+        if (value.remaining() < HEADER_LENGTH || value.get(value.position()) != MARKER) {
+            return value;
+        }
+        String decoded = decode(StandardCharsets.UTF_8.decode(value.duplicate()).toString());
+        return ByteBuffer.wrap(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes values in place.
+     *
+     * @param values The values to encode.
+     * @param from The index of the first value.
+     * @param step The distance between two values, for example <code>2</code> for key-value pairs.
+     * @return <code>values</code>.
+     */
+    public String[] encode(String[] values, int from, int step) {
+        for (int i = from; i < values.length; i += step) {
+            values[i] = encode(values[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Decodes values in place.
+     *
+     * @param values The stored values, or <code>null</code>.
+     * @return <code>values</code>.
+     */
+    public String[] decode(String[] values) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = decode(values[i]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Decodes the values of a map in place.
+     *
+     * @param map A map of stored values, or <code>null</code>.
+     * @return <code>map</code>.
+     */
+    public <K> Map<K, String> decode(Map<K, String> map) {
+        if (map != null) {
+            map.replaceAll((key, value) -> decode(value));
+        }
+        return map;
+    }
+
+    private void register(ValueCompressor decompressor) {
+        char id = decompressor.getId();
+        boolean valid =
+                (id >= 'a' && id <= 'z') || (id >= 'A' && id <= 'Z') || (id >= '1' && id <= '9');
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid compressor id '" + id + "'");
+        }
+        ValueCompressor previous = decompressors.put(id, decompressor);
+        if (previous != null && previous != decompressor) {
+            throw new IllegalArgumentException("Duplicate compressor id '" + id + "'");
+        }
+    }
+
+    private static String escape(String value) {
+        if (!value.isEmpty() && value.charAt(0) == MARKER) {
+            return "" + MARKER + UNCOMPRESSED + value;
+        }
+        return value;
+    }
+
+    private static void encodeBase64(ByteBuffer input, byte[] output, int offset) {
+        int o = offset;
+        while (input.remaining() >= 3) {
+            int bits = (input.get() & 0xff) << 16 | (input.get() & 0xff) << 8 | (input.get() & 0xff);
+            output[o++] = BASE64_ALPHABET[bits >>> 18];
+            output[o++] = BASE64_ALPHABET[(bits >>> 12) & 0x3f];
+            output[o++] = BASE64_ALPHABET[(bits >>> 6) & 0x3f];
+            output[o++] = BASE64_ALPHABET[bits & 0x3f];
+        }
+        if (input.hasRemaining()) {
+            int remaining = input.remaining();
+            int bits = (input.get() & 0xff) << 16 | (remaining == 2 ? (input.get() & 0xff) << 8 : 0);
+            output[o++] = BASE64_ALPHABET[bits >>> 18];
+            output[o++] = BASE64_ALPHABET[(bits >>> 12) & 0x3f];
+            output[o++] = remaining == 2 ? BASE64_ALPHABET[(bits >>> 6) & 0x3f] : (byte) '=';
+            output[o] = '=';
+        }
+    }
+
+    /** Decodes the Base64 after the header, or returns <code>null</code> if it is not Base64. */
+    private static ByteBuffer decodeBase64(String value, Buffers buffers) {
+        int length = value.length() - HEADER_LENGTH;
+        if (length % 4 != 0) {
+            return null;
+        }
+        int padding = 0;
+        if (length > 0 && value.charAt(value.length() - 1) == '=') {
+            padding = value.charAt(value.length() - 2) == '=' ? 2 : 1;
+        }
+        ByteBuffer output = buffers.bytes(length / 4 * 3);
+        int bits = 0;
+        for (int i = HEADER_LENGTH; i < value.length() - padding; i++) {
+            char c = value.charAt(i);
+            int digit = c < 128 ? BASE64_VALUES[c] : -1;
+            if (digit < 0) {
+                return null;
+            }
+            bits = bits << 6 | digit;
+            if ((i - HEADER_LENGTH) % 4 == 3) {
+                output.put((byte) (bits >>> 16)).put((byte) (bits >>> 8)).put((byte) bits);
+                bits = 0;
+            }
+        }
+        if (padding == 1) {
+            output.put((byte) (bits >>> 10)).put((byte) (bits >>> 2));
+        } else if (padding == 2) {
+            output.put((byte) (bits >>> 4));
+        }
+        return output.flip();
+    }
+
+    /**
+     * Returns a buffer of at least <code>capacity</code> bytes with the content of <code>buffer
+     * </code>, ready for more writes.
+     */
+    static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+        return ByteBuffer.allocate(Math.max(capacity, buffer.capacity())).put(buffer.flip());
+    }
+
+    /**
+     * Returns whether a grown buffer may be kept per thread, see {@link #MAX_RETAINED_BUFFER_SIZE}.
+     */
+    static boolean retainable(ByteBuffer buffer) {
+        return buffer.capacity() <= MAX_RETAINED_BUFFER_SIZE;
+    }
+
+    /** The reusable buffers of a thread. */
+    static class Buffers {
+        private final CharsetEncoder utf8Encoder =
+                StandardCharsets.UTF_8
+                        .newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+        private byte[] text = new byte[INITIAL_BUFFER_SIZE];
+
+        /** Returns the UTF-8 bytes of a value. */
+        ByteBuffer encodeUtf8(String value) {
+            ByteBuffer output = bytes(value.length() * 3);
+            utf8Encoder.reset();
+            utf8Encoder.encode(CharBuffer.wrap(value), output, true);
+            utf8Encoder.flush(output);
+            return output.flip();
+        }
+
+        /** Returns an empty byte buffer of at least <code>capacity</code> bytes. */
+        ByteBuffer bytes(int capacity) {
+            if (capacity > MAX_RETAINED_BUFFER_SIZE) {
+                return ByteBuffer.allocate(capacity);
+            }
+            if (bytes.capacity() < capacity) {
+                bytes = ByteBuffer.allocate(capacity);
+            }
+            return bytes.clear();
+        }
+
+        /** Returns an array of at least <code>length</code> bytes. */
+        byte[] text(int length) {
+            if (length > MAX_RETAINED_BUFFER_SIZE) {
+                return new byte[length];
+            }
+            if (text.length < length) {
+                text = new byte[length];
+            }
+            return text;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.compression;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Compresses values with the DEFLATE algorithm of the JDK. Each thread keeps its own {@link
+ * Deflater}, {@link Inflater} and output buffers, which are reset and reused by every call. Output
+ * buffers grown over 64 KiB are used only for the call that grew them.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DeflateCompressor implements ValueCompressor {
+
+    /** The identifier of values compressed with DEFLATE. */
+    public static final char ID = 'd';
+
+    /** The compression level, from 0 to 9, or {@link Deflater#DEFAULT_COMPRESSION}. */
+    @EqualsAndHashCode.Include @Getter private final int level;
+
+    private final ThreadLocal<State> state;
+
+    /** Creates a compressor with the default compression level. */
+    public DeflateCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a compressor with a given compression level. Lower levels are faster, higher levels
+     * produce smaller values.
+     *
+     * @param level The compression level, from 0 to 9, or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    public DeflateCompressor(int level) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level " + level);
+        }
+        this.level = level;
+        this.state = ThreadLocal.withInitial(State::new);
+    }
+
+    @Override
+    public char getId() {
+        return ID;
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer input) {
+        State state = this.state.get();
+        Deflater deflater = state.deflater;
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+
+        ByteBuffer output = state.compressed;
+        output.clear();
+        while (!deflater.finished()) {
+            if (!output.hasRemaining()) {
+                output = CompressionCodec.grow(output, output.capacity() * 2);
+                if (CompressionCodec.retainable(output)) {
+                    state.compressed = output;
+                }
+            }
+            deflater.deflate(output);
+        }
+        return output.flip();
+    }
+
+    @Override
+    public ByteBuffer decompress(ByteBuffer input) {
+        State state = this.state.get();
+        Inflater inflater = state.inflater;
+        inflater.reset();
+        inflater.setInput(input);
+
+        ByteBuffer output = state.decompressed;
+        output.clear();
+        try {
+            while (!inflater.finished()) {
+                if (!output.hasRemaining()) {
+                    output = CompressionCodec.grow(output, output.capacity() * 2);
+                    if (CompressionCodec.retainable(output)) {
+                        state.decompressed = output;
+                    }
+                }
+                if (inflater.inflate(output) == 0
+                        && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Compressed value is truncated");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Compressed value is corrupt", e);
+        }
+        return output.flip();
+    }
+
+    /** The working state of a thread. */
+    private class State {
+        private final Deflater deflater = new Deflater(level);
+        private final Inflater inflater = new Inflater();
+        private ByteBuffer compressed = ByteBuffer.allocate(CompressionCodec.INITIAL_BUFFER_SIZE);
+        private ByteBuffer decompressed = ByteBuffer.allocate(CompressionCodec.INITIAL_BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,41 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.compression;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A compression algorithm for values, used by {@link CompressionCodec}. Implementations are called
+ * concurrently from many threads, so they should keep their working state per thread.
+ *
+ * @see DeflateCompressor
+ */
+public interface ValueCompressor {
+
+    /**
+     * The identifier of the algorithm, stored in the header of each compressed value so values can be
+     * decompressed with the matching algorithm. Must be an ASCII letter or a digit from <code>1
+     * </code> to <code>9</code>, and must not change once values are stored.
+     *
+     * @return The identifier of the algorithm.
+     */
+    char getId();
+
+    /**
+     * Compresses the remaining bytes of <code>input</code>.
+     *
+     * @param input The bytes to compress. Its position may be changed.
+     * @return A buffer with the compressed bytes between its position and limit. The buffer may be
+     *     reused by the next call on the same thread.
+     */
+    ByteBuffer compress(ByteBuffer input);
+
+    /**
+     * Decompresses the remaining bytes of <code>input</code>.
+     *
+     * @param input The bytes to decompress. Its position may be changed.
+     * @return A buffer with the decompressed bytes between its position and limit. The buffer may be
+     *     reused by the next call on the same thread.
+     * @throws IllegalArgumentException If the input is not valid compressed data.
+     */
+    ByteBuffer decompress(ByteBuffer input);
+}
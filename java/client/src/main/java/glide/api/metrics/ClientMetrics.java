@@ -0,0 +1,66 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import redis_request.RedisRequestOuterClass.RequestType;
+import response.ResponseOuterClass.RequestErrorType;
+
+/**
+ * Service provider interface for client instrumentation. An implementation is set with the <code>
+ * metrics</code> client configuration and may be shared by several clients. Methods are called on
+ * the hot path, from the client event loop and from the threads completing requests, so they must
+ * be thread-safe, cheap and non-blocking. All methods do nothing by default.
+ *
+ * @see ClientStatistics for a built-in implementation.
+ */
+public interface ClientMetrics {
+
+    /** An implementation which records nothing. */
+    ClientMetrics NOOP = new ClientMetrics() {};
+
+    /** A request was submitted to the channel. */
+    default void requestStarted() {}
+
+    /**
+     * A request has completed.
+     *
+     * @param requestType The type of the command, or <code>null</code> for a transaction
+     * @param latencyNanos Time from submission until the response was received, in nanoseconds
+     * @param success <code>false</code> if the request completed with an error
+     */
+    default void requestCompleted(RequestType requestType, long latencyNanos, boolean success) {}
+
+    /**
+     * Encoded requests were written to the UDS channel.
+     *
+     * @param bytes Number of bytes written
+     */
+    default void bytesWritten(long bytes) {}
+
+    /**
+     * Encoded responses were read from the UDS channel.
+     *
+     * @param bytes Number of bytes read
+     */
+    default void bytesRead(long bytes) {}
+
+    /**
+     * A request failed with an error reported by the core.
+     *
+     * @param errorType The error type
+     */
+    default void requestError(RequestErrorType errorType) {}
+
+    /**
+     * A connection state change was observed.
+     *
+     * @param event The event
+     */
+    default void connectionEvent(ConnectionEvent event) {}
+
+    /**
+     * The outbound buffer of the UDS channel was above its high water mark, and has drained.
+     *
+     * @param durationNanos Time the channel was unwritable, in nanoseconds
+     */
+    default void channelUnwritable(long durationNanos) {}
+}
@@ -0,0 +1,194 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import redis_request.RedisRequestOuterClass.RequestType;
+import response.ResponseOuterClass.RequestErrorType;
+
+/**
+ * Built-in, dependency-free {@link ClientMetrics} implementation which keeps striped counters and
+ * per {@link RequestType} {@link LatencyHistogram}s in memory. It is cheap enough to stay enabled
+ * in production; export its values periodically to a monitoring system of choice.
+ *
+ * @example
+ *     <pre>
+ * ClientStatistics statistics = new ClientStatistics();
+ * RedisClient client = RedisClient.CreateClient(
+ *         RedisClientConfiguration.builder().metrics(statistics).build()).get();
+ * ...
+ * long p99 = statistics.getLatencyHistogram(RequestType.GetString).getPercentileMicros(99);
+ * </pre>
+ */
+public class ClientStatistics implements ClientMetrics {
+
+    /** Histograms indexed by {@link RequestType#getNumber()}, created on first use. */
+    private final AtomicReferenceArray<LatencyHistogram> commandLatencies =
+            new AtomicReferenceArray<>(RequestType.values().length);
+
+    private final LatencyHistogram transactionLatency = new LatencyHistogram();
+
+    private final LongAdder started = new LongAdder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder bytesWritten = new LongAdder();
+
+    private final LongAdder bytesRead = new LongAdder();
+
+    private final LongAdder[] errors = newCounters(RequestErrorType.values().length);
+
+    private final LongAdder[] connectionEvents = newCounters(ConnectionEvent.values().length);
+
+    private final LongAdder unwritablePeriods = new LongAdder();
+
+    private final LongAdder unwritableNanos = new LongAdder();
+
+    @Override
+    public void requestStarted() {
+        started.increment();
+    }
+
+    @Override
+    public void requestCompleted(RequestType requestType, long latencyNanos, boolean success) {
+        completed.increment();
+        if (!success) {
+            failed.increment();
+        }
+        if (requestType == null) {
+            transactionLatency.record(latencyNanos);
+        } else {
+            getOrCreateHistogram(requestType).record(latencyNanos);
+        }
+    }
+
+    @Override
+    public void bytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    @Override
+    public void bytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    @Override
+    public void requestError(RequestErrorType errorType) {
+        if (errorType != RequestErrorType.UNRECOGNIZED) {
+            errors[errorType.getNumber()].increment();
+        }
+    }
+
+    @Override
+    public void connectionEvent(ConnectionEvent event) {
+        connectionEvents[event.ordinal()].increment();
+    }
+
+    @Override
+    public void channelUnwritable(long durationNanos) {
+        unwritablePeriods.increment();
+        unwritableNanos.add(durationNanos);
+    }
+
+    /**
+     * @param requestType A command type
+     * @return The latency histogram of the command type, empty if none was recorded yet.
+     */
+    public LatencyHistogram getLatencyHistogram(RequestType requestType) {
+        return getOrCreateHistogram(requestType);
+    }
+
+    /**
+     * @return The latency histogram of transactions.
+     */
+    public LatencyHistogram getTransactionLatencyHistogram() {
+        return transactionLatency;
+    }
+
+    /**
+     * @return The number of requests submitted, but not completed yet.
+     */
+    public long getInFlight() {
+        // read completed first, so a concurrent completion can't make the gauge negative
+        long done = completed.sum();
+        return Math.max(0, started.sum() - done);
+    }
+
+    /**
+     * @return The number of completed requests.
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return The number of requests completed with an error.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return The number of bytes written to the UDS channel.
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * @return The number of bytes read from the UDS channel.
+     */
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    /**
+     * @param errorType An error type
+     * @return The number of errors of the given type reported by the core.
+     */
+    public long getErrorCount(RequestErrorType errorType) {
+        return errors[errorType.getNumber()].sum();
+    }
+
+    /**
+     * @param event A connection event
+     * @return The number of times the event was observed.
+     */
+    public long getConnectionEventCount(ConnectionEvent event) {
+        return connectionEvents[event.ordinal()].sum();
+    }
+
+    /**
+     * @return The number of times the UDS channel became unwritable and drained again.
+     */
+    public long getUnwritablePeriods() {
+        return unwritablePeriods.sum();
+    }
+
+    /**
+     * @return The total time in nanoseconds the UDS channel was unwritable.
+     */
+    public long getUnwritableNanos() {
+        return unwritableNanos.sum();
+    }
+
+    private LatencyHistogram getOrCreateHistogram(RequestType requestType) {
+        int index = requestType.getNumber();
+        LatencyHistogram histogram = commandLatencies.get(index);
+        if (histogram == null) {
+            commandLatencies.compareAndSet(index, null, new LatencyHistogram());
+            histogram = commandLatencies.get(index);
+        }
+        return histogram;
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,15 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+/** Connection state changes reported to {@link ClientMetrics}. */
+public enum ConnectionEvent {
+    /**
+     * The core reported a broken connection to Redis for a request, and attempts to reconnect in the
+     * background.
+     */
+    RECONNECTING,
+    /** The core reported an unrecoverable error, and the client is closing. */
+    CLOSING_ERROR,
+    /** The client has closed its connection to the core. */
+    CLOSED
+}
@@ -0,0 +1,121 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with microsecond resolution. Buckets are log-linear: every power of
+ * two is split into 8 linear sub-buckets, so a reported percentile is within 12.5% of the recorded
+ * value. Recording does not allocate once the striped counters have settled.
+ */
+public class LatencyHistogram {
+
+    /** Number of linear sub-buckets per power of two, as a power of two. */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Highest tracked exponent: values above 2^40 us (~12 days) are clamped to the last bucket. */
+    private static final int MAX_EXPONENT = 40;
+
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalMicros = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency sample.
+     *
+     * @param latencyNanos The latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, latencyNanos));
+        buckets[bucketIndex(micros)].increment();
+        count.increment();
+        totalMicros.add(micros);
+    }
+
+    /**
+     * @return The number of recorded samples.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return The mean of recorded samples in microseconds, or 0 if there are none.
+     */
+    public double getMeanMicros() {
+        long samples = count.sum();
+        return samples == 0 ? 0 : (double) totalMicros.sum() / samples;
+    }
+
+    /**
+     * Estimate a percentile of recorded samples. The result is the upper bound of the bucket holding
+     * the percentile.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The latency in microseconds, or 0 if there are no samples.
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, percentile) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    /** Reset all buckets, e.g. at the start of a reporting interval. */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalMicros.reset();
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
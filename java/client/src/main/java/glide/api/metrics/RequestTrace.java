@@ -0,0 +1,171 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+import redis_request.RedisRequestOuterClass.RequestType;
+
+/**
+ * Timeline of a single sampled request, from its submission to the completion of the promise
+ * returned to the user. Timestamps are taken with {@link System#nanoTime()}; the core reports its
+ * timestamps in wall clock time, which is mapped onto the same timeline using the wall clock time
+ * of the submission.
+ */
+public class RequestTrace {
+
+    /** Stages of a request, in the order a request passes them. */
+    public enum Stage {
+        /** The request is submitted to the command manager. */
+        SUBMITTED,
+        /** The encoded request is handed to Netty. */
+        WRITTEN,
+        /** The request is flushed to the socket. */
+        FLUSHED,
+        /** The core reads the request from the socket. */
+        CORE_RECEIVED,
+        /** The core writes the response to the socket. */
+        CORE_SENT,
+        /** The response is read from the socket and dispatched. */
+        READ,
+        /** The response is picked up by the response handler thread. */
+        DECODE_STARTED,
+        /** The response value is converted from the native representation. */
+        DECODED,
+        /** The promise returned to the user is completed. */
+        COMPLETED
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    /** The command type, or <code>null</code> for a transaction. */
+    @Getter private final RequestType requestType;
+
+    /** Timestamps of the stages, <code>0</code> for a stage which was not reached. */
+    private final AtomicLongArray timestamps = new AtomicLongArray(STAGES.length);
+
+    private final long submittedEpochMicros;
+
+    /**
+     * The address of the node which served the request, as <code>host:port</code>, or <code>null
+     * </code> if the core did not report it. Reported in standalone mode, where the core chooses the
+     * node, such as the replica of a read.
+     */
+    @Getter private volatile String servedBy;
+
+    public RequestTrace(RequestType requestType) {
+        this.requestType = requestType;
+        Instant now = Instant.now();
+        timestamps.set(Stage.SUBMITTED.ordinal(), System.nanoTime());
+        submittedEpochMicros = TimeUnit.SECONDS.toMicros(now.getEpochSecond()) + now.getNano() / 1000;
+    }
+
+    /**
+     * Record that the request reached a stage now.
+     *
+     * @param stage The stage
+     */
+    public void mark(Stage stage) {
+        timestamps.set(stage.ordinal(), System.nanoTime());
+    }
+
+    /**
+     * Record the timestamps reported by the core.
+     *
+     * @param receivedAtMicros Time the core received the request, in microseconds since the epoch
+     * @param sentAtMicros Time the core sent the response, in microseconds since the epoch
+     */
+    public void setCoreTimings(long receivedAtMicros, long sentAtMicros) {
+        long submitted = timestamps.get(Stage.SUBMITTED.ordinal());
+        timestamps.set(
+                Stage.CORE_RECEIVED.ordinal(),
+                submitted + TimeUnit.MICROSECONDS.toNanos(receivedAtMicros - submittedEpochMicros));
+        timestamps.set(
+                Stage.CORE_SENT.ordinal(),
+                submitted + TimeUnit.MICROSECONDS.toNanos(sentAtMicros - submittedEpochMicros));
+    }
+
+    /**
+     * Record the node which served the request.
+     *
+     * @param servedBy The address of the node, as <code>host:port</code>
+     */
+    public void setServedBy(String servedBy) {
+        this.servedBy = servedBy;
+    }
+
+    /**
+     * @param stage The stage
+     * @return True if the request reached the stage.
+     */
+    public boolean hasStage(Stage stage) {
+        return timestamps.get(stage.ordinal()) != 0;
+    }
+
+    /**
+     * @param stage The stage
+     * @return The {@link System#nanoTime()} timestamp of the stage, or <code>0</code> if the request
+     *     did not reach it.
+     */
+    public long getTimestampNanos(Stage stage) {
+        return timestamps.get(stage.ordinal());
+    }
+
+    /**
+     * Returns the time spent to reach a stage from the previous reached stage. Since the core
+     * timestamps come from the wall clock, durations around them have microsecond precision.
+     *
+     * @param stage The stage
+     * @return The duration in nanoseconds, or <code>0</code> if the request did not reach the stage.
+     */
+    public long getStageDurationNanos(Stage stage) {
+        long end = timestamps.get(stage.ordinal());
+        if (end == 0) {
+            return 0;
+        }
+        for (int i = stage.ordinal() - 1; i >= 0; i--) {
+            long start = timestamps.get(i);
+            if (start != 0) {
+                return end - start;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return The time from the submission to the last reached stage, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        for (int i = STAGES.length - 1; i > 0; i--) {
+            long end = timestamps.get(i);
+            if (end != 0) {
+                return end - timestamps.get(Stage.SUBMITTED.ordinal());
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder(requestType == null ? "Transaction" : requestType.name());
+        for (int i = 1; i < STAGES.length; i++) {
+            if (timestamps.get(i) != 0) {
+                builder
+                        .append(' ')
+                        .append(STAGES[i].name().toLowerCase())
+                        .append("=+")
+                        .append(TimeUnit.NANOSECONDS.toMicros(getStageDurationNanos(STAGES[i])))
+                        .append("us");
+            }
+        }
+        if (servedBy != null) {
+            builder.append(" served_by=").append(servedBy);
+        }
+        return builder
+                .append(" total=")
+                .append(TimeUnit.NANOSECONDS.toMicros(getTotalNanos()))
+                .append("us")
+                .toString();
+    }
+}
@@ -0,0 +1,95 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import glide.api.metrics.RequestTrace.Stage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.NonNull;
+import redis_request.RedisRequestOuterClass.RequestType;
+
+/**
+ * Samples requests and records where their time is spent: encoding and writing on the Java side,
+ * the socket, the core and Redis, and decoding of the response. Every sampled request produces a
+ * {@link RequestTrace}, which is aggregated into a {@link LatencyHistogram} per stage and passed to
+ * an optional listener. Requests which are not sampled are not affected.
+ *
+ * @example
+ *     <pre>{@code
+ * RequestTracer tracer = new RequestTracer(1000, trace -> log.debug(trace.toString()));
+ * RedisClient client = RedisClient.CreateClient(
+ *         RedisClientConfiguration.builder().requestTracer(tracer).build()).get();
+ * long coreP99 = tracer.getStageHistogram(Stage.CORE_SENT).getPercentileMicros(99);
+ * }</pre>
+ */
+public class RequestTracer {
+
+    /** One of <code>sampleRate</code> requests is traced. */
+    @Getter private final int sampleRate;
+
+    private final Consumer<RequestTrace> listener;
+
+    private final LatencyHistogram[] stageHistograms;
+
+    /**
+     * @param sampleRate Trace one of <code>sampleRate</code> requests, <code>1</code> traces all
+     */
+    public RequestTracer(int sampleRate) {
+        this(sampleRate, trace -> {});
+    }
+
+    /**
+     * @param sampleRate Trace one of <code>sampleRate</code> requests, <code>1</code> traces all
+     * @param listener Receives every completed trace. It is called on the response handler thread and
+     *     should not block.
+     */
+    public RequestTracer(int sampleRate, @NonNull Consumer<RequestTrace> listener) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        this.sampleRate = sampleRate;
+        this.listener = listener;
+        stageHistograms = new LatencyHistogram[Stage.values().length];
+        for (int i = 0; i < stageHistograms.length; i++) {
+            stageHistograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Decide whether to trace a request.
+     *
+     * @param requestType The command type, or <code>null</code> for a transaction
+     * @return A new trace if the request is sampled, otherwise <code>null</code>.
+     */
+    public RequestTrace sample(RequestType requestType) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return null;
+        }
+        return new RequestTrace(requestType);
+    }
+
+    /**
+     * Aggregate a completed trace and pass it to the listener.
+     *
+     * @param trace The trace
+     */
+    public void record(RequestTrace trace) {
+        for (Stage stage : Stage.values()) {
+            if (stage != Stage.SUBMITTED && trace.hasStage(stage)) {
+                stageHistograms[stage.ordinal()].record(trace.getStageDurationNanos(stage));
+            }
+        }
+        listener.accept(trace);
+    }
+
+    /**
+     * Returns the distribution of the time spent to reach a stage from the previous one, see {@link
+     * RequestTrace#getStageDurationNanos(Stage)}.
+     *
+     * @param stage The stage
+     * @return The histogram of the stage.
+     */
+    public LatencyHistogram getStageHistogram(Stage stage) {
+        return stageHistograms[stage.ordinal()];
+    }
+}
@@ -57,16 +57,17 @@ import static redis_request.RedisRequestOuterClass.RequestType.Zrem;
 import glide.api.models.commands.ExpireOptions;
 import glide.api.models.commands.InfoOptions;
 import glide.api.models.commands.InfoOptions.Section;
+import glide.api.models.commands.ScriptOptions;
 import glide.api.models.commands.SetOptions;
 import glide.api.models.commands.SetOptions.ConditionalSet;
 import glide.api.models.commands.SetOptions.SetOptionsBuilder;
 import glide.api.models.commands.ZaddOptions;
+import glide.connectors.handlers.TransactionRequest;
+import java.util.Arrays;
 import java.util.Map;
 import lombok.Getter;
 import lombok.NonNull;
 import org.apache.commons.lang3.ArrayUtils;
-import redis_request.RedisRequestOuterClass.Command;
-import redis_request.RedisRequestOuterClass.Command.ArgsArray;
 import redis_request.RedisRequestOuterClass.RequestType;
 import redis_request.RedisRequestOuterClass.Transaction;
 
@@ -81,13 +82,86 @@ import redis_request.RedisRequestOuterClass.Transaction;
  *
  * @param <T> child typing for chaining method calls
  */
-@Getter
 public abstract class BaseTransaction<T extends BaseTransaction<T>> {
-    /** Command class to send a single request to Redis. */
-    protected final Transaction.Builder protobufTransaction = Transaction.newBuilder();
+    /** Initial capacity of a transaction created without an expected number of commands. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Types of the commands. Only the first {@link #getCommandCount()} entries are set. The array is
+     * owned by the transaction: it is read by the client when the transaction is sent, and must not
+     * be changed.
+     */
+    @Getter private RequestType[] requestTypes;
+
+    /**
+     * Arguments of the commands, copied when added. Only the first {@link #getCommandCount()} entries
+     * are set. The arrays are owned by the transaction: they are read by the client when the
+     * transaction is sent, and must not be changed.
+     */
+    @Getter private String[][] commandArguments;
+
+    /** Number of commands added to the transaction. */
+    @Getter private int commandCount;
+
+    protected BaseTransaction() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a transaction with room for the expected number of commands, so that adding them does
+     * not reallocate the internal storage.
+     *
+     * @param expectedCommands The expected number of commands.
+     */
+    protected BaseTransaction(int expectedCommands) {
+        requestTypes = new RequestType[Math.max(expectedCommands, 1)];
+        commandArguments = new String[requestTypes.length][];
+    }
 
     protected abstract T getThis();
 
+    /**
+     * Removes all commands from the transaction, so that it can be reused. The internal storage is
+     * kept, so a transaction of the same shape can be rebuilt without allocating it again.<br>
+     * A transaction may be cleared right after it is passed to <code>exec</code>, since <code>exec
+     * </code> takes a snapshot of its commands.
+     *
+     * @return This transaction, empty.
+     */
+    public T clear() {
+        Arrays.fill(commandArguments, 0, commandCount, null);
+        commandCount = 0;
+        return getThis();
+    }
+
+    /**
+     * Builds the equivalent protobuf message of the transaction. Transactions are sent without
+     * building it: the client encodes the commands only when the transaction is written to the
+     * connection.
+     *
+     * @return A protobuf transaction builder with the commands added so far.
+     */
+    public Transaction.Builder getProtobufTransaction() {
+        return TransactionRequest.toProtobufTransaction(requestTypes, commandArguments, commandCount);
+    }
+
+    /**
+     * Adds a command to the transaction.
+     *
+     * @param requestType The command type.
+     * @param args The arguments of the command, copied so later changes of the caller's array do not
+     *     affect the transaction.
+     */
+    protected void addCommand(RequestType requestType, String... args) {
+        if (commandCount == requestTypes.length) {
+            int capacity = commandCount * 2;
+            requestTypes = Arrays.copyOf(requestTypes, capacity);
+            commandArguments = Arrays.copyOf(commandArguments, capacity);
+        }
+        requestTypes[commandCount] = requestType;
+        commandArguments[commandCount++] = args.clone();
+    }
+
     /**
      * Executes a single command, without checking inputs. Every part of the command, including
      * subcommands, should be added as a separate value in args.
@@ -106,9 +180,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return A response from Redis with an <code>Object</code>.
      */
     public T customCommand(String[] args) {
-
-        ArgsArray commandArgs = buildArgs(args);
-        protobufTransaction.addCommands(buildCommand(CustomCommand, commandArgs));
+        addCommand(CustomCommand, args);
         return getThis();
     }
 
@@ -119,7 +191,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return A response from Redis with a <code>String</code>.
      */
     public T ping() {
-        protobufTransaction.addCommands(buildCommand(Ping));
+        addCommand(Ping);
         return getThis();
     }
 
@@ -131,9 +203,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return A response from Redis with a <code>String</code>.
      */
     public T ping(@NonNull String msg) {
-        ArgsArray commandArgs = buildArgs(msg);
-
-        protobufTransaction.addCommands(buildCommand(Ping, commandArgs));
+        addCommand(Ping, msg);
         return getThis();
     }
 
@@ -144,7 +214,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return A response from Redis with a <code>String</code>.
      */
     public T info() {
-        protobufTransaction.addCommands(buildCommand(Info));
+        addCommand(Info);
         return getThis();
     }
 
@@ -158,9 +228,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     Section}s.
      */
     public T info(@NonNull InfoOptions options) {
-        ArgsArray commandArgs = buildArgs(options.toArgs());
-
-        protobufTransaction.addCommands(buildCommand(Info, commandArgs));
+        addCommand(Info, options.toArgs());
         return getThis();
     }
 
@@ -173,9 +241,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The number of keys that were removed.
      */
     public T del(@NonNull String[] keys) {
-        ArgsArray commandArgs = buildArgs(keys);
-
-        protobufTransaction.addCommands(buildCommand(Del, commandArgs));
+        addCommand(Del, keys);
         return getThis();
     }
 
@@ -188,9 +254,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     key</code> as a String. Otherwise, return <code>null</code>.
      */
     public T get(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(GetString, commandArgs));
+        addCommand(GetString, key);
         return getThis();
     }
 
@@ -203,9 +267,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Response from Redis.
      */
     public T set(@NonNull String key, @NonNull String value) {
-        ArgsArray commandArgs = buildArgs(key, value);
-
-        protobufTransaction.addCommands(buildCommand(SetString, commandArgs));
+        addCommand(SetString, key, value);
         return getThis();
     }
 
@@ -223,10 +285,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     Otherwise, return <code>OK</code>.
      */
     public T set(@NonNull String key, @NonNull String value, @NonNull SetOptions options) {
-        ArgsArray commandArgs =
-                buildArgs(ArrayUtils.addAll(new String[] {key, value}, options.toArgs()));
-
-        protobufTransaction.addCommands(buildCommand(SetString, commandArgs));
+        addCommand(SetString, ArrayUtils.addAll(new String[] {key, value}, options.toArgs()));
         return getThis();
     }
 
@@ -241,9 +300,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     </code>.
      */
     public T mget(@NonNull String[] keys) {
-        ArgsArray commandArgs = buildArgs(keys);
-
-        protobufTransaction.addCommands(buildCommand(MGet, commandArgs));
+        addCommand(MGet, keys);
         return getThis();
     }
 
@@ -256,9 +313,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      */
     public T mset(@NonNull Map<String, String> keyValueMap) {
         String[] args = convertMapToKeyValueStringArray(keyValueMap);
-        ArgsArray commandArgs = buildArgs(args);
-
-        protobufTransaction.addCommands(buildCommand(MSet, commandArgs));
+        addCommand(MSet, args);
         return getThis();
     }
 
@@ -271,9 +326,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The value of <code>key</code> after the increment.
      */
     public T incr(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(Incr, commandArgs));
+        addCommand(Incr, key);
         return getThis();
     }
 
@@ -287,9 +340,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The value of <code>key</code> after the increment.
      */
     public T incrBy(@NonNull String key, long amount) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(amount));
-
-        protobufTransaction.addCommands(buildCommand(IncrBy, commandArgs));
+        addCommand(IncrBy, key, Long.toString(amount));
         return getThis();
     }
 
@@ -305,9 +356,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The value of <code>key</code> after the increment.
      */
     public T incrByFloat(@NonNull String key, double amount) {
-        ArgsArray commandArgs = buildArgs(key, Double.toString(amount));
-
-        protobufTransaction.addCommands(buildCommand(IncrByFloat, commandArgs));
+        addCommand(IncrByFloat, key, Double.toString(amount));
         return getThis();
     }
 
@@ -320,9 +369,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The value of <code>key</code> after the decrement.
      */
     public T decr(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(Decr, commandArgs));
+        addCommand(Decr, key);
         return getThis();
     }
 
@@ -336,9 +383,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The value of <code>key</code> after the decrement.
      */
     public T decrBy(@NonNull String key, long amount) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(amount));
-
-        protobufTransaction.addCommands(buildCommand(DecrBy, commandArgs));
+        addCommand(DecrBy, key, Long.toString(amount));
         return getThis();
     }
 
@@ -353,9 +398,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     </code> is not present in the hash or <code>key</code> does not exist.
      */
     public T hget(@NonNull String key, @NonNull String field) {
-        ArgsArray commandArgs = buildArgs(key, field);
-
-        protobufTransaction.addCommands(buildCommand(HashGet, commandArgs));
+        addCommand(HashGet, key, field);
         return getThis();
     }
 
@@ -369,10 +412,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The number of fields that were added.
      */
     public T hset(@NonNull String key, @NonNull Map<String, String> fieldValueMap) {
-        ArgsArray commandArgs =
-                buildArgs(ArrayUtils.addFirst(convertMapToKeyValueStringArray(fieldValueMap), key));
-
-        protobufTransaction.addCommands(buildCommand(HashSet, commandArgs));
+        addCommand(HashSet, ArrayUtils.addFirst(convertMapToKeyValueStringArray(fieldValueMap), key));
         return getThis();
     }
 
@@ -388,9 +428,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, it is treated as an empty hash and it returns 0.<br>
      */
     public T hdel(@NonNull String key, @NonNull String[] fields) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(fields, key));
-
-        protobufTransaction.addCommands(buildCommand(HashDel, commandArgs));
+        addCommand(HashDel, ArrayUtils.addFirst(fields, key));
         return getThis();
     }
 
@@ -407,9 +445,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     of null values.<br>
      */
     public T hmget(@NonNull String key, @NonNull String[] fields) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(fields, key));
-
-        protobufTransaction.addCommands(buildCommand(HashMGet, commandArgs));
+        addCommand(HashMGet, ArrayUtils.addFirst(fields, key));
         return getThis();
     }
 
@@ -424,9 +460,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     </code>.
      */
     public T hexists(@NonNull String key, @NonNull String field) {
-        ArgsArray commandArgs = buildArgs(key, field);
-
-        protobufTransaction.addCommands(buildCommand(HashExists, commandArgs));
+        addCommand(HashExists, key, field);
         return getThis();
     }
 
@@ -440,9 +474,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, it returns an empty map.
      */
     public T hgetall(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(HashGetAll, commandArgs));
+        addCommand(HashGetAll, key);
         return getThis();
     }
 
@@ -462,9 +494,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     </code> after the increment or decrement.
      */
     public T hincrBy(@NonNull String key, @NonNull String field, long amount) {
-        ArgsArray commandArgs = buildArgs(key, field, Long.toString(amount));
-
-        protobufTransaction.addCommands(buildCommand(HashIncrBy, commandArgs));
+        addCommand(HashIncrBy, key, field, Long.toString(amount));
         return getThis();
     }
 
@@ -485,9 +515,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     </code> after the increment or decrement.
      */
     public T hincrByFloat(@NonNull String key, @NonNull String field, double amount) {
-        ArgsArray commandArgs = buildArgs(key, field, Double.toString(amount));
-
-        protobufTransaction.addCommands(buildCommand(HashIncrByFloat, commandArgs));
+        addCommand(HashIncrByFloat, key, field, Double.toString(amount));
         return getThis();
     }
 
@@ -503,9 +531,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The length of the list after the push operations.
      */
     public T lpush(@NonNull String key, @NonNull String[] elements) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(elements, key));
-
-        protobufTransaction.addCommands(buildCommand(LPush, commandArgs));
+        addCommand(LPush, ArrayUtils.addFirst(elements, key));
         return getThis();
     }
 
@@ -519,9 +545,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, null will be returned. <br>
      */
     public T lpop(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(LPop, commandArgs));
+        addCommand(LPop, key);
         return getThis();
     }
 
@@ -537,9 +561,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, null will be returned.<br>
      */
     public T lpopCount(@NonNull String key, long count) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(count));
-
-        protobufTransaction.addCommands(buildCommand(LPop, commandArgs));
+        addCommand(LPop, key, Long.toString(count));
         return getThis();
     }
 
@@ -562,9 +584,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist an empty array will be returned.<br>
      */
     public T lrange(@NonNull String key, long start, long end) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(start), Long.toString(end));
-
-        protobufTransaction.addCommands(buildCommand(LRange, commandArgs));
+        addCommand(LRange, key, Long.toString(start), Long.toString(end));
         return getThis();
     }
 
@@ -588,9 +608,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, OK will be returned without changes to the database.
      */
     public T ltrim(@NonNull String key, long start, long end) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(start), Long.toString(end));
-
-        protobufTransaction.addCommands(buildCommand(LTrim, commandArgs));
+        addCommand(LTrim, key, Long.toString(start), Long.toString(end));
         return getThis();
     }
 
@@ -603,9 +621,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, it is interpreted as an empty list and 0 is returned.
      */
     public T llen(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(LLen, commandArgs));
+        addCommand(LLen, key);
         return getThis();
     }
 
@@ -627,9 +643,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, 0 is returned.<br>
      */
     public T lrem(@NonNull String key, long count, @NonNull String element) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(count), element);
-
-        protobufTransaction.addCommands(buildCommand(LRem, commandArgs));
+        addCommand(LRem, key, Long.toString(count), element);
         return getThis();
     }
 
@@ -645,9 +659,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The length of the list after the push operations.
      */
     public T rpush(@NonNull String key, @NonNull String[] elements) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(elements, key));
-
-        protobufTransaction.addCommands(buildCommand(RPush, commandArgs));
+        addCommand(RPush, ArrayUtils.addFirst(elements, key));
         return getThis();
     }
 
@@ -661,9 +673,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, null will be returned.<br>
      */
     public T rpop(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(RPop, commandArgs));
+        addCommand(RPop, key);
         return getThis();
     }
 
@@ -678,9 +688,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     If <code>key</code> does not exist, null will be returned.<br>
      */
     public T rpopCount(@NonNull String key, long count) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(count));
-
-        protobufTransaction.addCommands(buildCommand(RPop, commandArgs));
+        addCommand(RPop, key, Long.toString(count));
         return getThis();
     }
 
@@ -697,9 +705,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     </code>.
      */
     public T sadd(@NonNull String key, @NonNull String[] members) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(members, key));
-
-        protobufTransaction.addCommands(buildCommand(SAdd, commandArgs));
+        addCommand(SAdd, ArrayUtils.addFirst(members, key));
         return getThis();
     }
 
@@ -716,9 +722,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     returns 0.
      */
     public T srem(@NonNull String key, @NonNull String[] members) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(members, key));
-
-        protobufTransaction.addCommands(buildCommand(SRem, commandArgs));
+        addCommand(SRem, ArrayUtils.addFirst(members, key));
         return getThis();
     }
 
@@ -731,9 +735,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @remarks If <code>key</code> does not exist an empty set will be returned.
      */
     public T smembers(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(SMembers, commandArgs));
+        addCommand(SMembers, key);
         return getThis();
     }
 
@@ -746,9 +748,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     does not exist.
      */
     public T scard(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
-
-        protobufTransaction.addCommands(buildCommand(SCard, commandArgs));
+        addCommand(SCard, key);
         return getThis();
     }
 
@@ -762,9 +762,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     parameters.
      */
     public T configGet(@NonNull String[] parameters) {
-        ArgsArray commandArgs = buildArgs(parameters);
-
-        protobufTransaction.addCommands(buildCommand(ConfigGet, commandArgs));
+        addCommand(ConfigGet, parameters);
         return getThis();
     }
 
@@ -778,9 +776,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     Otherwise, the transaction fails with an error.
      */
     public T configSet(@NonNull Map<String, String> parameters) {
-        ArgsArray commandArgs = buildArgs(convertMapToKeyValueStringArray(parameters));
-
-        protobufTransaction.addCommands(buildCommand(ConfigSet, commandArgs));
+        addCommand(ConfigSet, convertMapToKeyValueStringArray(parameters));
         return getThis();
     }
 
@@ -793,9 +789,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     in <code>keys</code> multiple times, it will be counted multiple times.
      */
     public T exists(@NonNull String[] keys) {
-        ArgsArray commandArgs = buildArgs(keys);
-
-        protobufTransaction.addCommands(buildCommand(Exists, commandArgs));
+        addCommand(Exists, keys);
         return getThis();
     }
 
@@ -810,9 +804,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command Response - The number of <code>keys</code> that were unlinked.
      */
     public T unlink(@NonNull String[] keys) {
-        ArgsArray commandArgs = buildArgs(keys);
-
-        protobufTransaction.addCommands(buildCommand(Unlink, commandArgs));
+        addCommand(Unlink, keys);
         return getThis();
     }
 
@@ -833,9 +825,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     timeout was not set. e.g. key doesn't exist.
      */
     public T expire(@NonNull String key, long seconds) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(seconds));
-
-        protobufTransaction.addCommands(buildCommand(Expire, commandArgs));
+        addCommand(Expire, key, Long.toString(seconds));
         return getThis();
     }
 
@@ -858,11 +848,9 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     provided arguments.
      */
     public T expire(@NonNull String key, long seconds, @NonNull ExpireOptions expireOptions) {
-        ArgsArray commandArgs =
-                buildArgs(
-                        ArrayUtils.addAll(new String[] {key, Long.toString(seconds)}, expireOptions.toArgs()));
-
-        protobufTransaction.addCommands(buildCommand(Expire, commandArgs));
+        addCommand(
+                Expire,
+                ArrayUtils.addAll(new String[] {key, Long.toString(seconds)}, expireOptions.toArgs()));
         return getThis();
     }
 
@@ -883,9 +871,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     timeout was not set. e.g. <code>key</code> doesn't exist.
      */
     public T expireAt(@NonNull String key, long unixSeconds) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(unixSeconds));
-
-        protobufTransaction.addCommands(buildCommand(ExpireAt, commandArgs));
+        addCommand(ExpireAt, key, Long.toString(unixSeconds));
         return getThis();
     }
 
@@ -908,12 +894,9 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     provided arguments.
      */
     public T expireAt(@NonNull String key, long unixSeconds, @NonNull ExpireOptions expireOptions) {
-        ArgsArray commandArgs =
-                buildArgs(
-                        ArrayUtils.addAll(
-                                new String[] {key, Long.toString(unixSeconds)}, expireOptions.toArgs()));
-
-        protobufTransaction.addCommands(buildCommand(ExpireAt, commandArgs));
+        addCommand(
+                ExpireAt,
+                ArrayUtils.addAll(new String[] {key, Long.toString(unixSeconds)}, expireOptions.toArgs()));
         return getThis();
     }
 
@@ -934,9 +917,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     timeout was not set. e.g. <code>key</code> doesn't exist.
      */
     public T pexpire(@NonNull String key, long milliseconds) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(milliseconds));
-
-        protobufTransaction.addCommands(buildCommand(PExpire, commandArgs));
+        addCommand(PExpire, key, Long.toString(milliseconds));
         return getThis();
     }
 
@@ -959,12 +940,9 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     provided arguments.
      */
     public T pexpire(@NonNull String key, long milliseconds, @NonNull ExpireOptions expireOptions) {
-        ArgsArray commandArgs =
-                buildArgs(
-                        ArrayUtils.addAll(
-                                new String[] {key, Long.toString(milliseconds)}, expireOptions.toArgs()));
-
-        protobufTransaction.addCommands(buildCommand(PExpire, commandArgs));
+        addCommand(
+                PExpire,
+                ArrayUtils.addAll(new String[] {key, Long.toString(milliseconds)}, expireOptions.toArgs()));
         return getThis();
     }
 
@@ -985,9 +963,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     timeout was not set. e.g. <code>key</code> doesn't exist.
      */
     public T pexpireAt(@NonNull String key, long unixMilliseconds) {
-        ArgsArray commandArgs = buildArgs(key, Long.toString(unixMilliseconds));
-
-        protobufTransaction.addCommands(buildCommand(PExpireAt, commandArgs));
+        addCommand(PExpireAt, key, Long.toString(unixMilliseconds));
         return getThis();
     }
 
@@ -1011,12 +987,10 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      */
     public T pexpireAt(
             @NonNull String key, long unixMilliseconds, @NonNull ExpireOptions expireOptions) {
-        ArgsArray commandArgs =
-                buildArgs(
-                        ArrayUtils.addAll(
-                                new String[] {key, Long.toString(unixMilliseconds)}, expireOptions.toArgs()));
-
-        protobufTransaction.addCommands(buildCommand(PExpireAt, commandArgs));
+        addCommand(
+                PExpireAt,
+                ArrayUtils.addAll(
+                        new String[] {key, Long.toString(unixMilliseconds)}, expireOptions.toArgs()));
         return getThis();
     }
 
@@ -1029,9 +1003,45 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     or <code>-1</code> if <code>key</code> exists but has no associated expire.
      */
     public T ttl(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(key);
+        addCommand(TTL, key);
+        return getThis();
+    }
+
+    /**
+     * Invokes a Lua script by its SHA1 hash with <code>EVALSHA</code>.<br>
+     * Unlike {@link glide.api.commands.GenericBaseCommands#invokeScript(Script)}, a script which is
+     * not cached by Redis is not loaded and invoked again, since the transaction can not be retried
+     * safely: the command fails with <code>NOSCRIPT</code>. Scripts should be invoked once outside of
+     * the transaction first, to load them.
+     *
+     * @see <a href="https://redis.io/commands/evalsha/">redis.io</a> for details.
+     * @param script The Lua script to execute.
+     * @return Command Response - A value that depends on the script that was executed.
+     */
+    public T invokeScript(@NonNull Script script) {
+        return invokeScript(script, ScriptOptions.builder().build());
+    }
 
-        protobufTransaction.addCommands(buildCommand(TTL, commandArgs));
+    /**
+     * Invokes a Lua script with its keys and arguments by its SHA1 hash with <code>EVALSHA</code>.
+     * <br>
+     * Unlike {@link glide.api.commands.GenericBaseCommands#invokeScript(Script, ScriptOptions)}, a
+     * script which is not cached by Redis is not loaded and invoked again, since the transaction can
+     * not be retried safely: the command fails with <code>NOSCRIPT</code>. Scripts should be invoked
+     * once outside of the transaction first, to load them.
+     *
+     * @see <a href="https://redis.io/commands/evalsha/">redis.io</a> for details.
+     * @param script The Lua script to execute.
+     * @param options The script option that contains keys and arguments for the script.
+     * @return Command Response - A value that depends on the script that was executed.
+     */
+    public T invokeScript(@NonNull Script script, @NonNull ScriptOptions options) {
+        String[] args =
+                concatenateArrays(
+                        new String[] {"EVALSHA", script.getHash(), Integer.toString(options.getKeys().size())},
+                        options.getKeys().toArray(String[]::new),
+                        options.getArgs().toArray(String[]::new));
+        addCommand(CustomCommand, args);
         return getThis();
     }
 
@@ -1042,7 +1052,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return Command response - The id of the client.
      */
     public T clientId() {
-        protobufTransaction.addCommands(buildCommand(ClientId));
+        addCommand(ClientId);
         return getThis();
     }
 
@@ -1054,7 +1064,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     <code>null</code> if no name is assigned.
      */
     public T clientGetName() {
-        protobufTransaction.addCommands(buildCommand(ClientGetName));
+        addCommand(ClientGetName);
         return getThis();
     }
 
@@ -1066,7 +1076,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     the transaction fails with an error.
      */
     public T configRewrite() {
-        protobufTransaction.addCommands(buildCommand(ConfigRewrite));
+        addCommand(ConfigRewrite);
         return getThis();
     }
 
@@ -1079,7 +1089,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      * @return <code>OK</code> to confirm that the statistics were successfully reset.
      */
     public T configResetStat() {
-        protobufTransaction.addCommands(buildCommand(ConfigResetStat));
+        addCommand(ConfigResetStat);
         return getThis();
     }
 
@@ -1107,9 +1117,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
         String[] arguments =
                 concatenateArrays(new String[] {key}, options.toArgs(), changedArg, membersScores);
 
-        ArgsArray commandArgs = buildArgs(arguments);
-
-        protobufTransaction.addCommands(buildCommand(Zadd, commandArgs));
+        addCommand(Zadd, arguments);
         return getThis();
     }
 
@@ -1179,14 +1187,12 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      */
     public T zaddIncr(
             @NonNull String key, @NonNull String member, double increment, @NonNull ZaddOptions options) {
-        ArgsArray commandArgs =
-                buildArgs(
-                        concatenateArrays(
-                                new String[] {key},
-                                options.toArgs(),
-                                new String[] {"INCR", Double.toString(increment), member}));
-
-        protobufTransaction.addCommands(buildCommand(Zadd, commandArgs));
+        addCommand(
+                Zadd,
+                concatenateArrays(
+                        new String[] {key},
+                        options.toArgs(),
+                        new String[] {"INCR", Double.toString(increment), member}));
         return getThis();
     }
 
@@ -1221,8 +1227,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     returns <code>0</code>.
      */
     public T zrem(@NonNull String key, @NonNull String[] members) {
-        ArgsArray commandArgs = buildArgs(ArrayUtils.addFirst(members, key));
-        protobufTransaction.addCommands(buildCommand(Zrem, commandArgs));
+        addCommand(Zrem, ArrayUtils.addFirst(members, key));
         return getThis();
     }
 
@@ -1236,29 +1241,7 @@ public abstract class BaseTransaction<T extends BaseTransaction<T>> {
      *     return <code>0</code>.
      */
     public T zcard(@NonNull String key) {
-        ArgsArray commandArgs = buildArgs(new String[] {key});
-        protobufTransaction.addCommands(buildCommand(Zcard, commandArgs));
+        addCommand(Zcard, new String[] {key});
         return getThis();
     }
-
-    /** Build protobuf {@link Command} object for given command and arguments. */
-    protected Command buildCommand(RequestType requestType) {
-        return buildCommand(requestType, buildArgs());
-    }
-
-    /** Build protobuf {@link Command} object for given command and arguments. */
-    protected Command buildCommand(RequestType requestType, ArgsArray args) {
-        return Command.newBuilder().setRequestType(requestType).setArgsArray(args).build();
-    }
-
-    /** Build protobuf {@link ArgsArray} object for given arguments. */
-    protected ArgsArray buildArgs(String... stringArgs) {
-        ArgsArray.Builder commandArgs = ArgsArray.newBuilder();
-
-        for (String string : stringArgs) {
-            commandArgs.addArgs(string);
-        }
-
-        return commandArgs.build();
-    }
 }
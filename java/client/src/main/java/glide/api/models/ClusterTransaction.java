@@ -1,8 +1,6 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models;
 
-import lombok.AllArgsConstructor;
-
 /**
  * Extends BaseTransaction class for cluster mode commands. Transactions allow the execution of a
  * group of commands in a single step.
@@ -21,8 +19,19 @@ import lombok.AllArgsConstructor;
  *  // result contains: OK and "value"
  *  </pre>
  */
-@AllArgsConstructor
 public class ClusterTransaction extends BaseTransaction<ClusterTransaction> {
+
+    public ClusterTransaction() {}
+
+    /**
+     * Creates a transaction with room for the expected number of commands.
+     *
+     * @param expectedCommands The expected number of commands.
+     */
+    public ClusterTransaction(int expectedCommands) {
+        super(expectedCommands);
+    }
+
     @Override
     protected ClusterTransaction getThis() {
         return this;
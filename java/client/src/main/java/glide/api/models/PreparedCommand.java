@@ -0,0 +1,153 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import static glide.managers.CommandManager.prepare;
+import static redis_request.RedisRequestOuterClass.RequestType.CustomCommand;
+import static redis_request.RedisRequestOuterClass.RequestType.GetString;
+import static redis_request.RedisRequestOuterClass.RequestType.HashGet;
+import static redis_request.RedisRequestOuterClass.RequestType.SetString;
+
+import glide.api.commands.GenericBaseCommands;
+import glide.api.models.commands.SetOptions;
+import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.connectors.handlers.CommandTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * A command prepared once and executed many times with {@link
+ * GenericBaseCommands#execute(PreparedCommand, String...)}. The constant arguments, options and
+ * routing are encoded when the command is prepared, so each execution encodes only its parameters.
+ * A prepared command is immutable and can be shared between threads and clients.
+ *
+ * @param <T> The type of the command result
+ * @example
+ *     <pre>{@code
+ * PreparedCommand<String> setWithTtl = PreparedCommand.set(SetOptions.builder().expiry(Seconds(60L)).build());
+ * client.execute(setWithTtl, "key1", "value1").get();
+ *
+ * PreparedCommand<Object> incrementCounter =
+ *         PreparedCommand.customCommand().argument("HINCRBY").parameter().argument("counter").argument("1").build();
+ * client.execute(incrementCounter, "key2").get();
+ * }</pre>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedCommand<T> {
+
+    /** The encoded command, with a placeholder for each parameter. */
+    @Getter private final CommandTemplate template;
+
+    /** The type of the command result. */
+    @Getter private final Class<T> responseClass;
+
+    /** Whether the command may return <code>null</code>. */
+    @Getter private final boolean nullable;
+
+    /**
+     * @return The number of parameters to pass on execution.
+     */
+    public int getParameterCount() {
+        return template.getParameterCount();
+    }
+
+    /**
+     * Prepares a <code>GET</code> command. Takes the key as a parameter.
+     *
+     * @see <a href="https://redis.io/commands/get/">redis.io</a> for details.
+     * @return A prepared command which returns the value of the key, or <code>null</code>.
+     */
+    public static PreparedCommand<String> get() {
+        return new PreparedCommand<>(prepare(GetString, new String[] {null}, null), String.class, true);
+    }
+
+    /**
+     * Prepares an <code>HGET</code> command of a constant <code>field</code>. Takes the key as a
+     * parameter.
+     *
+     * @see <a href="https://redis.io/commands/hget/">redis.io</a> for details.
+     * @param field The field in the hash stored at the key.
+     * @return A prepared command which returns the value of the field, or <code>null</code>.
+     */
+    public static PreparedCommand<String> hget(@NonNull String field) {
+        return new PreparedCommand<>(
+                prepare(HashGet, new String[] {null, field}, null), String.class, true);
+    }
+
+    /**
+     * Prepares a <code>SET</code> command with constant options. Takes the key and the value as
+     * parameters.
+     *
+     * @see <a href="https://redis.io/commands/set/">redis.io</a> for details.
+     * @param options The Set options.
+     * @return A prepared command which returns <code>OK</code>, the old value or <code>null</code>,
+     *     as {@link glide.api.commands.StringCommands#set(String, String, SetOptions)} does.
+     */
+    public static PreparedCommand<String> set(@NonNull SetOptions options) {
+        String[] arguments = ArrayUtils.addAll(new String[] {null, null}, options.toArgs());
+        return new PreparedCommand<>(prepare(SetString, arguments, null), String.class, true);
+    }
+
+    /**
+     * Starts preparing a custom command.
+     *
+     * @return A builder of a custom command, which returns the response as is.
+     */
+    public static CustomCommandBuilder customCommand() {
+        return new CustomCommandBuilder();
+    }
+
+    /** Builder of prepared custom commands. */
+    public static final class CustomCommandBuilder {
+        private final List<String> arguments = new ArrayList<>();
+        private Route route;
+
+        private CustomCommandBuilder() {}
+
+        /**
+         * Adds a constant argument.
+         *
+         * @param argument The argument.
+         * @return This builder.
+         */
+        public CustomCommandBuilder argument(@NonNull String argument) {
+            arguments.add(argument);
+            return this;
+        }
+
+        /**
+         * Adds a placeholder for a parameter, bound on execution.
+         *
+         * @return This builder.
+         */
+        public CustomCommandBuilder parameter() {
+            arguments.add(null);
+            return this;
+        }
+
+        /**
+         * Routes the command, see {@link glide.api.commands.GenericClusterCommands}.
+         *
+         * @param route Routing configuration for the command.
+         * @return This builder.
+         */
+        public CustomCommandBuilder route(@NonNull Route route) {
+            this.route = route;
+            return this;
+        }
+
+        /**
+         * Encodes the constant arguments and the routing of the command.
+         *
+         * @return A prepared command which returns the response as is.
+         */
+        public PreparedCommand<Object> build() {
+            return new PreparedCommand<>(
+                    prepare(CustomCommand, arguments.toArray(new String[0]), route), Object.class, true);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import glide.ffi.resolvers.ScriptResolver;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A Lua script which is invoked by its SHA1 hash, so its source code is only sent to Redis when
+ * Redis does not have it cached yet. The source code is kept by the core until the script is
+ * closed, to load the script to Redis when an invocation fails with <code>NOSCRIPT</code>.
+ *
+ * @see glide.api.commands.GenericBaseCommands#invokeScript(Script)
+ * @example
+ *     <pre>{@code
+ * try (Script script = new Script("return { KEYS[1], ARGV[1] }")) {
+ *     Object result = client.invokeScript(script, ScriptOptions.builder().key("foo").arg("bar").build()).get();
+ * }
+ * }</pre>
+ */
+public class Script implements AutoCloseable {
+
+    /** The SHA1 hash of the script. */
+    @Getter private final String hash;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Create a script and store its source code in the core.
+     *
+     * @param code The source code of the script
+     */
+    public Script(@NonNull String code) {
+        hash = ScriptResolver.storeScript(code);
+    }
+
+    /** Release the source code of the script. Invocations of a closed script may fail. */
+    @Override
+    public void close() {
+        if (!closed.getAndSet(true)) {
+            ScriptResolver.dropScript(hash);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A value of a known length which is read from a stream, a channel or a buffer when the command is
+ * sent, instead of being built as a <code>String</code>. The bytes are copied into native memory
+ * and from there into the request, so large values do not go through the Java heap.<br>
+ * The bytes must be valid UTF-8, like values passed as <code>String</code>. A value read from a
+ * stream or a channel can be sent only once.
+ *
+ * @example
+ *     <pre>{@code
+ * try (FileChannel file = FileChannel.open(Path.of("model.json"))) {
+ *     client.set("model", StreamedValue.of(file, 0, (int) file.size())).get();
+ * }
+ * }</pre>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamedValue {
+
+    /** The number of bytes of the value. */
+    @Getter private final int length;
+
+    private final ValueReader reader;
+
+    /**
+     * Reads the value from an input stream. The stream is read through a small reusable chunk, not as
+     * a whole.
+     *
+     * @param stream The stream, positioned at the start of the value. It is not closed.
+     * @param length The number of bytes to read.
+     * @return The streamed value.
+     */
+    public static StreamedValue of(@NonNull InputStream stream, int length) {
+        return of(Channels.newChannel(stream), length);
+    }
+
+    /**
+     * Reads the value from a blocking channel.
+     *
+     * @param channel The channel, positioned at the start of the value. It is not closed.
+     * @param length The number of bytes to read.
+     * @return The streamed value.
+     */
+    public static StreamedValue of(@NonNull ReadableByteChannel channel, int length) {
+        checkLength(length);
+        return new StreamedValue(
+                length,
+                destination -> {
+                    while (destination.hasRemaining()) {
+                        if (channel.read(destination) < 0) {
+                            throw endOfStream(destination, length);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Reads the value from a region of a file, without changing the position of the channel. The file
+     * is read straight into native memory.
+     *
+     * @param file The file channel.
+     * @param position The position of the value in the file.
+     * @param length The number of bytes to read.
+     * @return The streamed value.
+     */
+    public static StreamedValue of(@NonNull FileChannel file, long position, int length) {
+        checkLength(length);
+        return new StreamedValue(
+                length,
+                destination -> {
+                    while (destination.hasRemaining()) {
+                        if (file.read(destination, position + destination.position()) < 0) {
+                            throw endOfStream(destination, length);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Takes the value from the remaining bytes of a buffer, for example a memory-mapped region of a
+     * file. The position of the buffer is not changed, so the value can be sent more than once.
+     *
+     * @param buffer The buffer.
+     * @return The streamed value.
+     */
+    public static StreamedValue of(@NonNull ByteBuffer buffer) {
+        return new StreamedValue(
+                buffer.remaining(), destination -> destination.put(buffer.duplicate()));
+    }
+
+    /**
+     * Reads the value. The client calls it when the command is sent, so it may block.
+     *
+     * @param destination A buffer with exactly <code>length</code> remaining bytes, which are all
+     *     written.
+     * @throws IOException If the source fails or ends before <code>length</code> bytes.
+     */
+    public void read(@NonNull ByteBuffer destination) throws IOException {
+        if (destination.remaining() != length) {
+            throw new IllegalArgumentException(
+                    "Destination must have " + length + " remaining bytes, got " + destination.remaining());
+        }
+        reader.readFully(destination.slice());
+        destination.position(destination.limit());
+    }
+
+    private static void checkLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be non-negative, got " + length);
+        }
+    }
+
+    private static EOFException endOfStream(ByteBuffer destination, int length) {
+        return new EOFException(
+                "Streamed value ended after " + destination.position() + " of " + length + " bytes");
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        /** Fills the remaining bytes of the destination. */
+        void readFully(ByteBuffer destination) throws IOException;
+    }
+}
@@ -3,9 +3,6 @@ package glide.api.models;
 
 import static redis_request.RedisRequestOuterClass.RequestType.Select;
 
-import lombok.AllArgsConstructor;
-import redis_request.RedisRequestOuterClass;
-
 /**
  * Extends BaseTransaction class for Redis standalone commands. Transactions allow the execution of
  * a group of commands in a single step.
@@ -24,8 +21,19 @@ import redis_request.RedisRequestOuterClass;
  *  // result contains: OK and "value"
  *  </pre>
  */
-@AllArgsConstructor
 public class Transaction extends BaseTransaction<Transaction> {
+
+    public Transaction() {}
+
+    /**
+     * Creates a transaction with room for the expected number of commands.
+     *
+     * @param expectedCommands The expected number of commands.
+     */
+    public Transaction(int expectedCommands) {
+        super(expectedCommands);
+    }
+
     @Override
     protected Transaction getThis() {
         return this;
@@ -39,9 +47,7 @@ public class Transaction extends BaseTransaction<Transaction> {
      * @return Command Response - A simple <code>OK</code> response.
      */
     public Transaction select(long index) {
-        RedisRequestOuterClass.Command.ArgsArray commandArgs = buildArgs(Long.toString(index));
-
-        protobufTransaction.addCommands(buildCommand(Select, commandArgs));
+        addCommand(Select, Long.toString(index));
         return this;
     }
 }
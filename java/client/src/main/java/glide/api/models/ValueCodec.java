@@ -0,0 +1,54 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values of type <code>T</code> to and from the bytes stored by Redis, without going
+ * through a <code>String</code>. Values are encoded straight into the outbound request and decoded
+ * straight from the bytes of the response in native memory. See {@link ValueCodecs} for the
+ * built-in codecs.
+ *
+ * <p>Encoded values must be valid UTF-8, like values passed as <code>String</code>. Decoded values
+ * may be any bytes.
+ *
+ * @param <T> The type of the values
+ * @example
+ *     <pre>{@code
+ * client.set("counter", 42L, ValueCodecs.LONG).get();
+ * Long counter = client.get("counter", ValueCodecs.LONG).get();
+ * }</pre>
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Returns the length of an encoded value. It is called once per value, before {@link
+     * #encode(Object, ByteBuffer)}.
+     *
+     * @param value The value.
+     * @return The number of bytes <code>encode</code> writes.
+     * @throws IllegalArgumentException If the value cannot be encoded, for example bytes which are
+     *     not valid UTF-8.
+     */
+    int encodedLength(T value);
+
+    /**
+     * Encodes a value into a buffer.
+     *
+     * @param value The value.
+     * @param destination A buffer with exactly {@link #encodedLength(Object)} remaining bytes, which
+     *     must all be written.
+     */
+    void encode(T value, ByteBuffer destination);
+
+    /**
+     * Decodes a value.
+     *
+     * @param source A read-only buffer with the bytes of the value between its position and limit.
+     *     The buffer may point to native memory which is released once the method returns, so it must
+     *     not be kept.
+     * @return The value.
+     * @throws IllegalArgumentException If the bytes are not a valid value.
+     */
+    T decode(ByteBuffer source);
+}
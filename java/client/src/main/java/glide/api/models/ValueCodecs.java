@@ -0,0 +1,260 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Built-in {@link ValueCodec}s. */
+public final class ValueCodecs {
+
+    /** Integers, stored as decimal text, as used by <code>INCR</code> and <code>INCRBY</code>. */
+    public static final ValueCodec<Long> LONG = new LongCodec();
+
+    /**
+     * Floating point numbers, stored as decimal text, as used by <code>INCRBYFLOAT</code>. Infinities
+     * are stored as <code>inf</code> and <code>-inf</code>; NaN cannot be stored.
+     */
+    public static final ValueCodec<Double> DOUBLE = new DoubleCodec();
+
+    /** Text, stored as UTF-8. */
+    public static final ValueCodec<String> UTF8 = new Utf8Codec();
+
+    /**
+     * Raw bytes, stored as is. Values written must be valid UTF-8, while values read may be any
+     * bytes.
+     */
+    public static final ValueCodec<byte[]> BYTES = new BytesCodec();
+
+    private ValueCodecs() {}
+
+    private static class LongCodec implements ValueCodec<Long> {
+        @Override
+        public int encodedLength(Long value) {
+            long number = value;
+            int length = number < 0 ? 2 : 1;
+            // count digits on the negative value, which covers Long.MIN_VALUE
+            for (long n = number < 0 ? number : -number; n <= -10; n /= 10) {
+                length++;
+            }
+            return length;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer destination) {
+            long number = value;
+            int end = destination.position() + encodedLength(value);
+            if (number < 0) {
+                destination.put(destination.position(), (byte) '-');
+            }
+            int i = end;
+            long n = number < 0 ? number : -number;
+            do {
+                destination.put(--i, (byte) ('0' - n % 10));
+                n /= 10;
+            } while (n != 0);
+            destination.position(end);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source) {
+            int i = source.position();
+            int end = source.limit();
+            boolean negative = i < end && source.get(i) == '-';
+            if (negative || (i < end && source.get(i) == '+')) {
+                i++;
+            }
+            if (i == end) {
+                throw notANumber("64-bit integer");
+            }
+            // accumulate negatively, like Long.parseLong, so Long.MIN_VALUE does not overflow
+            long result = 0;
+            for (; i < end; i++) {
+                int digit = source.get(i) - '0';
+                if (digit < 0 || digit > 9 || result < Long.MIN_VALUE / 10) {
+                    throw notANumber("64-bit integer");
+                }
+                result *= 10;
+                if (result < Long.MIN_VALUE + digit) {
+                    throw notANumber("64-bit integer");
+                }
+                result -= digit;
+            }
+            if (!negative) {
+                if (result == Long.MIN_VALUE) {
+                    throw notANumber("64-bit integer");
+                }
+                result = -result;
+            }
+            return result;
+        }
+    }
+
+    private static class DoubleCodec implements ValueCodec<Double> {
+        @Override
+        public int encodedLength(Double value) {
+            return toText(value).length();
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer destination) {
+            String text = toText(value);
+            for (int i = 0; i < text.length(); i++) {
+                destination.put((byte) text.charAt(i));
+            }
+        }
+
+        @Override
+        public Double decode(ByteBuffer source) {
+            String text = StandardCharsets.US_ASCII.decode(source).toString();
+            switch (text) {
+                case "inf":
+                case "+inf":
+                    return Double.POSITIVE_INFINITY;
+                case "-inf":
+                    return Double.NEGATIVE_INFINITY;
+                default:
+                    try {
+                        return Double.parseDouble(text);
+                    } catch (NumberFormatException e) {
+                        throw notANumber("floating point number");
+                    }
+            }
+        }
+
+        private static String toText(double value) {
+            if (Double.isNaN(value)) {
+                throw new IllegalArgumentException("NaN cannot be stored");
+            }
+            if (Double.isInfinite(value)) {
+                return value > 0 ? "inf" : "-inf";
+            }
+            return Double.toString(value);
+        }
+    }
+
+    private static class Utf8Codec implements ValueCodec<String> {
+        @Override
+        public int encodedLength(String value) {
+            int length = value.length();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x800) {
+                    if (isSurrogatePair(value, i)) {
+                        // 4 bytes for 2 chars
+                        length += 2;
+                        i++;
+                    } else if (!Character.isSurrogate(c)) {
+                        length += 2;
+                    }
+                } else if (c >= 0x80) {
+                    length++;
+                }
+            }
+            return length;
+        }
+
+        /** Unpaired surrogates are written as <code>?</code>, like {@link String#getBytes} does. */
+        @Override
+        public void encode(String value, ByteBuffer destination) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    destination.put((byte) c);
+                } else if (c < 0x800) {
+                    destination.put((byte) (0xC0 | (c >> 6)));
+                    destination.put((byte) (0x80 | (c & 0x3F)));
+                } else if (isSurrogatePair(value, i)) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    destination.put((byte) (0xF0 | (cp >> 18)));
+                    destination.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    destination.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    destination.put((byte) (0x80 | (cp & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    destination.put((byte) '?');
+                } else {
+                    destination.put((byte) (0xE0 | (c >> 12)));
+                    destination.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    destination.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer source) {
+            return new String(BYTES.decode(source), StandardCharsets.UTF_8);
+        }
+
+        private static boolean isSurrogatePair(String value, int i) {
+            return Character.isHighSurrogate(value.charAt(i))
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1));
+        }
+    }
+
+    private static class BytesCodec implements ValueCodec<byte[]> {
+        @Override
+        public int encodedLength(byte[] value) {
+            if (!isUtf8(value)) {
+                throw new IllegalArgumentException("Value is not valid UTF-8");
+            }
+            return value.length;
+        }
+
+        @Override
+        public void encode(byte[] value, ByteBuffer destination) {
+            destination.put(value);
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer source) {
+            byte[] value = new byte[source.remaining()];
+            source.get(value);
+            return value;
+        }
+    }
+
+    /**
+     * Checks that bytes are well-formed UTF-8: no overlong forms, surrogates or code points above
+     * <code>U+10FFFF</code>.
+     */
+    private static boolean isUtf8(byte[] bytes) {
+        int i = 0;
+        while (i < bytes.length) {
+            int lead = bytes[i++] & 0xFF;
+            if (lead < 0x80) {
+                continue;
+            }
+            int continuations;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                continuations = 1;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                continuations = 2;
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                continuations = 3;
+            } else {
+                return false;
+            }
+            if (i + continuations > bytes.length) {
+                return false;
+            }
+            // the range of the second byte excludes the invalid forms of the lead byte
+            int second = bytes[i] & 0xFF;
+            int min = lead == 0xE0 ? 0xA0 : lead == 0xF0 ? 0x90 : 0x80;
+            int max = lead == 0xED ? 0x9F : lead == 0xF4 ? 0x8F : 0xBF;
+            if (second < min || second > max) {
+                return false;
+            }
+            for (int j = 1; j < continuations; j++) {
+                if ((bytes[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += continuations;
+        }
+        return true;
+    }
+
+    private static NumberFormatException notANumber(String type) {
+        return new NumberFormatException("Value is not a " + type);
+    }
+}
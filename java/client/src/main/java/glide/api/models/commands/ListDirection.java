@@ -0,0 +1,17 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands;
+
+import glide.api.commands.ListBaseCommands;
+
+/**
+ * Defines the end of a list to pop an element from or to push an element to, for {@link
+ * ListBaseCommands#blmove(String, String, ListDirection, ListDirection, double)}.
+ *
+ * @see <a href="https://redis.io/commands/blmove/">redis.io</a>
+ */
+public enum ListDirection {
+    /** The head of the list. Equivalent to <code>LEFT</code> in the Redis API. */
+    LEFT,
+    /** The tail of the list. Equivalent to <code>RIGHT</code> in the Redis API. */
+    RIGHT
+}
@@ -2,6 +2,7 @@
 package glide.api.models.configuration;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -15,6 +16,7 @@ import lombok.NonNull;
  */
 @Getter
 @Builder
+@EqualsAndHashCode
 public class BackoffStrategy {
     /**
      * Number of retry attempts that the client should perform when disconnected from the server,
@@ -0,0 +1,70 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents the bounds of the outbound buffer of the channel to the core. Once more than <code>
+ * highWaterMark</code> bytes of requests are waiting to be written, the channel becomes unwritable,
+ * and it becomes writable again when the buffer drains below <code>lowWaterMark</code> bytes.
+ *
+ * <p>Requests submitted while the channel is unwritable are handled according to the {@link
+ * WritePolicy}. Producers may also wait for the channel to become writable with <code>
+ * awaitWritable()</code> on the client.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class BackpressureConfiguration {
+
+    /** Defines how requests submitted while the channel is unwritable are handled. */
+    public enum WritePolicy {
+        /** Write requests anyway. The outbound buffer is unbounded. */
+        WRITE,
+        /**
+         * Reject requests immediately with an {@link glide.api.models.exceptions.OverloadException}.
+         */
+        FAIL,
+        /**
+         * Block the submitting thread until the channel becomes writable, for up to <code>
+         * maxBlockTime</code> milliseconds, then reject the request. Requests submitted from the event
+         * loop of the channel are never blocked and are written anyway.
+         */
+        BLOCK
+    }
+
+    /** The size in bytes of the outbound buffer below which the channel becomes writable again. */
+    @Builder.Default private final int lowWaterMark = 1024 * 1024;
+
+    /** The size in bytes of the outbound buffer above which the channel becomes unwritable. */
+    @Builder.Default private final int highWaterMark = 4 * 1024 * 1024;
+
+    /** Defines how requests submitted while the channel is unwritable are handled. */
+    @NonNull @Builder.Default private final WritePolicy writePolicy = WritePolicy.BLOCK;
+
+    /** The maximum time in milliseconds to block a request, used with {@link WritePolicy#BLOCK}. */
+    @Builder.Default private final int maxBlockTime = 1000;
+
+    /**
+     * Validates the settings, so an invalid configuration fails when it is built rather than when a
+     * client is created with it.
+     *
+     * @throws IllegalArgumentException If the water marks are negative or not ordered
+     */
+    private BackpressureConfiguration(
+            int lowWaterMark, int highWaterMark, @NonNull WritePolicy writePolicy, int maxBlockTime) {
+        if (lowWaterMark < 0 || lowWaterMark > highWaterMark) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Water marks must satisfy 0 <= lowWaterMark <= highWaterMark, got %d and %d",
+                            lowWaterMark, highWaterMark));
+        }
+        this.lowWaterMark = lowWaterMark;
+        this.highWaterMark = highWaterMark;
+        this.writePolicy = writePolicy;
+        this.maxBlockTime = maxBlockTime;
+    }
+}
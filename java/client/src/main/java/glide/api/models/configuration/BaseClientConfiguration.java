@@ -1,9 +1,13 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models.configuration;
 
+import glide.api.metrics.ClientMetrics;
+import glide.api.metrics.ClientStatistics;
+import glide.api.metrics.RequestTracer;
 import glide.connectors.resources.ThreadPoolResource;
 import java.util.List;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Singular;
@@ -15,6 +19,7 @@ import lombok.experimental.SuperBuilder;
  */
 @Getter
 @SuperBuilder
+@EqualsAndHashCode
 public abstract class BaseClientConfiguration {
     /**
      * DNS Addresses and ports of known nodes in the cluster. If the server is in cluster mode the
@@ -39,6 +44,12 @@ public abstract class BaseClientConfiguration {
     /** Represents the client's read from strategy. */
     @NonNull @Builder.Default private final ReadFrom readFrom = ReadFrom.PRIMARY;
 
+    /**
+     * Availability zone of the client, such as <code>us-east-1a</code>. Required by {@link
+     * ReadFrom#AZ_AFFINITY}, which prefers replicas in the same zone. Must not be blank.
+     */
+    private final String clientAZ;
+
     /**
      * Credentials for authentication process. If none are set, the client will not authenticate
      * itself with the server.
@@ -53,6 +64,48 @@ public abstract class BaseClientConfiguration {
      */
     private final Integer requestTimeout;
 
+    /**
+     * The duration in milliseconds that the client waits for a response on the Java side. Unlike
+     * {@link #requestTimeout}, which is enforced by the core, the deadline guards against the core
+     * never answering a request: once it expires, the request fails with a {@link
+     * glide.api.models.exceptions.TimeoutException} and its resources are released. It should be
+     * longer than the request timeout, and at least 1 millisecond. If not set, requests have no
+     * Java-side deadline.
+     */
+    private final Integer requestDeadline;
+
+    /**
+     * Bounds of the outbound buffer of the channel to the core, and the handling of requests
+     * submitted while the buffer is full. If not set, the default bounds of the channel are used and
+     * requests are always written.
+     */
+    private final BackpressureConfiguration backpressure;
+
+    /**
+     * Adaptive limit of requests in flight. Once the limit is reached, new requests are queued or
+     * rejected instead of piling up while the server is slow. If not set, requests are not limited.
+     */
+    private final ConcurrencyLimitConfiguration concurrencyLimit;
+
+    /**
+     * Instrumentation which receives request latencies, traffic, error and connection statistics of
+     * the client. Can be shared by several clients. See {@link ClientStatistics} for a built-in
+     * implementation. If not set, nothing is recorded.
+     */
+    @NonNull @Builder.Default private final ClientMetrics metrics = ClientMetrics.NOOP;
+
+    /**
+     * Sampled tracing of requests, which breaks their latency down by stage, including the time spent
+     * in the core. If not set, requests are not traced.
+     */
+    private final RequestTracer requestTracer;
+
+    /**
+     * Transparent compression of large values of string and hash commands. If not set, values are
+     * stored as is.
+     */
+    private final CompressionConfiguration compression;
+
     /**
      * Client name to be used for the client. Will be used with CLIENT SETNAME command during
      * connection establishment.
@@ -64,4 +117,79 @@ public abstract class BaseClientConfiguration {
      * loop group. If set, users are responsible for shutting the resource down when no longer in use.
      */
     private final ThreadPoolResource threadPoolResource;
+
+    /**
+     * If set, the client keeps one channel per event loop of the thread pool resource. A request
+     * submitted from one of the event loops is written to the channel of that loop, and its response
+     * is completed on the same thread, so continuations must not block. Applications built on Netty
+     * should pass their own event loop group with {@link #threadPoolResource}.
+     *
+     * <p>Each channel has its own connection to the core, so the client opens one set of connections
+     * to the server per event loop.
+     */
+    @Builder.Default private final boolean eventLoopAffinity = false;
+
+    /**
+     * Blocking commands, such as <code>BLPOP</code>, run on dedicated connections to the server,
+     * opened on demand, so they do not stall the other requests of the client while they block. This
+     * is the number of those connections kept open once their commands return, for the next blocking
+     * commands. Must not be negative. If not set, up to 8 connections are kept.
+     */
+    @Builder.Default private final int maxIdleBlockingConnections = 8;
+
+    /**
+     * The maximum number of dedicated connections for blocking commands, open at the same time.
+     * Blocking commands submitted while all of them are in use wait for one of them to be released,
+     * in submission order, so they also wait for the blocking commands running before them. Must be
+     * positive. If not set, up to 64 connections are opened.
+     */
+    @Builder.Default private final int maxBlockingConnections = 64;
+
+    /**
+     * Builder of the configuration, which validates settings as they are set, so an invalid
+     * configuration fails when it is built rather than when a client is created with it.
+     */
+    public abstract static class BaseClientConfigurationBuilder<
+            C extends BaseClientConfiguration, B extends BaseClientConfigurationBuilder<C, B>> {
+
+        /**
+         * @throws IllegalArgumentException If the deadline is shorter than 1 millisecond
+         */
+        public B requestDeadline(Integer requestDeadline) {
+            if (requestDeadline != null && requestDeadline < 1) {
+                throw new IllegalArgumentException(
+                        "Request deadline must be at least 1 millisecond, got " + requestDeadline);
+            }
+            this.requestDeadline = requestDeadline;
+            return self();
+        }
+
+        /**
+         * @throws IllegalArgumentException If the number of connections is negative
+         */
+        public B maxIdleBlockingConnections(int maxIdleBlockingConnections) {
+            if (maxIdleBlockingConnections < 0) {
+                throw new IllegalArgumentException(
+                        "The maximum number of idle blocking connections must not be negative, got "
+                                + maxIdleBlockingConnections);
+            }
+            this.maxIdleBlockingConnections$value = maxIdleBlockingConnections;
+            this.maxIdleBlockingConnections$set = true;
+            return self();
+        }
+
+        /**
+         * @throws IllegalArgumentException If the number of connections is not positive
+         */
+        public B maxBlockingConnections(int maxBlockingConnections) {
+            if (maxBlockingConnections < 1) {
+                throw new IllegalArgumentException(
+                        "The maximum number of blocking connections must be positive, got "
+                                + maxBlockingConnections);
+            }
+            this.maxBlockingConnections$value = maxBlockingConnections;
+            this.maxBlockingConnections$set = true;
+            return self();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import glide.api.compression.DeflateCompressor;
+import glide.api.compression.ValueCompressor;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Represents transparent compression of the values of string and hash commands. Values of at least
+ * <code>threshold</code> characters are compressed before they are sent, when compression makes
+ * them smaller. Stored values carry a short header, so compressed values, uncompressed values and
+ * values written by other clients can coexist.
+ *
+ * <p>Compression applies to the values of <code>set</code>, <code>get</code>, <code>mset</code>,
+ * <code>mget</code>, <code>hset</code>, <code>hget</code>, <code>hmget</code> and <code>hgetall
+ * </code>, including their variants with a {@link glide.api.models.ValueCodec}: typed values are
+ * stored through compression as the text of their encoding, and typed reads decode compressed
+ * values first. Values of transactions and custom commands, {@link glide.api.models.StreamedValue}s
+ * and values read into buffers, channels or streams are stored and read as is.
+ *
+ * @see glide.api.compression.CompressionCodec
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class CompressionConfiguration {
+
+    /** The length in characters from which values are compressed. */
+    @Builder.Default private final int threshold = 1024;
+
+    /** The algorithm which compresses new values. */
+    @NonNull @Builder.Default private final ValueCompressor compressor = new DeflateCompressor();
+
+    /**
+     * Algorithms of values stored earlier with another <code>compressor</code>. They are used only to
+     * decompress values, so the algorithm can be changed without rewriting the stored values.
+     */
+    @Singular private final List<ValueCompressor> decompressors;
+}
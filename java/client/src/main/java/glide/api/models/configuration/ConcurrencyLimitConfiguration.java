@@ -0,0 +1,105 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents an adaptive limit of requests in flight, which protects the client and the server from
+ * overload. The limit follows an AIMD (additive increase, multiplicative decrease) algorithm: it
+ * grows by one while requests complete faster than <code>latencyThreshold</code>, and shrinks by
+ * <code>backoffRatio</code> when a request is slower or times out.
+ *
+ * <p>Requests submitted over the limit are either queued or rejected with an {@link
+ * glide.api.models.exceptions.OverloadException}, depending on the {@link OverloadPolicy}.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class ConcurrencyLimitConfiguration {
+
+    /** Defines how requests submitted over the concurrency limit are handled. */
+    public enum OverloadPolicy {
+        /** Reject requests over the limit immediately. */
+        REJECT,
+        /**
+         * Queue requests over the limit until requests in flight complete. Requests are rejected once
+         * the queue holds <code>maxQueueSize</code> requests.
+         */
+        QUEUE
+    }
+
+    /** The limit of requests in flight the client starts with. Must be between the bounds below. */
+    @Builder.Default private final int initialLimit = 20;
+
+    /** The lowest limit the algorithm may shrink to. Must be at least 1. */
+    @Builder.Default private final int minLimit = 1;
+
+    /** The highest limit the algorithm may grow to. */
+    @Builder.Default private final int maxLimit = 1000;
+
+    /**
+     * Round trip latency in milliseconds above which a request is considered a sign of overload and
+     * shrinks the limit. Must be at least 1.
+     */
+    @Builder.Default private final int latencyThreshold = 500;
+
+    /** The multiplier applied to the limit on overload. Must be between 0 and 1 exclusive. */
+    @Builder.Default private final double backoffRatio = 0.9;
+
+    /** Defines how requests submitted over the limit are handled. */
+    @NonNull @Builder.Default private final OverloadPolicy overloadPolicy = OverloadPolicy.REJECT;
+
+    /**
+     * The maximum number of queued requests, used with {@link OverloadPolicy#QUEUE}. Must not be
+     * negative.
+     */
+    @Builder.Default private final int maxQueueSize = 1000;
+
+    /**
+     * Validates the settings, so an invalid configuration fails when it is built rather than when a
+     * client is created with it.
+     *
+     * @throws IllegalArgumentException If the limits are not ordered, if <code>backoffRatio</code> is
+     *     not between 0 and 1, if <code>latencyThreshold</code> is not positive or if <code>
+     *     maxQueueSize</code> is negative
+     */
+    private ConcurrencyLimitConfiguration(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int latencyThreshold,
+            double backoffRatio,
+            @NonNull OverloadPolicy overloadPolicy,
+            int maxQueueSize) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be at least 1, got " + minLimit);
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Limits must satisfy minLimit <= initialLimit <= maxLimit, got %d, %d and %d",
+                            minLimit, initialLimit, maxLimit));
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException(
+                    "backoffRatio must be between 0 and 1 exclusive, got " + backoffRatio);
+        }
+        if (latencyThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "latencyThreshold must be at least 1 millisecond, got " + latencyThreshold);
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative, got " + maxQueueSize);
+        }
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThreshold = latencyThreshold;
+        this.backoffRatio = backoffRatio;
+        this.overloadPolicy = overloadPolicy;
+        this.maxQueueSize = maxQueueSize;
+    }
+}
@@ -2,12 +2,14 @@
 package glide.api.models.configuration;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 
 /** Represents the address and port of a node in the cluster. */
 @Getter
 @Builder
+@EqualsAndHashCode
 public class NodeAddress {
     public static String DEFAULT_HOST = "localhost";
     public static Integer DEFAULT_PORT = 6379;
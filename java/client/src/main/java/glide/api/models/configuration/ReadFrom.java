@@ -9,5 +9,19 @@ public enum ReadFrom {
      * Spread the requests between all replicas in a round-robin manner. If no replica is available,
      * route the requests to the primary.
      */
-    PREFER_REPLICA
+    PREFER_REPLICA,
+    /**
+     * Route the requests to the replica with the lowest measured latency, probing the other replicas
+     * once in a while. If no replica is available, route the requests to the primary. In cluster
+     * mode, the requests are spread between the replicas like {@link #PREFER_REPLICA}.
+     */
+    LOWEST_LATENCY,
+    /**
+     * Spread the requests between the replicas in the availability zone of the client, set by {@link
+     * BaseClientConfiguration#getClientAZ()}, in a round-robin manner. If none of them is available,
+     * spread the requests between all replicas, then route them to the primary. The zone of each
+     * replica is the <code>availability-zone</code> it reports. In cluster mode, the requests are
+     * spread between the replicas like {@link #PREFER_REPLICA}.
+     */
+    AZ_AFFINITY
 }
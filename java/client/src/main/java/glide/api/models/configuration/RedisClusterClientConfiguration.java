@@ -1,6 +1,8 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models.configuration;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 /**
@@ -8,5 +10,14 @@ import lombok.experimental.SuperBuilder;
  * reconnection strategy in cluster mode is not configurable, and exponential backoff with fixed
  * values is used.
  */
+@Getter
 @SuperBuilder
-public class RedisClusterClientConfiguration extends BaseClientConfiguration {}
+@EqualsAndHashCode(callSuper = true)
+public class RedisClusterClientConfiguration extends BaseClientConfiguration {
+
+    /**
+     * Controls the periodic checks of the cluster topology. If not set, the topology is checked every
+     * 60 seconds.
+     */
+    private final TopologyRefreshConfiguration topologyRefresh;
+}
@@ -2,12 +2,14 @@
 package glide.api.models.configuration;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 
 /** Represents the credentials for connecting to a Redis server. */
 @Getter
 @Builder
+@EqualsAndHashCode
 public class RedisCredentials {
     /** The password that will be used for authenticating connections to the Redis servers. */
     @NonNull private final String password;
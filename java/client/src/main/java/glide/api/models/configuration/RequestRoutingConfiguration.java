@@ -2,6 +2,7 @@
 package glide.api.models.configuration;
 
 import glide.api.models.exceptions.RequestException;
+import glide.utils.ClusterSlotUtils;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -51,12 +52,36 @@ public class RequestRoutingConfiguration {
     public static class SlotIdRoute implements Route {
         /**
          * Slot number. There are 16384 slots in a redis cluster, and each shard manages a slot range.
-         * Unless the slot is known, it's better to route using {@link SlotType#PRIMARY}.
+         * Unless the slot is known, it's better to route using {@link SlotType#PRIMARY}. Use {@link
+         * ClusterSlotUtils#getSlot} to compute a slot of a key.
          */
         private final int slotId;
 
         private final SlotType slotType;
 
+        /**
+         * Creates a route to the slot of the given key. The slot is computed on the client side, so the
+         * route can be cached and reused for hot keys.
+         *
+         * @param key The key to route by.
+         * @param slotType The node type to route to.
+         * @return A route to the slot of <code>key</code>.
+         */
+        public static SlotIdRoute ofKey(@NonNull String key, @NonNull SlotType slotType) {
+            return new SlotIdRoute(ClusterSlotUtils.getSlot(key), slotType);
+        }
+
+        /**
+         * Creates a route to the slot of the given binary key.
+         *
+         * @param key The key to route by.
+         * @param slotType The node type to route to.
+         * @return A route to the slot of <code>key</code>.
+         */
+        public static SlotIdRoute ofKey(@NonNull byte[] key, @NonNull SlotType slotType) {
+            return new SlotIdRoute(ClusterSlotUtils.getSlot(key), slotType);
+        }
+
         @Override
         public boolean isSingleNodeRoute() {
             return true;
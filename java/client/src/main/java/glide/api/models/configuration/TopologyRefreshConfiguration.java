@@ -0,0 +1,54 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Represents how a cluster client keeps its view of the cluster topology up to date. Besides the
+ * periodic checks, which query the slots of the cluster from the servers, the client refreshes the
+ * topology on demand when a server redirects a request with a <code>MOVED</code> error.
+ *
+ * <p>Each client process checks the topology on its own, so with many processes the periodic checks
+ * add load to the servers. Lengthening the interval or disabling the checks reduces it, at the cost
+ * of noticing topology changes which do not redirect requests, such as added replicas, later.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class TopologyRefreshConfiguration {
+
+    /**
+     * The interval in seconds between periodic topology checks. If not set, the default interval of
+     * the core, 60 seconds, is used. Must be positive.
+     */
+    private final Integer periodicChecksInterval;
+
+    /**
+     * If set, the topology is not checked periodically, and it is refreshed only when a server
+     * redirects a request. Cannot be combined with <code>periodicChecksInterval</code>.
+     */
+    @Builder.Default private final boolean periodicChecksDisabled = false;
+
+    /**
+     * Validates the settings, so an invalid configuration fails when it is built rather than when a
+     * client is created with it.
+     *
+     * @throws IllegalArgumentException If the periodic checks are both disabled and given an
+     *     interval, or if the interval is not positive
+     */
+    private TopologyRefreshConfiguration(
+            Integer periodicChecksInterval, boolean periodicChecksDisabled) {
+        if (periodicChecksDisabled && periodicChecksInterval != null) {
+            throw new IllegalArgumentException(
+                    "Periodic checks cannot be both disabled and given an interval");
+        }
+        if (periodicChecksInterval != null && periodicChecksInterval <= 0) {
+            throw new IllegalArgumentException(
+                    "The periodic checks interval must be positive, got " + periodicChecksInterval);
+        }
+        this.periodicChecksInterval = periodicChecksInterval;
+        this.periodicChecksDisabled = periodicChecksDisabled;
+    }
+}
@@ -0,0 +1,13 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.exceptions;
+
+/**
+ * Redis client error: Errors that are thrown when a request is shed by the client, because the
+ * number of requests in flight has reached the concurrency limit, or because the channel to the
+ * core is not writable. These errors are temporary.
+ */
+public class OverloadException extends RedisException {
+    public OverloadException(String message) {
+        super(message);
+    }
+}
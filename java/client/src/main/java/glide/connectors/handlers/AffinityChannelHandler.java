@@ -0,0 +1,183 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import glide.api.metrics.ClientMetrics;
+import glide.api.metrics.RequestTrace;
+import glide.api.models.configuration.BackpressureConfiguration;
+import glide.connectors.resources.ThreadPoolResource;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import response.ResponseOuterClass.Response;
+
+/**
+ * A {@link ChannelHandler} which keeps one channel per event loop of a group. A request submitted
+ * from one of the event loops is written to the channel of that loop, and its response is completed
+ * on the same thread, without handoffs to other threads. Requests submitted from other threads are
+ * spread over the channels in turn.
+ *
+ * <p>Each channel has its own connection to the core, so the client opens one set of connections to
+ * the server per event loop. Continuations run on the event loop and must not block.
+ */
+public class AffinityChannelHandler extends ChannelHandler {
+
+    /** Completes responses on the thread which reads them: the event loop of the channel. */
+    private static final Executor DIRECT = Runnable::run;
+
+    private final ChannelHandler[] handlers;
+
+    private final AtomicInteger nextHandler = new AtomicInteger();
+
+    /**
+     * Open one channel per event loop of the group.
+     *
+     * @param requestDeadline Default Java-side request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}
+     * @param metrics Client instrumentation
+     * @param socketPath Address to connect
+     * @param threadPoolResource Resource to choose ELG and domainSocketChannelClass
+     * @param backpressure Bounds of the outbound buffer and write policy, or <code>null</code> for
+     *     the channel defaults
+     */
+    public AffinityChannelHandler(
+            long requestDeadline,
+            ClientMetrics metrics,
+            String socketPath,
+            ThreadPoolResource threadPoolResource,
+            BackpressureConfiguration backpressure) {
+        this(openChannels(requestDeadline, metrics, socketPath, threadPoolResource, backpressure));
+    }
+
+    private AffinityChannelHandler(ChannelHandler[] handlers) {
+        super(handlers[0]);
+        this.handlers = handlers;
+    }
+
+    private static ChannelHandler[] openChannels(
+            long requestDeadline,
+            ClientMetrics metrics,
+            String socketPath,
+            ThreadPoolResource threadPoolResource,
+            BackpressureConfiguration backpressure) {
+        List<ChannelHandler> handlers = new ArrayList<>();
+        try {
+            for (EventExecutor eventLoop : threadPoolResource.getEventLoopGroup()) {
+                handlers.add(
+                        new ChannelHandler(
+                                new CallbackDispatcher(requestDeadline, metrics, DIRECT),
+                                socketPath,
+                                (EventLoop) eventLoop,
+                                threadPoolResource.getDomainSocketChannelClass(),
+                                backpressure));
+            }
+        } catch (RuntimeException e) {
+            handlers.forEach(ChannelHandler::close);
+            throw e;
+        }
+        return handlers.toArray(new ChannelHandler[0]);
+    }
+
+    /**
+     * @return The handler of the event loop of the current thread, or the next handler in turn.
+     */
+    private ChannelHandler select() {
+        for (ChannelHandler handler : handlers) {
+            if (handler.channel.eventLoop().inEventLoop()) {
+                return handler;
+            }
+        }
+        return handlers[Math.floorMod(nextHandler.getAndIncrement(), handlers.length)];
+    }
+
+    @Override
+    public boolean isClosed() {
+        for (ChannelHandler handler : handlers) {
+            if (handler.isClosed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isWritable() {
+        return select().isWritable();
+    }
+
+    @Override
+    public CompletableFuture<Void> awaitWritable() {
+        return select().awaitWritable();
+    }
+
+    @Override
+    public CompletableFuture<Response> write(
+            RedisRequest.Builder request, boolean flush, long deadline, RequestTrace trace) {
+        return select().write(request, flush, deadline, trace);
+    }
+
+    @Override
+    public CompletableFuture<Response> write(
+            OutboundRequest request, boolean flush, long deadline, RequestTrace trace) {
+        return select().write(request, flush, deadline, trace);
+    }
+
+    @Override
+    public void writeWithCallback(
+            OutboundRequest request, boolean flush, long deadline, ResponseCallback callback) {
+        select().writeWithCallback(request, flush, deadline, callback);
+    }
+
+    /**
+     * Send the connection request on every channel.
+     *
+     * @param request A connection request
+     * @return A connection promise, completed with the first error response, or with the response of
+     *     the first channel once all channels are connected
+     */
+    @Override
+    public CompletableFuture<Response> connect(ConnectionRequest request) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Response>[] connections = new CompletableFuture[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            connections[i] = handlers[i].connect(request);
+        }
+        return CompletableFuture.allOf(connections)
+                .thenApply(
+                        ignore -> {
+                            for (CompletableFuture<Response> connection : connections) {
+                                Response response = connection.join();
+                                if (response.hasClosingError() || response.hasRequestError()) {
+                                    return response;
+                                }
+                            }
+                            return connections[0].join();
+                        });
+    }
+
+    /** Closes every channel. The returned future completes once all of them are closed. */
+    @Override
+    public ChannelFuture close() {
+        var closed = new DefaultChannelPromise(channel, GlobalEventExecutor.INSTANCE);
+        var remaining = new AtomicInteger(handlers.length);
+        for (ChannelHandler handler : handlers) {
+            handler
+                    .close()
+                    .addListener(
+                            future -> {
+                                if (remaining.decrementAndGet() == 0) {
+                                    closed.setSuccess();
+                                }
+                            });
+        }
+        return closed;
+    }
+}
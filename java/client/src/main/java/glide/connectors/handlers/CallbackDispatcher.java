@@ -1,38 +1,54 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.connectors.handlers;
 
+import glide.api.metrics.ClientMetrics;
+import glide.api.metrics.ConnectionEvent;
+import glide.api.metrics.RequestTrace;
+import glide.api.metrics.RequestTrace.Stage;
 import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.ConnectionException;
 import glide.api.models.exceptions.ExecAbortException;
 import glide.api.models.exceptions.RequestException;
 import glide.api.models.exceptions.TimeoutException;
+import glide.ffi.resolvers.RedisValueResolver;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.apache.commons.lang3.tuple.Pair;
 import response.ResponseOuterClass.RequestError;
+import response.ResponseOuterClass.RequestErrorType;
 import response.ResponseOuterClass.Response;
 
 /** Holder for resources required to dispatch responses and used by {@link ReadHandler}. */
-@RequiredArgsConstructor
 public class CallbackDispatcher {
 
+    /** Value of a request deadline which means the request waits for the core indefinitely. */
+    public static final long NO_DEADLINE = 0;
+
     /** Unique request ID (callback ID). Thread-safe and overflow-safe. */
     protected final AtomicInteger nextAvailableRequestId = new AtomicInteger(0);
 
     /**
-     * Storage of Futures to handle responses. Map key is callback id, which starts from 0. The value
-     * is a CompletableFuture that is returned to the user and completed when the request is done.
+     * Storage of callbacks to handle responses. Map key is callback id, which starts from 0. The
+     * value is a {@link ResponseCallback}, usually a CompletableFuture returned to the user, which is
+     * completed when the request is done.
      *
      * <p>Note: Protobuf packet contains callback ID as uint32, but it stores data as a bit field.
      * Negative Java values would be shown as positive on Rust side. There is no data loss, because
      * callback ID remains unique.
      */
-    protected final ConcurrentHashMap<Integer, CompletableFuture<Response>> responses =
+    protected final ConcurrentHashMap<Integer, ResponseCallback> responses =
             new ConcurrentHashMap<>();
 
     /**
@@ -43,22 +59,156 @@ public class CallbackDispatcher {
     // https://github.com/aws/glide-for-redis/issues/704
     protected final ConcurrentLinkedQueue<Integer> freeRequestIds = new ConcurrentLinkedQueue<>();
 
+    /**
+     * Callback IDs of requests which timed out on the Java side. The core may still answer them, so
+     * these IDs are not reused until a late response arrives.
+     */
+    protected final Set<Integer> expiredRequestIds = ConcurrentHashMap.newKeySet();
+
+    /** Traces of sampled requests in flight, by callback ID. */
+    protected final ConcurrentHashMap<Integer, RequestTrace> traces = new ConcurrentHashMap<>();
+
+    /** Default Java-side request deadline in milliseconds, or {@link #NO_DEADLINE}. */
+    @Getter protected final long requestDeadline;
+
+    /** Client instrumentation. */
+    @Getter protected final ClientMetrics metrics;
+
+    /**
+     * The executor which completes response promises and decodes responses, or <code>null</code> for
+     * the common pool.
+     */
+    @Getter protected final Executor completionExecutor;
+
+    public CallbackDispatcher() {
+        this(NO_DEADLINE);
+    }
+
+    /**
+     * @param requestDeadline Default Java-side request deadline in milliseconds, or {@link
+     *     #NO_DEADLINE}
+     */
+    public CallbackDispatcher(long requestDeadline) {
+        this(requestDeadline, ClientMetrics.NOOP);
+    }
+
+    /**
+     * @param requestDeadline Default Java-side request deadline in milliseconds, or {@link
+     *     #NO_DEADLINE}
+     * @param metrics Client instrumentation
+     */
+    public CallbackDispatcher(long requestDeadline, ClientMetrics metrics) {
+        this(requestDeadline, metrics, null);
+    }
+
+    /**
+     * @param requestDeadline Default Java-side request deadline in milliseconds, or {@link
+     *     #NO_DEADLINE}
+     * @param metrics Client instrumentation
+     * @param completionExecutor The executor which completes response promises, or <code>null
+     *     </code> for the common pool
+     */
+    public CallbackDispatcher(
+            long requestDeadline, ClientMetrics metrics, Executor completionExecutor) {
+        this.requestDeadline = requestDeadline;
+        this.metrics = metrics;
+        this.completionExecutor = completionExecutor;
+    }
+
     /**
      * Register a new request to be sent. Once response received, the given future completes with it.
+     * The request is bound by the default deadline of the dispatcher.
      *
      * @return A pair of unique callback ID which should set into request and a client promise for
      *     response.
      */
     public Pair<Integer, CompletableFuture<Response>> registerRequest() {
-        var future = new CompletableFuture<Response>();
+        return registerRequest(requestDeadline);
+    }
+
+    /**
+     * Register a new request to be sent. Once response received, the given future completes with it.
+     * If no response is received within the deadline, the future completes with a {@link
+     * TimeoutException}.
+     *
+     * @param deadline Java-side request deadline in milliseconds, or {@link #NO_DEADLINE}
+     * @return A pair of unique callback ID which should set into request and a client promise for
+     *     response.
+     */
+    public Pair<Integer, CompletableFuture<Response>> registerRequest(long deadline) {
+        var future = new ResponseFuture(completionExecutor);
+        return Pair.of(registerRequest(future, deadline), future);
+    }
+
+    /**
+     * Register a new request to be sent. Once response received, the given callback is called with
+     * it, straight from the thread which reads the response. If no response is received within the
+     * deadline, the callback fails with a {@link TimeoutException}.
+     *
+     * @param callback The callback of the request
+     * @param deadline Java-side request deadline in milliseconds, or {@link #NO_DEADLINE}
+     * @return A unique callback ID which should set into request.
+     */
+    public int registerRequest(ResponseCallback callback, long deadline) {
         Integer callbackId = freeRequestIds.poll();
         if (callbackId == null) {
             // on null, we have no available request ids available in freeRequestIds
             // instead, get the next available request from counter
             callbackId = nextAvailableRequestId.getAndIncrement();
         }
-        responses.put(callbackId, future);
-        return Pair.of(callbackId, future);
+        if (deadline > NO_DEADLINE) {
+            var deadlineCallback = new DeadlineCallback(callback);
+            responses.put(callbackId, deadlineCallback);
+            int id = callbackId;
+            deadlineCallback.timeout =
+                    DeadlineTimer.TIMER.newTimeout(
+                            t -> expireRequest(id, deadlineCallback, deadline), deadline, TimeUnit.MILLISECONDS);
+        } else {
+            responses.put(callbackId, callback);
+        }
+        return callbackId;
+    }
+
+    /**
+     * Fail a registered request which could not be written, and free its callback ID.
+     *
+     * @param callbackId Callback ID of the request
+     * @param error The failure
+     */
+    public void failRequest(int callbackId, Throwable error) {
+        ResponseCallback callback = responses.remove(callbackId);
+        if (callback != null) {
+            traces.remove(callbackId);
+            freeRequestIds.add(callbackId);
+            callback.onFailure(error);
+        }
+    }
+
+    /**
+     * Complete a request which got no response within its deadline. The callback ID is not freed
+     * until the core answers it, because a late response must not complete another request.
+     */
+    private void expireRequest(int callbackId, ResponseCallback callback, long deadline) {
+        expiredRequestIds.add(callbackId);
+        traces.remove(callbackId);
+        if (responses.remove(callbackId, callback)) {
+            callback.onFailure(
+                    new TimeoutException("Request timed out on client side after " + deadline + " ms"));
+        } else {
+            // the response has arrived in the meantime
+            expiredRequestIds.remove(callbackId);
+        }
+    }
+
+    /**
+     * Attach a trace to a registered request. The trace records when the response is read and the
+     * timings reported by the core.
+     *
+     * @param callbackId Callback ID of the request
+     * @param trace The trace
+     */
+    public void registerTrace(int callbackId, RequestTrace trace) {
+        traces.put(callbackId, trace);
     }
 
     public CompletableFuture<Response> registerConnection() {
@@ -78,34 +228,41 @@ public class CallbackDispatcher {
             distributeClosingException(response.getClosingError());
             return;
         }
+        completeRequest(response.getCallbackIdx(), response);
+    }
+
+    /**
+     * Complete the corresponding client promise, handle error and free resources.
+     *
+     * @param callbackId Callback ID of the response. It takes precedence over the ID in the response,
+     *     so responses without an ID can be shared.
+     * @param response A response received, which is not a closing error
+     */
+    public void completeRequest(int callbackId, Response response) {
         // Complete and return the response at callbackId
         // free up the callback ID in the freeRequestIds list
-        int callbackId = response.getCallbackIdx();
-        CompletableFuture<Response> future = responses.remove(callbackId);
-        if (future != null) {
+        if (!traces.isEmpty()) {
+            completeTrace(callbackId, response);
+        }
+        ResponseCallback callback = responses.remove(callbackId);
+        if (callback != null) {
             freeRequestIds.add(callbackId);
             if (response.hasRequestError()) {
                 RequestError error = response.getRequestError();
-                String msg = error.getMessage();
-                switch (error.getType()) {
-                    case Unspecified:
-                        // Unspecified error on Redis service-side
-                        future.completeExceptionally(new RequestException(msg));
-                    case ExecAbort:
-                        // Transactional error on Redis service-side
-                        future.completeExceptionally(new ExecAbortException(msg));
-                    case Timeout:
-                        // Timeout from Glide to Redis service
-                        future.completeExceptionally(new TimeoutException(msg));
-                    case Disconnect:
-                        // Connection problem between Glide and Redis
-                        future.completeExceptionally(new ConnectionException(msg));
-                    default:
-                        // Request or command error from Redis
-                        future.completeExceptionally(new RequestException(msg));
+                metrics.requestError(error.getType());
+                if (error.getType() == RequestErrorType.Disconnect) {
+                    metrics.connectionEvent(ConnectionEvent.RECONNECTING);
                 }
+                callback.onFailure(toException(error));
+            } else {
+                callback.onResponse(response);
+            }
+        } else if (expiredRequestIds.remove(callbackId)) {
+            // a late response for a request which already timed out on the client side
+            if (response.hasRespPointer()) {
+                RedisValueResolver.dropValue(response.getRespPointer());
             }
-            future.completeAsync(() -> response);
+            freeRequestIds.add(callbackId);
         } else {
             // TODO: log an error thru logger.
             // probably a response was received after shutdown or `registerRequest` call was missing
@@ -116,6 +273,40 @@ public class CallbackDispatcher {
         }
     }
 
+    /** Converts an error response to the exception the request fails with. */
+    private static RuntimeException toException(RequestError error) {
+        String msg = error.getMessage();
+        switch (error.getType()) {
+            case ExecAbort:
+                // Transactional error on Redis service-side
+                return new ExecAbortException(msg);
+            case Timeout:
+                // Timeout from Glide to Redis service
+                return new TimeoutException(msg);
+            case Disconnect:
+                // Connection problem between Glide and Redis
+                return new ConnectionException(msg);
+            default:
+                // Unspecified error on Redis service-side, or request or command error from Redis
+                return new RequestException(msg);
+        }
+    }
+
+    private void completeTrace(int callbackId, Response response) {
+        RequestTrace trace = traces.remove(callbackId);
+        if (trace != null) {
+            trace.mark(Stage.READ);
+            if (response.hasCoreTimings()) {
+                trace.setCoreTimings(
+                        response.getCoreTimings().getReceivedAtMicros(),
+                        response.getCoreTimings().getSentAtMicros());
+            }
+            if (!response.getServedBy().isEmpty()) {
+                trace.setServedBy(response.getServedBy());
+            }
+        }
+    }
+
     /**
      * Distribute {@link ClosingException} to all pending requests. {@link CommandManager} and {@link
      * ConnectionManager} should catch it, handle and close the UDS connection.<br>
@@ -124,13 +315,69 @@ public class CallbackDispatcher {
      * @param message Exception message
      */
     public void distributeClosingException(String message) {
-        responses.values().forEach(f -> f.completeExceptionally(new ClosingException(message)));
-        responses.clear();
+        metrics.connectionEvent(ConnectionEvent.CLOSING_ERROR);
+        failAll(message);
+        expiredRequestIds.clear();
+        traces.clear();
     }
 
     public void shutdownGracefully() {
         String msg = "Operation terminated: The closing process has been initiated for the resource.";
-        responses.values().forEach(future -> future.completeExceptionally(new ClosingException(msg)));
-        responses.clear();
+        failAll(msg);
+        expiredRequestIds.clear();
+        traces.clear();
+    }
+
+    /**
+     * Fail all pending requests with a {@link ClosingException}. Each callback is removed before it
+     * is called, so a response which arrives meanwhile cannot complete it a second time.
+     */
+    private void failAll(String message) {
+        for (Integer callbackId : responses.keySet()) {
+            ResponseCallback callback = responses.remove(callbackId);
+            if (callback != null) {
+                callback.onFailure(new ClosingException(message));
+            }
+        }
+    }
+
+    /** Cancels the deadline timer of a request once the request completes. */
+    private static class DeadlineCallback implements ResponseCallback {
+        private final ResponseCallback callback;
+
+        private volatile Timeout timeout;
+
+        DeadlineCallback(ResponseCallback callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void onResponse(Response response) {
+            cancelTimeout();
+            callback.onResponse(response);
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            cancelTimeout();
+            callback.onFailure(error);
+        }
+
+        private void cancelTimeout() {
+            Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+
+    /**
+     * A single timer shared by all clients to enforce request deadlines. It is started on first use,
+     * so clients without deadlines don't pay for its thread.
+     */
+    private static class DeadlineTimer {
+        private static final Timer TIMER =
+                new HashedWheelTimer(
+                        new DefaultThreadFactory("glide-deadline-timer", true), 10, TimeUnit.MILLISECONDS);
     }
 }
@@ -2,16 +2,27 @@
 package glide.connectors.handlers;
 
 import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import glide.api.metrics.ConnectionEvent;
+import glide.api.metrics.RequestTrace;
+import glide.api.metrics.RequestTrace.Stage;
+import glide.api.models.configuration.BackpressureConfiguration;
 import glide.connectors.resources.ThreadPoolResource;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.ReferenceCountUtil;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import redis_request.RedisRequestOuterClass.RedisRequest;
 import response.ResponseOuterClass.Response;
 
@@ -23,6 +34,11 @@ public class ChannelHandler {
 
     protected final Channel channel;
     protected final CallbackDispatcher callbackDispatcher;
+    protected final WritabilityHandler writabilityHandler;
+
+    /** Completed once the channel is connected to the socket, or failed to connect. */
+    private final ChannelFuture connectFuture;
+
     private AtomicBoolean isClosed = new AtomicBoolean(false);
 
     public boolean isClosed() {
@@ -39,22 +55,100 @@ public class ChannelHandler {
     public ChannelHandler(
             CallbackDispatcher callbackDispatcher,
             String socketPath,
-            ThreadPoolResource threadPoolResource)
-            throws InterruptedException {
+            ThreadPoolResource threadPoolResource) {
+        this(callbackDispatcher, socketPath, threadPoolResource, null);
+    }
 
-        channel =
+    /**
+     * Open a new channel for a new client and running it on the provided EventLoopGroup.
+     *
+     * @param callbackDispatcher Dispatcher to handle callbacks
+     * @param socketPath Address to connect
+     * @param threadPoolResource Resource to choose ELG and domainSocketChannelClass
+     * @param backpressure Bounds of the outbound buffer and write policy, or <code>null</code> for
+     *     the channel defaults
+     */
+    public ChannelHandler(
+            CallbackDispatcher callbackDispatcher,
+            String socketPath,
+            ThreadPoolResource threadPoolResource,
+            BackpressureConfiguration backpressure) {
+        this(
+                callbackDispatcher,
+                socketPath,
+                threadPoolResource.getEventLoopGroup(),
+                threadPoolResource.getDomainSocketChannelClass(),
+                backpressure);
+    }
+
+    /**
+     * Open a new channel for a new client and running it on the provided EventLoopGroup. The channel
+     * connects in the background: messages written meanwhile are sent once it is connected, or fail
+     * with the connection error.
+     *
+     * @param callbackDispatcher Dispatcher to handle callbacks
+     * @param socketPath Address to connect
+     * @param eventLoopGroup The event loop group, or a single event loop to bind the channel to
+     * @param channelClass The class of the Unix domain socket channel, compatible with the group
+     * @param backpressure Bounds of the outbound buffer and write policy, or <code>null</code> for
+     *     the channel defaults
+     */
+    public ChannelHandler(
+            CallbackDispatcher callbackDispatcher,
+            String socketPath,
+            EventLoopGroup eventLoopGroup,
+            Class<? extends Channel> channelClass,
+            BackpressureConfiguration backpressure) {
+        writabilityHandler =
+                backpressure == null
+                        ? new WritabilityHandler(callbackDispatcher.getMetrics())
+                        : new WritabilityHandler(
+                                backpressure.getWritePolicy(),
+                                backpressure.getMaxBlockTime(),
+                                callbackDispatcher.getMetrics());
+        var bootstrap =
                 new Bootstrap()
-                        .group(threadPoolResource.getEventLoopGroup())
-                        .channel(threadPoolResource.getDomainSocketChannelClass())
-                        .handler(new ProtobufSocketChannelInitializer(callbackDispatcher))
-                        .connect(new DomainSocketAddress(socketPath))
-                        // TODO    .addListener(new NettyFutureErrorHandler())
-                        //   we need to use connection promise here for that ^
-                        .sync()
-                        .channel();
+                        .group(eventLoopGroup)
+                        .channel(channelClass)
+                        .handler(new ProtobufSocketChannelInitializer(callbackDispatcher, writabilityHandler));
+        if (backpressure != null) {
+            bootstrap.option(
+                    ChannelOption.WRITE_BUFFER_WATER_MARK,
+                    new WriteBufferWaterMark(
+                            backpressure.getLowWaterMark(), backpressure.getHighWaterMark()));
+        }
+        connectFuture = bootstrap.connect(new DomainSocketAddress(socketPath));
+        channel = connectFuture.channel();
         this.callbackDispatcher = callbackDispatcher;
     }
 
+    /**
+     * Create a handler which dispatches to other handlers, such as {@link AffinityChannelHandler}. It
+     * must override every method which uses the channel.
+     *
+     * @param delegate The handler whose channel and dispatcher are used by default
+     */
+    protected ChannelHandler(ChannelHandler delegate) {
+        this.channel = delegate.channel;
+        this.connectFuture = delegate.connectFuture;
+        this.callbackDispatcher = delegate.callbackDispatcher;
+        this.writabilityHandler = delegate.writabilityHandler;
+    }
+
+    /**
+     * @return <code>true</code> if the outbound buffer of the channel is below its high water mark.
+     */
+    public boolean isWritable() {
+        return writabilityHandler.isWritable();
+    }
+
+    /**
+     * @return A promise completed once the channel is writable, or when it is closed.
+     */
+    public CompletableFuture<Void> awaitWritable() {
+        return writabilityHandler.awaitWritable();
+    }
+
     /**
      * Complete a protobuf message and write it to the channel (to UDS).
      *
@@ -63,19 +157,136 @@ public class ChannelHandler {
      * @return A response promise
      */
     public CompletableFuture<Response> write(RedisRequest.Builder request, boolean flush) {
-        var commandId = callbackDispatcher.registerRequest();
+        return write(request, flush, callbackDispatcher.getRequestDeadline());
+    }
+
+    /**
+     * Complete a protobuf message and write it to the channel (to UDS).
+     *
+     * @param request Incomplete request, function completes it by setting callback ID
+     * @param flush True to flush immediately
+     * @param deadline Java-side request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}
+     * @return A response promise
+     */
+    public CompletableFuture<Response> write(
+            RedisRequest.Builder request, boolean flush, long deadline) {
+        return write(request, flush, deadline, null);
+    }
+
+    /**
+     * Complete a protobuf message and write it to the channel (to UDS).
+     *
+     * @param request Incomplete request, function completes it by setting callback ID
+     * @param flush True to flush immediately
+     * @param deadline Java-side request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}
+     * @param trace Trace which records the stages of the request, or <code>null</code>
+     * @return A response promise
+     */
+    public CompletableFuture<Response> write(
+            RedisRequest.Builder request, boolean flush, long deadline, RequestTrace trace) {
+        var overload = writabilityHandler.checkWritable(channel.eventLoop().inEventLoop());
+        if (overload != null) {
+            return CompletableFuture.failedFuture(overload);
+        }
+        var commandId = callbackDispatcher.registerRequest(deadline);
         request.setCallbackIdx(commandId.getKey());
+        if (trace != null) {
+            request.setRecordTimings(true);
+        }
+        writeMessage(request.build(), flush, commandId, trace);
+        return commandId.getValue();
+    }
 
-        if (flush) {
-            channel
-                    .writeAndFlush(request.build())
-                    .addListener(new NettyFutureErrorHandler(commandId.getValue()));
-        } else {
-            channel.write(request.build()).addListener(new NettyFutureErrorHandler(commandId.getValue()));
+    /**
+     * Complete a command or transaction request and write it to the channel (to UDS). The request is
+     * encoded by {@link RequestEncoder} without building a protobuf message.
+     *
+     * @param request Incomplete request, function completes it by setting callback ID
+     * @param flush True to flush immediately
+     * @param deadline Java-side request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}
+     * @param trace Trace which records the stages of the request, or <code>null</code>
+     * @return A response promise
+     */
+    public CompletableFuture<Response> write(
+            OutboundRequest request, boolean flush, long deadline, RequestTrace trace) {
+        var overload = writabilityHandler.checkWritable(channel.eventLoop().inEventLoop());
+        if (overload != null) {
+            ReferenceCountUtil.release(request);
+            return CompletableFuture.failedFuture(overload);
+        }
+        var commandId = callbackDispatcher.registerRequest(deadline);
+        request.setCallbackIdx(commandId.getKey());
+        if (trace != null) {
+            request.setRecordTimings(true);
         }
+        writeMessage(request, flush, commandId, trace);
         return commandId.getValue();
     }
 
+    /**
+     * Complete a command or transaction request and write it to the channel (to UDS). The callback is
+     * called straight from the thread which reads the response, without a response promise.
+     *
+     * @param request Incomplete request, function completes it by setting callback ID
+     * @param flush True to flush immediately
+     * @param deadline Java-side request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}
+     * @param callback The callback of the request
+     */
+    public void writeWithCallback(
+            OutboundRequest request, boolean flush, long deadline, ResponseCallback callback) {
+        var overload = writabilityHandler.checkWritable(channel.eventLoop().inEventLoop());
+        if (overload != null) {
+            ReferenceCountUtil.release(request);
+            callback.onFailure(overload);
+            return;
+        }
+        int callbackId = callbackDispatcher.registerRequest(callback, deadline);
+        request.setCallbackIdx(callbackId);
+        send(request, flush)
+                .addListener(
+                        future -> {
+                            if (!future.isSuccess()) {
+                                callbackDispatcher.failRequest(callbackId, future.cause());
+                            }
+                        });
+    }
+
+    private void writeMessage(
+            Object message,
+            boolean flush,
+            Pair<Integer, CompletableFuture<Response>> commandId,
+            RequestTrace trace) {
+        if (trace != null) {
+            // registered before writing, because the response may arrive before the write returns
+            callbackDispatcher.registerTrace(commandId.getKey(), trace);
+        }
+        ChannelFuture writeFuture = send(message, flush);
+        writeFuture.addListener(new NettyFutureErrorHandler(commandId.getValue()));
+        if (trace != null) {
+            trace.mark(Stage.WRITTEN);
+            writeFuture.addListener(future -> trace.mark(Stage.FLUSHED));
+        }
+    }
+
+    /**
+     * @return The executor which completes responses, or <code>null</code> for the common pool.
+     */
+    public Executor getCompletionExecutor() {
+        return callbackDispatcher.getCompletionExecutor();
+    }
+
+    /**
+     * @return The default Java-side request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}.
+     */
+    public long getRequestDeadline() {
+        return callbackDispatcher.getRequestDeadline();
+    }
+
     /**
      * Write a protobuf message to the channel (to UDS).
      *
@@ -84,13 +295,51 @@ public class ChannelHandler {
      */
     public CompletableFuture<Response> connect(ConnectionRequest request) {
         var future = callbackDispatcher.registerConnection();
-        channel.writeAndFlush(request).addListener(new NettyFutureErrorHandler(future));
+        send(request, true).addListener(new NettyFutureErrorHandler(future));
         return future;
     }
 
+    /**
+     * Write a message to the channel, or once the channel is connected while the connection is
+     * pending. Messages written before the connection keep their order, because their listeners are
+     * called in the order they were added.
+     *
+     * @param message The message to write
+     * @param flush True to flush immediately
+     * @return A write promise, failed with the connection error if the channel fails to connect
+     */
+    private ChannelFuture send(Object message, boolean flush) {
+        if (connectFuture.isDone()) {
+            return flush ? channel.writeAndFlush(message) : channel.write(message);
+        }
+        ChannelPromise promise = channel.newPromise();
+        connectFuture.addListener(
+                connected -> {
+                    if (!connected.isSuccess()) {
+                        ReferenceCountUtil.release(message);
+                        promise.setFailure(connected.cause());
+                    } else if (flush) {
+                        channel.writeAndFlush(message, promise);
+                    } else {
+                        channel.write(message, promise);
+                    }
+                });
+        return promise;
+    }
+
+    /**
+     * @return A future completed once the UDS connection is closed, by {@link #close()} or by the
+     *     core.
+     */
+    public ChannelFuture closeFuture() {
+        return channel.closeFuture();
+    }
+
     /** Closes the UDS connection and frees corresponding resources. */
     public ChannelFuture close() {
-        this.isClosed.set(true);
+        if (!this.isClosed.getAndSet(true)) {
+            callbackDispatcher.getMetrics().connectionEvent(ConnectionEvent.CLOSED);
+        }
         callbackDispatcher.shutdownGracefully();
         return channel.close();
     }
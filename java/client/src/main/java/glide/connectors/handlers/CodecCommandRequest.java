@@ -0,0 +1,117 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import glide.api.models.ValueCodec;
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.Getter;
+import redis_request.RedisRequestOuterClass.Command;
+import redis_request.RedisRequestOuterClass.Command.ArgsArray;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+
+/**
+ * A request with a single command whose last argument is a typed value. The value is encoded by its
+ * {@link ValueCodec} straight into the outbound frame, without a <code>String</code> or an
+ * intermediate buffer. The arguments and a <code>byte[]</code> value are copied when the request is
+ * created, so later changes of the caller's arrays do not affect it; immutable values are
+ * referenced.
+ *
+ * @param <T> The type of the value
+ */
+public class CodecCommandRequest<T> extends OutboundRequest {
+
+    private static final int SINGLE_COMMAND_TAG = 2 << 3 | 2;
+
+    @Getter private final RequestType requestType;
+
+    /** The arguments which precede the value. */
+    private final String[] arguments;
+
+    private final T value;
+
+    private final ValueCodec<T> codec;
+
+    /** The length of the encoded value, computed when the request is created. */
+    private final int valueLength;
+
+    /** UTF-8 lengths of the arguments, computed on first use. */
+    private int[] argumentSizes;
+
+    private int argsArraySize;
+
+    private int commandSize = -1;
+
+    /**
+     * @param requestType The command type
+     * @param arguments The arguments which precede the value
+     * @param value The value
+     * @param codec The codec of the value
+     * @param route The command routing, or <code>null</code> for the default routing
+     * @throws IllegalArgumentException If the codec cannot encode the value
+     */
+    public CodecCommandRequest(
+            RequestType requestType, String[] arguments, T value, ValueCodec<T> codec, Routes route) {
+        super(route);
+        this.requestType = requestType;
+        this.arguments = arguments.clone();
+        this.value = snapshot(value);
+        this.codec = codec;
+        this.valueLength = codec.encodedLength(this.value);
+    }
+
+    /** Copy a mutable value, the only mutable type of the built-in codecs being a byte array. */
+    @SuppressWarnings("unchecked")
+    private static <T> T snapshot(T value) {
+        return value instanceof byte[] ? (T) ((byte[]) value).clone() : value;
+    }
+
+    @Override
+    protected int bodyTag() {
+        return SINGLE_COMMAND_TAG;
+    }
+
+    @Override
+    protected int bodySize() {
+        if (commandSize < 0) {
+            argumentSizes = new int[arguments.length];
+            int size = argumentSize(valueLength);
+            for (int i = 0; i < arguments.length; i++) {
+                argumentSizes[i] = utf8Length(arguments[i]);
+                size += argumentSize(argumentSizes[i]);
+            }
+            argsArraySize = size;
+            commandSize = commandSize(requestType, argsArraySize);
+        }
+        return commandSize;
+    }
+
+    @Override
+    protected void writeBody(ByteBuf out) {
+        writeCommandHeader(out, requestType, argsArraySize);
+        for (int i = 0; i < arguments.length; i++) {
+            writeArgument(out, arguments[i], argumentSizes[i]);
+        }
+        out.writeByte(ARG_TAG);
+        RequestEncoder.writeVarint(out, valueLength);
+        out.ensureWritable(valueLength);
+        codec.encode(value, out.nioBuffer(out.writerIndex(), valueLength));
+        out.writerIndex(out.writerIndex() + valueLength);
+    }
+
+    @Override
+    protected RedisRequest.Builder setBody(RedisRequest.Builder builder) {
+        ByteBuffer encoded = ByteBuffer.allocate(valueLength);
+        codec.encode(value, encoded);
+        return builder.setSingleCommand(
+                Command.newBuilder()
+                        .setRequestType(requestType)
+                        .setArgsArray(
+                                ArgsArray.newBuilder()
+                                        .addAllArgs(Arrays.asList(arguments))
+                                        .addArgs(new String(encoded.array(), StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,110 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import io.netty.buffer.ByteBuf;
+import java.util.Arrays;
+import lombok.Getter;
+import redis_request.RedisRequestOuterClass.Command;
+import redis_request.RedisRequestOuterClass.Command.ArgsArray;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+
+/**
+ * A request with a single command. The arguments are copied when the request is created, so later
+ * changes of the caller's array do not affect it, and are encoded to UTF-8 directly into the
+ * outbound buffer when the request is written.
+ */
+public class CommandRequest extends OutboundRequest {
+
+    private static final int SINGLE_COMMAND_TAG = 2 << 3 | 2;
+
+    @Getter private final RequestType requestType;
+
+    /** The arguments, or the parameters of {@link #template}. */
+    private final String[] arguments;
+
+    /** Template with the constant arguments, or <code>null</code>. */
+    private final CommandTemplate template;
+
+    /** UTF-8 lengths of the arguments, computed on first use. */
+    private int[] argumentSizes;
+
+    private int argsArraySize;
+
+    private int commandSize = -1;
+
+    public CommandRequest(RequestType requestType, String[] arguments) {
+        this(requestType, arguments, null);
+    }
+
+    public CommandRequest(RequestType requestType, String[] arguments, Routes route) {
+        super(route);
+        this.requestType = requestType;
+        this.arguments = arguments.clone();
+        this.template = null;
+    }
+
+    /**
+     * Bind the parameters of a template. Only the parameters are encoded when the request is written.
+     *
+     * @param template The command template
+     * @param parameters The parameters, in the order of their placeholders
+     */
+    public CommandRequest(CommandTemplate template, String[] parameters) {
+        super(template.getRoute());
+        template.checkParameters(parameters);
+        this.requestType = template.getRequestType();
+        this.arguments = parameters.clone();
+        this.template = template;
+    }
+
+    /**
+     * @return The arguments of the command.
+     */
+    public String[] getArguments() {
+        return template == null ? arguments : template.bind(arguments);
+    }
+
+    @Override
+    protected int bodyTag() {
+        return SINGLE_COMMAND_TAG;
+    }
+
+    @Override
+    protected int bodySize() {
+        if (commandSize < 0) {
+            argumentSizes = new int[arguments.length];
+            int size = template == null ? 0 : template.getConstantSize();
+            for (int i = 0; i < arguments.length; i++) {
+                argumentSizes[i] = utf8Length(arguments[i]);
+                size += argumentSize(argumentSizes[i]);
+            }
+            argsArraySize = size;
+            commandSize = commandSize(requestType, argsArraySize);
+        }
+        return commandSize;
+    }
+
+    @Override
+    protected void writeBody(ByteBuf out) {
+        writeCommandHeader(out, requestType, argsArraySize);
+        for (int i = 0; i < arguments.length; i++) {
+            if (template != null) {
+                template.writeSegment(out, i);
+            }
+            writeArgument(out, arguments[i], argumentSizes[i]);
+        }
+        if (template != null) {
+            template.writeSegment(out, arguments.length);
+        }
+    }
+
+    @Override
+    protected RedisRequest.Builder setBody(RedisRequest.Builder builder) {
+        return builder.setSingleCommand(
+                Command.newBuilder()
+                        .setRequestType(requestType)
+                        .setArgsArray(ArgsArray.newBuilder().addAllArgs(Arrays.asList(getArguments()))));
+    }
+}
@@ -0,0 +1,109 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+
+/**
+ * A single command with constant arguments encoded once. Binding the parameters with {@link
+ * CommandRequest#CommandRequest(CommandTemplate, String[])} creates a request which copies the
+ * encoded constant arguments and encodes only the parameters.
+ */
+public class CommandTemplate {
+
+    @Getter private final RequestType requestType;
+
+    /** Command routing, or <code>null</code> for the default routing. */
+    @Getter private final Routes route;
+
+    /** The arguments, with <code>null</code> in place of parameters. */
+    private final String[] arguments;
+
+    @Getter private final int parameterCount;
+
+    /**
+     * Encoded constant arguments (as <code>ArgsArray.args</code> entries) before, between and after
+     * the parameters. There is one segment more than parameters.
+     */
+    private final byte[][] segments;
+
+    /** Total size of the segments. */
+    @Getter private final int constantSize;
+
+    /**
+     * @param requestType The command type
+     * @param arguments The arguments, with <code>null</code> in place of parameters
+     * @param route The command routing, or <code>null</code> for the default routing
+     */
+    public CommandTemplate(RequestType requestType, String[] arguments, Routes route) {
+        this.requestType = requestType;
+        this.arguments = arguments.clone();
+        this.route = route;
+
+        int parameters = 0;
+        for (String argument : arguments) {
+            if (argument == null) {
+                parameters++;
+            }
+        }
+        parameterCount = parameters;
+        segments = new byte[parameters + 1][];
+
+        ByteBuf segment = Unpooled.buffer();
+        int index = 0;
+        int size = 0;
+        for (String argument : arguments) {
+            if (argument == null) {
+                segments[index++] = toByteArray(segment);
+                size += segment.readableBytes();
+                segment.clear();
+            } else {
+                byte[] bytes = argument.getBytes(StandardCharsets.UTF_8);
+                segment.writeByte(OutboundRequest.ARG_TAG);
+                RequestEncoder.writeVarint(segment, bytes.length);
+                segment.writeBytes(bytes);
+            }
+        }
+        segments[index] = toByteArray(segment);
+        constantSize = size + segment.readableBytes();
+    }
+
+    /**
+     * Builds the full argument list of the command.
+     *
+     * @param parameters The parameters
+     * @return The arguments, with parameters in place.
+     */
+    public String[] bind(String[] parameters) {
+        checkParameters(parameters);
+        String[] result = arguments.clone();
+        for (int i = 0, p = 0; i < result.length; i++) {
+            if (result[i] == null) {
+                result[i] = parameters[p++];
+            }
+        }
+        return result;
+    }
+
+    void checkParameters(String[] parameters) {
+        if (parameters.length != parameterCount) {
+            throw new IllegalArgumentException(
+                    "Expected " + parameterCount + " parameters, got " + parameters.length);
+        }
+    }
+
+    /** Write the encoded constant arguments which precede the parameter <code>index</code>. */
+    void writeSegment(ByteBuf out, int index) {
+        out.writeBytes(segments[index]);
+    }
+
+    private static byte[] toByteArray(ByteBuf segment) {
+        byte[] bytes = new byte[segment.readableBytes()];
+        segment.getBytes(segment.readerIndex(), bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,208 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static com.google.protobuf.CodedOutputStream.computeUInt32SizeNoTag;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import lombok.Setter;
+import redis_request.RedisRequestOuterClass.Command;
+import redis_request.RedisRequestOuterClass.Command.ArgsArray;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+
+/**
+ * A request which {@link RequestEncoder} writes straight in the wire format of {@link
+ * RedisRequest}, without building intermediate protobuf messages. Subclasses encode the command
+ * part of the request, this class encodes the common fields.
+ */
+@Getter
+public abstract class OutboundRequest {
+
+    /** Field tags of {@link RedisRequest}, {@link Command} and {@link ArgsArray}. */
+    private static final int CALLBACK_IDX_TAG = 1 << 3;
+
+    private static final int ROUTE_TAG = 5 << 3 | 2;
+    private static final int RECORD_TIMINGS_TAG = 6 << 3;
+    private static final int REQUEST_TYPE_TAG = 1 << 3;
+    private static final int ARGS_ARRAY_TAG = 2 << 3 | 2;
+    static final int ARG_TAG = 1 << 3 | 2;
+
+    /** Command routing, or <code>null</code> for the default routing. */
+    private final Routes route;
+
+    /** Callback ID, set by {@link ChannelHandler} when the request is written. */
+    @Setter private int callbackIdx;
+
+    /** Whether the core should report its timings, see {@link RedisRequest#getRecordTimings()}. */
+    @Setter private boolean recordTimings;
+
+    protected OutboundRequest(Routes route) {
+        this.route = route;
+    }
+
+    /**
+     * @return The size of the request in the wire format, without the length prefix.
+     */
+    public int getSerializedSize() {
+        int size = 1 + computeUInt32SizeNoTag(bodySize()) + bodySize();
+        if (callbackIdx != 0) {
+            size += 1 + computeUInt32SizeNoTag(callbackIdx);
+        }
+        if (route != null) {
+            int routeSize = route.getSerializedSize();
+            size += 1 + computeUInt32SizeNoTag(routeSize) + routeSize;
+        }
+        if (recordTimings) {
+            size += 2;
+        }
+        return size;
+    }
+
+    /**
+     * Write the request in the wire format of {@link RedisRequest}, without the length prefix. The
+     * output is identical to the serialization of the equivalent message, see {@link #toProtobuf()}.
+     *
+     * @param out The buffer to write to
+     */
+    public void writeTo(ByteBuf out) {
+        if (callbackIdx != 0) {
+            out.writeByte(CALLBACK_IDX_TAG);
+            RequestEncoder.writeVarint(out, callbackIdx);
+        }
+        out.writeByte(bodyTag());
+        RequestEncoder.writeVarint(out, bodySize());
+        writeBody(out);
+        if (route != null) {
+            out.writeByte(ROUTE_TAG);
+            RequestEncoder.writeVarint(out, route.getSerializedSize());
+            RequestEncoder.writeMessage(out, route);
+        }
+        if (recordTimings) {
+            out.writeByte(RECORD_TIMINGS_TAG);
+            out.writeByte(1);
+        }
+    }
+
+    /**
+     * @return The equivalent protobuf message.
+     */
+    public RedisRequest toProtobuf() {
+        var builder =
+                RedisRequest.newBuilder().setCallbackIdx(callbackIdx).setRecordTimings(recordTimings);
+        if (route != null) {
+            builder.setRoute(route);
+        }
+        return setBody(builder).build();
+    }
+
+    @Override
+    public String toString() {
+        return toProtobuf().toString();
+    }
+
+    /** The field tag of the command part of the request. */
+    protected abstract int bodyTag();
+
+    /** The size of the command part of the request. Called repeatedly, so it should be cached. */
+    protected abstract int bodySize();
+
+    /** Write the command part of the request, without its tag and size. */
+    protected abstract void writeBody(ByteBuf out);
+
+    /** Set the command part of the request to the equivalent protobuf message. */
+    protected abstract RedisRequest.Builder setBody(RedisRequest.Builder builder);
+
+    /**
+     * Computes the size of a {@link Command}.
+     *
+     * @param requestType The command type
+     * @param argsArraySize The size of the {@link ArgsArray}
+     */
+    static int commandSize(RequestType requestType, int argsArraySize) {
+        int size = 1 + computeUInt32SizeNoTag(argsArraySize) + argsArraySize;
+        if (requestType.getNumber() != 0) {
+            size += 1 + computeUInt32SizeNoTag(requestType.getNumber());
+        }
+        return size;
+    }
+
+    /** Write the fields of a {@link Command} which precede the arguments. */
+    static void writeCommandHeader(ByteBuf out, RequestType requestType, int argsArraySize) {
+        if (requestType.getNumber() != 0) {
+            out.writeByte(REQUEST_TYPE_TAG);
+            RequestEncoder.writeVarint(out, requestType.getNumber());
+        }
+        out.writeByte(ARGS_ARRAY_TAG);
+        RequestEncoder.writeVarint(out, argsArraySize);
+    }
+
+    /** Computes the size of an {@link ArgsArray} entry with the given UTF-8 length. */
+    static int argumentSize(int utf8Length) {
+        return 1 + computeUInt32SizeNoTag(utf8Length) + utf8Length;
+    }
+
+    /** Write an {@link ArgsArray} entry. */
+    static void writeArgument(ByteBuf out, String argument, int utf8Length) {
+        out.writeByte(ARG_TAG);
+        RequestEncoder.writeVarint(out, utf8Length);
+        writeUtf8(out, argument, utf8Length);
+    }
+
+    /**
+     * Computes the length of the UTF-8 encoding of a string. Unpaired surrogates count as one byte,
+     * since they are replaced with <code>?</code> like {@link String#getBytes} does.
+     */
+    static int utf8Length(String str) {
+        int length = str.length();
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c)
+                        && i + 1 < str.length()
+                        && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    // 4 bytes for 2 chars
+                    length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static void writeUtf8(ByteBuf out, String str, int utf8Length) {
+        if (utf8Length == str.length()) {
+            out.writeCharSequence(str, StandardCharsets.US_ASCII);
+            return;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                out.writeByte(c);
+            } else if (c < 0x800) {
+                out.writeByte(0xC0 | (c >> 6));
+                out.writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < str.length()
+                    && Character.isLowSurrogate(str.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, str.charAt(++i));
+                out.writeByte(0xF0 | (cp >> 18));
+                out.writeByte(0x80 | ((cp >> 12) & 0x3F));
+                out.writeByte(0x80 | ((cp >> 6) & 0x3F));
+                out.writeByte(0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.writeByte('?');
+            } else {
+                out.writeByte(0xE0 | (c >> 12));
+                out.writeByte(0x80 | ((c >> 6) & 0x3F));
+                out.writeByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+}
@@ -1,31 +1,51 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.connectors.handlers;
 
+import glide.api.metrics.ClientMetrics;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
-import io.netty.channel.unix.UnixChannel;
-import io.netty.handler.codec.protobuf.ProtobufDecoder;
-import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
-import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import response.ResponseOuterClass.Response;
 
 /** Builder for the channel used by {@link ChannelHandler}. */
-@RequiredArgsConstructor
-public class ProtobufSocketChannelInitializer extends ChannelInitializer<UnixChannel> {
+@AllArgsConstructor
+public class ProtobufSocketChannelInitializer extends ChannelInitializer<Channel> {
+
+    /**
+     * The number of flushes after which pending writes are flushed even while more are queued. It
+     * bounds the latency added by flush consolidation.
+     */
+    public static final int MAX_CONSOLIDATED_FLUSHES = 256;
 
     private final CallbackDispatcher callbackDispatcher;
 
+    /** Tracks the writability of the channel, or <code>null</code>. */
+    private final WritabilityHandler writabilityHandler;
+
+    public ProtobufSocketChannelInitializer(CallbackDispatcher callbackDispatcher) {
+        this(callbackDispatcher, null);
+    }
+
     @Override
-    public void initChannel(@NonNull UnixChannel ch) {
+    public void initChannel(@NonNull Channel ch) {
+        if (callbackDispatcher.getMetrics() != ClientMetrics.NOOP) {
+            ch.pipeline()
+                    .addLast("trafficCounter", new TrafficCountingHandler(callbackDispatcher.getMetrics()));
+        }
+        if (writabilityHandler != null) {
+            ch.pipeline().addLast("writability", writabilityHandler);
+        }
         ch.pipeline()
-                // https://netty.io/4.1/api/io/netty/handler/codec/protobuf/ProtobufEncoder.html
+                // requests are flushed from many threads: flushes queued on the event loop are merged, so
+                // a burst of requests is written with one syscall
+                .addLast(
+                        "flushConsolidation", new FlushConsolidationHandler(MAX_CONSOLIDATED_FLUSHES, true))
+                // https://netty.io/4.1/api/io/netty/handler/codec/protobuf/ProtobufVarint32FrameDecoder.html
                 .addLast("frameDecoder", new ProtobufVarint32FrameDecoder())
-                .addLast("frameEncoder", new ProtobufVarint32LengthFieldPrepender())
-                .addLast("protobufDecoder", new ProtobufDecoder(Response.getDefaultInstance()))
-                .addLast("protobufEncoder", new ProtobufEncoder())
+                .addLast("requestEncoder", new RequestEncoder())
                 .addLast(new ReadHandler(callbackDispatcher))
                 .addLast(new ChannelOutboundHandlerAdapter());
     }
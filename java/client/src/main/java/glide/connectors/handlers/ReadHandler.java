@@ -1,22 +1,56 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.connectors.handlers;
 
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.CorruptedFrameException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import response.ResponseOuterClass.ConstantResponse;
 import response.ResponseOuterClass.Response;
 
-/** Handler for inbound traffic though UDS. Used by Netty. */
+/**
+ * Handler for inbound traffic though UDS. Used by Netty.
+ *
+ * <p>Common response frames skip the protobuf parser: the callback ID and the value (a pointer, a
+ * constant or no value) are read straight from the frame. Responses without a value and <code>OK
+ * </code> responses are shared instances, while a pointer or another constant is still wrapped in a
+ * small {@link Response}, which the callbacks take. Errors and other rare fields are parsed by
+ * protobuf.
+ */
 @RequiredArgsConstructor
 public class ReadHandler extends ChannelInboundHandlerAdapter {
 
+    /** Field tags of {@link Response}. */
+    private static final int CALLBACK_IDX_TAG = 1 << 3;
+
+    private static final int RESP_POINTER_TAG = 2 << 3;
+    private static final int CONSTANT_RESPONSE_TAG = 3 << 3;
+
+    /** A response without a value, shared by all callbacks. */
+    private static final Response EMPTY_RESPONSE = Response.getDefaultInstance();
+
+    /** A response with {@link ConstantResponse#OK}, shared by all callbacks. */
+    private static final Response OK_RESPONSE =
+            Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+
     private final CallbackDispatcher callbackDispatcher;
 
     /** Submit responses from glide to an instance {@link CallbackDispatcher} to handle them. */
     @Override
     public void channelRead(@NonNull ChannelHandlerContext ctx, @NonNull Object msg)
             throws RuntimeException {
+        if (msg instanceof ByteBuf) {
+            ByteBuf frame = (ByteBuf) msg;
+            try {
+                readResponse(frame);
+            } finally {
+                frame.release();
+            }
+            return;
+        }
         if (msg instanceof Response) {
             Response response = (Response) msg;
             callbackDispatcher.completeRequest(response);
@@ -35,4 +69,58 @@ public class ReadHandler extends ChannelInboundHandlerAdapter {
         callbackDispatcher.distributeClosingException(
                 "An unhandled error while reading from UDS channel: " + cause);
     }
+
+    /** Decode a frame with a {@link Response} and complete the corresponding request. */
+    private void readResponse(ByteBuf frame) {
+        int start = frame.readerIndex();
+        int callbackIdx = 0;
+        Response response = EMPTY_RESPONSE;
+        while (frame.isReadable()) {
+            switch (readVarint32(frame)) {
+                case CALLBACK_IDX_TAG:
+                    callbackIdx = readVarint32(frame);
+                    break;
+                case RESP_POINTER_TAG:
+                    response = Response.newBuilder().setRespPointer(readVarint64(frame)).build();
+                    break;
+                case CONSTANT_RESPONSE_TAG:
+                    int constant = readVarint32(frame);
+                    response =
+                            constant == ConstantResponse.OK_VALUE
+                                    ? OK_RESPONSE
+                                    : Response.newBuilder().setConstantResponseValue(constant).build();
+                    break;
+                default:
+                    // errors, timings and unknown fields are rare: parse the whole message
+                    frame.readerIndex(start);
+                    callbackDispatcher.completeRequest(parseResponse(frame));
+                    return;
+            }
+        }
+        callbackDispatcher.completeRequest(callbackIdx, response);
+    }
+
+    private static Response parseResponse(ByteBuf frame) {
+        try {
+            return Response.parseFrom(frame.nioBuffer());
+        } catch (InvalidProtocolBufferException e) {
+            throw new CorruptedFrameException(e);
+        }
+    }
+
+    private static int readVarint32(ByteBuf frame) {
+        return (int) readVarint64(frame);
+    }
+
+    private static long readVarint64(ByteBuf frame) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = frame.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new CorruptedFrameException("Malformed varint in a response");
+    }
 }
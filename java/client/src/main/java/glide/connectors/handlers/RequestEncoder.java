@@ -0,0 +1,94 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static com.google.protobuf.CodedOutputStream.computeUInt32SizeNoTag;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.EncoderException;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
+import lombok.NonNull;
+
+/**
+ * Encodes outbound protobuf messages and {@link OutboundRequest}s together with their varint32
+ * length prefix straight into a pooled buffer of the exact frame size. It produces the same bytes
+ * as Netty's <code>ProtobufEncoder</code> followed by <code>ProtobufVarint32LengthFieldPrepender
+ * </code>, which serialize every message into a heap array first and then copy it. The value of a
+ * {@link ValueCommandRequest} is not copied: its buffer becomes a part of a composite frame.
+ */
+public class RequestEncoder extends MessageToByteEncoder<Object> {
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof OutboundRequest || msg instanceof MessageLite;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise)
+            throws Exception {
+        if (!(msg instanceof ValueCommandRequest)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+        ByteBuf frame;
+        try {
+            frame = ((ValueCommandRequest) msg).encodeFrame(ctx.alloc());
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+        ctx.write(frame, promise);
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(
+            @NonNull ChannelHandlerContext ctx, Object msg, boolean preferDirect) {
+        int size = serializedSize(msg);
+        int frameSize = computeUInt32SizeNoTag(size) + size;
+        return preferDirect ? ctx.alloc().ioBuffer(frameSize) : ctx.alloc().heapBuffer(frameSize);
+    }
+
+    @Override
+    protected void encode(@NonNull ChannelHandlerContext ctx, Object msg, @NonNull ByteBuf out) {
+        writeVarint(out, serializedSize(msg));
+        if (msg instanceof OutboundRequest) {
+            ((OutboundRequest) msg).writeTo(out);
+        } else {
+            writeMessage(out, (MessageLite) msg);
+        }
+    }
+
+    private static int serializedSize(Object msg) {
+        return msg instanceof OutboundRequest
+                ? ((OutboundRequest) msg).getSerializedSize()
+                : ((MessageLite) msg).getSerializedSize();
+    }
+
+    /** Write an unsigned varint32, as protobuf does for <code>uint32</code> fields. */
+    static void writeVarint(ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /** Serialize a message directly into the writable bytes of a buffer. */
+    static void writeMessage(ByteBuf out, MessageLite message) {
+        int size = message.getSerializedSize();
+        out.ensureWritable(size);
+        CodedOutputStream stream =
+                CodedOutputStream.newInstance(out.internalNioBuffer(out.writerIndex(), size));
+        try {
+            message.writeTo(stream);
+            stream.flush();
+        } catch (IOException e) {
+            throw new EncoderException(e);
+        }
+        out.writerIndex(out.writerIndex() + size);
+    }
+}
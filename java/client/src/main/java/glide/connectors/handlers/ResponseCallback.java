@@ -0,0 +1,27 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import response.ResponseOuterClass.Response;
+
+/**
+ * Receives the outcome of a request registered in {@link CallbackDispatcher}. Exactly one of the
+ * methods is called, once, usually on the I/O thread of the channel, so implementations must not
+ * block.
+ */
+public interface ResponseCallback {
+
+    /**
+     * Called with the response of the request, which is not an error.
+     *
+     * @param response The response
+     */
+    void onResponse(Response response);
+
+    /**
+     * Called when the request fails: with an error response, a timeout, a write failure or the
+     * closing of the client.
+     *
+     * @param error The failure
+     */
+    void onFailure(Throwable error);
+}
@@ -0,0 +1,33 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import response.ResponseOuterClass.Response;
+
+/**
+ * A response promise registered in {@link CallbackDispatcher}. Responses complete it on the common
+ * pool, so the I/O thread does not run the stages chained to it, unless the dispatcher has its own
+ * completion executor.
+ */
+@RequiredArgsConstructor
+class ResponseFuture extends CompletableFuture<Response> implements ResponseCallback {
+
+    /** The executor completing the promise, or <code>null</code> for the common pool. */
+    private final Executor executor;
+
+    @Override
+    public void onResponse(Response response) {
+        if (executor == null) {
+            completeAsync(() -> response);
+        } else {
+            completeAsync(() -> response, executor);
+        }
+    }
+
+    @Override
+    public void onFailure(Throwable error) {
+        completeExceptionally(error);
+    }
+}
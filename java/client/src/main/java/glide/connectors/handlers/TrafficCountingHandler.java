@@ -0,0 +1,37 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import glide.api.metrics.ClientMetrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Handler which reports the number of bytes read from and written to UDS to {@link ClientMetrics}.
+ * Should be placed first in the pipeline, so it sees raw frames. Used by Netty.
+ */
+@RequiredArgsConstructor
+public class TrafficCountingHandler extends ChannelDuplexHandler {
+
+    private final ClientMetrics metrics;
+
+    @Override
+    public void channelRead(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+        if (msg instanceof ByteBuf) {
+            metrics.bytesRead(((ByteBuf) msg).readableBytes());
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(
+            @NonNull ChannelHandlerContext ctx, @NonNull Object msg, @NonNull ChannelPromise promise) {
+        if (msg instanceof ByteBuf) {
+            metrics.bytesWritten(((ByteBuf) msg).readableBytes());
+        }
+        ctx.write(msg, promise);
+    }
+}
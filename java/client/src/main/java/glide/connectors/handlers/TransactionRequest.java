@@ -0,0 +1,130 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static com.google.protobuf.CodedOutputStream.computeUInt32SizeNoTag;
+
+import io.netty.buffer.ByteBuf;
+import java.util.Arrays;
+import redis_request.RedisRequestOuterClass.Command;
+import redis_request.RedisRequestOuterClass.Command.ArgsArray;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+import redis_request.RedisRequestOuterClass.Transaction;
+
+/**
+ * A request with a transaction. The commands are encoded when the request is written, into the same
+ * buffer as the rest of the request, without building a {@link Command} message for each of them.
+ */
+public class TransactionRequest extends OutboundRequest {
+
+    /** Field tags of {@link RedisRequest} and {@link Transaction}. */
+    private static final int TRANSACTION_TAG = 3 << 3 | 2;
+
+    private static final int COMMAND_TAG = 1 << 3 | 2;
+
+    private final RequestType[] requestTypes;
+
+    private final String[][] arguments;
+
+    /** UTF-8 lengths of all arguments of all commands, computed on first use. */
+    private int[] argumentSizes;
+
+    /** Sizes of the {@link ArgsArray} of each command. */
+    private int[] argsArraySizes;
+
+    private int transactionSize = -1;
+
+    /**
+     * Create a request with a snapshot of the commands: the request is not affected by changes of the
+     * arrays once created. The arguments of each command are referenced: the transaction owns them
+     * and never changes them.
+     *
+     * @param requestTypes The command types
+     * @param arguments The arguments of each command
+     * @param commandCount The number of commands, which may be less than the array lengths
+     * @param route The transaction routing, or <code>null</code> for the default routing
+     */
+    public TransactionRequest(
+            RequestType[] requestTypes, String[][] arguments, int commandCount, Routes route) {
+        super(route);
+        this.requestTypes = Arrays.copyOf(requestTypes, commandCount);
+        this.arguments = Arrays.copyOf(arguments, commandCount);
+    }
+
+    /**
+     * @return The number of commands in the transaction.
+     */
+    public int getCommandCount() {
+        return requestTypes.length;
+    }
+
+    @Override
+    protected int bodyTag() {
+        return TRANSACTION_TAG;
+    }
+
+    @Override
+    protected int bodySize() {
+        if (transactionSize < 0) {
+            int argumentCount = 0;
+            for (String[] commandArguments : arguments) {
+                argumentCount += commandArguments.length;
+            }
+            argumentSizes = new int[argumentCount];
+            argsArraySizes = new int[requestTypes.length];
+
+            int size = 0;
+            for (int i = 0, a = 0; i < requestTypes.length; i++) {
+                int argsArraySize = 0;
+                for (String argument : arguments[i]) {
+                    argumentSizes[a] = utf8Length(argument);
+                    argsArraySize += argumentSize(argumentSizes[a++]);
+                }
+                argsArraySizes[i] = argsArraySize;
+                int commandSize = commandSize(requestTypes[i], argsArraySize);
+                size += 1 + computeUInt32SizeNoTag(commandSize) + commandSize;
+            }
+            transactionSize = size;
+        }
+        return transactionSize;
+    }
+
+    @Override
+    protected void writeBody(ByteBuf out) {
+        for (int i = 0, a = 0; i < requestTypes.length; i++) {
+            out.writeByte(COMMAND_TAG);
+            RequestEncoder.writeVarint(out, commandSize(requestTypes[i], argsArraySizes[i]));
+            writeCommandHeader(out, requestTypes[i], argsArraySizes[i]);
+            for (String argument : arguments[i]) {
+                writeArgument(out, argument, argumentSizes[a++]);
+            }
+        }
+    }
+
+    @Override
+    protected RedisRequest.Builder setBody(RedisRequest.Builder builder) {
+        return builder.setTransaction(
+                toProtobufTransaction(requestTypes, arguments, requestTypes.length));
+    }
+
+    /**
+     * Build the protobuf message of a transaction.
+     *
+     * @param requestTypes The command types
+     * @param arguments The arguments of each command
+     * @param commandCount The number of commands, which may be less than the array lengths
+     * @return The transaction message
+     */
+    public static Transaction.Builder toProtobufTransaction(
+            RequestType[] requestTypes, String[][] arguments, int commandCount) {
+        Transaction.Builder transaction = Transaction.newBuilder();
+        for (int i = 0; i < commandCount; i++) {
+            transaction.addCommands(
+                    Command.newBuilder()
+                            .setRequestType(requestTypes[i])
+                            .setArgsArray(ArgsArray.newBuilder().addAllArgs(Arrays.asList(arguments[i]))));
+        }
+        return transaction;
+    }
+}
@@ -0,0 +1,205 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static com.google.protobuf.CodedOutputStream.computeUInt32SizeNoTag;
+
+import glide.api.models.StreamedValue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ReferenceCounted;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.Getter;
+import redis_request.RedisRequestOuterClass.Command;
+import redis_request.RedisRequestOuterClass.Command.ArgsArray;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+
+/**
+ * A request with a single command whose last argument is a value held in a buffer, usually in
+ * native memory. {@link RequestEncoder} sends the buffer itself as a part of the outbound frame,
+ * without a <code>String</code> or another copy of the value. The request owns the buffer: its
+ * ownership passes to the frame once the request is encoded, and it is released when Netty drops
+ * the request, since the request is {@link ReferenceCounted}.
+ */
+public class ValueCommandRequest extends OutboundRequest implements ReferenceCounted {
+
+    private static final int SINGLE_COMMAND_TAG = 2 << 3 | 2;
+
+    @Getter private final RequestType requestType;
+
+    /** The arguments which precede the value. */
+    private final String[] arguments;
+
+    /** The value, as UTF-8 bytes. */
+    private final ByteBuf value;
+
+    /** UTF-8 lengths of the arguments, computed on first use. */
+    private int[] argumentSizes;
+
+    private int argsArraySize;
+
+    private int commandSize = -1;
+
+    /** True while the frame is written without the bytes of the value, see {@link #encodeFrame}. */
+    private boolean spliceValue = false;
+
+    /** The index of the value in the frame written without it. */
+    private int valueOffset;
+
+    /**
+     * @param requestType The command type
+     * @param arguments The arguments which precede the value
+     * @param value The value, whose ownership is passed to the request
+     * @param route The command routing, or <code>null</code> for the default routing
+     */
+    public ValueCommandRequest(
+            RequestType requestType, String[] arguments, ByteBuf value, Routes route) {
+        super(route);
+        this.requestType = requestType;
+        this.arguments = arguments;
+        this.value = value;
+    }
+
+    /**
+     * Reads a streamed value into a new direct buffer, to pass to a request.
+     *
+     * @param value The streamed value
+     * @param allocator The allocator of the buffer
+     * @return A buffer with the value, which the caller must release
+     * @throws IOException If the source fails or ends before the length of the value
+     * @throws IllegalArgumentException If the value is not valid UTF-8
+     */
+    public static ByteBuf readValue(StreamedValue value, ByteBufAllocator allocator)
+            throws IOException {
+        int length = value.getLength();
+        ByteBuf buffer = allocator.directBuffer(length, length);
+        try {
+            value.read(buffer.nioBuffer(0, length));
+            buffer.writerIndex(length);
+            if (!ByteBufUtil.isText(buffer, StandardCharsets.UTF_8)) {
+                throw new IllegalArgumentException("Streamed value is not valid UTF-8");
+            }
+            return buffer;
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+    }
+
+    @Override
+    protected int bodyTag() {
+        return SINGLE_COMMAND_TAG;
+    }
+
+    @Override
+    protected int bodySize() {
+        if (commandSize < 0) {
+            argumentSizes = new int[arguments.length];
+            int size = argumentSize(value.readableBytes());
+            for (int i = 0; i < arguments.length; i++) {
+                argumentSizes[i] = utf8Length(arguments[i]);
+                size += argumentSize(argumentSizes[i]);
+            }
+            argsArraySize = size;
+            commandSize = commandSize(requestType, argsArraySize);
+        }
+        return commandSize;
+    }
+
+    @Override
+    protected void writeBody(ByteBuf out) {
+        writeCommandHeader(out, requestType, argsArraySize);
+        for (int i = 0; i < arguments.length; i++) {
+            writeArgument(out, arguments[i], argumentSizes[i]);
+        }
+        out.writeByte(ARG_TAG);
+        RequestEncoder.writeVarint(out, value.readableBytes());
+        if (spliceValue) {
+            valueOffset = out.writerIndex();
+        } else {
+            out.writeBytes(value, value.readerIndex(), value.readableBytes());
+        }
+    }
+
+    /**
+     * Build the frame of the request, with its length prefix, as a composite buffer which holds the
+     * value buffer instead of a copy of it. The frame shares the ownership of the value, so the
+     * request is still to be released.
+     *
+     * @param alloc The allocator of the frame
+     * @return The frame
+     */
+    ByteBuf encodeFrame(ByteBufAllocator alloc) {
+        int size = getSerializedSize();
+        ByteBuf frame = alloc.ioBuffer(computeUInt32SizeNoTag(size) + size - value.readableBytes());
+        try {
+            spliceValue = true;
+            RequestEncoder.writeVarint(frame, size);
+            writeTo(frame);
+            return alloc
+                    .compositeDirectBuffer(3)
+                    .addComponents(
+                            true,
+                            frame.retainedSlice(0, valueOffset),
+                            value.retainedSlice(),
+                            frame.retainedSlice(valueOffset, frame.writerIndex() - valueOffset));
+        } finally {
+            spliceValue = false;
+            frame.release();
+        }
+    }
+
+    @Override
+    protected RedisRequest.Builder setBody(RedisRequest.Builder builder) {
+        return builder.setSingleCommand(
+                Command.newBuilder()
+                        .setRequestType(requestType)
+                        .setArgsArray(
+                                ArgsArray.newBuilder()
+                                        .addAllArgs(Arrays.asList(arguments))
+                                        .addArgs(value.toString(StandardCharsets.UTF_8))));
+    }
+
+    @Override
+    public int refCnt() {
+        return value.refCnt();
+    }
+
+    @Override
+    public ValueCommandRequest retain() {
+        value.retain();
+        return this;
+    }
+
+    @Override
+    public ValueCommandRequest retain(int increment) {
+        value.retain(increment);
+        return this;
+    }
+
+    @Override
+    public ValueCommandRequest touch() {
+        value.touch();
+        return this;
+    }
+
+    @Override
+    public ValueCommandRequest touch(Object hint) {
+        value.touch(hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return value.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return value.release(decrement);
+    }
+}
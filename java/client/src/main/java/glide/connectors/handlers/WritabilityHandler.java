@@ -0,0 +1,124 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import glide.api.metrics.ClientMetrics;
+import glide.api.models.configuration.BackpressureConfiguration.WritePolicy;
+import glide.api.models.exceptions.OverloadException;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tracks the writability of the channel to the core, and applies the {@link WritePolicy} to
+ * requests submitted while the outbound buffer is above its high water mark. Writability changes
+ * are reported on the event loop; the state is published through a promise, so producers can wait
+ * for the channel to become writable without polling.
+ */
+@RequiredArgsConstructor
+public class WritabilityHandler extends ChannelInboundHandlerAdapter {
+
+    private static final CompletableFuture<Void> WRITABLE = CompletableFuture.completedFuture(null);
+
+    private final WritePolicy writePolicy;
+
+    /** The maximum time in milliseconds to block a request, used with {@link WritePolicy#BLOCK}. */
+    private final long maxBlockTime;
+
+    private final ClientMetrics metrics;
+
+    /** Completed while the channel is writable, replaced by a pending promise while it is not. */
+    private volatile CompletableFuture<Void> writable = WRITABLE;
+
+    /** Start of the current unwritable period, only accessed from the event loop. */
+    private long unwritableSince;
+
+    /** Create a handler which only tracks writability, and always lets requests be written. */
+    public WritabilityHandler(@NonNull ClientMetrics metrics) {
+        this(WritePolicy.WRITE, 0, metrics);
+    }
+
+    /**
+     * @return <code>true</code> if the outbound buffer of the channel is below its high water mark.
+     */
+    public boolean isWritable() {
+        return writable.isDone();
+    }
+
+    /**
+     * @return A promise completed once the channel is writable, or when it is closed.
+     */
+    public CompletableFuture<Void> awaitWritable() {
+        CompletableFuture<Void> current = writable;
+        // a new promise, so callers can not complete or obtrude the shared one
+        return current.isDone() ? CompletableFuture.completedFuture(null) : current.copy();
+    }
+
+    /**
+     * Apply the write policy to a request about to be written.
+     *
+     * @param inEventLoop <code>true</code> if called from the event loop of the channel, which must
+     *     never block
+     * @return <code>null</code> if the request may be written, or the exception to fail it with
+     */
+    OverloadException checkWritable(boolean inEventLoop) {
+        CompletableFuture<Void> current = writable;
+        if (current.isDone() || writePolicy == WritePolicy.WRITE) {
+            return null;
+        }
+        if (writePolicy == WritePolicy.BLOCK) {
+            if (inEventLoop) {
+                // the channel can only drain if the event loop keeps running
+                return null;
+            }
+            try {
+                current.get(maxBlockTime, TimeUnit.MILLISECONDS);
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new OverloadException(
+                        "Interrupted while waiting for the channel to the core to become writable.");
+            } catch (ExecutionException e) {
+                return null;
+            } catch (TimeoutException e) {
+                return new OverloadException(
+                        "The channel to the core did not become writable within "
+                                + maxBlockTime
+                                + " ms: too many requests are waiting to be written.");
+            }
+        }
+        return new OverloadException(
+                "The channel to the core is not writable: too many requests are waiting to be written.");
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            becomeWritable();
+        } else if (writable.isDone()) {
+            unwritableSince = System.nanoTime();
+            writable = new CompletableFuture<>();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // release blocked producers; their requests fail on the closed channel
+        becomeWritable();
+        ctx.fireChannelInactive();
+    }
+
+    private void becomeWritable() {
+        CompletableFuture<Void> current = writable;
+        if (!current.isDone()) {
+            writable = WRITABLE;
+            metrics.channelUnwritable(System.nanoTime() - unwritableSince);
+            current.complete(null);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.resources;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelException;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelConfig;
+import io.netty.channel.EventLoop;
+import io.netty.channel.FileRegion;
+import io.netty.channel.RecvByteBufAllocator;
+import io.netty.channel.nio.AbstractNioByteChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnsupportedAddressTypeException;
+
+/**
+ * A Unix domain socket channel built on the JDK socket channel and a Netty {@link
+ * io.netty.channel.nio.NioEventLoopGroup}, without native libraries. It requires Java 16 or later,
+ * whose API is looked up reflectively, so the client still runs on older Java versions with a
+ * native transport.
+ */
+public class NioDomainSocketChannel extends AbstractNioByteChannel {
+
+    /** The maximum number of buffers written with one gathering write. */
+    private static final int MAX_GATHERED_BUFFERS = 1024;
+
+    /** The maximum number of bytes written with one gathering write. */
+    private static final int MAX_GATHERED_BYTES = 256 * 1024;
+
+    /** <code>SocketChannel.open(ProtocolFamily)</code>, or <code>null</code> before Java 16. */
+    private static final Method OPEN;
+
+    /** <code>UnixDomainSocketAddress.of(String)</code>, or <code>null</code> before Java 16. */
+    private static final Method ADDRESS_OF;
+
+    private static final ProtocolFamily UNIX;
+
+    static {
+        Method open = null;
+        Method addressOf = null;
+        ProtocolFamily unix = null;
+        try {
+            unix = StandardProtocolFamily.valueOf("UNIX");
+            open = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            addressOf = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", String.class);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            open = null;
+        }
+        OPEN = open;
+        ADDRESS_OF = addressOf;
+        UNIX = unix;
+    }
+
+    private final DefaultChannelConfig config = new NioDomainSocketChannelConfig();
+
+    private volatile DomainSocketAddress remoteAddress;
+
+    private volatile boolean inputShutdown;
+
+    public NioDomainSocketChannel() {
+        super(null, newSocket());
+    }
+
+    /**
+     * @return <code>true</code> if the JDK supports Unix domain socket channels.
+     */
+    public static boolean isAvailable() {
+        if (OPEN == null) {
+            return false;
+        }
+        try {
+            newSocket().close();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static SocketChannel newSocket() {
+        if (OPEN == null) {
+            throw new ChannelException("Unix domain socket channels require Java 16 or later");
+        }
+        try {
+            return (SocketChannel) OPEN.invoke(null, UNIX);
+        } catch (InvocationTargetException e) {
+            throw new ChannelException("Failed to open a Unix domain socket", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new ChannelException("Failed to open a Unix domain socket", e);
+        }
+    }
+
+    private static SocketAddress toJdkAddress(SocketAddress address) throws Exception {
+        if (!(address instanceof DomainSocketAddress)) {
+            throw new UnsupportedAddressTypeException();
+        }
+        try {
+            return (SocketAddress) ADDRESS_OF.invoke(null, ((DomainSocketAddress) address).path());
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @Override
+    protected SocketChannel javaChannel() {
+        return (SocketChannel) super.javaChannel();
+    }
+
+    @Override
+    public DefaultChannelConfig config() {
+        return config;
+    }
+
+    @Override
+    public boolean isActive() {
+        SocketChannel ch = javaChannel();
+        return ch.isOpen() && ch.isConnected();
+    }
+
+    @Override
+    protected SocketAddress localAddress0() {
+        // client sockets are not bound to a path
+        return null;
+    }
+
+    @Override
+    protected SocketAddress remoteAddress0() {
+        return remoteAddress;
+    }
+
+    @Override
+    protected void doBind(SocketAddress localAddress) throws Exception {
+        javaChannel().bind(toJdkAddress(localAddress));
+    }
+
+    @Override
+    protected boolean doConnect(SocketAddress remoteAddress, SocketAddress localAddress)
+            throws Exception {
+        if (localAddress != null) {
+            doBind(localAddress);
+        }
+        boolean success = false;
+        try {
+            boolean connected = javaChannel().connect(toJdkAddress(remoteAddress));
+            if (!connected) {
+                selectionKey().interestOps(SelectionKey.OP_CONNECT);
+            }
+            this.remoteAddress = (DomainSocketAddress) remoteAddress;
+            success = true;
+            return connected;
+        } finally {
+            if (!success) {
+                doClose();
+            }
+        }
+    }
+
+    @Override
+    protected void doFinishConnect() throws Exception {
+        if (!javaChannel().finishConnect()) {
+            throw new Error();
+        }
+    }
+
+    @Override
+    protected void doDisconnect() throws Exception {
+        doClose();
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        super.doClose();
+        javaChannel().close();
+    }
+
+    @Override
+    protected ChannelFuture shutdownInput() {
+        ChannelPromise promise = newPromise();
+        EventLoop loop = eventLoop();
+        if (loop.inEventLoop()) {
+            shutdownInput0(promise);
+        } else {
+            loop.execute(() -> shutdownInput0(promise));
+        }
+        return promise;
+    }
+
+    private void shutdownInput0(ChannelPromise promise) {
+        try {
+            javaChannel().shutdownInput();
+            inputShutdown = true;
+            promise.setSuccess();
+        } catch (Throwable t) {
+            promise.setFailure(t);
+        }
+    }
+
+    @Override
+    protected boolean isInputShutdown0() {
+        return inputShutdown;
+    }
+
+    @Override
+    protected int doReadBytes(ByteBuf byteBuf) throws Exception {
+        RecvByteBufAllocator.Handle allocHandle = unsafe().recvBufAllocHandle();
+        allocHandle.attemptedBytesRead(byteBuf.writableBytes());
+        return byteBuf.writeBytes(javaChannel(), allocHandle.attemptedBytesRead());
+    }
+
+    @Override
+    protected int doWriteBytes(ByteBuf buf) throws Exception {
+        return buf.readBytes(javaChannel(), buf.readableBytes());
+    }
+
+    @Override
+    protected long doWriteFileRegion(FileRegion region) throws Exception {
+        return region.transferTo(javaChannel(), region.transferred());
+    }
+
+    /** Write the pending buffers with gathering writes, so a batch of requests takes one syscall. */
+    @Override
+    protected void doWrite(ChannelOutboundBuffer in) throws Exception {
+        SocketChannel ch = javaChannel();
+        int writeSpinCount = config().getWriteSpinCount();
+        do {
+            if (in.isEmpty()) {
+                clearOpWrite();
+                return;
+            }
+            ByteBuffer[] nioBuffers = in.nioBuffers(MAX_GATHERED_BUFFERS, MAX_GATHERED_BYTES);
+            int nioBufferCount = in.nioBufferCount();
+            if (nioBufferCount == 0) {
+                // not a buffer, such as a file region
+                writeSpinCount -= doWrite0(in);
+                continue;
+            }
+            long written = ch.write(nioBuffers, 0, nioBufferCount);
+            if (written <= 0) {
+                incompleteWrite(true);
+                return;
+            }
+            in.removeBytes(written);
+            --writeSpinCount;
+        } while (writeSpinCount > 0);
+        incompleteWrite(writeSpinCount < 0);
+    }
+
+    private final class NioDomainSocketChannelConfig extends DefaultChannelConfig {
+        private NioDomainSocketChannelConfig() {
+            super(NioDomainSocketChannel.this);
+        }
+
+        @Override
+        protected void autoReadCleared() {
+            clearReadPending();
+        }
+    }
+}
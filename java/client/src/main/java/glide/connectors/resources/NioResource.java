@@ -0,0 +1,24 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.resources;
+
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Implementation of ThreadPoolResource for the JDK Unix domain socket channel, used where no native
+ * transport can be loaded. Enabling custom/default configurations.
+ */
+public class NioResource extends ThreadPoolResource {
+    private static final String NIO_EVENT_LOOP_IDENTIFIER = "glide-channel-nio-elg";
+
+    public NioResource() {
+        this(
+                new NioEventLoopGroup(
+                        Runtime.getRuntime().availableProcessors(),
+                        new DefaultThreadFactory(NIO_EVENT_LOOP_IDENTIFIER, true)));
+    }
+
+    public NioResource(NioEventLoopGroup nioEventLoopGroup) {
+        super(nioEventLoopGroup, NioDomainSocketChannel.class);
+    }
+}
@@ -23,17 +23,18 @@ public class Platform {
     public static class Capabilities {
         private final boolean isKQueueAvailable;
         private final boolean isEPollAvailable;
-        // TODO support IO-Uring and NIO
+        // Detected for diagnostics only: the io_uring transport of Netty has no domain socket
+        // channel, so the UDS channel falls back to epoll.
         private final boolean isIOUringAvailable;
-        // At the moment, Windows is not supported
-        // Probably we should use NIO (NioEventLoopGroup) for Windows.
+        // The JDK Unix domain socket channel, available since Java 16
         private final boolean isNIOAvailable;
     }
 
     /** Detected platform (OS + JVM) capabilities. Not supposed to be changed in runtime. */
     @Getter
     private static final Capabilities capabilities =
-            new Capabilities(isKQueueAvailable(), isEPollAvailable(), false, false);
+            new Capabilities(
+                    isKQueueAvailable(), isEPollAvailable(), isIOUringAvailable(), isNIOAvailable());
 
     /** Detect <em>kqueue</em> availability. */
     private static boolean isKQueueAvailable() {
@@ -55,6 +56,24 @@ public class Platform {
         }
     }
 
+    /**
+     * Detect <em>io_uring</em> availability. The incubator transport is an optional dependency, so it
+     * is looked up reflectively.
+     */
+    private static boolean isIOUringAvailable() {
+        try {
+            Class<?> ioUring = Class.forName("io.netty.incubator.channel.uring.IOUring");
+            return (boolean) ioUring.getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /** Detect JDK support of Unix domain socket channels. */
+    private static boolean isNIOAvailable() {
+        return NioDomainSocketChannel.isAvailable();
+    }
+
     public static Supplier<ThreadPoolResource> getThreadPoolResourceSupplier() {
         if (Platform.getCapabilities().isKQueueAvailable()) {
             return KQueuePoolResource::new;
@@ -63,7 +82,10 @@ public class Platform {
         if (Platform.getCapabilities().isEPollAvailable()) {
             return EpollResource::new;
         }
-        // TODO support IO-Uring and NIO
+        // fallback for platforms where native transports fail to load
+        if (Platform.getCapabilities().isNIOAvailable()) {
+            return NioResource::new;
+        }
         throw new RuntimeException("Current platform supports no known thread pool resources");
     }
 }
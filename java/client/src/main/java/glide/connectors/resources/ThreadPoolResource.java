@@ -1,23 +1,23 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.connectors.resources;
 
+import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.unix.DomainSocketChannel;
 import lombok.Getter;
 import lombok.NonNull;
 
 /**
- * Abstract base class that provides the EventLoopGroup and DomainSocketChannel to be used by the
- * Netty protocol.
+ * Abstract base class that provides the EventLoopGroup and the Unix domain socket channel class to
+ * be used by the Netty protocol.
  */
 @Getter
 public abstract class ThreadPoolResource {
     private EventLoopGroup eventLoopGroup;
-    private Class<? extends DomainSocketChannel> domainSocketChannelClass;
+    private Class<? extends Channel> domainSocketChannelClass;
 
     public ThreadPoolResource(
             @NonNull EventLoopGroup eventLoopGroup,
-            @NonNull Class<? extends DomainSocketChannel> domainSocketChannelClass) {
+            @NonNull Class<? extends Channel> domainSocketChannelClass) {
         this.eventLoopGroup = eventLoopGroup;
         this.domainSocketChannelClass = domainSocketChannelClass;
     }
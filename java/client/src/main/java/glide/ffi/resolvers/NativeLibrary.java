@@ -0,0 +1,60 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.ffi.resolvers;
+
+/**
+ * Loads the <code>glide_rs</code> native library once, on first use of a resolver or on warm-up,
+ * instead of once per resolver class.
+ */
+public final class NativeLibrary {
+
+    private static final String NAME = "glide_rs";
+
+    private static final Loader LOADER = new Loader(() -> System.loadLibrary(NAME));
+
+    private NativeLibrary() {}
+
+    /**
+     * Load the native library, unless it is loaded already. A failed load is retried by the next
+     * call.
+     *
+     * @throws UnsatisfiedLinkError If the library is not found on <code>java.library.path</code>
+     */
+    public static void load() {
+        LOADER.load();
+    }
+
+    /**
+     * @return <code>true</code> if the native library is loaded.
+     */
+    public static boolean isLoaded() {
+        return LOADER.isLoaded();
+    }
+
+    /** Runs a load action once it succeeds, however many threads call {@link #load()}. */
+    static final class Loader {
+
+        private final Runnable action;
+
+        private volatile boolean loaded = false;
+
+        Loader(Runnable action) {
+            this.action = action;
+        }
+
+        void load() {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                if (!loaded) {
+                    action.run();
+                    loaded = true;
+                }
+            }
+        }
+
+        boolean isLoaded() {
+            return loaded;
+        }
+    }
+}
@@ -1,14 +1,23 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.ffi.resolvers;
 
+import java.nio.ByteBuffer;
 import response.ResponseOuterClass.Response;
 
+/**
+ * Converts values received from Redis, which the core passes as pointers. The native library is
+ * loaded by the first call, rather than when the class is initialized, so a failed load is retried
+ * by the next call.
+ */
 public class RedisValueResolver {
 
-    // TODO: consider lazy loading the glide_rs library
-    static {
-        System.loadLibrary("glide_rs");
-    }
+    private static native Object valueFromPointerNative(long pointer);
+
+    private static native ByteBuffer bytesFromPointerNative(long pointer);
+
+    private static native ByteBuffer[] bytesArrayFromPointerNative(long pointer);
+
+    private static native void dropValueNative(long pointer);
 
     /**
      * Resolve a value received from Redis using given C-style pointer.
@@ -16,5 +25,48 @@ public class RedisValueResolver {
      * @param pointer A memory pointer from {@link Response}
      * @return A RESP3 value
      */
-    public static native Object valueFromPointer(long pointer);
+    public static Object valueFromPointer(long pointer) {
+        NativeLibrary.load();
+        return valueFromPointerNative(pointer);
+    }
+
+    /**
+     * Expose the bytes of a string value received from Redis without copying or decoding them. The
+     * value is not released: the buffer is valid until {@link #dropValue(long)} is called.
+     *
+     * @param pointer A memory pointer from {@link Response}
+     * @return A direct buffer over the bytes of the value, or <code>null</code> for a nil value
+     * @throws glide.api.models.exceptions.RedisException If the value is not a string
+     */
+    public static ByteBuffer bytesFromPointer(long pointer) {
+        NativeLibrary.load();
+        return bytesFromPointerNative(pointer);
+    }
+
+    /**
+     * Expose the bytes of the elements of an array or a map received from Redis without copying or
+     * decoding them. Maps are flattened into keys followed by their values. The value is not
+     * released: the buffers are valid until {@link #dropValue(long)} is called.
+     *
+     * @param pointer A memory pointer from {@link Response}
+     * @return Direct buffers over the bytes of the elements, with <code>null</code> for nil elements,
+     *     or <code>null</code> for a nil value
+     * @throws glide.api.models.exceptions.RedisException If the value is not an array or a map of
+     *     strings
+     */
+    public static ByteBuffer[] bytesArrayFromPointer(long pointer) {
+        NativeLibrary.load();
+        return bytesArrayFromPointerNative(pointer);
+    }
+
+    /**
+     * Release a value received from Redis without converting it, e.g. when the request has already
+     * timed out on the client side.
+     *
+     * @param pointer A memory pointer from {@link Response}
+     */
+    public static void dropValue(long pointer) {
+        NativeLibrary.load();
+        dropValueNative(pointer);
+    }
 }
@@ -0,0 +1,36 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.ffi.resolvers;
+
+/**
+ * Stores scripts in the script container of the core. The native library is loaded by the first
+ * call, rather than when the class is initialized, so a failed load is retried by the next call.
+ */
+public class ScriptResolver {
+
+    private static native String storeScriptNative(String code);
+
+    private static native void dropScriptNative(String hash);
+
+    /**
+     * Store a Lua script in the script container of the core, which loads it to Redis when an
+     * invocation of the script fails with <code>NOSCRIPT</code>.
+     *
+     * @param code The source code of the script
+     * @return The SHA1 hash of the script
+     */
+    public static String storeScript(String code) {
+        NativeLibrary.load();
+        return storeScriptNative(code);
+    }
+
+    /**
+     * Release a script stored by {@link #storeScript(String)}. The script is removed from the
+     * container once every store of it is released.
+     *
+     * @param hash The SHA1 hash of the script
+     */
+    public static void dropScript(String hash) {
+        NativeLibrary.load();
+        dropScriptNative(hash);
+    }
+}
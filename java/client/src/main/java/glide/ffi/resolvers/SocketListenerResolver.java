@@ -6,19 +6,25 @@ public class SocketListenerResolver {
     /** Make an FFI call to Glide to open a UDS socket to connect to. */
     private static native String startSocketListener() throws Exception;
 
-    // TODO: consider lazy loading the glide_rs library
-    static {
-        System.loadLibrary("glide_rs");
-    }
+    /** The path of the socket listener, once started. It serves every client of the process. */
+    private static volatile String socketPath = null;
 
     /**
-     * Make an FFI call to obtain the socket path.
+     * Make an FFI call to obtain the socket path. The listener is started by the first call, and its
+     * path is reused by the following calls.
      *
      * @return A UDS path.
      */
     public static String getSocket() {
+        String path = socketPath;
+        if (path != null) {
+            return path;
+        }
         try {
-            return startSocketListener();
+            NativeLibrary.load();
+            path = startSocketListener();
+            socketPath = path;
+            return path;
         } catch (Exception | UnsatisfiedLinkError e) {
             System.err.printf("Failed to create a UDS connection: %s%n%n", e);
             throw new RuntimeException(e);
@@ -0,0 +1,286 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.RequestException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pool of dedicated connections to the core for blocking commands, used by {@link CommandManager}.
+ * A blocking command holds its connection to Redis until it returns, so running it on the
+ * multiplexed connection of the client would stall every request sent after it. Each blocking
+ * command borrows a connection of its own instead, which is opened on demand and kept idle for the
+ * next blocking command once the command returns. Once the maximum number of connections is open,
+ * further blocking commands wait for a connection to be released, in submission order.
+ */
+public class BlockingConnectionPool {
+
+    /** A dedicated connection to the core. */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Connection {
+        private final ConnectionManager connectionManager;
+
+        /** Command manager of the connection, without a Java-side request deadline. */
+        private final CommandManager commandManager;
+    }
+
+    /** The maximum number of open connections, borrowed, idle or being opened. */
+    private final int maxConnections;
+
+    /** The maximum number of idle connections. Extra connections are closed once released. */
+    private final int maxIdleConnections;
+
+    /** Opens a dedicated connection. */
+    private final Supplier<CompletableFuture<Connection>> connector;
+
+    /** Idle connections, most recently released first. Guarded by this. */
+    private final Deque<Connection> idle = new ArrayDeque<>();
+
+    /** Borrowed connections, mapped to the result promise of their command. Guarded by this. */
+    private final Map<Connection, CompletableFuture<?>> borrowed = new HashMap<>();
+
+    /** Commands waiting for a connection, in submission order. Guarded by this. */
+    private final Deque<CompletableFuture<Connection>> waiting = new ArrayDeque<>();
+
+    /** Commands for which a connection is being opened, see {@link #replace()}. Guarded by this. */
+    private final Set<CompletableFuture<Connection>> connecting = new HashSet<>();
+
+    /** The number of open connections, including the ones being opened. Guarded by this. */
+    private int connectionCount = 0;
+
+    /** Guarded by this. */
+    private boolean closed = false;
+
+    public BlockingConnectionPool(
+            int maxConnections,
+            int maxIdleConnections,
+            Supplier<CompletableFuture<Connection>> connector) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of blocking connections must be positive, got " + maxConnections);
+        }
+        if (maxIdleConnections < 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of idle blocking connections must not be negative, got "
+                            + maxIdleConnections);
+        }
+        this.maxConnections = maxConnections;
+        this.maxIdleConnections = maxIdleConnections;
+        this.connector = connector;
+    }
+
+    /**
+     * Run a command on a connection of the pool. The connection is returned to the pool once the
+     * command completes, unless the command failed for another reason than an error reply of Redis,
+     * which may leave the connection in an unknown state.
+     *
+     * @param command Submits the command to the command manager of the connection
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submit(Function<CommandManager, CompletableFuture<T>> command) {
+        CompletableFuture<Connection> connection;
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(
+                        new ClosingException("Client closed: Unable to submit command."));
+            }
+            connection = acquire();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        connection.whenComplete(
+                (acquired, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(unwrap(error));
+                    } else {
+                        run(acquired, command, result);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * @return The number of idle connections.
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Close the idle and the borrowed connections. The commands running on the borrowed connections
+     * and the commands waiting for a connection fail with a {@link ClosingException}.
+     */
+    public void close() {
+        List<Connection> connections;
+        List<CompletableFuture<?>> pending;
+        synchronized (this) {
+            closed = true;
+            connections = new ArrayList<>(idle);
+            connections.addAll(borrowed.keySet());
+            pending = new ArrayList<>(borrowed.values());
+            pending.addAll(waiting);
+            pending.addAll(connecting);
+            idle.clear();
+            borrowed.clear();
+            waiting.clear();
+            connecting.clear();
+        }
+        for (CompletableFuture<?> future : pending) {
+            future.completeExceptionally(
+                    new ClosingException("Client closed: The blocking command was aborted."));
+        }
+        for (Connection connection : connections) {
+            connection.connectionManager.closeConnection();
+        }
+    }
+
+    /** Take an idle connection, open a new one, or wait for one to be released. Guarded by this. */
+    private CompletableFuture<Connection> acquire() {
+        Connection idleConnection = idle.pollFirst();
+        if (idleConnection != null) {
+            return CompletableFuture.completedFuture(idleConnection);
+        }
+        if (connectionCount < maxConnections) {
+            return open();
+        }
+        CompletableFuture<Connection> waiter = new CompletableFuture<>();
+        waiting.addLast(waiter);
+        return waiter;
+    }
+
+    /** Open a connection, which counts towards the maximum unless it fails. Guarded by this. */
+    private CompletableFuture<Connection> open() {
+        connectionCount++;
+        return connector
+                .get()
+                .whenComplete(
+                        (connection, error) -> {
+                            if (error != null) {
+                                synchronized (this) {
+                                    connectionCount--;
+                                }
+                                replace();
+                            }
+                        });
+    }
+
+    private <T> void run(
+            Connection connection,
+            Function<CommandManager, CompletableFuture<T>> command,
+            CompletableFuture<T> result) {
+        boolean registered;
+        synchronized (this) {
+            registered = !closed;
+            if (registered) {
+                borrowed.put(connection, result);
+            }
+        }
+        if (!registered) {
+            connection.connectionManager.closeConnection();
+            result.completeExceptionally(
+                    new ClosingException("Client closed: Unable to submit command."));
+            return;
+        }
+        CompletableFuture<T> response;
+        try {
+            response = command.apply(connection.commandManager);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete(
+                (value, error) -> {
+                    release(connection, error);
+                    if (error != null) {
+                        result.completeExceptionally(unwrap(error));
+                    } else {
+                        result.complete(value);
+                    }
+                });
+    }
+
+    private void release(Connection connection, Throwable error) {
+        Throwable cause = unwrap(error);
+        CompletableFuture<Connection> waiter = null;
+        synchronized (this) {
+            if (borrowed.remove(connection) == null) {
+                // the pool was closed, together with the connection
+                return;
+            }
+            if (cause == null || cause instanceof RequestException) {
+                waiter = waiting.pollFirst();
+                if (waiter == null && idle.size() < maxIdleConnections) {
+                    idle.addFirst(connection);
+                    return;
+                }
+            }
+            if (waiter == null) {
+                connectionCount--;
+            }
+        }
+        if (waiter != null) {
+            handOver(connection, waiter);
+            return;
+        }
+        connection.connectionManager.closeConnection();
+        replace();
+    }
+
+    /** Open a connection for the next waiting command, in place of a closed or failed one. */
+    private void replace() {
+        CompletableFuture<Connection> waiter;
+        CompletableFuture<Connection> connection;
+        synchronized (this) {
+            if (connectionCount >= maxConnections) {
+                return;
+            }
+            waiter = waiting.pollFirst();
+            if (waiter == null) {
+                return;
+            }
+            connecting.add(waiter);
+            connection = open();
+        }
+        connection.whenComplete(
+                (opened, error) -> {
+                    synchronized (this) {
+                        connecting.remove(waiter);
+                    }
+                    if (error != null) {
+                        waiter.completeExceptionally(unwrap(error));
+                    } else {
+                        handOver(opened, waiter);
+                    }
+                });
+    }
+
+    /**
+     * Hand a connection over to a waiting command. If the waiter was already completed, for example
+     * failed by {@link #close()}, nobody else releases the connection, so it is closed here.
+     */
+    private void handOver(Connection connection, CompletableFuture<Connection> waiter) {
+        if (waiter.complete(connection)) {
+            return;
+        }
+        synchronized (this) {
+            connectionCount--;
+        }
+        connection.connectionManager.closeConnection();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException ? error.getCause() : error;
+    }
+}
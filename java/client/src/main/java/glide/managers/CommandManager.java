@@ -1,8 +1,16 @@
 /** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.managers;
 
+import glide.api.metrics.ClientMetrics;
+import glide.api.metrics.RequestTrace;
+import glide.api.metrics.RequestTrace.Stage;
+import glide.api.metrics.RequestTracer;
+import glide.api.models.BaseTransaction;
 import glide.api.models.ClusterTransaction;
+import glide.api.models.Script;
+import glide.api.models.StreamedValue;
 import glide.api.models.Transaction;
+import glide.api.models.ValueCodec;
 import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SimpleRoute;
@@ -12,15 +20,31 @@ import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.RequestException;
 import glide.connectors.handlers.CallbackDispatcher;
 import glide.connectors.handlers.ChannelHandler;
+import glide.connectors.handlers.CodecCommandRequest;
+import glide.connectors.handlers.CommandRequest;
+import glide.connectors.handlers.CommandTemplate;
+import glide.connectors.handlers.ResponseCallback;
+import glide.connectors.handlers.TransactionRequest;
+import glide.connectors.handlers.ValueCommandRequest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import redis_request.RedisRequestOuterClass;
-import redis_request.RedisRequestOuterClass.Command;
-import redis_request.RedisRequestOuterClass.Command.ArgsArray;
 import redis_request.RedisRequestOuterClass.RedisRequest;
 import redis_request.RedisRequestOuterClass.RequestType;
 import redis_request.RedisRequestOuterClass.Routes;
+import redis_request.RedisRequestOuterClass.ScriptInvocation;
 import redis_request.RedisRequestOuterClass.SimpleRoutes;
 import redis_request.RedisRequestOuterClass.SlotTypes;
 import response.ResponseOuterClass.Response;
@@ -29,12 +53,67 @@ import response.ResponseOuterClass.Response;
  * Service responsible for submitting command requests to a socket channel handler and unpack
  * responses from the same socket channel handler.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommandManager {
 
     /** UDS connection representation. */
     private final ChannelHandler channel;
 
+    /**
+     * Java-side deadline in milliseconds for requests submitted by this manager. If <code>null
+     * </code>, the default deadline of the channel applies.
+     */
+    private final Long requestDeadline;
+
+    /** Optional adaptive limit of requests in flight, shared with managers derived from this one. */
+    @Getter private final ConcurrencyLimiter concurrencyLimiter;
+
+    /** Client instrumentation. */
+    private final ClientMetrics metrics;
+
+    /** Optional sampled tracing of requests. */
+    private final RequestTracer requestTracer;
+
+    /**
+     * Optional dedicated connections for blocking commands, shared with managers derived from this
+     * one. Without it, blocking commands are sent over the channel like other commands.
+     */
+    private final BlockingConnectionPool blockingConnections;
+
+    public CommandManager(ChannelHandler channel) {
+        this(channel, null, null, ClientMetrics.NOOP, null, null);
+    }
+
+    public CommandManager(
+            ChannelHandler channel,
+            ConcurrencyLimiter concurrencyLimiter,
+            ClientMetrics metrics,
+            RequestTracer requestTracer) {
+        this(channel, null, concurrencyLimiter, metrics, requestTracer, null);
+    }
+
+    public CommandManager(
+            ChannelHandler channel,
+            ConcurrencyLimiter concurrencyLimiter,
+            ClientMetrics metrics,
+            RequestTracer requestTracer,
+            BlockingConnectionPool blockingConnections) {
+        this(channel, null, concurrencyLimiter, metrics, requestTracer, blockingConnections);
+    }
+
+    /**
+     * Create a command manager which shares the channel with this one, but bounds its requests with
+     * another Java-side deadline.
+     *
+     * @param requestDeadline Request deadline in milliseconds, or {@link
+     *     CallbackDispatcher#NO_DEADLINE}
+     * @return A new command manager
+     */
+    public CommandManager withRequestDeadline(long requestDeadline) {
+        return new CommandManager(
+                channel, requestDeadline, concurrencyLimiter, metrics, requestTracer, blockingConnections);
+    }
+
     /**
      * Build a command and send.
      *
@@ -48,7 +127,7 @@ public class CommandManager {
             String[] arguments,
             RedisExceptionCheckedFunction<Response, T> responseHandler) {
 
-        RedisRequest.Builder command = prepareRedisRequest(requestType, arguments);
+        CommandRequest command = new CommandRequest(requestType, arguments);
         return submitCommandToChannel(command, responseHandler);
     }
 
@@ -67,7 +146,164 @@ public class CommandManager {
             Route route,
             RedisExceptionCheckedFunction<Response, T> responseHandler) {
 
-        RedisRequest.Builder command = prepareRedisRequest(requestType, arguments, route);
+        CommandRequest command = new CommandRequest(requestType, arguments, prepareRoute(route));
+        return submitCommandToChannel(command, responseHandler);
+    }
+
+    /**
+     * Build a blocking command and send it over a dedicated connection, so it does not stall the
+     * other requests of the channel while it blocks. The command is bounded by its own blocking
+     * timeout in the core, instead of by the request timeout and the Java-side deadline.
+     *
+     * @param requestType Redis command type
+     * @param arguments Redis command arguments
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submitBlockingCommand(
+            RequestType requestType,
+            String[] arguments,
+            RedisExceptionCheckedFunction<Response, T> responseHandler) {
+
+        if (blockingConnections == null) {
+            return submitNewCommand(requestType, arguments, responseHandler);
+        }
+        return blockingConnections.submit(
+                commandManager -> commandManager.submitNewCommand(requestType, arguments, responseHandler));
+    }
+
+    /**
+     * Build a command and send, passing the result to a callback instead of returning a promise. The
+     * callback is called straight from the thread which reads the response, with either the result or
+     * the failure of the command, so it must not block.
+     *
+     * @param requestType Redis command type
+     * @param arguments Redis command arguments
+     * @param responseHandler The handler for the response object
+     * @param callback The callback of the result
+     */
+    public <T> void submitNewCommand(
+            RequestType requestType,
+            String[] arguments,
+            RedisExceptionCheckedFunction<Response, T> responseHandler,
+            BiConsumer<? super T, ? super Throwable> callback) {
+
+        CommandRequest command = new CommandRequest(requestType, arguments);
+        submitCommandToChannel(command, responseHandler, callback);
+    }
+
+    /**
+     * Build a command with a streamed value as the last argument and send. The value is read on the
+     * calling thread, since reading it may block, and handed to the channel without another copy.
+     *
+     * @param requestType Redis command type
+     * @param arguments Redis command arguments which precede the value
+     * @param value The value
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submitNewCommand(
+            RequestType requestType,
+            String[] arguments,
+            StreamedValue value,
+            RedisExceptionCheckedFunction<Response, T> responseHandler) {
+
+        ByteBuf buffer;
+        try {
+            buffer = ValueCommandRequest.readValue(value, ByteBufAllocator.DEFAULT);
+        } catch (IOException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(
+                    new RequestException("Unable to read the value: " + e.getMessage()));
+        }
+        var command = new ValueCommandRequest(requestType, arguments, buffer, null);
+        // the command owns the buffer until it is written, then the channel does
+        var written = new AtomicBoolean();
+        return this.<T>submitToChannel(
+                        requestType,
+                        (deadline, trace) ->
+                                written.compareAndSet(false, true)
+                                        ? channel.write(command, true, deadline, trace)
+                                        : CompletableFuture.failedFuture(
+                                                new ClosingException("Request dropped: Unable to submit command.")),
+                        responseHandler)
+                .whenComplete(
+                        (result, error) -> {
+                            if (written.compareAndSet(false, true)) {
+                                command.release();
+                            }
+                        });
+    }
+
+    /**
+     * Build a command with a typed value as the last argument and send. The value is encoded by its
+     * codec when the command is written to the channel.
+     *
+     * @param requestType Redis command type
+     * @param arguments Redis command arguments which precede the value
+     * @param value The value
+     * @param codec The codec of the value
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <V, T> CompletableFuture<T> submitNewCommand(
+            RequestType requestType,
+            String[] arguments,
+            V value,
+            ValueCodec<V> codec,
+            RedisExceptionCheckedFunction<Response, T> responseHandler) {
+
+        CodecCommandRequest<V> command;
+        try {
+            command = new CodecCommandRequest<>(requestType, arguments, value, codec, null);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return submitToChannel(
+                requestType,
+                (deadline, trace) -> channel.write(command, true, deadline, trace),
+                responseHandler);
+    }
+
+    /**
+     * Bind the parameters of a command template and send.
+     *
+     * @param template Command with the constant arguments encoded
+     * @param parameters Parameters of the command template
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submitPreparedCommand(
+            CommandTemplate template,
+            String[] parameters,
+            RedisExceptionCheckedFunction<Response, T> responseHandler) {
+
+        CommandRequest command = new CommandRequest(template, parameters);
+        return submitCommandToChannel(command, responseHandler);
+    }
+
+    /**
+     * Build a Script invocation and send.
+     *
+     * @param script Lua script to invoke
+     * @param keys The keys that are used in the script
+     * @param args The arguments for the script
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    public <T> CompletableFuture<T> submitScript(
+            Script script,
+            List<String> keys,
+            List<String> args,
+            RedisExceptionCheckedFunction<Response, T> responseHandler) {
+
+        RedisRequest.Builder command =
+                RedisRequest.newBuilder()
+                        .setScriptInvocation(
+                                ScriptInvocation.newBuilder()
+                                        .setHash(script.getHash())
+                                        .addAllKeys(keys)
+                                        .addAllArgs(args)
+                                        .build());
         return submitCommandToChannel(command, responseHandler);
     }
 
@@ -81,7 +317,7 @@ public class CommandManager {
     public <T> CompletableFuture<T> submitNewCommand(
             Transaction transaction, RedisExceptionCheckedFunction<Response, T> responseHandler) {
 
-        RedisRequest.Builder command = prepareRedisRequest(transaction);
+        TransactionRequest command = toRequest(transaction, null);
         return submitCommandToChannel(command, responseHandler);
     }
 
@@ -98,10 +334,75 @@ public class CommandManager {
             Optional<Route> route,
             RedisExceptionCheckedFunction<Response, T> responseHandler) {
 
-        RedisRequest.Builder command = prepareRedisRequest(transaction, route);
+        TransactionRequest command =
+                toRequest(transaction, route.map(CommandManager::prepareRoute).orElse(null));
         return submitCommandToChannel(command, responseHandler);
     }
 
+    /**
+     * Take a single command request and send to channel.
+     *
+     * @param command The Redis command request to execute
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    protected <T> CompletableFuture<T> submitCommandToChannel(
+            CommandRequest command, RedisExceptionCheckedFunction<Response, T> responseHandler) {
+        return submitToChannel(
+                command.getRequestType(),
+                (deadline, trace) -> channel.write(command, true, deadline, trace),
+                responseHandler);
+    }
+
+    /**
+     * Take a single command request and send to channel, passing the result to a callback.
+     *
+     * @param command The Redis command request to execute
+     * @param responseHandler The handler for the response object
+     * @param callback The callback of the result
+     */
+    protected <T> void submitCommandToChannel(
+            CommandRequest command,
+            RedisExceptionCheckedFunction<Response, T> responseHandler,
+            BiConsumer<? super T, ? super Throwable> callback) {
+        if (channel.isClosed()) {
+            callback.accept(null, new ClosingException("Channel closed: Unable to submit command."));
+            return;
+        }
+        if (concurrencyLimiter != null || requestTracer != null) {
+            // the limiter and the tracer are built on promises
+            submitToChannel(
+                            command.getRequestType(),
+                            (deadline, trace) -> channel.write(command, true, deadline, trace),
+                            responseHandler)
+                    .whenComplete(
+                            (result, error) ->
+                                    callback.accept(
+                                            result, error instanceof CompletionException ? error.getCause() : error));
+            return;
+        }
+        channel.writeWithCallback(
+                command,
+                true,
+                requestDeadline == null ? channel.getRequestDeadline() : requestDeadline,
+                new CallbackCommand<>(command.getRequestType(), responseHandler, callback));
+    }
+
+    /**
+     * Take a transaction request and send to channel.
+     *
+     * @param transaction The transaction request to execute
+     * @param responseHandler The handler for the response object
+     * @return A result promise of type T
+     */
+    protected <T> CompletableFuture<T> submitCommandToChannel(
+            TransactionRequest transaction, RedisExceptionCheckedFunction<Response, T> responseHandler) {
+        return submitToChannel(
+                null,
+                (deadline, trace) -> channel.write(transaction, true, deadline, trace),
+                responseHandler);
+    }
+
     /**
      * Take a redis request and send to channel.
      *
@@ -111,6 +412,16 @@ public class CommandManager {
      */
     protected <T> CompletableFuture<T> submitCommandToChannel(
             RedisRequest.Builder command, RedisExceptionCheckedFunction<Response, T> responseHandler) {
+        return submitToChannel(
+                requestType(command),
+                (deadline, trace) -> channel.write(command, true, deadline, trace),
+                responseHandler);
+    }
+
+    private <T> CompletableFuture<T> submitToChannel(
+            RequestType requestType,
+            ChannelWriter writer,
+            RedisExceptionCheckedFunction<Response, T> responseHandler) {
         if (channel.isClosed()) {
             var errorFuture = new CompletableFuture<T>();
             errorFuture.completeExceptionally(
@@ -118,132 +429,149 @@ public class CommandManager {
             return errorFuture;
         }
 
-        // write command request to channel
-        // when complete, convert the response to our expected type T using the given responseHandler
-        return channel
-                .write(command, true)
-                .exceptionally(this::exceptionHandler)
-                .thenApplyAsync(responseHandler::apply);
+        RequestTrace trace = requestTracer == null ? null : requestTracer.sample(requestType);
+        if (concurrencyLimiter != null) {
+            return concurrencyLimiter.submit(
+                    () -> writeCommandToChannel(requestType, writer, responseHandler, trace));
+        }
+        return writeCommandToChannel(requestType, writer, responseHandler, trace);
     }
 
-    /**
-     * Build a protobuf command request object with routing options.
-     *
-     * @param requestType Redis command type
-     * @param arguments Redis command arguments
-     * @param route Command routing parameters
-     * @return An incomplete request. {@link CallbackDispatcher} is responsible to complete it by
-     *     adding a callback id.
-     */
-    protected RedisRequest.Builder prepareRedisRequest(
-            RequestType requestType, String[] arguments, Route route) {
-        ArgsArray.Builder commandArgs = ArgsArray.newBuilder();
-        for (var arg : arguments) {
-            commandArgs.addArgs(arg);
+    private <T> CompletableFuture<T> writeCommandToChannel(
+            RequestType requestType,
+            ChannelWriter writer,
+            RedisExceptionCheckedFunction<Response, T> responseHandler,
+            RequestTrace trace) {
+        // write command request to channel
+        // when complete, convert the response to our expected type T using the given responseHandler
+        var responseFuture =
+                writer.write(
+                        requestDeadline == null ? channel.getRequestDeadline() : requestDeadline, trace);
+        if (metrics != ClientMetrics.NOOP) {
+            recordLatency(requestType, responseFuture);
         }
+        if (trace == null) {
+            return decodeAsync(
+                    responseFuture.exceptionally(this::exceptionHandler), responseHandler::apply);
+        }
+        return decodeAsync(
+                        responseFuture.exceptionally(this::exceptionHandler),
+                        response -> {
+                            trace.mark(Stage.DECODE_STARTED);
+                            T result = responseHandler.apply(response);
+                            trace.mark(Stage.DECODED);
+                            return result;
+                        })
+                .whenComplete(
+                        (result, error) -> {
+                            trace.mark(Stage.COMPLETED);
+                            requestTracer.record(trace);
+                        });
+    }
 
-        var builder =
-                RedisRequest.newBuilder()
-                        .setSingleCommand(
-                                Command.newBuilder()
-                                        .setRequestType(requestType)
-                                        .setArgsArray(commandArgs.build())
-                                        .build());
+    /** Decode a response on the completion executor of the channel, or on the common pool. */
+    private <T> CompletableFuture<T> decodeAsync(
+            CompletableFuture<Response> responseFuture, Function<Response, T> decoder) {
+        Executor executor = channel.getCompletionExecutor();
+        return executor == null
+                ? responseFuture.thenApplyAsync(decoder)
+                : responseFuture.thenApplyAsync(decoder, executor);
+    }
 
-        return prepareRedisRequestRoute(builder, route);
+    private void recordLatency(RequestType requestType, CompletableFuture<Response> responseFuture) {
+        long start = System.nanoTime();
+        metrics.requestStarted();
+        responseFuture.whenComplete(
+                (response, error) ->
+                        metrics.requestCompleted(requestType, System.nanoTime() - start, error == null));
     }
 
     /**
-     * Build a protobuf transaction request object with routing options.
-     *
-     * @param transaction Redis transaction with commands
-     * @return An uncompleted request. {@link CallbackDispatcher} is responsible to complete it by
-     *     adding a callback id.
+     * @return <code>true</code> if requests can be written to the channel without being buffered
+     *     above its high water mark.
      */
-    protected RedisRequest.Builder prepareRedisRequest(Transaction transaction) {
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
 
-        RedisRequest.Builder builder =
-                RedisRequest.newBuilder().setTransaction(transaction.getProtobufTransaction().build());
+    /**
+     * @return A promise completed once requests can be written to the channel without being buffered
+     *     above its high water mark.
+     */
+    public CompletableFuture<Void> awaitWritable() {
+        return channel.awaitWritable();
+    }
 
-        return builder;
+    /**
+     * Returns the command type of a request, or <code>null</code> for a transaction or a script
+     * invocation.
+     */
+    private static RequestType requestType(RedisRequest.Builder command) {
+        return command.hasSingleCommand() ? command.getSingleCommand().getRequestType() : null;
     }
 
     /**
-     * Build a protobuf transaction request object with routing options.
+     * Take a snapshot of the commands of a transaction as a request to send. The commands are encoded
+     * only when the request is written to the connection.
      *
-     * @param transaction Redis transaction with commands
-     * @param route Command routing parameters
-     * @return An uncompleted request. {@link CallbackDispatcher} is responsible to complete it by
-     *     adding a callback id.
+     * @param transaction The transaction
+     * @param route The transaction routing, or <code>null</code> for the default routing
+     * @return A request with the commands added so far
      */
-    protected RedisRequest.Builder prepareRedisRequest(
-            ClusterTransaction transaction, Optional<Route> route) {
-
-        RedisRequest.Builder builder =
-                RedisRequest.newBuilder().setTransaction(transaction.getProtobufTransaction().build());
-
-        return route.isPresent() ? prepareRedisRequestRoute(builder, route.get()) : builder;
+    private static TransactionRequest toRequest(BaseTransaction<?> transaction, Routes route) {
+        return new TransactionRequest(
+                transaction.getRequestTypes(),
+                transaction.getCommandArguments(),
+                transaction.getCommandCount(),
+                route);
     }
 
     /**
-     * Build a protobuf command request object.
+     * Encode a command once, for {@link #submitPreparedCommand}.
      *
      * @param requestType Redis command type
-     * @param arguments Redis command arguments
-     * @return An uncompleted request. {@link CallbackDispatcher} is responsible to complete it by
-     *     adding a callback id.
+     * @param arguments Redis command arguments, with <code>null</code> in place of parameters
+     * @param route Command routing parameters, or <code>null</code> for the default routing
+     * @return The command template
      */
-    protected RedisRequest.Builder prepareRedisRequest(RequestType requestType, String[] arguments) {
-        ArgsArray.Builder commandArgs = ArgsArray.newBuilder();
-        for (var arg : arguments) {
-            commandArgs.addArgs(arg);
-        }
-
-        var builder =
-                RedisRequest.newBuilder()
-                        .setSingleCommand(
-                                Command.newBuilder()
-                                        .setRequestType(requestType)
-                                        .setArgsArray(commandArgs.build())
-                                        .build());
-
-        return builder;
+    public static CommandTemplate prepare(RequestType requestType, String[] arguments, Route route) {
+        return new CommandTemplate(requestType, arguments, route == null ? null : prepareRoute(route));
     }
 
-    private RedisRequest.Builder prepareRedisRequestRoute(RedisRequest.Builder builder, Route route) {
-
+    /**
+     * Build a protobuf route object.
+     *
+     * @param route Command routing parameters
+     * @return The route in protobuf format
+     */
+    private static Routes prepareRoute(Route route) {
         if (route instanceof SimpleRoute) {
-            builder.setRoute(
-                    Routes.newBuilder()
-                            .setSimpleRoutes(SimpleRoutes.forNumber(((SimpleRoute) route).ordinal()))
-                            .build());
+            return Routes.newBuilder()
+                    .setSimpleRoutes(SimpleRoutes.forNumber(((SimpleRoute) route).ordinal()))
+                    .build();
         } else if (route instanceof SlotIdRoute) {
-            builder.setRoute(
-                    Routes.newBuilder()
-                            .setSlotIdRoute(
-                                    RedisRequestOuterClass.SlotIdRoute.newBuilder()
-                                            .setSlotId(((SlotIdRoute) route).getSlotId())
-                                            .setSlotType(
-                                                    SlotTypes.forNumber(((SlotIdRoute) route).getSlotType().ordinal()))));
+            return Routes.newBuilder()
+                    .setSlotIdRoute(
+                            RedisRequestOuterClass.SlotIdRoute.newBuilder()
+                                    .setSlotId(((SlotIdRoute) route).getSlotId())
+                                    .setSlotType(SlotTypes.forNumber(((SlotIdRoute) route).getSlotType().ordinal())))
+                    .build();
         } else if (route instanceof SlotKeyRoute) {
-            builder.setRoute(
-                    Routes.newBuilder()
-                            .setSlotKeyRoute(
-                                    RedisRequestOuterClass.SlotKeyRoute.newBuilder()
-                                            .setSlotKey(((SlotKeyRoute) route).getSlotKey())
-                                            .setSlotType(
-                                                    SlotTypes.forNumber(((SlotKeyRoute) route).getSlotType().ordinal()))));
+            return Routes.newBuilder()
+                    .setSlotKeyRoute(
+                            RedisRequestOuterClass.SlotKeyRoute.newBuilder()
+                                    .setSlotKey(((SlotKeyRoute) route).getSlotKey())
+                                    .setSlotType(SlotTypes.forNumber(((SlotKeyRoute) route).getSlotType().ordinal())))
+                    .build();
         } else if (route instanceof ByAddressRoute) {
-            builder.setRoute(
-                    Routes.newBuilder()
-                            .setByAddressRoute(
-                                    RedisRequestOuterClass.ByAddressRoute.newBuilder()
-                                            .setHost(((ByAddressRoute) route).getHost())
-                                            .setPort(((ByAddressRoute) route).getPort())));
-        } else {
-            throw new RequestException("Unknown type of route");
+            return Routes.newBuilder()
+                    .setByAddressRoute(
+                            RedisRequestOuterClass.ByAddressRoute.newBuilder()
+                                    .setHost(((ByAddressRoute) route).getHost())
+                                    .setPort(((ByAddressRoute) route).getPort()))
+                    .build();
         }
-        return builder;
+        throw new RequestException("Unknown type of route");
     }
 
     /**
@@ -262,4 +590,69 @@ public class CommandManager {
         }
         throw new RuntimeException(e);
     }
+
+    /**
+     * A command whose response is decoded and passed to a callback by the thread which reads it. It
+     * is the only object allocated to complete the command.
+     */
+    private class CallbackCommand<T> implements ResponseCallback {
+        private final RequestType requestType;
+        private final RedisExceptionCheckedFunction<Response, T> responseHandler;
+        private final BiConsumer<? super T, ? super Throwable> callback;
+        private final long start;
+
+        CallbackCommand(
+                RequestType requestType,
+                RedisExceptionCheckedFunction<Response, T> responseHandler,
+                BiConsumer<? super T, ? super Throwable> callback) {
+            this.requestType = requestType;
+            this.responseHandler = responseHandler;
+            this.callback = callback;
+            if (metrics != ClientMetrics.NOOP) {
+                metrics.requestStarted();
+                start = System.nanoTime();
+            } else {
+                start = 0;
+            }
+        }
+
+        @Override
+        public void onResponse(Response response) {
+            T result;
+            try {
+                result = responseHandler.apply(response);
+            } catch (RuntimeException e) {
+                onFailure(e);
+                return;
+            }
+            complete(result, null);
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            if (error instanceof ClosingException) {
+                channel.close();
+            }
+            complete(null, error);
+        }
+
+        private void complete(T result, Throwable error) {
+            if (metrics != ClientMetrics.NOOP) {
+                metrics.requestCompleted(requestType, System.nanoTime() - start, error == null);
+            }
+            try {
+                callback.accept(result, error);
+            } catch (RuntimeException e) {
+                // the callback runs on a thread of the client, so the exception cannot reach the caller
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    /** Writes a request to the channel, see {@link ChannelHandler#write}. */
+    @FunctionalInterface
+    private interface ChannelWriter {
+        CompletableFuture<Response> write(long deadline, RequestTrace trace);
+    }
 }
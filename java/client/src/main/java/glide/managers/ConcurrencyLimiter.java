@@ -0,0 +1,230 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import glide.api.models.configuration.ConcurrencyLimitConfiguration;
+import glide.api.models.configuration.ConcurrencyLimitConfiguration.OverloadPolicy;
+import glide.api.models.exceptions.OverloadException;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Adaptive limiter of requests in flight, used by {@link CommandManager} in front of the channel.
+ * See {@link ConcurrencyLimitConfiguration} for the algorithm. All operations are lock-free.
+ */
+public class ConcurrencyLimiter {
+
+    private final ConcurrencyLimitConfiguration configuration;
+
+    private final long latencyThresholdNanos;
+
+    /** Current limit of requests in flight. */
+    private final AtomicInteger limit;
+
+    /** Number of requests in flight. */
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+
+    /** Requests waiting for a permit, used with {@link OverloadPolicy#QUEUE}. */
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+
+    /**
+     * Number of drain requests since the running drain started, or 0 if the queue is not being
+     * drained. Only one thread drains at a time, and requests completed while it runs queued requests
+     * make it loop again instead of draining recursively.
+     */
+    private final AtomicInteger drainRequests = new AtomicInteger(0);
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public ConcurrencyLimiter(ConcurrencyLimitConfiguration configuration) {
+        this.configuration = configuration;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getLatencyThreshold());
+        this.limit =
+                new AtomicInteger(
+                        Math.max(
+                                configuration.getMinLimit(),
+                                Math.min(configuration.getInitialLimit(), configuration.getMaxLimit())));
+    }
+
+    /**
+     * @return The current limit of requests in flight.
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return The number of requests in flight.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The number of requests waiting for a permit.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return The total number of requests rejected because of overload.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Submit a request if the limit allows, otherwise queue or reject it according to the {@link
+     * OverloadPolicy}.
+     *
+     * @param request A function which sends the request and returns its response promise
+     * @return A response promise, which fails with {@link OverloadException} if the request is shed
+     * @param <T> The response type
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        // requests queued earlier take precedence over the fast path
+        if (queueDepth.get() == 0 && tryAcquire()) {
+            return execute(request);
+        }
+        if (configuration.getOverloadPolicy() == OverloadPolicy.REJECT) {
+            return reject();
+        }
+        if (queueDepth.incrementAndGet() > configuration.getMaxQueueSize()) {
+            queueDepth.decrementAndGet();
+            return reject();
+        }
+        var promise = new CompletableFuture<T>();
+        queue.add(
+                () -> {
+                    try {
+                        execute(request)
+                                .whenComplete(
+                                        (result, error) -> {
+                                            if (error != null) {
+                                                promise.completeExceptionally(error);
+                                            } else {
+                                                promise.complete(result);
+                                            }
+                                        });
+                    } catch (RuntimeException e) {
+                        promise.completeExceptionally(e);
+                    }
+                });
+        drain();
+        return promise;
+    }
+
+    private <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        future.whenComplete((result, error) -> onComplete(start, error));
+        return future;
+    }
+
+    private <T> CompletableFuture<T> reject() {
+        rejectedCount.increment();
+        var future = new CompletableFuture<T>();
+        future.completeExceptionally(
+                new OverloadException(
+                        "Request rejected: the limit of "
+                                + limit.get()
+                                + " requests in flight has been reached"));
+        return future;
+    }
+
+    /** Update the limit with a latency sample and release the permit of a completed request. */
+    private void onComplete(long start, Throwable error) {
+        long latency = System.nanoTime() - start;
+        if (latency > latencyThresholdNanos || isTimeout(error)) {
+            decreaseLimit();
+        } else if (inFlight.get() * 2 >= limit.get()) {
+            // grow only while the limit is actually used
+            increaseLimit();
+        }
+        release();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Run queued requests while permits are available. A request may complete synchronously, for
+     * example on a closed channel, and its completion calls this method again: the nested call only
+     * records a drain request, so the stack does not grow with the queue.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            while (queueDepth.get() > 0 && tryAcquire()) {
+                Runnable next = queue.poll();
+                if (next == null) {
+                    // the request is being added right now, its submitter drains the queue afterwards
+                    inFlight.decrementAndGet();
+                    break;
+                }
+                queueDepth.decrementAndGet();
+                next.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private void increaseLimit() {
+        while (true) {
+            int current = limit.get();
+            if (current >= configuration.getMaxLimit() || limit.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    private void decreaseLimit() {
+        while (true) {
+            int current = limit.get();
+            int next =
+                    Math.max(configuration.getMinLimit(), (int) (current * configuration.getBackoffRatio()));
+            if (next == current || limit.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        if (error instanceof CompletionException) {
+            error = error.getCause();
+        }
+        return error instanceof TimeoutException;
+    }
+}
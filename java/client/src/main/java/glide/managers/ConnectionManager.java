@@ -4,16 +4,18 @@ package glide.managers;
 import connection_request.ConnectionRequestOuterClass;
 import connection_request.ConnectionRequestOuterClass.AuthenticationInfo;
 import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksDisabled;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksManualInterval;
 import connection_request.ConnectionRequestOuterClass.TlsMode;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.configuration.NodeAddress;
 import glide.api.models.configuration.ReadFrom;
 import glide.api.models.configuration.RedisClientConfiguration;
 import glide.api.models.configuration.RedisClusterClientConfiguration;
+import glide.api.models.configuration.TopologyRefreshConfiguration;
 import glide.api.models.exceptions.ClosingException;
 import glide.connectors.handlers.ChannelHandler;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import response.ResponseOuterClass.Response;
 
@@ -30,6 +32,16 @@ public class ConnectionManager {
     /** UDS connection representation. */
     private final ChannelHandler channel;
 
+    /**
+     * Create a connection manager which uses the connection of another one, such as a handle of a
+     * shared client.
+     *
+     * @param delegate The connection manager whose connection is used
+     */
+    protected ConnectionManager(ConnectionManager delegate) {
+        this.channel = delegate.channel;
+    }
+
     /**
      * Make a connection request to Redis Rust-core client.
      *
@@ -97,6 +109,18 @@ public class ConnectionManager {
                 .setTlsMode(configuration.isUseTLS() ? TlsMode.SecureTls : TlsMode.NoTls)
                 .setReadFrom(mapReadFromEnum(configuration.getReadFrom()));
 
+        // the core treats an empty zone as no zone, and AZ_AFFINITY would then read from any replica
+        if (configuration.getClientAZ() != null && configuration.getClientAZ().isBlank()) {
+            throw new IllegalArgumentException("The clientAZ setting must not be blank");
+        }
+        if (configuration.getReadFrom() == ReadFrom.AZ_AFFINITY
+                && configuration.getClientAZ() == null) {
+            throw new IllegalArgumentException("ReadFrom.AZ_AFFINITY requires the clientAZ setting");
+        }
+        if (configuration.getClientAZ() != null) {
+            connectionRequestBuilder.setClientAz(configuration.getClientAZ());
+        }
+
         if (configuration.getCredentials() != null) {
             AuthenticationInfo.Builder authenticationInfoBuilder = AuthenticationInfo.newBuilder();
             if (configuration.getCredentials().getUsername() != null) {
@@ -156,6 +180,18 @@ public class ConnectionManager {
                 setupConnectionRequestBuilderBaseConfiguration(configuration);
         connectionRequestBuilder.setClusterModeEnabled(true);
 
+        TopologyRefreshConfiguration topologyRefresh = configuration.getTopologyRefresh();
+        if (topologyRefresh != null) {
+            if (topologyRefresh.isPeriodicChecksDisabled()) {
+                connectionRequestBuilder.setPeriodicChecksDisabled(
+                        PeriodicChecksDisabled.getDefaultInstance());
+            } else if (topologyRefresh.getPeriodicChecksInterval() != null) {
+                connectionRequestBuilder.setPeriodicChecksManualInterval(
+                        PeriodicChecksManualInterval.newBuilder()
+                                .setDurationInSec(topologyRefresh.getPeriodicChecksInterval()));
+            }
+        }
+
         return connectionRequestBuilder;
     }
 
@@ -166,11 +202,16 @@ public class ConnectionManager {
      * @return Protobuf defined ReadFrom enum
      */
     private ConnectionRequestOuterClass.ReadFrom mapReadFromEnum(ReadFrom readFrom) {
-        if (readFrom == ReadFrom.PREFER_REPLICA) {
-            return ConnectionRequestOuterClass.ReadFrom.PreferReplica;
+        switch (readFrom) {
+            case PREFER_REPLICA:
+                return ConnectionRequestOuterClass.ReadFrom.PreferReplica;
+            case LOWEST_LATENCY:
+                return ConnectionRequestOuterClass.ReadFrom.LowestLatency;
+            case AZ_AFFINITY:
+                return ConnectionRequestOuterClass.ReadFrom.AZAffinity;
+            default:
+                return ConnectionRequestOuterClass.ReadFrom.Primary;
         }
-
-        return ConnectionRequestOuterClass.ReadFrom.Primary;
     }
 
     /** Check a response received from Glide. */
@@ -199,12 +240,33 @@ public class ConnectionManager {
         throw new ClosingException(msg);
     }
 
+    /**
+     * @return A future completed once the channel is closed, either by {@link #closeConnection()} or
+     *     because the socket was closed.
+     */
+    public CompletableFuture<Void> closeFuture() {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        channel.closeFuture().addListener(future -> closed.complete(null));
+        return closed;
+    }
+
     /**
      * Close the connection to the channel.
      *
      * @return a CompletableFuture to indicate the channel is closed
      */
-    public Future<Void> closeConnection() {
-        return channel.close();
+    public CompletableFuture<Void> closeConnection() {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        channel
+                .close()
+                .addListener(
+                        future -> {
+                            if (future.isSuccess()) {
+                                closed.complete(null);
+                            } else {
+                                closed.completeExceptionally(future.cause());
+                            }
+                        });
+        return closed;
     }
 }
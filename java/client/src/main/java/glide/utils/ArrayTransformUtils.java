@@ -51,6 +51,20 @@ public class ArrayTransformUtils {
                 .toArray(size -> (U[]) Array.newInstance(clazz, size));
     }
 
+    /**
+     * Casts an array of objects to an array of type T, or returns <code>null</code> for a <code>null
+     * </code> array.
+     *
+     * @param objectArr Array of objects to cast, or <code>null</code>.
+     * @param clazz The class of the array elements to cast to.
+     * @return An array of type U, containing the elements from the input array, or <code>null</code>.
+     * @param <T> The base type from which the elements are being cast.
+     * @param <U> The subtype of T to which the elements are cast.
+     */
+    public static <T, U extends T> U[] castArrayOrNull(T[] objectArr, Class<U> clazz) {
+        return objectArr == null ? null : castArray(objectArr, clazz);
+    }
+
     /**
      * Concatenates multiple arrays of type T and returns a single concatenated array.
      *
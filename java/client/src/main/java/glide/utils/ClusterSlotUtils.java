@@ -0,0 +1,172 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Utility methods to compute Redis cluster hash slots on the client side, without a round trip to
+ * the core.
+ *
+ * @see <a href="https://redis.io/docs/reference/cluster-spec/#key-distribution-model">Key
+ *     distribution model</a>
+ */
+public class ClusterSlotUtils {
+
+    /** Number of hash slots in a Redis cluster. */
+    public static final int SLOT_COUNT = 16384;
+
+    /** CRC16/XMODEM lookup table (polynomial <code>0x1021</code>), as used by Redis Cluster. */
+    private static final int[] CRC16_TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            CRC16_TABLE[i] = crc & 0xFFFF;
+        }
+    }
+
+    /**
+     * Computes the hash slot of a key. If the key contains a hash tag (a non-empty substring between
+     * the first <code>{</code> and the following <code>}</code>), only the tag is hashed. The key is
+     * hashed over its UTF-8 representation without allocating an intermediate byte array.
+     *
+     * @param key The key to hash.
+     * @return The hash slot of the key, between <code>0</code> and <code>16383</code>.
+     */
+    public static int getSlot(String key) {
+        int start = 0;
+        int end = key.length();
+        int open = key.indexOf('{');
+        if (open >= 0) {
+            int close = key.indexOf('}', open + 1);
+            if (close > open + 1) {
+                start = open + 1;
+                end = close;
+            }
+        }
+        return crc16(key, start, end) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Computes the hash slot of a binary key. If the key contains a hash tag (a non-empty substring
+     * between the first <code>{</code> and the following <code>}</code>), only the tag is hashed.
+     *
+     * @param key The key to hash.
+     * @return The hash slot of the key, between <code>0</code> and <code>16383</code>.
+     */
+    public static int getSlot(byte[] key) {
+        int start = 0;
+        int end = key.length;
+        for (int open = 0; open < key.length; open++) {
+            if (key[open] == '{') {
+                for (int close = open + 1; close < key.length; close++) {
+                    if (key[close] == '}') {
+                        if (close > open + 1) {
+                            start = open + 1;
+                            end = close;
+                        }
+                        break;
+                    }
+                }
+                break;
+            }
+        }
+        return crc16(key, start, end) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Partitions keys by their hash slot. Keys which share a slot may be used together in a multi-key
+     * command or in a single {@link glide.api.models.ClusterTransaction}.
+     *
+     * @param keys The keys to partition.
+     * @return A map of hash slot to the keys which belong to it, in their iteration order.
+     */
+    public static Map<Integer, List<String>> groupBySlot(Collection<String> keys) {
+        return groupBy(keys, ClusterSlotUtils::getSlot, Integer::valueOf);
+    }
+
+    /**
+     * Partitions binary keys by their hash slot.
+     *
+     * @param keys The keys to partition.
+     * @return A map of hash slot to the keys which belong to it, in their iteration order.
+     */
+    public static Map<Integer, List<byte[]>> groupBinaryBySlot(Collection<byte[]> keys) {
+        return groupBy(keys, ClusterSlotUtils::getSlot, Integer::valueOf);
+    }
+
+    /**
+     * Partitions keys by the node serving their hash slot.
+     *
+     * @param keys The keys to partition.
+     * @param slotToNode A lookup from hash slot to a node identifier, for instance built from the
+     *     <code>CLUSTER SHARDS</code> output.
+     * @return A map of node identifier to the keys it serves, in their iteration order.
+     * @param <N> The node identifier type.
+     */
+    public static <N> Map<N, List<String>> groupByNode(
+            Collection<String> keys, IntFunction<N> slotToNode) {
+        return groupBy(keys, ClusterSlotUtils::getSlot, slotToNode);
+    }
+
+    private static <K, N> Map<N, List<K>> groupBy(
+            Collection<K> keys, ToIntFunction<K> slotFunction, IntFunction<N> slotToGroup) {
+        Map<N, List<K>> groups = new HashMap<>();
+        for (K key : keys) {
+            N group = slotToGroup.apply(slotFunction.applyAsInt(key));
+            groups.computeIfAbsent(group, g -> new ArrayList<>()).add(key);
+        }
+        return groups;
+    }
+
+    private static int crc16(byte[] bytes, int start, int end) {
+        int crc = 0;
+        for (int i = start; i < end; i++) {
+            crc = update(crc, bytes[i]);
+        }
+        return crc;
+    }
+
+    /** Computes CRC16 of the UTF-8 encoding of <code>str[start, end)</code>. */
+    private static int crc16(String str, int start, int end) {
+        int crc = 0;
+        for (int i = start; i < end; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                crc = update(crc, c);
+            } else if (c < 0x800) {
+                crc = update(crc, 0xC0 | (c >> 6));
+                crc = update(crc, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < end
+                    && Character.isLowSurrogate(str.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, str.charAt(++i));
+                crc = update(crc, 0xF0 | (cp >> 18));
+                crc = update(crc, 0x80 | ((cp >> 12) & 0x3F));
+                crc = update(crc, 0x80 | ((cp >> 6) & 0x3F));
+                crc = update(crc, 0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // malformed input is replaced the same way String.getBytes(UTF_8) does
+                crc = update(crc, '?');
+            } else {
+                crc = update(crc, 0xE0 | (c >> 12));
+                crc = update(crc, 0x80 | ((c >> 6) & 0x3F));
+                crc = update(crc, 0x80 | (c & 0x3F));
+            }
+        }
+        return crc;
+    }
+
+    private static int update(int crc, int b) {
+        return ((crc << 8) ^ CRC16_TABLE[((crc >> 8) ^ b) & 0xFF]) & 0xFFFF;
+    }
+}
@@ -13,6 +13,7 @@ import static response.ResponseOuterClass.RequestErrorType.Timeout;
 import static response.ResponseOuterClass.RequestErrorType.Unspecified;
 
 import connection_request.ConnectionRequestOuterClass;
+import glide.api.metrics.RequestTrace;
 import glide.api.models.configuration.RedisClientConfiguration;
 import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.ConnectionException;
@@ -22,6 +23,7 @@ import glide.api.models.exceptions.RequestException;
 import glide.api.models.exceptions.TimeoutException;
 import glide.connectors.handlers.CallbackDispatcher;
 import glide.connectors.handlers.ChannelHandler;
+import glide.connectors.handlers.OutboundRequest;
 import glide.connectors.resources.Platform;
 import glide.connectors.resources.ThreadPoolResourceAllocator;
 import glide.managers.BaseCommandResponseResolver;
@@ -40,7 +42,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import redis_request.RedisRequestOuterClass.RedisRequest;
 import response.ResponseOuterClass.RequestError;
 import response.ResponseOuterClass.RequestErrorType;
 import response.ResponseOuterClass.Response;
@@ -298,7 +299,8 @@ public class ExceptionHandlingTests {
         }
 
         @Override
-        public CompletableFuture<Response> write(RedisRequest.Builder request, boolean flush) {
+        public CompletableFuture<Response> write(
+                OutboundRequest request, boolean flush, long deadline, RequestTrace trace) {
             var commandId = callbackDispatcher.registerRequest();
             return commandId.getValue();
         }
@@ -318,7 +320,7 @@ public class ExceptionHandlingTests {
 
         @Override
         public void completeRequest(Response response) {
-            responses.values().forEach(future -> future.completeExceptionally(exceptionToThrow));
+            responses.values().forEach(callback -> callback.onFailure(exceptionToThrow));
         }
     }
 }
@@ -0,0 +1,32 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.ffi.resolvers.NativeLibrary;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class ClientWarmUpTest {
+
+    @Test
+    @SneakyThrows
+    public void warm_up_runs_once_and_is_retried_after_failure() {
+        var first = ClientWarmUp.warmUp();
+        first.handle((result, error) -> null).get(30, TimeUnit.SECONDS);
+        var second = ClientWarmUp.warmUp();
+
+        if (first.isCompletedExceptionally()) {
+            // the native library is not available in this environment
+            assertNotSame(first, second);
+        } else {
+            assertSame(first, second);
+            assertTrue(NativeLibrary.isLoaded());
+        }
+        assertEquals(!first.isCompletedExceptionally(), ClientWarmUp.isWarm());
+    }
+}
@@ -6,13 +6,18 @@ import static glide.api.RedisClient.CreateClient;
 import static glide.api.RedisClient.buildCommandManager;
 import static glide.api.RedisClient.buildConnectionManager;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import glide.api.models.configuration.NodeAddress;
 import glide.api.models.configuration.RedisClientConfiguration;
 import glide.api.models.exceptions.ClosingException;
 import glide.connectors.handlers.ChannelHandler;
@@ -20,6 +25,7 @@ import glide.connectors.resources.ThreadPoolResource;
 import glide.connectors.resources.ThreadPoolResourceAllocator;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import lombok.SneakyThrows;
@@ -45,10 +51,13 @@ public class RedisClientCreateTest {
         connectionManager = mock(ConnectionManager.class);
         threadPoolResource = mock(ThreadPoolResource.class);
 
-        mockedClient.when(() -> buildChannelHandler(any())).thenReturn(channelHandler);
+        mockedClient.when(() -> buildChannelHandler(any(), any())).thenReturn(channelHandler);
         mockedClient.when(() -> buildConnectionManager(channelHandler)).thenReturn(connectionManager);
-        mockedClient.when(() -> buildCommandManager(channelHandler)).thenReturn(commandManager);
+        mockedClient
+                .when(() -> buildCommandManager(eq(channelHandler), any()))
+                .thenReturn(commandManager);
         mockedClient.when(() -> CreateClient(any(), any())).thenCallRealMethod();
+        mockedClient.when(() -> BaseClient.CreateClients(any(), any())).thenCallRealMethod();
 
         var threadPoolResource = ThreadPoolResourceAllocator.getOrCreate(() -> null);
         if (threadPoolResource != null) {
@@ -121,4 +130,201 @@ public class RedisClientCreateTest {
         // verify
         assertEquals(exception, executionException.getCause());
     }
+
+    @SneakyThrows
+    @Test
+    public void createClients_returns_a_RedisClient_per_client() {
+        // setup
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder().threadPoolResource(threadPoolResource).build();
+
+        when(connectionManager.connectToRedis(eq(config)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // exercise
+        List<RedisClient> clients = RedisClient.CreateClients(config, 3).get();
+
+        // verify
+        assertEquals(3, clients.size());
+        for (RedisClient client : clients) {
+            assertEquals(connectionManager, client.connectionManager);
+            assertEquals(commandManager, client.commandManager);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void createClients_error_on_connection_closes_connected_clients() {
+        // setup
+        CompletableFuture<Void> connectToRedisFuture = new CompletableFuture<>();
+        ClosingException exception = new ClosingException("disconnected");
+        connectToRedisFuture.completeExceptionally(exception);
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder().threadPoolResource(threadPoolResource).build();
+
+        when(connectionManager.connectToRedis(eq(config)))
+                .thenReturn(
+                        CompletableFuture.completedFuture(null),
+                        connectToRedisFuture,
+                        CompletableFuture.completedFuture(null));
+        when(connectionManager.closeConnection()).thenReturn(CompletableFuture.completedFuture(null));
+
+        // exercise
+        CompletableFuture<List<RedisClient>> result =
+                RedisClient.CreateClients(List.of(config, config, config));
+
+        ExecutionException executionException = assertThrows(ExecutionException.class, result::get);
+
+        // verify
+        assertEquals(exception, executionException.getCause());
+        verify(connectionManager, times(2)).closeConnection();
+    }
+
+    @SneakyThrows
+    @Test
+    public void createClients_error_on_connection_fails_after_connected_clients_are_closed() {
+        // setup
+        CompletableFuture<Void> connectToRedisFuture = new CompletableFuture<>();
+        ClosingException exception = new ClosingException("disconnected");
+        connectToRedisFuture.completeExceptionally(exception);
+        CompletableFuture<Void> closeConnectionFuture = new CompletableFuture<>();
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder().threadPoolResource(threadPoolResource).build();
+
+        when(connectionManager.connectToRedis(eq(config)))
+                .thenReturn(CompletableFuture.completedFuture(null), connectToRedisFuture);
+        when(connectionManager.closeConnection()).thenReturn(closeConnectionFuture);
+
+        // exercise
+        CompletableFuture<List<RedisClient>> result =
+                RedisClient.CreateClients(List.of(config, config));
+
+        // verify
+        verify(connectionManager, times(1)).closeConnection();
+        assertFalse(result.isDone());
+
+        closeConnectionFuture.complete(null);
+        ExecutionException executionException = assertThrows(ExecutionException.class, result::get);
+        assertEquals(exception, executionException.getCause());
+    }
+
+    @SneakyThrows
+    @Test
+    public void createSharedClient_with_equal_configs_shares_connection_until_last_handle_closed() {
+        // setup
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder()
+                        .address(NodeAddress.builder().port(6380).build())
+                        .threadPoolResource(threadPoolResource)
+                        .build();
+        RedisClientConfiguration equalConfig =
+                RedisClientConfiguration.builder()
+                        .address(NodeAddress.builder().port(6380).build())
+                        .threadPoolResource(threadPoolResource)
+                        .build();
+
+        when(connectionManager.connectToRedis(any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeConnection()).thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeFuture()).thenReturn(new CompletableFuture<>());
+
+        // exercise
+        RedisClient client = RedisClient.CreateSharedClient(config).get();
+        RedisClient other = RedisClient.CreateSharedClient(equalConfig).get();
+
+        // verify
+        verify(connectionManager, times(1)).connectToRedis(any());
+        assertEquals(commandManager, client.commandManager);
+        assertEquals(commandManager, other.commandManager);
+
+        client.close();
+        client.close();
+        verify(connectionManager, never()).closeConnection();
+        assertEquals(1, SharedClientRegistry.size());
+
+        other.close();
+        verify(connectionManager, times(1)).closeConnection();
+        assertEquals(0, SharedClientRegistry.size());
+    }
+
+    @SneakyThrows
+    @Test
+    public void createSharedClient_with_different_configs_does_not_share_connection() {
+        // setup
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder().threadPoolResource(threadPoolResource).build();
+        RedisClientConfiguration otherConfig =
+                RedisClientConfiguration.builder()
+                        .threadPoolResource(threadPoolResource)
+                        .databaseId(1)
+                        .build();
+
+        when(connectionManager.connectToRedis(any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeConnection()).thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeFuture()).thenReturn(new CompletableFuture<>());
+
+        // exercise
+        RedisClient client = RedisClient.CreateSharedClient(config).get();
+        RedisClient other = RedisClient.CreateSharedClient(otherConfig).get();
+
+        // verify
+        verify(connectionManager, times(2)).connectToRedis(any());
+        client.close();
+        other.close();
+        verify(connectionManager, times(2)).closeConnection();
+    }
+
+    @SneakyThrows
+    @Test
+    public void createSharedClient_error_on_connection_is_not_shared() {
+        // setup
+        CompletableFuture<Void> connectToRedisFuture = new CompletableFuture<>();
+        ClosingException exception = new ClosingException("disconnected");
+        connectToRedisFuture.completeExceptionally(exception);
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder().threadPoolResource(threadPoolResource).build();
+
+        when(connectionManager.connectToRedis(eq(config)))
+                .thenReturn(connectToRedisFuture, CompletableFuture.completedFuture(null));
+        when(connectionManager.closeConnection()).thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeFuture()).thenReturn(new CompletableFuture<>());
+
+        // exercise
+        ExecutionException executionException =
+                assertThrows(ExecutionException.class, () -> RedisClient.CreateSharedClient(config).get());
+        RedisClient client = RedisClient.CreateSharedClient(config).get();
+
+        // verify
+        assertEquals(exception, executionException.getCause());
+        verify(connectionManager, times(2)).connectToRedis(eq(config));
+        client.close();
+        assertEquals(0, SharedClientRegistry.size());
+    }
+
+    @SneakyThrows
+    @Test
+    public void createSharedClient_after_connection_closed_connects_again() {
+        // setup
+        CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+        RedisClientConfiguration config =
+                RedisClientConfiguration.builder().threadPoolResource(threadPoolResource).build();
+
+        when(connectionManager.connectToRedis(eq(config)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeConnection()).thenReturn(CompletableFuture.completedFuture(null));
+        when(connectionManager.closeFuture()).thenReturn(closeFuture, new CompletableFuture<>());
+
+        // exercise
+        RedisClient client = RedisClient.CreateSharedClient(config).get();
+        closeFuture.complete(null);
+        RedisClient other = RedisClient.CreateSharedClient(config).get();
+
+        // verify
+        verify(connectionManager, times(2)).connectToRedis(eq(config));
+        assertEquals(1, SharedClientRegistry.size());
+        client.close();
+        other.close();
+        assertEquals(0, SharedClientRegistry.size());
+    }
 }
@@ -7,14 +7,23 @@ import static glide.api.models.commands.SetOptions.ConditionalSet.ONLY_IF_EXISTS
 import static glide.api.models.commands.SetOptions.RETURN_OLD_VALUE;
 import static glide.utils.ArrayTransformUtils.concatenateArrays;
 import static glide.utils.ArrayTransformUtils.convertMapToValueKeyStringArray;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static redis_request.RedisRequestOuterClass.RequestType.Append;
+import static redis_request.RedisRequestOuterClass.RequestType.BLMove;
+import static redis_request.RedisRequestOuterClass.RequestType.BZPopMin;
+import static redis_request.RedisRequestOuterClass.RequestType.Blpop;
+import static redis_request.RedisRequestOuterClass.RequestType.Brpop;
 import static redis_request.RedisRequestOuterClass.RequestType.ClientGetName;
 import static redis_request.RedisRequestOuterClass.RequestType.ClientId;
 import static redis_request.RedisRequestOuterClass.RequestType.ConfigGet;
@@ -66,21 +75,43 @@ import static redis_request.RedisRequestOuterClass.RequestType.Zadd;
 import static redis_request.RedisRequestOuterClass.RequestType.Zcard;
 import static redis_request.RedisRequestOuterClass.RequestType.Zrem;
 
+import glide.api.compression.CompressionCodec;
+import glide.api.models.PreparedCommand;
+import glide.api.models.Script;
+import glide.api.models.StreamedValue;
+import glide.api.models.ValueCodecs;
 import glide.api.models.commands.ExpireOptions;
 import glide.api.models.commands.InfoOptions;
+import glide.api.models.commands.ListDirection;
+import glide.api.models.commands.ScriptOptions;
 import glide.api.models.commands.SetOptions;
 import glide.api.models.commands.SetOptions.Expiry;
 import glide.api.models.commands.ZaddOptions;
+import glide.api.models.configuration.CompressionConfiguration;
+import glide.api.models.configuration.RedisClientConfiguration;
+import glide.api.models.exceptions.RequestException;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 public class RedisClientTest {
 
@@ -97,6 +128,51 @@ public class RedisClientTest {
         service = new RedisClient(connectionManager, commandManager);
     }
 
+    @Test
+    public void withRequestDeadline_shares_connection_with_deadline() {
+        // setup
+        CommandManager deadlineCommandManager = mock(CommandManager.class);
+        when(commandManager.withRequestDeadline(50)).thenReturn(deadlineCommandManager);
+
+        // exercise
+        RedisClient view = service.withRequestDeadline(Duration.ofMillis(50));
+
+        // verify
+        assertEquals(connectionManager, view.connectionManager);
+        assertEquals(deadlineCommandManager, view.commandManager);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -5_000_000, 500_000})
+    public void withRequestDeadline_rejects_deadline_under_a_millisecond(long nanos) {
+        assertThrows(
+                IllegalArgumentException.class, () -> service.withRequestDeadline(Duration.ofNanos(nanos)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -5})
+    public void configuration_rejects_request_deadline_under_a_millisecond(int millis) {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RedisClientConfiguration.builder().requestDeadline(millis).build());
+    }
+
+    @Test
+    public void configuration_rejects_invalid_blocking_connection_limits() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RedisClientConfiguration.builder().maxIdleBlockingConnections(-1).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RedisClientConfiguration.builder().maxBlockingConnections(0).build());
+        assertEquals(
+                0,
+                RedisClientConfiguration.builder()
+                        .maxIdleBlockingConnections(0)
+                        .build()
+                        .getMaxIdleBlockingConnections());
+    }
+
     @SneakyThrows
     @Test
     public void customCommand_returns_success() {
@@ -246,6 +322,99 @@ public class RedisClientTest {
         assertEquals(value, payload);
     }
 
+    @SneakyThrows
+    @Test
+    public void execute_prepared_command_returns_success() {
+        // setup
+        String key = "testKey";
+        String value = "testValue";
+        PreparedCommand<String> command = PreparedCommand.get();
+        CompletableFuture<String> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(value);
+        when(commandManager.<String>submitPreparedCommand(
+                        eq(command.getTemplate()), eq(new String[] {key}), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String> response = service.execute(command, key);
+        String payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(value, payload);
+    }
+
+    @SneakyThrows
+    @Test
+    public void get_into_buffer_returns_length() {
+        // setup
+        String key = "testKey";
+        CompletableFuture<Long> testResponse = new CompletableFuture<>();
+        testResponse.complete(5L);
+        when(commandManager.<Long>submitNewCommand(eq(GetString), eq(new String[] {key}), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Long> response = service.get(key, ByteBuffer.allocate(5));
+        Long payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(5L, payload);
+    }
+
+    @Test
+    public void copyValue_copies_into_buffer_or_fails_when_it_is_too_small() {
+        var value = ByteBuffer.wrap("value".getBytes());
+        var small = ByteBuffer.allocate(8).position(4);
+
+        var exception = assertThrows(RequestException.class, () -> BaseClient.copyValue(value, small));
+        assertEquals(
+                "Value of 5 bytes does not fit in the 4 remaining bytes of the buffer",
+                exception.getMessage());
+        assertEquals(4, small.position());
+        assertEquals(0, value.position());
+
+        var destination = ByteBuffer.allocateDirect(8).position(1);
+        BaseClient.copyValue(value, destination);
+        assertEquals(6, destination.position());
+        assertEquals("value", StandardCharsets.UTF_8.decode(destination.flip().position(1)).toString());
+    }
+
+    @SneakyThrows
+    @Test
+    public void writeValue_writes_whole_value_to_channel() {
+        var value = ByteBuffer.allocateDirect(100_000);
+        var stream = new ByteArrayOutputStream();
+
+        BaseClient.writeValue(value, Channels.newChannel(stream));
+
+        assertEquals(100_000, stream.size());
+        assertFalse(value.hasRemaining());
+    }
+
+    @SneakyThrows
+    @Test
+    public void writeValue_fails_with_write_error_in_common_pool() {
+        var value = ByteBuffer.allocateDirect(100);
+        var stream =
+                new OutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        throw new IOException("disk full");
+                    }
+                };
+
+        var result =
+                CompletableFuture.runAsync(
+                        () ->
+                                assertThrows(
+                                        IOException.class,
+                                        () -> BaseClient.writeValue(value, Channels.newChannel(stream))));
+
+        result.get();
+    }
+
     @SneakyThrows
     @Test
     public void set_returns_success() {
@@ -266,6 +435,168 @@ public class RedisClientTest {
         assertNull(okResponse);
     }
 
+    @SneakyThrows
+    @Test
+    public void set_with_compression_sends_compressed_value() {
+        // setup
+        var compression =
+                new CompressionCodec(CompressionConfiguration.builder().threshold(16).build());
+        service = new RedisClient(connectionManager, commandManager, compression);
+        String key = "testKey";
+        String value = "{\"value\":\"" + "a".repeat(1000) + "\"}";
+        CompletableFuture<String> testResponse = new CompletableFuture<>();
+        testResponse.complete(OK);
+        ArgumentCaptor<String[]> arguments = ArgumentCaptor.forClass(String[].class);
+        when(commandManager.<String>submitNewCommand(eq(SetString), arguments.capture(), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        String response = service.set(key, value).get();
+
+        // verify
+        assertEquals(OK, response);
+        assertEquals(key, arguments.getValue()[0]);
+        assertTrue(arguments.getValue()[1].length() < value.length());
+        assertEquals(value, compression.decode(arguments.getValue()[1]));
+    }
+
+    @SneakyThrows
+    @Test
+    public void set_with_codec_and_compression_stores_value_readable_as_string() {
+        // setup
+        var compression =
+                new CompressionCodec(CompressionConfiguration.builder().threshold(16).build());
+        service = new RedisClient(connectionManager, commandManager, compression);
+        String value = "{\"value\":\"" + "a".repeat(1000) + "\"}";
+        CompletableFuture<String> testResponse = new CompletableFuture<>();
+        testResponse.complete(OK);
+        ArgumentCaptor<String[]> arguments = ArgumentCaptor.forClass(String[].class);
+        when(commandManager.<String>submitNewCommand(eq(SetString), arguments.capture(), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        String response = service.set("testKey", value.getBytes(UTF_8), ValueCodecs.BYTES).get();
+
+        // verify
+        assertEquals(OK, response);
+        String stored = arguments.getValue()[1];
+        assertTrue(stored.length() < value.length());
+        // a string read decompresses the value, and so does a typed read of its bytes
+        assertEquals(value, compression.decode(stored));
+        assertEquals(
+                value,
+                ValueCodecs.UTF8.decode(compression.decode(ByteBuffer.wrap(stored.getBytes(UTF_8)))));
+    }
+
+    @Test
+    public void get_with_callback_submits_command_with_callback() {
+        // setup
+        BiConsumer<String, Throwable> callback = (value, error) -> {};
+
+        // exercise
+        service.get("key", callback);
+
+        // verify
+        verify(commandManager)
+                .submitNewCommand(eq(GetString), eq(new String[] {"key"}), any(), eq(callback));
+    }
+
+    @SneakyThrows
+    @Test
+    public void set_with_ValueCodec_returns_success() {
+        // setup
+        CompletableFuture<String> testResponse = new CompletableFuture<>();
+        testResponse.complete(OK);
+        when(commandManager.<Long, String>submitNewCommand(
+                        eq(SetString), eq(new String[] {"key"}), eq(42L), eq(ValueCodecs.LONG), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String> response = service.set("key", 42L, ValueCodecs.LONG);
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(OK, response.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void hset_with_ValueCodec_returns_success() {
+        // setup
+        CompletableFuture<Long> testResponse = new CompletableFuture<>();
+        testResponse.complete(1L);
+        when(commandManager.<Double, Long>submitNewCommand(
+                        eq(HashSet), eq(new String[] {"key", "field"}), eq(1.5), eq(ValueCodecs.DOUBLE), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Long> response = service.hset("key", "field", 1.5, ValueCodecs.DOUBLE);
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(1L, response.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void set_with_StreamedValue_returns_success() {
+        // setup
+        StreamedValue value = StreamedValue.of(ByteBuffer.wrap("testValue".getBytes()));
+        CompletableFuture<String> testResponse = new CompletableFuture<>();
+        testResponse.complete(OK);
+        when(commandManager.<String>submitNewCommand(
+                        eq(SetString), eq(new String[] {"testKey"}), eq(value), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String> response = service.set("testKey", value);
+        String payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(OK, payload);
+    }
+
+    @SneakyThrows
+    @Test
+    public void append_with_StreamedValue_returns_success() {
+        // setup
+        StreamedValue value = StreamedValue.of(ByteBuffer.wrap("testValue".getBytes()));
+        CompletableFuture<Long> testResponse = new CompletableFuture<>();
+        testResponse.complete(9L);
+        when(commandManager.<Long>submitNewCommand(
+                        eq(Append), eq(new String[] {"testKey"}), eq(value), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Long> response = service.append("testKey", value);
+        Long payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(9L, payload);
+    }
+
+    @SneakyThrows
+    @Test
+    public void hset_with_StreamedValue_returns_success() {
+        // setup
+        StreamedValue value = StreamedValue.of(ByteBuffer.wrap("testValue".getBytes()));
+        CompletableFuture<Long> testResponse = new CompletableFuture<>();
+        testResponse.complete(1L);
+        when(commandManager.<Long>submitNewCommand(
+                        eq(HashSet), eq(new String[] {"testKey", "field"}), eq(value), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Long> response = service.hset("testKey", "field", value);
+        Long payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(1L, payload);
+    }
+
     @SneakyThrows
     @Test
     public void set_with_SetOptions_OnlyIfExists_returns_success() {
@@ -551,6 +882,52 @@ public class RedisClientTest {
         assertEquals(ttl, response.get());
     }
 
+    @SneakyThrows
+    @Test
+    public void invokeScript_returns_success() {
+        // setup
+        Script script = mock(Script.class);
+        String payload = "hello";
+
+        CompletableFuture<Object> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(payload);
+
+        // match on protobuf request
+        when(commandManager.submitScript(eq(script), eq(List.of()), eq(List.of()), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Object> response = service.invokeScript(script);
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(payload, response.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void invokeScript_with_ScriptOptions_returns_success() {
+        // setup
+        Script script = mock(Script.class);
+        ScriptOptions options = ScriptOptions.builder().key("key1").key("key2").arg("arg1").build();
+        String payload = "hello";
+
+        CompletableFuture<Object> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(payload);
+
+        // match on protobuf request
+        when(commandManager.submitScript(
+                        eq(script), eq(List.of("key1", "key2")), eq(List.of("arg1")), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Object> response = service.invokeScript(script, options);
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(payload, response.get());
+    }
+
     @SneakyThrows
     @Test
     public void info_returns_success() {
@@ -1230,6 +1607,80 @@ public class RedisClientTest {
         assertEquals(value, payload);
     }
 
+    @SneakyThrows
+    @Test
+    public void blpop_returns_success() {
+        // setup
+        String[] keys = new String[] {"key1", "key2"};
+        double timeout = 0.5;
+        String[] args = new String[] {"key1", "key2", "0.5"};
+        String[] value = new String[] {"key1", "value"};
+
+        CompletableFuture<String[]> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(value);
+
+        // match on protobuf request
+        when(commandManager.<String[]>submitBlockingCommand(eq(Blpop), eq(args), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String[]> response = service.blpop(keys, timeout);
+        String[] payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(value, payload);
+    }
+
+    @SneakyThrows
+    @Test
+    public void brpop_returns_success() {
+        // setup
+        String[] keys = new String[] {"key1", "key2"};
+        double timeout = 0;
+        String[] args = new String[] {"key1", "key2", "0.0"};
+        String[] value = new String[] {"key2", "value"};
+
+        CompletableFuture<String[]> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(value);
+
+        // match on protobuf request
+        when(commandManager.<String[]>submitBlockingCommand(eq(Brpop), eq(args), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String[]> response = service.brpop(keys, timeout);
+        String[] payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(value, payload);
+    }
+
+    @SneakyThrows
+    @Test
+    public void blmove_returns_success() {
+        // setup
+        String[] args = new String[] {"source", "destination", "RIGHT", "LEFT", "2.0"};
+        String value = "value";
+
+        CompletableFuture<String> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(value);
+
+        // match on protobuf request
+        when(commandManager.<String>submitBlockingCommand(eq(BLMove), eq(args), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<String> response =
+                service.blmove("source", "destination", ListDirection.RIGHT, ListDirection.LEFT, 2);
+        String payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(value, payload);
+    }
+
     @SneakyThrows
     @Test
     public void sadd_returns_success() {
@@ -1636,4 +2087,29 @@ public class RedisClientTest {
         assertEquals(testResponse, response);
         assertEquals(value, payload);
     }
+
+    @SneakyThrows
+    @Test
+    public void bzpopmin_returns_success() {
+        // setup
+        String[] keys = new String[] {"key1", "key2"};
+        double timeout = 0.5;
+        String[] args = new String[] {"key1", "key2", "0.5"};
+        Object[] value = new Object[] {"key1", "member", 1.0};
+
+        CompletableFuture<Object[]> testResponse = mock(CompletableFuture.class);
+        when(testResponse.get()).thenReturn(value);
+
+        // match on protobuf request
+        when(commandManager.<Object[]>submitBlockingCommand(eq(BZPopMin), eq(args), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<Object[]> response = service.bzpopmin(keys, timeout);
+        Object[] payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(value, payload);
+    }
 }
@@ -24,6 +24,7 @@ import static redis_request.RedisRequestOuterClass.RequestType.Ping;
 import glide.api.models.ClusterValue;
 import glide.api.models.commands.InfoOptions;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.connectors.handlers.CommandRequest;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
 import glide.managers.RedisExceptionCheckedFunction;
@@ -145,6 +146,12 @@ public class RedisClusterClientTest {
                 RedisRequest.Builder command, RedisExceptionCheckedFunction<Response, T> responseHandler) {
             return CompletableFuture.supplyAsync(() -> responseHandler.apply(response));
         }
+
+        @Override
+        public <T> CompletableFuture<T> submitCommandToChannel(
+                CommandRequest command, RedisExceptionCheckedFunction<Response, T> responseHandler) {
+            return CompletableFuture.supplyAsync(() -> responseHandler.apply(response));
+        }
     }
 
     @SneakyThrows
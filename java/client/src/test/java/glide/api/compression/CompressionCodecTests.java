@@ -0,0 +1,179 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.compression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.configuration.CompressionConfiguration;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CompressionCodecTests {
+
+    private static final String JSON =
+            "{\"id\":1,\"name\":\"ключ 😀\",\"tags\":[\"a\",\"b\"],\"payload\":\""
+                    + "abcdefgh".repeat(1000)
+                    + "\"}";
+
+    private final CompressionCodec codec =
+            new CompressionCodec(CompressionConfiguration.builder().threshold(64).build());
+
+    @Test
+    public void thread_buffers_are_not_retained_over_the_maximum_size() {
+        var buffers = new CompressionCodec.Buffers();
+
+        ByteBuffer large = buffers.bytes(1 << 20);
+        byte[] largeText = buffers.text(1 << 20);
+
+        assertTrue(large.capacity() >= 1 << 20);
+        assertTrue(largeText.length >= 1 << 20);
+        assertTrue(buffers.bytes(16).capacity() <= CompressionCodec.MAX_RETAINED_BUFFER_SIZE);
+        assertTrue(buffers.text(16).length <= CompressionCodec.MAX_RETAINED_BUFFER_SIZE);
+        assertSame(buffers.bytes(16), buffers.bytes(1024));
+    }
+
+    @Test
+    public void values_larger_than_thread_buffers_round_trip() {
+        String value = JSON.repeat(200);
+
+        String encoded = codec.encode(value);
+
+        assertEquals(DeflateCompressor.ID, encoded.charAt(1));
+        assertEquals(value, codec.decode(encoded));
+        assertEquals(JSON, codec.decode(codec.encode(JSON)));
+    }
+
+    @Test
+    public void large_values_are_compressed_with_a_header() {
+        String encoded = codec.encode(JSON);
+
+        assertEquals('\0', encoded.charAt(0));
+        assertEquals(DeflateCompressor.ID, encoded.charAt(1));
+        assertTrue(encoded.length() < JSON.length() / 10);
+        assertEquals(JSON, codec.decode(encoded));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 65, 66, 100, 1000, 100_000})
+    public void values_of_any_length_round_trip(int length) {
+        var random = new Random(length);
+        var value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append(i % 7 == 0 ? (char) ('a' + random.nextInt(26)) : 'x');
+        }
+
+        assertEquals(value.toString(), codec.decode(codec.encode(value.toString())));
+    }
+
+    @Test
+    public void small_and_incompressible_values_are_stored_as_is() {
+        String small = "short value";
+        String incompressible = "Zq9!x@Lr#2mW$eT%7yB^uN&4iK*0oP(1";
+        CompressionCodec lowThreshold =
+                new CompressionCodec(CompressionConfiguration.builder().threshold(1).build());
+
+        assertSame(small, codec.encode(small));
+        assertSame(incompressible, lowThreshold.encode(incompressible));
+        assertSame(small, codec.decode(small));
+    }
+
+    @Test
+    public void values_starting_with_marker_are_escaped() {
+        String value = "\0d not compressed";
+
+        String encoded = codec.encode(value);
+
+        assertEquals("\0" + "0" + value, encoded);
+        assertEquals(value, codec.decode(encoded));
+    }
+
+    @Test
+    public void unknown_or_invalid_headers_are_read_as_is() {
+        assertEquals("\0z", codec.decode("\0z"));
+        assertEquals("\0zAAAA", codec.decode("\0zAAAA"));
+        assertEquals("\0d not base64", codec.decode("\0d not base64"));
+        assertEquals("\0", codec.decode("\0"));
+        assertNull(codec.decode((String) null));
+    }
+
+    @Test
+    public void corrupt_values_fail() {
+        assertThrows(IllegalArgumentException.class, () -> codec.decode("\0dAAAA"));
+    }
+
+    @Test
+    public void values_of_previous_compressors_are_decompressed() {
+        ValueCompressor fast = new RenamedCompressor('f');
+        CompressionCodec previous =
+                new CompressionCodec(
+                        CompressionConfiguration.builder().threshold(64).compressor(fast).build());
+        CompressionCodec current =
+                new CompressionCodec(
+                        CompressionConfiguration.builder().threshold(64).decompressor(fast).build());
+        String stored = previous.encode(JSON);
+
+        assertEquals('f', stored.charAt(1));
+        assertEquals(JSON, current.decode(stored));
+        assertEquals(DeflateCompressor.ID, current.encode(JSON).charAt(1));
+    }
+
+    @Test
+    public void compressors_with_invalid_or_duplicate_ids_are_rejected() {
+        var invalid = CompressionConfiguration.builder().compressor(new RenamedCompressor('0')).build();
+        var duplicate =
+                CompressionConfiguration.builder().decompressor(new DeflateCompressor(1)).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new CompressionCodec(invalid));
+        assertThrows(IllegalArgumentException.class, () -> new CompressionCodec(duplicate));
+    }
+
+    @Test
+    public void arrays_and_maps_are_decoded_in_place() {
+        String[] pairs = {"key1", JSON, "key2", "value"};
+
+        codec.encode(pairs, 1, 2);
+        Map<String, String> map = new HashMap<>(Map.of(pairs[0], pairs[1], pairs[2], pairs[3]));
+
+        assertEquals("key1", pairs[0]);
+        assertEquals('\0', pairs[1].charAt(0));
+        assertEquals(Map.of("key1", JSON, "key2", "value"), codec.decode(map));
+        assertArrayEquals(new String[] {JSON, null}, codec.decode(new String[] {pairs[1], null}));
+    }
+
+    /** DEFLATE at the fastest level, under another identifier. */
+    private static class RenamedCompressor extends DeflateCompressor {
+        private final char id;
+
+        RenamedCompressor(char id) {
+            super(1);
+            this.id = id;
+        }
+
+        @Override
+        public char getId() {
+            return id;
+        }
+    }
+
+    @Test
+    public void stored_bytes_are_decoded_like_stored_text() {
+        var compressed = ByteBuffer.wrap(codec.encode(JSON).getBytes(StandardCharsets.UTF_8));
+        var escaped = ByteBuffer.wrap(codec.encode("\0value").getBytes(StandardCharsets.UTF_8));
+        var plain = ByteBuffer.wrap("plain value".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(JSON, StandardCharsets.UTF_8.decode(codec.decode(compressed)).toString());
+        assertEquals("\0value", StandardCharsets.UTF_8.decode(codec.decode(escaped)).toString());
+        assertSame(plain, codec.decode(plain));
+        assertEquals(0, compressed.position());
+    }
+}
@@ -0,0 +1,77 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static redis_request.RedisRequestOuterClass.RequestType.GetString;
+import static redis_request.RedisRequestOuterClass.RequestType.SetString;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.RequestErrorType;
+
+public class ClientStatisticsTest {
+
+    @Test
+    public void histogram_buckets_are_contiguous() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertTrue(micros <= LatencyHistogram.bucketUpperBound(index));
+            assertTrue(index == 0 || micros > LatencyHistogram.bucketUpperBound(index - 1));
+        }
+    }
+
+    @Test
+    public void histogram_reports_percentiles_within_bucket_precision() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5, histogram.getMeanMicros());
+        long p50 = histogram.getPercentileMicros(50);
+        long p99 = histogram.getPercentileMicros(99);
+        assertTrue(p50 >= 500 && p50 <= 500 * 1.125, "p50 = " + p50);
+        assertTrue(p99 >= 990 && p99 <= 990 * 1.125, "p99 = " + p99);
+        assertEquals(0, new LatencyHistogram().getPercentileMicros(99));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void statistics_record_requests_per_type() {
+        var statistics = new ClientStatistics();
+
+        statistics.requestStarted();
+        statistics.requestStarted();
+        statistics.requestStarted();
+        statistics.requestCompleted(GetString, TimeUnit.MILLISECONDS.toNanos(1), true);
+        statistics.requestCompleted(null, TimeUnit.MILLISECONDS.toNanos(2), false);
+
+        assertEquals(1, statistics.getInFlight());
+        assertEquals(2, statistics.getCompletedCount());
+        assertEquals(1, statistics.getFailedCount());
+        assertEquals(1, statistics.getLatencyHistogram(GetString).getCount());
+        assertEquals(0, statistics.getLatencyHistogram(SetString).getCount());
+        assertEquals(1, statistics.getTransactionLatencyHistogram().getCount());
+    }
+
+    @Test
+    public void statistics_record_traffic_errors_and_events() {
+        var statistics = new ClientStatistics();
+
+        statistics.bytesWritten(10);
+        statistics.bytesWritten(5);
+        statistics.bytesRead(7);
+        statistics.requestError(RequestErrorType.Timeout);
+        statistics.connectionEvent(ConnectionEvent.CLOSED);
+
+        assertEquals(15, statistics.getBytesWritten());
+        assertEquals(7, statistics.getBytesRead());
+        assertEquals(1, statistics.getErrorCount(RequestErrorType.Timeout));
+        assertEquals(0, statistics.getErrorCount(RequestErrorType.Disconnect));
+        assertEquals(1, statistics.getConnectionEventCount(ConnectionEvent.CLOSED));
+    }
+}
@@ -0,0 +1,64 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static redis_request.RedisRequestOuterClass.RequestType.GetString;
+
+import glide.api.metrics.RequestTrace.Stage;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RequestTracerTest {
+
+    @Test
+    public void samples_a_fraction_of_requests() {
+        var tracer = new RequestTracer(10);
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (tracer.sample(GetString) != null) {
+                sampled++;
+            }
+        }
+        assertTrue(sampled > 500 && sampled < 1500, "sampled " + sampled);
+        assertNotNull(new RequestTracer(1).sample(GetString));
+        assertThrows(IllegalArgumentException.class, () -> new RequestTracer(0));
+    }
+
+    @Test
+    public void stage_durations_skip_missing_stages() {
+        var trace = new RequestTrace(GetString);
+        trace.mark(Stage.WRITTEN);
+        trace.mark(Stage.READ);
+
+        assertFalse(trace.hasStage(Stage.FLUSHED));
+        assertEquals(0, trace.getStageDurationNanos(Stage.FLUSHED));
+        assertEquals(
+                trace.getTimestampNanos(Stage.READ) - trace.getTimestampNanos(Stage.WRITTEN),
+                trace.getStageDurationNanos(Stage.READ));
+        assertEquals(
+                trace.getTimestampNanos(Stage.READ) - trace.getTimestampNanos(Stage.SUBMITTED),
+                trace.getTotalNanos());
+    }
+
+    @Test
+    public void record_aggregates_stages_and_notifies_listener() {
+        List<RequestTrace> traces = new ArrayList<>();
+        var tracer = new RequestTracer(1, traces::add);
+        var trace = tracer.sample(null);
+        trace.mark(Stage.WRITTEN);
+        trace.mark(Stage.COMPLETED);
+
+        tracer.record(trace);
+
+        assertEquals(List.of(trace), traces);
+        assertEquals(1, tracer.getStageHistogram(Stage.WRITTEN).getCount());
+        assertEquals(1, tracer.getStageHistogram(Stage.COMPLETED).getCount());
+        assertEquals(0, tracer.getStageHistogram(Stage.READ).getCount());
+        assertTrue(trace.toString().startsWith("Transaction written=+"));
+    }
+}
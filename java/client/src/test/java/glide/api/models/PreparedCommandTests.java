@@ -0,0 +1,76 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleRoute.ALL_PRIMARIES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static redis_request.RedisRequestOuterClass.RequestType.CustomCommand;
+import static redis_request.RedisRequestOuterClass.RequestType.HashGet;
+import static redis_request.RedisRequestOuterClass.RequestType.SetString;
+
+import glide.api.models.commands.SetOptions;
+import glide.connectors.handlers.CommandRequest;
+import org.junit.jupiter.api.Test;
+import redis_request.RedisRequestOuterClass.SimpleRoutes;
+
+public class PreparedCommandTests {
+
+    @Test
+    public void prepared_set_binds_key_and_value_before_options() {
+        var command =
+                PreparedCommand.set(
+                        SetOptions.builder()
+                                .conditionalSet(SetOptions.ConditionalSet.ONLY_IF_EXISTS)
+                                .returnOldValue(true)
+                                .build());
+
+        var request = new CommandRequest(command.getTemplate(), new String[] {"key", "value"});
+
+        assertEquals(SetString, request.getRequestType());
+        assertArrayEquals(new String[] {"key", "value", "XX", "GET"}, request.getArguments());
+        assertEquals(2, command.getParameterCount());
+        assertEquals(String.class, command.getResponseClass());
+        assertNull(request.getRoute());
+    }
+
+    @Test
+    public void prepared_hget_binds_key() {
+        var command = PreparedCommand.hget("field");
+
+        var request = new CommandRequest(command.getTemplate(), new String[] {"key"});
+
+        assertEquals(HashGet, request.getRequestType());
+        assertArrayEquals(new String[] {"key", "field"}, request.getArguments());
+    }
+
+    @Test
+    public void prepared_custom_command_with_route() {
+        var command =
+                PreparedCommand.customCommand()
+                        .argument("HINCRBY")
+                        .parameter()
+                        .argument("counter")
+                        .parameter()
+                        .route(ALL_PRIMARIES)
+                        .build();
+
+        var request = new CommandRequest(command.getTemplate(), new String[] {"key", "5"});
+
+        assertEquals(CustomCommand, request.getRequestType());
+        assertArrayEquals(new String[] {"HINCRBY", "key", "counter", "5"}, request.getArguments());
+        assertEquals(SimpleRoutes.AllPrimaries, request.getRoute().getSimpleRoutes());
+    }
+
+    @Test
+    public void prepared_command_rejects_wrong_number_of_parameters() {
+        var command = PreparedCommand.get();
+
+        var exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new CommandRequest(command.getTemplate(), new String[] {"key1", "key2"}));
+        assertEquals("Expected 1 parameters, got 2", exception.getMessage());
+    }
+}
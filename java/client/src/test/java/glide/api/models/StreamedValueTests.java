@@ -0,0 +1,96 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StreamedValueTests {
+
+    private static final String VALUE = "ключ-значение 😀 " + "x".repeat(100_000);
+
+    private static final byte[] BYTES = VALUE.getBytes(StandardCharsets.UTF_8);
+
+    @SneakyThrows
+    private static String read(StreamedValue value) {
+        var destination = ByteBuffer.allocate(value.getLength());
+        value.read(destination);
+        assertEquals(0, destination.remaining());
+        return new String(destination.array(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @SneakyThrows
+    public void value_is_read_from_input_stream() {
+        var stream = new ByteArrayInputStream(BYTES);
+
+        assertEquals(VALUE, read(StreamedValue.of(stream, BYTES.length)));
+        assertEquals(0, stream.available());
+    }
+
+    @Test
+    @SneakyThrows
+    public void value_is_read_from_channel() {
+        var channel = Channels.newChannel(new ByteArrayInputStream(BYTES));
+
+        assertEquals(VALUE, read(StreamedValue.of(channel, BYTES.length)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void value_is_read_from_file_region(@TempDir Path directory) {
+        Path path = directory.resolve("value");
+        Files.write(path, ("prefix" + VALUE + "suffix").getBytes(StandardCharsets.UTF_8));
+
+        try (var file = FileChannel.open(path)) {
+            assertEquals(VALUE, read(StreamedValue.of(file, "prefix".length(), BYTES.length)));
+            assertEquals(0, file.position());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void value_is_copied_from_buffer_without_consuming_it() {
+        var buffer = ByteBuffer.allocateDirect(BYTES.length).put(BYTES).flip();
+        var streamedValue = StreamedValue.of(buffer);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(VALUE, read(streamedValue));
+        }
+        assertEquals(BYTES.length, buffer.remaining());
+    }
+
+    @Test
+    public void short_stream_fails() {
+        var stream = new ByteArrayInputStream(BYTES);
+
+        var exception =
+                assertThrows(
+                        EOFException.class,
+                        () ->
+                                StreamedValue.of(stream, BYTES.length + 1)
+                                        .read(ByteBuffer.allocate(BYTES.length + 1)));
+        assertEquals(
+                "Streamed value ended after " + BYTES.length + " of " + (BYTES.length + 1) + " bytes",
+                exception.getMessage());
+    }
+
+    @Test
+    public void destination_of_another_length_fails() {
+        var value = StreamedValue.of(ByteBuffer.wrap(BYTES));
+
+        assertThrows(
+                IllegalArgumentException.class, () -> value.read(ByteBuffer.allocate(BYTES.length + 1)));
+    }
+}
@@ -3,12 +3,15 @@ package glide.api.models;
 
 import static glide.api.models.commands.SetOptions.RETURN_OLD_VALUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static redis_request.RedisRequestOuterClass.RequestType.ClientGetName;
 import static redis_request.RedisRequestOuterClass.RequestType.ClientId;
 import static redis_request.RedisRequestOuterClass.RequestType.ConfigGet;
 import static redis_request.RedisRequestOuterClass.RequestType.ConfigResetStat;
 import static redis_request.RedisRequestOuterClass.RequestType.ConfigRewrite;
 import static redis_request.RedisRequestOuterClass.RequestType.ConfigSet;
+import static redis_request.RedisRequestOuterClass.RequestType.CustomCommand;
 import static redis_request.RedisRequestOuterClass.RequestType.Decr;
 import static redis_request.RedisRequestOuterClass.RequestType.DecrBy;
 import static redis_request.RedisRequestOuterClass.RequestType.Del;
@@ -54,14 +57,17 @@ import static redis_request.RedisRequestOuterClass.RequestType.Zrem;
 
 import glide.api.models.commands.ExpireOptions;
 import glide.api.models.commands.InfoOptions;
+import glide.api.models.commands.ScriptOptions;
 import glide.api.models.commands.SetOptions;
 import glide.api.models.commands.ZaddOptions;
+import glide.connectors.handlers.TransactionRequest;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -372,6 +378,20 @@ public class TransactionTests {
         transaction.zcard("key");
         results.add(Pair.of(Zcard, ArgsArray.newBuilder().addArgs("key").build()));
 
+        Script script = mock(Script.class);
+        when(script.getHash()).thenReturn("hash");
+        transaction.invokeScript(script, ScriptOptions.builder().key("key").arg("arg").build());
+        results.add(
+                Pair.of(
+                        CustomCommand,
+                        ArgsArray.newBuilder()
+                                .addArgs("EVALSHA")
+                                .addArgs("hash")
+                                .addArgs("1")
+                                .addArgs("key")
+                                .addArgs("arg")
+                                .build()));
+
         var protobufTransaction = transaction.getProtobufTransaction().build();
 
         for (int idx = 0; idx < protobufTransaction.getCommandsCount(); idx++) {
@@ -383,4 +403,37 @@ public class TransactionTests {
             assertEquals(results.get(idx).getRight(), protobuf.getArgsArray());
         }
     }
+
+    @Test
+    public void transaction_can_be_cleared_and_reused() {
+        Transaction transaction = new Transaction(1);
+        transaction.set("key", "value").get("key").del(new String[] {"key"});
+        var request =
+                new TransactionRequest(
+                        transaction.getRequestTypes(),
+                        transaction.getCommandArguments(),
+                        transaction.getCommandCount(),
+                        null);
+
+        transaction.clear().get("other");
+
+        assertEquals(3, request.getCommandCount());
+        assertEquals(SetString, request.toProtobuf().getTransaction().getCommands(0).getRequestType());
+        assertEquals(1, transaction.getCommandCount());
+        var protobufTransaction = transaction.getProtobufTransaction().build();
+        assertEquals(1, protobufTransaction.getCommandsCount());
+        assertEquals(GetString, protobufTransaction.getCommands(0).getRequestType());
+        assertEquals("other", protobufTransaction.getCommands(0).getArgsArray().getArgs(0));
+    }
+
+    @Test
+    public void transaction_is_not_affected_by_changes_of_the_arguments() {
+        String[] keys = {"key1", "key2"};
+        Transaction transaction = new Transaction(1).del(keys);
+
+        keys[0] = "other";
+
+        var protobufTransaction = transaction.getProtobufTransaction().build();
+        assertEquals("key1", protobufTransaction.getCommands(0).getArgsArray().getArgs(0));
+    }
 }
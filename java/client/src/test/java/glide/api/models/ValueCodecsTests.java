@@ -0,0 +1,136 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ValueCodecsTests {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 7, -7, 10, -10, 1234567890, Long.MAX_VALUE, Long.MIN_VALUE})
+    public void long_codec_matches_decimal_text(long value) {
+        assertEquals(Long.toString(value), encode(ValueCodecs.LONG, value));
+        assertEquals(value, ValueCodecs.LONG.decode(ascii(Long.toString(value))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"", "-", "+", "12a", "9223372036854775808", "-9223372036854775809", "1.5"})
+    public void long_codec_rejects_invalid_numbers(String text) {
+        assertThrows(NumberFormatException.class, () -> ValueCodecs.LONG.decode(ascii(text)));
+    }
+
+    @Test
+    public void long_codec_accepts_plus_sign() {
+        assertEquals(42L, ValueCodecs.LONG.decode(ascii("+42")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 1.5, -2.25, 1e300, Double.MIN_VALUE})
+    public void double_codec_round_trips(double value) {
+        assertEquals(value, ValueCodecs.DOUBLE.decode(ascii(encode(ValueCodecs.DOUBLE, value))));
+    }
+
+    @Test
+    public void double_codec_stores_infinities_like_redis() {
+        assertEquals("inf", encode(ValueCodecs.DOUBLE, Double.POSITIVE_INFINITY));
+        assertEquals("-inf", encode(ValueCodecs.DOUBLE, Double.NEGATIVE_INFINITY));
+        assertEquals(Double.POSITIVE_INFINITY, ValueCodecs.DOUBLE.decode(ascii("inf")));
+        assertEquals(Double.NEGATIVE_INFINITY, ValueCodecs.DOUBLE.decode(ascii("-inf")));
+        assertThrows(
+                IllegalArgumentException.class, () -> ValueCodecs.DOUBLE.encodedLength(Double.NaN));
+        assertThrows(NumberFormatException.class, () -> ValueCodecs.DOUBLE.decode(ascii("abc")));
+    }
+
+    @Test
+    public void utf8_codec_round_trips() {
+        String value = "ключ-значение 😀";
+
+        assertEquals(value, encode(ValueCodecs.UTF8, value));
+        assertEquals(value, ValueCodecs.UTF8.decode(utf8(value)));
+    }
+
+    @Test
+    public void utf8_codec_matches_string_encoding() {
+        String value = "a\u00e9\u4e2d\ud83d\ude00 \ud800 x \udc00";
+
+        assertArrayEquals(value.getBytes(StandardCharsets.UTF_8), encodeBytes(ValueCodecs.UTF8, value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "C0AF",
+                "E08080",
+                "EDA080",
+                "F4908080",
+                "F8888080",
+                "C3",
+                "E282",
+                "80",
+                "C328",
+                "FF"
+            })
+    public void bytes_codec_rejects_invalid_utf8(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> ValueCodecs.BYTES.encodedLength(bytes));
+    }
+
+    @Test
+    public void bytes_codec_accepts_utf8_of_all_lengths() {
+        byte[] bytes =
+                "a\u00e9\u4e2d\ud7ff\uffff\ud83d\ude00\udbff\udfff".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(bytes.length, ValueCodecs.BYTES.encodedLength(bytes));
+    }
+
+    @Test
+    public void bytes_codec_reads_any_bytes_and_writes_only_utf8() {
+        byte[] binary = {0, (byte) 0xFF, (byte) 0xC3};
+
+        assertArrayEquals(binary, ValueCodecs.BYTES.decode(ByteBuffer.wrap(binary).asReadOnlyBuffer()));
+        assertEquals("abc", encode(ValueCodecs.BYTES, "abc".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class, () -> ValueCodecs.BYTES.encodedLength(binary));
+    }
+
+    /**
+     * Encodes a value into a direct buffer, checking that exactly the announced length is written.
+     */
+    private static <T> String encode(ValueCodec<T> codec, T value) {
+        int length = codec.encodedLength(value);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length + 2).position(1).limit(length + 1);
+        codec.encode(value, buffer.slice());
+        codec.encode(value, buffer);
+        assertEquals(0, buffer.remaining());
+        return StandardCharsets.UTF_8.decode(buffer.flip().position(1)).toString();
+    }
+
+    private static <T> byte[] encodeBytes(ValueCodec<T> codec, T value) {
+        byte[] bytes = new byte[codec.encodedLength(value)];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        codec.encode(value, buffer);
+        assertEquals(0, buffer.remaining());
+        return bytes;
+    }
+
+    private static ByteBuffer ascii(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer utf8(String text) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(text.length() * 4);
+        buffer.put(text.getBytes(StandardCharsets.UTF_8)).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+}
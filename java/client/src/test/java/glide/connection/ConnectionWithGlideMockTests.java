@@ -181,6 +181,24 @@ public class ConnectionWithGlideMockTests extends RustCoreLibMockTestBase {
         }
     }
 
+    @Test
+    @SneakyThrows
+    public void connection_error_to_missing_socket_completes_connection_promise() {
+        // the channel connects in the background, so the constructor does not throw
+        var handler =
+                new ChannelHandler(
+                        new CallbackDispatcher(),
+                        socketPath + ".missing",
+                        Platform.getThreadPoolResourceSupplier().get());
+        try {
+            assertThrows(
+                    ExecutionException.class,
+                    () -> handler.connect(createConnectionRequest()).get(1, SECONDS));
+        } finally {
+            handler.close();
+        }
+    }
+
     private static class TestClient extends RedisClient {
 
         public TestClient(ChannelHandler channelHandler) {
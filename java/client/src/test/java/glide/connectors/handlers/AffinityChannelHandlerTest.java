@@ -0,0 +1,131 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static redis_request.RedisRequestOuterClass.RequestType.GetString;
+
+import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import glide.api.metrics.ClientMetrics;
+import glide.connectors.resources.EpollResource;
+import glide.connectors.resources.KQueuePoolResource;
+import glide.connectors.resources.Platform;
+import glide.connectors.resources.ThreadPoolResource;
+import glide.utils.RustCoreLibMockTestBase;
+import glide.utils.RustCoreMock;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import response.ResponseOuterClass.Response;
+
+public class AffinityChannelHandlerTest extends RustCoreLibMockTestBase {
+
+    private static final int EVENT_LOOPS = 2;
+
+    private static final AtomicInteger connections = new AtomicInteger();
+
+    private ThreadPoolResource resource;
+
+    private AffinityChannelHandler channelHandler;
+
+    @BeforeAll
+    public static void init() {
+        startRustCoreLibMock(
+                new RustCoreMock.GlideMockProtobuf() {
+                    @Override
+                    public Response connection(ConnectionRequest request) {
+                        connections.incrementAndGet();
+                        return Response.newBuilder().build();
+                    }
+
+                    @Override
+                    public Response.Builder redisRequest(RedisRequest request) {
+                        return OK();
+                    }
+                });
+    }
+
+    @BeforeEach
+    @SneakyThrows
+    public void createChannels() {
+        resource =
+                Platform.getCapabilities().isEPollAvailable()
+                        ? new EpollResource(new EpollEventLoopGroup(EVENT_LOOPS))
+                        : new KQueuePoolResource(new KQueueEventLoopGroup(EVENT_LOOPS));
+        channelHandler =
+                new AffinityChannelHandler(
+                        CallbackDispatcher.NO_DEADLINE, ClientMetrics.NOOP, socketPath, resource, null);
+    }
+
+    @AfterEach
+    @SneakyThrows
+    public void closeChannels() {
+        channelHandler.close().sync();
+        assertTrue(channelHandler.isClosed());
+        resource.getEventLoopGroup().shutdownGracefully().sync();
+    }
+
+    @Test
+    @SneakyThrows
+    public void connects_one_channel_per_event_loop() {
+        connections.set(0);
+        channelHandler.connect(ConnectionRequest.newBuilder().build()).get();
+        assertEquals(EVENT_LOOPS, connections.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void request_from_event_loop_completes_on_same_thread() {
+        for (EventExecutor eventLoop : resource.getEventLoopGroup()) {
+            Thread eventLoopThread = eventLoop.submit(Thread::currentThread).get();
+            // the response is read by the same event loop, so it completes after the submitting task
+            CompletableFuture<Thread> completedOn =
+                    eventLoop
+                            .submit(
+                                    () ->
+                                            channelHandler
+                                                    .write(RedisRequest.newBuilder(), true)
+                                                    .thenApply(response -> Thread.currentThread()))
+                            .get();
+            assertEquals(eventLoopThread, completedOn.get());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void requests_from_other_threads_are_spread_over_channels() {
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var responses = new CountDownLatch(EVENT_LOOPS);
+        for (int i = 0; i < EVENT_LOOPS; i++) {
+            channelHandler.writeWithCallback(
+                    new CommandRequest(GetString, new String[] {"key"}),
+                    true,
+                    CallbackDispatcher.NO_DEADLINE,
+                    new ResponseCallback() {
+                        @Override
+                        public void onResponse(Response response) {
+                            threads.add(Thread.currentThread());
+                            responses.countDown();
+                        }
+
+                        @Override
+                        public void onFailure(Throwable error) {}
+                    });
+        }
+        assertTrue(responses.await(10, TimeUnit.SECONDS));
+        assertEquals(EVENT_LOOPS, threads.size());
+        assertFalse(threads.contains(Thread.currentThread()));
+    }
+}
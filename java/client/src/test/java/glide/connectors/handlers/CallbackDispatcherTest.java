@@ -0,0 +1,202 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.metrics.ClientStatistics;
+import glide.api.metrics.ConnectionEvent;
+import glide.api.metrics.RequestTrace;
+import glide.api.metrics.RequestTrace.Stage;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.ConstantResponse;
+import response.ResponseOuterClass.CoreTimings;
+import response.ResponseOuterClass.RequestError;
+import response.ResponseOuterClass.RequestErrorType;
+import response.ResponseOuterClass.Response;
+
+public class CallbackDispatcherTest {
+
+    @Test
+    @SneakyThrows
+    public void request_completes_with_TimeoutException_after_deadline() {
+        var dispatcher = new CallbackDispatcher();
+        var request = dispatcher.registerRequest(20);
+
+        var exception = assertThrows(ExecutionException.class, () -> request.getValue().get());
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(dispatcher.responses.isEmpty());
+        // the callback id is not reused until the core answers it
+        assertTrue(dispatcher.freeRequestIds.isEmpty());
+        assertTrue(dispatcher.expiredRequestIds.contains(request.getKey()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void late_response_reclaims_callback_id() {
+        var dispatcher = new CallbackDispatcher(20);
+        var request = dispatcher.registerRequest();
+        assertThrows(ExecutionException.class, () -> request.getValue().get());
+
+        dispatcher.completeRequest(
+                Response.newBuilder()
+                        .setCallbackIdx(request.getKey())
+                        .setConstantResponse(ConstantResponse.OK)
+                        .build());
+
+        assertTrue(dispatcher.expiredRequestIds.isEmpty());
+        assertEquals(request.getKey(), dispatcher.registerRequest().getKey());
+    }
+
+    @Test
+    @SneakyThrows
+    public void request_completes_before_deadline() {
+        var dispatcher = new CallbackDispatcher(60_000);
+        var request = dispatcher.registerRequest();
+        var response =
+                Response.newBuilder()
+                        .setCallbackIdx(request.getKey())
+                        .setConstantResponse(ConstantResponse.OK)
+                        .build();
+
+        dispatcher.completeRequest(response);
+
+        assertSame(response, request.getValue().get());
+        assertTrue(dispatcher.expiredRequestIds.isEmpty());
+        assertEquals(1, dispatcher.freeRequestIds.size());
+    }
+
+    @Test
+    public void request_errors_are_recorded() {
+        var statistics = new ClientStatistics();
+        var dispatcher = new CallbackDispatcher(CallbackDispatcher.NO_DEADLINE, statistics);
+        var request = dispatcher.registerRequest();
+
+        dispatcher.completeRequest(
+                Response.newBuilder()
+                        .setCallbackIdx(request.getKey())
+                        .setRequestError(
+                                RequestError.newBuilder().setType(RequestErrorType.Disconnect).setMessage("TEST"))
+                        .build());
+
+        assertTrue(request.getValue().isCompletedExceptionally());
+        assertEquals(1, statistics.getErrorCount(RequestErrorType.Disconnect));
+        assertEquals(1, statistics.getConnectionEventCount(ConnectionEvent.RECONNECTING));
+    }
+
+    @Test
+    public void served_by_is_added_to_trace() {
+        var dispatcher = new CallbackDispatcher();
+        var request = dispatcher.registerRequest();
+        var trace = new RequestTrace(null);
+        dispatcher.registerTrace(request.getKey(), trace);
+
+        dispatcher.completeRequest(
+                Response.newBuilder()
+                        .setCallbackIdx(request.getKey())
+                        .setConstantResponse(ConstantResponse.OK)
+                        .setServedBy("replica:6380")
+                        .build());
+
+        assertEquals("replica:6380", trace.getServedBy());
+        assertTrue(trace.toString().contains("served_by=replica:6380"));
+    }
+
+    @Test
+    public void core_timings_are_added_to_trace() {
+        var dispatcher = new CallbackDispatcher();
+        var request = dispatcher.registerRequest();
+        var trace = new RequestTrace(null);
+        dispatcher.registerTrace(request.getKey(), trace);
+        long now = System.currentTimeMillis() * 1000;
+
+        dispatcher.completeRequest(
+                Response.newBuilder()
+                        .setCallbackIdx(request.getKey())
+                        .setConstantResponse(ConstantResponse.OK)
+                        .setCoreTimings(
+                                CoreTimings.newBuilder().setReceivedAtMicros(now).setSentAtMicros(now + 250))
+                        .build());
+
+        assertTrue(dispatcher.traces.isEmpty());
+        assertTrue(trace.hasStage(Stage.READ));
+        assertEquals(250_000, trace.getStageDurationNanos(Stage.CORE_SENT));
+        assertFalse(trace.hasStage(Stage.DECODED));
+    }
+
+    @Test
+    public void callback_is_called_once_with_response() {
+        var dispatcher = new CallbackDispatcher();
+        var callback = new RecordingCallback();
+        int callbackId = dispatcher.registerRequest(callback, 60_000);
+        var response =
+                Response.newBuilder()
+                        .setCallbackIdx(callbackId)
+                        .setConstantResponse(ConstantResponse.OK)
+                        .build();
+
+        dispatcher.completeRequest(response);
+        dispatcher.distributeClosingException("TEST");
+
+        assertSame(response, callback.response);
+        assertEquals(1, callback.calls);
+    }
+
+    @Test
+    @SneakyThrows
+    public void callback_fails_with_TimeoutException_after_deadline() {
+        var dispatcher = new CallbackDispatcher();
+        var callback = new RecordingCallback();
+        int callbackId = dispatcher.registerRequest(callback, 20);
+
+        callback.completed.await();
+
+        assertInstanceOf(TimeoutException.class, callback.error);
+        assertTrue(dispatcher.responses.isEmpty());
+        assertTrue(dispatcher.expiredRequestIds.contains(callbackId));
+    }
+
+    @Test
+    public void failed_write_fails_callback_and_frees_callback_id() {
+        var dispatcher = new CallbackDispatcher();
+        var callback = new RecordingCallback();
+        int callbackId = dispatcher.registerRequest(callback, CallbackDispatcher.NO_DEADLINE);
+        var error = new RuntimeException("TEST");
+
+        dispatcher.failRequest(callbackId, error);
+        dispatcher.shutdownGracefully();
+
+        assertSame(error, callback.error);
+        assertEquals(1, callback.calls);
+        assertEquals(callbackId, dispatcher.registerRequest().getKey());
+    }
+
+    private static class RecordingCallback implements ResponseCallback {
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Response response;
+        private volatile Throwable error;
+        private volatile int calls;
+
+        @Override
+        public void onResponse(Response response) {
+            this.response = response;
+            calls++;
+            completed.countDown();
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            this.error = error;
+            calls++;
+            completed.countDown();
+        }
+    }
+}
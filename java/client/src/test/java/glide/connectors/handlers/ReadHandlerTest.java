@@ -0,0 +1,98 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.RequestException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.ExecutionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import response.ResponseOuterClass.ConstantResponse;
+import response.ResponseOuterClass.RequestError;
+import response.ResponseOuterClass.Response;
+
+public class ReadHandlerTest {
+
+    private CallbackDispatcher dispatcher;
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        dispatcher = new CallbackDispatcher();
+        channel = new EmbeddedChannel(new ReadHandler(dispatcher));
+    }
+
+    @Test
+    @SneakyThrows
+    public void pointer_response_is_decoded_from_frame() {
+        var request = dispatcher.registerRequest();
+        ByteBuf frame =
+                frame(
+                        Response.newBuilder()
+                                .setCallbackIdx(request.getKey())
+                                .setRespPointer(Long.MAX_VALUE - 1)
+                                .build());
+
+        channel.writeInbound(frame);
+
+        assertEquals(Long.MAX_VALUE - 1, request.getValue().get().getRespPointer());
+        assertEquals(0, frame.refCnt());
+    }
+
+    @Test
+    @SneakyThrows
+    public void ok_and_empty_responses_are_shared() {
+        var first = dispatcher.registerRequest();
+        var second = dispatcher.registerRequest();
+        var third = dispatcher.registerRequest();
+        var ok = Response.newBuilder().setConstantResponse(ConstantResponse.OK);
+
+        channel.writeInbound(frame(ok.setCallbackIdx(first.getKey()).build()));
+        channel.writeInbound(frame(ok.setCallbackIdx(second.getKey()).build()));
+        channel.writeInbound(frame(Response.newBuilder().setCallbackIdx(third.getKey()).build()));
+
+        assertTrue(first.getValue().get().hasConstantResponse());
+        assertSame(first.getValue().get(), second.getValue().get());
+        assertSame(Response.getDefaultInstance(), third.getValue().get());
+    }
+
+    @Test
+    public void error_response_is_fully_parsed() {
+        var request = dispatcher.registerRequest();
+
+        channel.writeInbound(
+                frame(
+                        Response.newBuilder()
+                                .setCallbackIdx(request.getKey())
+                                .setRequestError(RequestError.newBuilder().setMessage("TEST"))
+                                .build()));
+
+        var exception = assertThrows(ExecutionException.class, () -> request.getValue().get());
+        assertInstanceOf(RequestException.class, exception.getCause());
+        assertEquals("TEST", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void malformed_frame_closes_pending_requests() {
+        var request = dispatcher.registerRequest();
+
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[] {8, -1}));
+
+        var exception = assertThrows(ExecutionException.class, () -> request.getValue().get());
+        assertInstanceOf(ClosingException.class, exception.getCause());
+    }
+
+    private static ByteBuf frame(Response response) {
+        return Unpooled.wrappedBuffer(response.toByteArray());
+    }
+}
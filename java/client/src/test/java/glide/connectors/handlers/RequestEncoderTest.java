@@ -0,0 +1,198 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static redis_request.RedisRequestOuterClass.RequestType.CustomCommand;
+import static redis_request.RedisRequestOuterClass.RequestType.GetString;
+import static redis_request.RedisRequestOuterClass.RequestType.InvalidRequest;
+
+import com.google.protobuf.MessageLite;
+import glide.api.models.ValueCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import redis_request.RedisRequestOuterClass.Routes;
+import redis_request.RedisRequestOuterClass.SimpleRoutes;
+import redis_request.RedisRequestOuterClass.SlotKeyRoute;
+import redis_request.RedisRequestOuterClass.SlotTypes;
+
+public class RequestEncoderTest {
+
+    private static Stream<Arguments> getCommandRequests() {
+        var longArgument = "x".repeat(300);
+        var slotKeyRoute =
+                Routes.newBuilder()
+                        .setSlotKeyRoute(
+                                SlotKeyRoute.newBuilder().setSlotKey("ключ").setSlotType(SlotTypes.Replica))
+                        .build();
+        return Stream.of(
+                Arguments.of(new CommandRequest(GetString, new String[] {"key"}), 1, false),
+                Arguments.of(new CommandRequest(CustomCommand, new String[0]), 0, false),
+                Arguments.of(new CommandRequest(InvalidRequest, new String[] {"", ""}), 200, true),
+                Arguments.of(
+                        new CommandRequest(
+                                CustomCommand, new String[] {"SET", "ключ", "键😀", longArgument, "bad\uD800x"}),
+                        -1,
+                        false),
+                Arguments.of(
+                        new CommandRequest(
+                                GetString,
+                                new String[] {"key"},
+                                Routes.newBuilder().setSimpleRoutes(SimpleRoutes.AllNodes).build()),
+                        Integer.MAX_VALUE,
+                        true),
+                Arguments.of(
+                        new CommandRequest(GetString, new String[] {"ключ"}, slotKeyRoute), 16384, false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getCommandRequests")
+    public void command_request_encoding_matches_protobuf(
+            CommandRequest request, int callbackIdx, boolean recordTimings) {
+        request.setCallbackIdx(callbackIdx);
+        request.setRecordTimings(recordTimings);
+        RedisRequest message = request.toProtobuf();
+
+        assertEquals(message.getSerializedSize(), request.getSerializedSize());
+        assertArrayEquals(encodeWithProtobufEncoder(message), encode(request));
+    }
+
+    @Test
+    public void template_request_encoding_matches_protobuf() {
+        var template =
+                new CommandTemplate(
+                        CustomCommand,
+                        new String[] {null, "ключ", null, null, "EX", "10"},
+                        Routes.newBuilder().setSimpleRoutes(SimpleRoutes.Random).build());
+        var request = new CommandRequest(template, new String[] {"SET", "键😀", ""});
+        request.setCallbackIdx(7);
+        RedisRequest message = request.toProtobuf();
+
+        assertArrayEquals(
+                new String[] {"SET", "ключ", "键😀", "", "EX", "10"},
+                message.getSingleCommand().getArgsArray().getArgsList().toArray());
+        assertEquals(message.getSerializedSize(), request.getSerializedSize());
+        assertArrayEquals(encodeWithProtobufEncoder(message), encode(request));
+    }
+
+    @Test
+    public void transaction_request_encoding_matches_protobuf() {
+        var request =
+                new TransactionRequest(
+                        new RequestType[] {GetString, CustomCommand, InvalidRequest, GetString},
+                        new String[][] {
+                            {"key"}, {"SET", "ключ", "键😀", "x".repeat(300)}, {}, {"ignored"},
+                        },
+                        3,
+                        Routes.newBuilder().setSimpleRoutes(SimpleRoutes.AllPrimaries).build());
+        request.setCallbackIdx(1000);
+        request.setRecordTimings(true);
+        RedisRequest message = request.toProtobuf();
+
+        assertEquals(3, message.getTransaction().getCommandsCount());
+        assertEquals(message.getSerializedSize(), request.getSerializedSize());
+        assertArrayEquals(encodeWithProtobufEncoder(message), encode(request));
+    }
+
+    @Test
+    public void value_request_encoding_matches_protobuf_and_releases_value() {
+        ByteBuf value = Unpooled.directBuffer().writeBytes("значение 😀".repeat(20).getBytes(UTF_8));
+        var request = new ValueCommandRequest(CustomCommand, new String[] {"SET", "ключ"}, value, null);
+        request.setCallbackIdx(3);
+        RedisRequest message = request.toProtobuf();
+
+        assertEquals(message.getSerializedSize(), request.getSerializedSize());
+        assertArrayEquals(encodeWithProtobufEncoder(message), encode(request));
+        assertEquals(0, value.refCnt());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "значение 😀", "a very long value"})
+    public void codec_request_encoding_matches_protobuf(String value) {
+        var request =
+                new CodecCommandRequest<>(
+                        CustomCommand, new String[] {"SET", "ключ"}, value.repeat(20), ValueCodecs.UTF8, null);
+        request.setCallbackIdx(5);
+        RedisRequest message = request.toProtobuf();
+
+        assertEquals(message.getSerializedSize(), request.getSerializedSize());
+        assertArrayEquals(encodeWithProtobufEncoder(message), encode(request));
+    }
+
+    @Test
+    public void requests_are_not_affected_by_changes_of_the_arguments() {
+        String[] arguments = {"SET", "ключ"};
+        var request = new CommandRequest(CustomCommand, arguments);
+        byte[] expected = encode(new CommandRequest(CustomCommand, new String[] {"SET", "ключ"}));
+
+        arguments[1] = "other";
+
+        assertArrayEquals(expected, encode(request));
+    }
+
+    @Test
+    public void codec_requests_are_not_affected_by_changes_of_the_arguments() {
+        String[] arguments = {"SET", "ключ"};
+        byte[] value = "значение".getBytes(UTF_8);
+        var request =
+                new CodecCommandRequest<>(CustomCommand, arguments, value, ValueCodecs.BYTES, null);
+        byte[] expected =
+                encode(
+                        new CodecCommandRequest<>(
+                                CustomCommand,
+                                new String[] {"SET", "ключ"},
+                                "значение".getBytes(UTF_8),
+                                ValueCodecs.BYTES,
+                                null));
+
+        arguments[1] = "other";
+        value[0] = 'x';
+
+        assertArrayEquals(expected, encode(request));
+    }
+
+    @Test
+    public void protobuf_message_encoding_matches_protobuf_encoder() {
+        var message =
+                new CommandRequest(CustomCommand, new String[] {"PING", "ключ"})
+                        .toProtobuf().toBuilder().setCallbackIdx(42).build();
+
+        assertArrayEquals(encodeWithProtobufEncoder(message), encode(message));
+    }
+
+    private static byte[] encode(Object request) {
+        var channel = new EmbeddedChannel(new RequestEncoder());
+        channel.writeOutbound(request);
+        ByteBuf frame = channel.readOutbound();
+        // the buffer is allocated with the exact frame size
+        assertEquals(frame.capacity(), frame.readableBytes());
+        byte[] bytes = ByteBufUtil.getBytes(frame);
+        frame.release();
+        channel.finishAndReleaseAll();
+        return bytes;
+    }
+
+    private static byte[] encodeWithProtobufEncoder(MessageLite message) {
+        var channel =
+                new EmbeddedChannel(new ProtobufVarint32LengthFieldPrepender(), new ProtobufEncoder());
+        channel.writeOutbound(message);
+        ByteBuf frame = channel.readOutbound();
+        byte[] bytes = ByteBufUtil.getBytes(frame);
+        frame.release();
+        channel.finishAndReleaseAll();
+        return bytes;
+    }
+}
@@ -0,0 +1,26 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import glide.api.metrics.ClientStatistics;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+public class TrafficCountingHandlerTest {
+
+    @Test
+    public void counts_bytes_in_both_directions() {
+        var statistics = new ClientStatistics();
+        var channel = new EmbeddedChannel(new TrafficCountingHandler(statistics));
+
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[12]));
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[5]));
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[3]));
+
+        assertEquals(12, statistics.getBytesRead());
+        assertEquals(8, statistics.getBytesWritten());
+        channel.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,45 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.StreamedValue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class ValueCommandRequestTest {
+
+    private final UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+
+    @Test
+    @SneakyThrows
+    public void readValue_reads_into_direct_buffer() {
+        String text = "ключ-значение 😀 " + "x".repeat(100_000);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuf value =
+                ValueCommandRequest.readValue(
+                        StreamedValue.of(new ByteArrayInputStream(bytes), bytes.length), allocator);
+
+        assertTrue(value.isDirect());
+        assertEquals(text, value.toString(StandardCharsets.UTF_8));
+        value.release();
+    }
+
+    @Test
+    public void readValue_rejects_invalid_utf8() {
+        var value = StreamedValue.of(ByteBuffer.wrap(new byte[] {'a', (byte) 0xC3, 'b'}));
+
+        var exception =
+                assertThrows(
+                        IllegalArgumentException.class, () -> ValueCommandRequest.readValue(value, allocator));
+        assertEquals("Streamed value is not valid UTF-8", exception.getMessage());
+    }
+}
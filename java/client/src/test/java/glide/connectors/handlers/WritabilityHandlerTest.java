@@ -0,0 +1,131 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.metrics.ClientMetrics;
+import glide.api.metrics.ClientStatistics;
+import glide.api.models.configuration.BackpressureConfiguration;
+import glide.api.models.configuration.BackpressureConfiguration.WritePolicy;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+public class WritabilityHandlerTest {
+
+    @Test
+    public void tracks_writability_and_records_unwritable_periods() {
+        var statistics = new ClientStatistics();
+        var handler = new WritabilityHandler(statistics);
+        var channel = newChannel(handler);
+        assertTrue(handler.isWritable());
+        assertTrue(handler.awaitWritable().isDone());
+
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertFalse(handler.isWritable());
+        var writable = handler.awaitWritable();
+        assertFalse(writable.isDone());
+        // the write policy lets requests through
+        assertNull(handler.checkWritable(false));
+
+        channel.flush();
+        assertTrue(handler.isWritable());
+        assertTrue(writable.isDone());
+        assertEquals(1, statistics.getUnwritablePeriods());
+        assertTrue(statistics.getUnwritableNanos() > 0);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void fail_policy_rejects_requests_while_unwritable() {
+        var handler = new WritabilityHandler(WritePolicy.FAIL, 0, ClientMetrics.NOOP);
+        var channel = newChannel(handler);
+        assertNull(handler.checkWritable(false));
+
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertNotNull(handler.checkWritable(false));
+        assertNotNull(handler.checkWritable(true));
+
+        channel.flush();
+        assertNull(handler.checkWritable(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void block_policy_rejects_requests_after_max_block_time_but_not_on_event_loop() {
+        var handler = new WritabilityHandler(WritePolicy.BLOCK, 10, ClientMetrics.NOOP);
+        var channel = newChannel(handler);
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+
+        assertNotNull(handler.checkWritable(false));
+        assertNull(handler.checkWritable(true));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void closing_channel_releases_waiting_producers() {
+        var handler = new WritabilityHandler(ClientMetrics.NOOP);
+        var channel = newChannel(handler);
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        var writable = handler.awaitWritable();
+        assertFalse(writable.isDone());
+
+        channel.close();
+        assertTrue(writable.isDone());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void completing_returned_promise_does_not_change_writability() {
+        var handler = new WritabilityHandler(ClientMetrics.NOOP);
+        var channel = newChannel(handler);
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+
+        handler.awaitWritable().complete(null);
+        assertFalse(handler.isWritable());
+        assertFalse(handler.awaitWritable().isDone());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void writable_state_returns_a_new_promise_per_call() {
+        var handler = new WritabilityHandler(ClientMetrics.NOOP);
+
+        var first = handler.awaitWritable();
+        first.obtrudeException(new IllegalStateException("TEST"));
+
+        assertNotSame(first, handler.awaitWritable());
+        assertNull(handler.awaitWritable().join());
+        assertTrue(handler.isWritable());
+    }
+
+    @Test
+    public void configuration_rejects_invalid_water_marks() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BackpressureConfiguration.builder().lowWaterMark(2048).highWaterMark(1024).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BackpressureConfiguration.builder().lowWaterMark(-1).build());
+        // the defaults are valid, and so are equal water marks
+        var configuration = BackpressureConfiguration.builder().build();
+        assertEquals(1024 * 1024, configuration.getLowWaterMark());
+        assertEquals(4 * 1024 * 1024, configuration.getHighWaterMark());
+        assertEquals(WritePolicy.BLOCK, configuration.getWritePolicy());
+        assertEquals(1000, configuration.getMaxBlockTime());
+        BackpressureConfiguration.builder().lowWaterMark(1024).highWaterMark(1024).build();
+    }
+
+    private static EmbeddedChannel newChannel(WritabilityHandler handler) {
+        var channel = new EmbeddedChannel(handler);
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        return channel;
+    }
+}
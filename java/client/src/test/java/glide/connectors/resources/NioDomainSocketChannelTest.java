@@ -0,0 +1,89 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
+import glide.connectors.handlers.CallbackDispatcher;
+import glide.connectors.handlers.ChannelHandler;
+import glide.utils.RustCoreLibMockTestBase;
+import glide.utils.RustCoreMock;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import redis_request.RedisRequestOuterClass.Command;
+import redis_request.RedisRequestOuterClass.Command.ArgsArray;
+import redis_request.RedisRequestOuterClass.RedisRequest;
+import redis_request.RedisRequestOuterClass.RequestType;
+import response.ResponseOuterClass.ConstantResponse;
+import response.ResponseOuterClass.Response;
+
+public class NioDomainSocketChannelTest extends RustCoreLibMockTestBase {
+
+    private NioResource resource;
+
+    private ChannelHandler channelHandler;
+
+    @BeforeAll
+    public static void init() {
+        startRustCoreLibMock(
+                new RustCoreMock.GlideMockConnectAll() {
+                    @Override
+                    public Response.Builder redisRequest(RedisRequest request) {
+                        return OK();
+                    }
+                });
+    }
+
+    @BeforeEach
+    @SneakyThrows
+    public void createChannel() {
+        assumeTrue(Platform.getCapabilities().isNIOAvailable(), "Requires Java 16 or later");
+        resource = new NioResource();
+        channelHandler = new ChannelHandler(new CallbackDispatcher(), socketPath, resource);
+    }
+
+    @AfterEach
+    @SneakyThrows
+    public void closeChannel() {
+        if (channelHandler != null) {
+            channelHandler.close().sync();
+            resource.getEventLoopGroup().shutdownGracefully().sync();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void connects_over_jdk_unix_domain_socket() {
+        assertTrue(channelHandler.connect(ConnectionRequest.newBuilder().build()).get() != null);
+        assertEquals(NioDomainSocketChannel.class, resource.getDomainSocketChannelClass());
+    }
+
+    @Test
+    @SneakyThrows
+    public void writes_and_reads_many_requests() {
+        var argument = "x".repeat(10_000);
+        var responses = new ArrayList<CompletableFuture<Response>>();
+        for (int i = 0; i < 1000; i++) {
+            var request =
+                    RedisRequest.newBuilder()
+                            .setSingleCommand(
+                                    Command.newBuilder()
+                                            .setRequestType(RequestType.CustomCommand)
+                                            .setArgsArray(ArgsArray.newBuilder().addArgs("SET").addArgs(argument)));
+            // flushed in batches, so several requests are written with one gathering write
+            responses.add(channelHandler.write(request, i % 10 == 9));
+        }
+        channelHandler.write(RedisRequest.newBuilder(), true).get();
+
+        for (var response : responses) {
+            assertEquals(ConstantResponse.OK, response.get().getConstantResponse());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.ffi.resolvers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class NativeLibraryTest {
+
+    @Test
+    public void loader_runs_load_action_once() {
+        var loads = new AtomicInteger();
+        var loader = new NativeLibrary.Loader(loads::incrementAndGet);
+
+        assertFalse(loader.isLoaded());
+        loader.load();
+        loader.load();
+
+        assertTrue(loader.isLoaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void loader_retries_failed_load() {
+        var loads = new AtomicInteger();
+        var loader =
+                new NativeLibrary.Loader(
+                        () -> {
+                            if (loads.incrementAndGet() == 1) {
+                                throw new UnsatisfiedLinkError("no glide_rs");
+                            }
+                        });
+
+        assertThrows(UnsatisfiedLinkError.class, loader::load);
+        assertFalse(loader.isLoaded());
+        loader.load();
+
+        assertTrue(loader.isLoaded());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void loader_runs_load_action_once_for_concurrent_calls() {
+        var loads = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var loader = new NativeLibrary.Loader(loads::incrementAndGet);
+        var calls = new ArrayList<CompletableFuture<Void>>();
+
+        for (int i = 0; i < 8; i++) {
+            calls.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    start.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                loader.load();
+                            }));
+        }
+        start.countDown();
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,223 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.RequestException;
+import glide.api.models.exceptions.TimeoutException;
+import glide.managers.BlockingConnectionPool.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class BlockingConnectionPoolTest {
+
+    private final List<Connection> opened = new ArrayList<>();
+
+    private BlockingConnectionPool createPool(int maxConnections, int maxIdleConnections) {
+        return new BlockingConnectionPool(
+                maxConnections,
+                maxIdleConnections,
+                () -> {
+                    var connection =
+                            new Connection(mock(ConnectionManager.class), mock(CommandManager.class));
+                    opened.add(connection);
+                    return CompletableFuture.completedFuture(connection);
+                });
+    }
+
+    @Test
+    @SneakyThrows
+    public void reuses_released_connection() {
+        var pool = createPool(8, 1);
+
+        var first = pool.submit(CompletableFuture::completedFuture).get();
+        var second = pool.submit(CompletableFuture::completedFuture).get();
+
+        assertEquals(1, opened.size());
+        assertSame(first, second);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void opens_connection_per_concurrent_command() {
+        var pool = createPool(8, 1);
+        var blocked = new CompletableFuture<String>();
+        var otherBlocked = new CompletableFuture<String>();
+
+        var first = pool.submit(commandManager -> blocked);
+        var second = pool.submit(commandManager -> otherBlocked);
+
+        assertEquals(2, opened.size());
+        assertNotSame(opened.get(0), opened.get(1));
+
+        blocked.complete("first");
+        otherBlocked.complete("second");
+        assertEquals("first", first.get());
+        assertEquals("second", second.get());
+
+        // only one connection is kept idle
+        assertEquals(1, pool.getIdleCount());
+        verify(opened.get(0).getConnectionManager(), never()).closeConnection();
+        verify(opened.get(1).getConnectionManager(), times(1)).closeConnection();
+    }
+
+    @Test
+    @SneakyThrows
+    public void keeps_connection_after_error_reply() {
+        var pool = createPool(8, 1);
+
+        var result =
+                pool.submit(
+                        commandManager -> CompletableFuture.failedFuture(new RequestException("WRONGTYPE")));
+
+        var exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(RequestException.class, exception.getCause());
+        assertEquals(1, pool.getIdleCount());
+        verify(opened.get(0).getConnectionManager(), never()).closeConnection();
+    }
+
+    @Test
+    @SneakyThrows
+    public void closes_connection_after_failure() {
+        var pool = createPool(8, 1);
+
+        var result =
+                pool.submit(
+                        commandManager -> CompletableFuture.failedFuture(new TimeoutException("timed out")));
+
+        var exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertEquals(0, pool.getIdleCount());
+        verify(opened.get(0).getConnectionManager(), times(1)).closeConnection();
+    }
+
+    @Test
+    @SneakyThrows
+    public void queues_commands_beyond_max_connections() {
+        var pool = createPool(1, 1);
+        var blocked = new CompletableFuture<String>();
+        var first = pool.submit(commandManager -> blocked);
+        var managers = new ArrayList<CommandManager>();
+
+        var second =
+                pool.submit(
+                        commandManager -> {
+                            managers.add(commandManager);
+                            return CompletableFuture.completedFuture("second");
+                        });
+
+        // the second command waits for the connection of the first one
+        assertEquals(1, opened.size());
+        assertTrue(managers.isEmpty());
+        assertFalse(second.isDone());
+
+        blocked.complete("first");
+        assertEquals("first", first.get());
+        assertEquals("second", second.get());
+        assertEquals(1, opened.size());
+        assertEquals(List.of(opened.get(0).getCommandManager()), managers);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void opens_connection_for_waiting_command_after_failure() {
+        var pool = createPool(1, 1);
+        var blocked = new CompletableFuture<String>();
+        var first = pool.submit(commandManager -> blocked);
+        var second = pool.submit(CompletableFuture::completedFuture);
+
+        blocked.completeExceptionally(new TimeoutException("timed out"));
+
+        assertThrows(ExecutionException.class, first::get);
+        assertSame(opened.get(1).getCommandManager(), second.get());
+        assertEquals(2, opened.size());
+        verify(opened.get(0).getConnectionManager(), times(1)).closeConnection();
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_closes_connections_and_rejects_commands() {
+        var pool = createPool(2, 1);
+        var blocked = new CompletableFuture<String>();
+        var borrowed = pool.submit(commandManager -> blocked);
+        pool.submit(CompletableFuture::completedFuture).get();
+        var otherBlocked = new CompletableFuture<String>();
+        pool.submit(commandManager -> otherBlocked);
+        var waiting = pool.submit(CompletableFuture::completedFuture);
+        assertEquals(2, opened.size());
+        var busy = opened.get(0);
+        var otherBusy = opened.get(1);
+
+        pool.close();
+
+        // the borrowed connections are closed, and their commands aborted
+        verify(busy.getConnectionManager(), times(1)).closeConnection();
+        verify(otherBusy.getConnectionManager(), times(1)).closeConnection();
+        var exception = assertThrows(ExecutionException.class, borrowed::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+        exception = assertThrows(ExecutionException.class, waiting::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+        var rejected = pool.submit(CompletableFuture::completedFuture);
+        exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+
+        // a late response does not touch the closed connection again
+        blocked.complete("done");
+        verify(busy.getConnectionManager(), times(1)).closeConnection();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void closes_connection_opened_for_command_aborted_by_close() {
+        var connecting = new ArrayList<CompletableFuture<Connection>>();
+        var pool =
+                new BlockingConnectionPool(
+                        1,
+                        1,
+                        () -> {
+                            var connection = new CompletableFuture<Connection>();
+                            connecting.add(connection);
+                            return connection;
+                        });
+        var blocked = new CompletableFuture<String>();
+        var first = pool.submit(commandManager -> blocked);
+        connecting.get(0).complete(new Connection(mock(ConnectionManager.class), null));
+        var waiting = pool.submit(CompletableFuture::completedFuture);
+
+        // the failed connection is replaced for the waiting command, which close() then aborts
+        blocked.completeExceptionally(new TimeoutException("timed out"));
+        assertThrows(ExecutionException.class, first::get);
+        assertEquals(2, connecting.size());
+        pool.close();
+        var exception = assertThrows(ExecutionException.class, waiting::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+
+        var late = new Connection(mock(ConnectionManager.class), null);
+        connecting.get(1).complete(late);
+        verify(late.getConnectionManager(), times(1)).closeConnection();
+    }
+
+    @Test
+    public void invalid_limits_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createPool(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> createPool(1, -1));
+    }
+}
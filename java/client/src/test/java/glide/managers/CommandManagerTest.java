@@ -5,28 +5,55 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static redis_request.RedisRequestOuterClass.RequestType.Blpop;
 import static redis_request.RedisRequestOuterClass.RequestType.CustomCommand;
-
+import static redis_request.RedisRequestOuterClass.RequestType.GetString;
+import static redis_request.RedisRequestOuterClass.RequestType.SetString;
+
+import glide.api.metrics.ClientMetrics;
+import glide.api.metrics.ClientStatistics;
+import glide.api.metrics.RequestTrace;
+import glide.api.metrics.RequestTrace.Stage;
+import glide.api.metrics.RequestTracer;
 import glide.api.models.ClusterTransaction;
+import glide.api.models.Script;
+import glide.api.models.StreamedValue;
 import glide.api.models.Transaction;
+import glide.api.models.ValueCodecs;
 import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SimpleRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SlotType;
+import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.RequestException;
 import glide.connectors.handlers.ChannelHandler;
+import glide.connectors.handlers.CodecCommandRequest;
+import glide.connectors.handlers.CommandRequest;
+import glide.connectors.handlers.ResponseCallback;
+import glide.connectors.handlers.TransactionRequest;
+import glide.connectors.handlers.ValueCommandRequest;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +63,7 @@ import org.mockito.ArgumentCaptor;
 import redis_request.RedisRequestOuterClass.RedisRequest;
 import redis_request.RedisRequestOuterClass.SimpleRoutes;
 import redis_request.RedisRequestOuterClass.SlotTypes;
+import response.ResponseOuterClass.ConstantResponse;
 import response.ResponseOuterClass.Response;
 
 public class CommandManagerTest {
@@ -61,7 +89,8 @@ public class CommandManagerTest {
 
         CompletableFuture<Response> future = new CompletableFuture<>();
         future.complete(respPointerResponse);
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
         // exercise
@@ -83,7 +112,8 @@ public class CommandManagerTest {
         Response respPointerResponse = Response.newBuilder().build();
         CompletableFuture<Response> future = new CompletableFuture<>();
         future.complete(respPointerResponse);
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
         // exercise
@@ -110,7 +140,8 @@ public class CommandManagerTest {
 
         CompletableFuture<Response> future = new CompletableFuture<>();
         future.complete(respPointerResponse);
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
         // exercise
@@ -126,19 +157,70 @@ public class CommandManagerTest {
         assertEquals(testString, respPointer);
     }
 
+    @Test
+    @SneakyThrows
+    public void submitBlockingCommand_sends_command_over_dedicated_connection() {
+        // setup
+        ChannelHandler dedicatedChannel = mock(ChannelHandler.class);
+        when(dedicatedChannel.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Response.newBuilder().build()));
+        var blockingConnections =
+                new BlockingConnectionPool(
+                        1,
+                        1,
+                        () ->
+                                CompletableFuture.completedFuture(
+                                        new BlockingConnectionPool.Connection(
+                                                mock(ConnectionManager.class), new CommandManager(dedicatedChannel))));
+        service =
+                new CommandManager(channelHandler, null, ClientMetrics.NOOP, null, blockingConnections);
+
+        // exercise
+        service.submitBlockingCommand(Blpop, new String[] {"key", "0"}, r -> null).get();
+
+        // verify
+        verify(dedicatedChannel).write(any(CommandRequest.class), anyBoolean(), anyLong(), any());
+        verify(channelHandler, never())
+                .write(any(CommandRequest.class), anyBoolean(), anyLong(), any());
+        assertEquals(1, blockingConnections.getIdleCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitScript_sends_script_invocation() {
+        // setup
+        Script script = mock(Script.class);
+        when(script.getHash()).thenReturn("hash");
+        when(channelHandler.write(any(RedisRequest.Builder.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Response.newBuilder().build()));
+        ArgumentCaptor<RedisRequest.Builder> captor =
+                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+
+        // exercise
+        service.submitScript(script, List.of("key1", "key2"), List.of("arg1"), r -> null).get();
+
+        // verify
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue();
+        assertTrue(requestBuilder.hasScriptInvocation());
+        assertEquals("hash", requestBuilder.getScriptInvocation().getHash());
+        assertEquals(List.of("key1", "key2"), requestBuilder.getScriptInvocation().getKeysList());
+        assertEquals(List.of("arg1"), requestBuilder.getScriptInvocation().getArgsList());
+    }
+
     @ParameterizedTest
     @EnumSource(value = SimpleRoute.class)
     public void prepare_request_with_simple_routes(SimpleRoute routeType) {
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
-        ArgumentCaptor<RedisRequest.Builder> captor =
-                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+        ArgumentCaptor<CommandRequest> captor = ArgumentCaptor.forClass(CommandRequest.class);
 
         service.submitNewCommand(CustomCommand, new String[0], routeType, r -> null);
-        verify(channelHandler).write(captor.capture(), anyBoolean());
-        var requestBuilder = captor.getValue();
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue().toProtobuf();
 
         var protobufToClientRouteMapping =
                 Map.of(
@@ -161,16 +243,16 @@ public class CommandManagerTest {
     @EnumSource(value = SlotType.class)
     public void prepare_request_with_slot_id_routes(SlotType slotType) {
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
-        ArgumentCaptor<RedisRequest.Builder> captor =
-                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+        ArgumentCaptor<CommandRequest> captor = ArgumentCaptor.forClass(CommandRequest.class);
 
         service.submitNewCommand(
                 CustomCommand, new String[0], new SlotIdRoute(42, slotType), r -> null);
-        verify(channelHandler).write(captor.capture(), anyBoolean());
-        var requestBuilder = captor.getValue();
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue().toProtobuf();
 
         var protobufToClientRouteMapping =
                 Map.of(
@@ -194,16 +276,16 @@ public class CommandManagerTest {
     @EnumSource(value = SlotType.class)
     public void prepare_request_with_slot_key_routes(SlotType slotType) {
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
-        ArgumentCaptor<RedisRequest.Builder> captor =
-                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+        ArgumentCaptor<CommandRequest> captor = ArgumentCaptor.forClass(CommandRequest.class);
 
         service.submitNewCommand(
                 CustomCommand, new String[0], new SlotKeyRoute("TEST", slotType), r -> null);
-        verify(channelHandler).write(captor.capture(), anyBoolean());
-        var requestBuilder = captor.getValue();
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue().toProtobuf();
 
         var protobufToClientRouteMapping =
                 Map.of(
@@ -226,16 +308,16 @@ public class CommandManagerTest {
     @Test
     public void prepare_request_with_by_address_route() {
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
-        ArgumentCaptor<RedisRequest.Builder> captor =
-                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+        ArgumentCaptor<CommandRequest> captor = ArgumentCaptor.forClass(CommandRequest.class);
 
         service.submitNewCommand(
                 CustomCommand, new String[0], new ByAddressRoute("testhost", 6379), r -> null);
-        verify(channelHandler).write(captor.capture(), anyBoolean());
-        var requestBuilder = captor.getValue();
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue().toProtobuf();
 
         assertAll(
                 () -> assertTrue(requestBuilder.hasRoute()),
@@ -250,7 +332,8 @@ public class CommandManagerTest {
     @Test
     public void prepare_request_with_unknown_route_type() {
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
 
         var exception =
                 assertThrows(
@@ -270,18 +353,18 @@ public class CommandManagerTest {
         trans.customCommand(arg1).customCommand(arg2).customCommand(arg3);
 
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(TransactionRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
-        ArgumentCaptor<RedisRequest.Builder> captor =
-                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+        ArgumentCaptor<TransactionRequest> captor = ArgumentCaptor.forClass(TransactionRequest.class);
 
         // exercise
         service.submitNewCommand(trans, r -> null);
 
         // verify
-        verify(channelHandler).write(captor.capture(), anyBoolean());
-        var requestBuilder = captor.getValue();
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue().toProtobuf();
 
         // verify
         assertTrue(requestBuilder.hasTransaction());
@@ -311,15 +394,15 @@ public class CommandManagerTest {
                 new ClusterTransaction().customCommand(arg1).customCommand(arg2).customCommand(arg3);
 
         CompletableFuture<Response> future = new CompletableFuture<>();
-        when(channelHandler.write(any(), anyBoolean())).thenReturn(future);
+        when(channelHandler.write(any(TransactionRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
         when(channelHandler.isClosed()).thenReturn(false);
 
-        ArgumentCaptor<RedisRequest.Builder> captor =
-                ArgumentCaptor.forClass(RedisRequest.Builder.class);
+        ArgumentCaptor<TransactionRequest> captor = ArgumentCaptor.forClass(TransactionRequest.class);
 
         service.submitNewCommand(trans, Optional.of(routeType), r -> null);
-        verify(channelHandler).write(captor.capture(), anyBoolean());
-        var requestBuilder = captor.getValue();
+        verify(channelHandler).write(captor.capture(), anyBoolean(), anyLong(), any());
+        var requestBuilder = captor.getValue().toProtobuf();
 
         var protobufToClientRouteMapping =
                 Map.of(
@@ -337,4 +420,293 @@ public class CommandManagerTest {
                 () -> assertFalse(requestBuilder.getRoute().hasSlotIdRoute()),
                 () -> assertFalse(requestBuilder.getRoute().hasSlotKeyRoute()));
     }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_with_StreamedValue_writes_value_as_last_argument() {
+        // setup
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        when(channelHandler.write(any(ValueCommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<ValueCommandRequest> captor = ArgumentCaptor.forClass(ValueCommandRequest.class);
+        var value = StreamedValue.of(new ByteArrayInputStream("value".getBytes()), 5);
+
+        // exercise
+        service.submitNewCommand(SetString, new String[] {"key"}, value, r -> null);
+
+        // verify
+        verify(channelHandler).write(captor.capture(), eq(true), anyLong(), any());
+        var request = captor.getValue();
+        assertEquals(
+                List.of("key", "value"),
+                request.toProtobuf().getSingleCommand().getArgsArray().getArgsList());
+        assertTrue(request.release());
+    }
+
+    @Test
+    public void submitNewCommand_with_StreamedValue_fails_when_value_cannot_be_read() {
+        // setup
+        when(channelHandler.isClosed()).thenReturn(false);
+        var value = StreamedValue.of(new ByteArrayInputStream("short".getBytes()), 100);
+
+        // exercise
+        var result = service.submitNewCommand(SetString, new String[] {"key"}, value, r -> null);
+
+        // verify
+        var exception = assertThrows(ExecutionException.class, result::get);
+        assertTrue(exception.getCause() instanceof RequestException);
+        verify(channelHandler, never())
+                .write(any(ValueCommandRequest.class), anyBoolean(), anyLong(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_with_StreamedValue_reads_value_on_calling_thread() {
+        // setup
+        when(channelHandler.write(any(ValueCommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(new CompletableFuture<>());
+        when(channelHandler.isClosed()).thenReturn(false);
+        var readers = new ArrayList<Thread>();
+        var stream =
+                new ByteArrayInputStream("value".getBytes()) {
+                    @Override
+                    public synchronized int read(byte[] b, int off, int len) {
+                        readers.add(Thread.currentThread());
+                        return super.read(b, off, len);
+                    }
+                };
+
+        // exercise
+        service.submitNewCommand(
+                SetString, new String[] {"key"}, StreamedValue.of(stream, 5), r -> null);
+
+        // verify
+        assertFalse(readers.isEmpty());
+        assertTrue(readers.stream().allMatch(Thread.currentThread()::equals));
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_with_ValueCodec_writes_encoded_value_as_last_argument() {
+        // setup
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        when(channelHandler.write(any(CodecCommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<CodecCommandRequest> captor = ArgumentCaptor.forClass(CodecCommandRequest.class);
+
+        // exercise
+        service.submitNewCommand(
+                SetString, new String[] {"key"}, Long.MIN_VALUE, ValueCodecs.LONG, r -> null);
+
+        // verify
+        verify(channelHandler).write(captor.capture(), eq(true), anyLong(), any());
+        assertEquals(
+                List.of("key", Long.toString(Long.MIN_VALUE)),
+                captor.getValue().toProtobuf().getSingleCommand().getArgsArray().getArgsList());
+    }
+
+    @Test
+    public void submitNewCommand_with_ValueCodec_fails_when_value_cannot_be_encoded() {
+        // setup
+        when(channelHandler.isClosed()).thenReturn(false);
+        byte[] value = {'a', (byte) 0xC3, 'b'};
+
+        // exercise
+        var result =
+                service.submitNewCommand(
+                        SetString, new String[] {"key"}, value, ValueCodecs.BYTES, r -> null);
+
+        // verify
+        var exception = assertThrows(ExecutionException.class, result::get);
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        verify(channelHandler, never())
+                .write(any(CodecCommandRequest.class), anyBoolean(), anyLong(), any());
+    }
+
+    @Test
+    public void submitNewCommand_with_callback_passes_decoded_result_to_callback() {
+        // setup
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<ResponseCallback> captor = ArgumentCaptor.forClass(ResponseCallback.class);
+        AtomicReference<Object> result = new AtomicReference<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+
+        // exercise
+        service.submitNewCommand(
+                GetString,
+                new String[] {"key"},
+                r -> "decoded",
+                (value, error) -> result.set(error == null ? value : error));
+
+        // verify
+        verify(channelHandler)
+                .writeWithCallback(any(CommandRequest.class), eq(true), anyLong(), captor.capture());
+        captor.getValue().onResponse(response);
+        assertEquals("decoded", result.get());
+    }
+
+    @Test
+    public void submitNewCommand_with_callback_passes_failures_to_callback() {
+        // setup
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<ResponseCallback> captor = ArgumentCaptor.forClass(ResponseCallback.class);
+        AtomicReference<Throwable> result = new AtomicReference<>();
+
+        // exercise
+        service.submitNewCommand(
+                GetString,
+                new String[] {"key"},
+                r -> {
+                    throw new RequestException("TEST");
+                },
+                (value, error) -> result.set(error));
+
+        // verify
+        verify(channelHandler)
+                .writeWithCallback(any(CommandRequest.class), eq(true), anyLong(), captor.capture());
+        captor.getValue().onResponse(Response.newBuilder().build());
+        assertTrue(result.get() instanceof RequestException);
+
+        captor.getValue().onFailure(new ClosingException("TEST"));
+        assertTrue(result.get() instanceof ClosingException);
+        verify(channelHandler).close();
+    }
+
+    @Test
+    public void submitNewCommand_with_callback_passes_callback_exceptions_to_uncaught_handler() {
+        // setup
+        when(channelHandler.isClosed()).thenReturn(false);
+        ArgumentCaptor<ResponseCallback> captor = ArgumentCaptor.forClass(ResponseCallback.class);
+        AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        var callbackException = new IllegalStateException("TEST");
+        Thread thread = Thread.currentThread();
+        var previousHandler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> uncaught.set(e));
+
+        try {
+            // exercise
+            service.submitNewCommand(
+                    GetString,
+                    new String[] {"key"},
+                    r -> "decoded",
+                    (value, error) -> {
+                        throw callbackException;
+                    });
+            verify(channelHandler)
+                    .writeWithCallback(any(CommandRequest.class), eq(true), anyLong(), captor.capture());
+            captor.getValue().onResponse(Response.newBuilder().build());
+        } finally {
+            thread.setUncaughtExceptionHandler(previousHandler);
+        }
+
+        // verify
+        assertSame(callbackException, uncaught.get());
+    }
+
+    @Test
+    public void submitNewCommand_with_callback_fails_when_channel_is_closed() {
+        // setup
+        when(channelHandler.isClosed()).thenReturn(true);
+        AtomicReference<Throwable> result = new AtomicReference<>();
+
+        // exercise
+        service.submitNewCommand(
+                GetString, new String[] {"key"}, r -> null, (value, error) -> result.set(error));
+
+        // verify
+        assertTrue(result.get() instanceof ClosingException);
+        verify(channelHandler, never())
+                .writeWithCallback(any(CommandRequest.class), anyBoolean(), anyLong(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_with_request_deadline_passes_it_to_channel() {
+        // setup
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        future.complete(Response.newBuilder().build());
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+
+        // exercise
+        service.withRequestDeadline(42).submitNewCommand(CustomCommand, new String[0], r -> null).get();
+
+        // verify
+        verify(channelHandler).write(any(CommandRequest.class), eq(true), eq(42L), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_records_metrics() {
+        // setup
+        var statistics = new ClientStatistics();
+        service = new CommandManager(channelHandler, null, statistics, null);
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+
+        // exercise
+        var result = service.submitNewCommand(GetString, new String[] {"key"}, r -> null);
+        assertEquals(1, statistics.getInFlight());
+        future.complete(Response.newBuilder().build());
+        result.get();
+
+        // verify
+        assertEquals(0, statistics.getInFlight());
+        assertEquals(1, statistics.getLatencyHistogram(GetString).getCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_traces_sampled_requests() {
+        // setup
+        var traces = new AtomicReference<RequestTrace>();
+        var tracer = new RequestTracer(1, traces::set);
+        service = new CommandManager(channelHandler, null, ClientMetrics.NOOP, tracer);
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        future.complete(Response.newBuilder().build());
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(future);
+        when(channelHandler.isClosed()).thenReturn(false);
+
+        // exercise
+        service.submitNewCommand(GetString, new String[] {"key"}, r -> null).get();
+
+        // verify
+        verify(channelHandler)
+                .write(any(CommandRequest.class), eq(true), eq(0L), any(RequestTrace.class));
+        RequestTrace trace = traces.get();
+        assertEquals(GetString, trace.getRequestType());
+        assertTrue(trace.hasStage(Stage.DECODED));
+        assertTrue(trace.hasStage(Stage.COMPLETED));
+        assertEquals(1, tracer.getStageHistogram(Stage.COMPLETED).getCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void submitNewCommand_decodes_response_on_completion_executor_of_channel() {
+        // setup
+        var executorThreads = new LinkedList<Thread>();
+        Executor executor =
+                task -> {
+                    executorThreads.add(Thread.currentThread());
+                    task.run();
+                };
+        when(channelHandler.getCompletionExecutor()).thenReturn(executor);
+        when(channelHandler.write(any(CommandRequest.class), anyBoolean(), anyLong(), any()))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                Response.newBuilder().setConstantResponse(ConstantResponse.OK).build()));
+
+        // exercise
+        var result = service.submitNewCommand(GetString, new String[] {"key"}, r -> "decoded").get();
+
+        // verify
+        assertEquals("decoded", result);
+        assertEquals(List.of(Thread.currentThread()), executorThreads);
+    }
 }
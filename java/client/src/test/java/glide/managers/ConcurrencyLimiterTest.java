@@ -0,0 +1,159 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static glide.api.models.configuration.ConcurrencyLimitConfiguration.OverloadPolicy.QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.configuration.ConcurrencyLimitConfiguration;
+import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.OverloadException;
+import glide.api.models.exceptions.TimeoutException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    @SneakyThrows
+    public void rejects_requests_over_the_limit() {
+        var limiter =
+                new ConcurrencyLimiter(
+                        ConcurrencyLimitConfiguration.builder().initialLimit(2).maxLimit(2).build());
+        var first = new CompletableFuture<String>();
+        var second = new CompletableFuture<String>();
+
+        assertSame(first, limiter.submit(() -> first));
+        assertSame(second, limiter.submit(() -> second));
+        var rejected = limiter.submit(() -> CompletableFuture.completedFuture("never sent"));
+
+        var exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(OverloadException.class, exception.getCause());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejectedCount());
+
+        first.complete("done");
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @SneakyThrows
+    public void queues_requests_over_the_limit() {
+        var limiter =
+                new ConcurrencyLimiter(
+                        ConcurrencyLimitConfiguration.builder()
+                                .initialLimit(1)
+                                .maxLimit(1)
+                                .overloadPolicy(QUEUE)
+                                .maxQueueSize(1)
+                                .build());
+        var first = new CompletableFuture<String>();
+        var second = new CompletableFuture<String>();
+
+        limiter.submit(() -> first);
+        var queued = limiter.submit(() -> second);
+        var rejected = limiter.submit(() -> CompletableFuture.completedFuture("never sent"));
+
+        assertEquals(1, limiter.getQueueDepth());
+        assertTrue(rejected.isCompletedExceptionally());
+        assertFalse(queued.isDone());
+
+        // completion of the first request sends the queued one
+        first.complete("first");
+        assertEquals(0, limiter.getQueueDepth());
+        assertEquals(1, limiter.getInFlight());
+        second.complete("second");
+        assertEquals("second", queued.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void limit_adapts_to_latency() {
+        var limiter =
+                new ConcurrencyLimiter(
+                        ConcurrencyLimitConfiguration.builder()
+                                .initialLimit(2)
+                                .latencyThreshold(60_000)
+                                .backoffRatio(0.5)
+                                .build());
+
+        // fast responses while the limit is used grow it
+        var pending = new CompletableFuture<String>();
+        limiter.submit(() -> pending);
+        limiter.submit(() -> CompletableFuture.completedFuture("fast"));
+        assertEquals(3, limiter.getLimit());
+
+        // a timeout shrinks it
+        pending.completeExceptionally(new TimeoutException("slow"));
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    @SneakyThrows
+    public void drains_requests_failing_synchronously_without_recursion() {
+        int queued = 100_000;
+        var limiter =
+                new ConcurrencyLimiter(
+                        ConcurrencyLimitConfiguration.builder()
+                                .initialLimit(1)
+                                .maxLimit(1)
+                                .overloadPolicy(QUEUE)
+                                .maxQueueSize(queued)
+                                .build());
+        var first = new CompletableFuture<String>();
+        limiter.submit(() -> first);
+        var results = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < queued; i++) {
+            results.add(
+                    limiter.submit(
+                            () -> CompletableFuture.failedFuture(new ClosingException("channel closed"))));
+        }
+
+        // each queued request completes within the drain started by the first one
+        first.complete("done");
+
+        assertEquals(0, limiter.getQueueDepth());
+        assertEquals(0, limiter.getInFlight());
+        var exception = assertThrows(ExecutionException.class, results.get(queued - 1)::get);
+        assertInstanceOf(ClosingException.class, exception.getCause());
+    }
+
+    @Test
+    public void configuration_rejects_invalid_settings() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().minLimit(0).initialLimit(1).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().minLimit(5).initialLimit(2).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().initialLimit(20).maxLimit(10).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().backoffRatio(0).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().backoffRatio(1).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().backoffRatio(Double.NaN).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().latencyThreshold(0).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConcurrencyLimitConfiguration.builder().maxQueueSize(-1).build());
+
+        var configuration = ConcurrencyLimitConfiguration.builder().build();
+        assertEquals(20, configuration.getInitialLimit());
+        assertEquals(0.9, configuration.getBackoffRatio());
+    }
+}
@@ -17,6 +17,8 @@ import connection_request.ConnectionRequestOuterClass;
 import connection_request.ConnectionRequestOuterClass.AuthenticationInfo;
 import connection_request.ConnectionRequestOuterClass.ConnectionRequest;
 import connection_request.ConnectionRequestOuterClass.ConnectionRetryStrategy;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksDisabled;
+import connection_request.ConnectionRequestOuterClass.PeriodicChecksManualInterval;
 import connection_request.ConnectionRequestOuterClass.TlsMode;
 import glide.api.models.configuration.BackoffStrategy;
 import glide.api.models.configuration.NodeAddress;
@@ -24,6 +26,7 @@ import glide.api.models.configuration.ReadFrom;
 import glide.api.models.configuration.RedisClientConfiguration;
 import glide.api.models.configuration.RedisClusterClientConfiguration;
 import glide.api.models.configuration.RedisCredentials;
+import glide.api.models.configuration.TopologyRefreshConfiguration;
 import glide.api.models.exceptions.ClosingException;
 import glide.connectors.handlers.ChannelHandler;
 import io.netty.channel.ChannelFuture;
@@ -233,4 +236,154 @@ public class ConnectionManagerTest {
         assertEquals("Unexpected data in response", executionException.getCause().getMessage());
         verify(channel).close();
     }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_az_affinity() {
+        // setup
+        RedisClientConfiguration redisClientConfiguration =
+                RedisClientConfiguration.builder()
+                        .readFrom(ReadFrom.AZ_AFFINITY)
+                        .clientAZ("us-east-1a")
+                        .build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setClusterModeEnabled(false)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.AZAffinity)
+                        .setClientAz("us-east-1a")
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result = connectionManager.connectToRedis(redisClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_lowest_latency() {
+        // setup
+        RedisClusterClientConfiguration redisClusterClientConfiguration =
+                RedisClusterClientConfiguration.builder().readFrom(ReadFrom.LOWEST_LATENCY).build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setClusterModeEnabled(true)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.LowestLatency)
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result =
+                connectionManager.connectToRedis(redisClusterClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @Test
+    public void az_affinity_without_client_az_throws_IllegalArgumentException() {
+        RedisClientConfiguration redisClientConfiguration =
+                RedisClientConfiguration.builder().readFrom(ReadFrom.AZ_AFFINITY).build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> connectionManager.connectToRedis(redisClientConfiguration));
+    }
+
+    @Test
+    public void blank_client_az_throws_IllegalArgumentException() {
+        RedisClientConfiguration redisClientConfiguration =
+                RedisClientConfiguration.builder().readFrom(ReadFrom.AZ_AFFINITY).clientAZ(" ").build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> connectionManager.connectToRedis(redisClientConfiguration));
+    }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_periodic_checks_interval() {
+        // setup
+        RedisClusterClientConfiguration redisClusterClientConfiguration =
+                RedisClusterClientConfiguration.builder()
+                        .topologyRefresh(
+                                TopologyRefreshConfiguration.builder().periodicChecksInterval(300).build())
+                        .build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setClusterModeEnabled(true)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.Primary)
+                        .setPeriodicChecksManualInterval(
+                                PeriodicChecksManualInterval.newBuilder().setDurationInSec(300))
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result =
+                connectionManager.connectToRedis(redisClusterClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @SneakyThrows
+    @Test
+    public void connection_request_protobuf_generation_with_periodic_checks_disabled() {
+        // setup
+        RedisClusterClientConfiguration redisClusterClientConfiguration =
+                RedisClusterClientConfiguration.builder()
+                        .topologyRefresh(
+                                TopologyRefreshConfiguration.builder().periodicChecksDisabled(true).build())
+                        .build();
+        ConnectionRequest expectedProtobufConnectionRequest =
+                ConnectionRequest.newBuilder()
+                        .setTlsMode(TlsMode.NoTls)
+                        .setClusterModeEnabled(true)
+                        .setReadFrom(ConnectionRequestOuterClass.ReadFrom.Primary)
+                        .setPeriodicChecksDisabled(PeriodicChecksDisabled.getDefaultInstance())
+                        .build();
+        CompletableFuture<Response> completedFuture = new CompletableFuture<>();
+        Response response = Response.newBuilder().setConstantResponse(ConstantResponse.OK).build();
+        completedFuture.complete(response);
+
+        // execute
+        when(channel.connect(eq(expectedProtobufConnectionRequest))).thenReturn(completedFuture);
+        CompletableFuture<Void> result =
+                connectionManager.connectToRedis(redisClusterClientConfiguration);
+
+        // verify
+        assertNull(result.get());
+        verify(channel).connect(eq(expectedProtobufConnectionRequest));
+    }
+
+    @Test
+    public void invalid_periodic_checks_interval_throws_IllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        TopologyRefreshConfiguration.builder()
+                                .periodicChecksDisabled(true)
+                                .periodicChecksInterval(30)
+                                .build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TopologyRefreshConfiguration.builder().periodicChecksInterval(0).build());
+    }
 }
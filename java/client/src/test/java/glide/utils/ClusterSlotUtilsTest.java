@@ -0,0 +1,77 @@
+/** Copyright GLIDE-for-Redis Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import static glide.api.models.configuration.RequestRoutingConfiguration.SlotType.PRIMARY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ClusterSlotUtilsTest {
+
+    @Test
+    public void getSlot_matches_redis_reference_values() {
+        assertEquals(12739, ClusterSlotUtils.getSlot("123456789"));
+        assertEquals(12182, ClusterSlotUtils.getSlot("foo"));
+        assertEquals(5061, ClusterSlotUtils.getSlot("bar"));
+        assertEquals(0, ClusterSlotUtils.getSlot(""));
+    }
+
+    @Test
+    public void getSlot_uses_hash_tags() {
+        assertEquals(
+                ClusterSlotUtils.getSlot("{user1000}.following"),
+                ClusterSlotUtils.getSlot("{user1000}.followers"));
+        assertEquals(ClusterSlotUtils.getSlot("user1000"), ClusterSlotUtils.getSlot("{user1000}"));
+        // an empty tag is ignored and the whole key is hashed
+        assertEquals(
+                ClusterSlotUtils.getSlot("foo{}{bar}".getBytes(StandardCharsets.UTF_8)),
+                ClusterSlotUtils.getSlot("foo{}{bar}"));
+        assertEquals(ClusterSlotUtils.getSlot("{bar"), ClusterSlotUtils.getSlot("foo{{bar}}zap"));
+        assertEquals(ClusterSlotUtils.getSlot("bar"), ClusterSlotUtils.getSlot("foo{bar}{zap}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"key", "{tag}key", "ключ", "{ключ}1", "键{值}", "emoji😀", "bad\uD800", "{"})
+    public void getSlot_string_and_binary_keys_agree(String key) {
+        assertEquals(
+                ClusterSlotUtils.getSlot(key.getBytes(StandardCharsets.UTF_8)),
+                ClusterSlotUtils.getSlot(key));
+    }
+
+    @Test
+    public void groupBySlot_partitions_keys() {
+        Map<Integer, List<String>> groups =
+                ClusterSlotUtils.groupBySlot(List.of("{a}1", "foo", "{a}2", "bar"));
+
+        assertEquals(3, groups.size());
+        assertEquals(List.of("{a}1", "{a}2"), groups.get(ClusterSlotUtils.getSlot("a")));
+        assertEquals(List.of("foo"), groups.get(12182));
+        assertEquals(List.of("bar"), groups.get(5061));
+    }
+
+    @Test
+    public void groupByNode_partitions_keys() {
+        Map<String, List<String>> groups =
+                ClusterSlotUtils.groupByNode(
+                        List.of("foo", "bar", "123456789"), slot -> slot < 8192 ? "node1" : "node2");
+
+        assertEquals(List.of("bar"), groups.get("node1"));
+        assertEquals(List.of("foo", "123456789"), groups.get("node2"));
+    }
+
+    @Test
+    public void slotIdRoute_built_from_key() {
+        SlotIdRoute route = SlotIdRoute.ofKey("foo", PRIMARY);
+        assertEquals(12182, route.getSlotId());
+        assertEquals(PRIMARY, route.getSlotType());
+        assertTrue(route.isSingleNodeRoute());
+    }
+}
@@ -3,7 +3,7 @@
  */
 use glide_core::start_socket_listener;
 
-use jni::objects::{JClass, JObject, JObjectArray, JThrowable};
+use jni::objects::{JClass, JObject, JObjectArray, JString, JThrowable};
 use jni::sys::jlong;
 use jni::JNIEnv;
 use log::error;
@@ -94,7 +94,7 @@ fn redis_value_to_java<'local>(env: &mut JNIEnv<'local>, val: Value) -> JObject<
 }
 
 #[no_mangle]
-pub extern "system" fn Java_glide_ffi_resolvers_RedisValueResolver_valueFromPointer<'local>(
+pub extern "system" fn Java_glide_ffi_resolvers_RedisValueResolver_valueFromPointerNative<'local>(
     mut env: JNIEnv<'local>,
     _class: JClass<'local>,
     pointer: jlong,
@@ -103,6 +103,108 @@ pub extern "system" fn Java_glide_ffi_resolvers_RedisValueResolver_valueFromPoin
     redis_value_to_java(&mut env, *value)
 }
 
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_RedisValueResolver_dropValueNative<'local>(
+    _env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    pointer: jlong,
+) {
+    drop(unsafe { Box::from_raw(pointer as *mut Value) });
+}
+
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_RedisValueResolver_bytesFromPointerNative<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    pointer: jlong,
+) -> JObject<'local> {
+    // The value stays owned by the pointer: the buffer is valid until `dropValue` is called.
+    let value = unsafe { &mut *(pointer as *mut Value) };
+    let bytes: &mut [u8] = match value {
+        Value::Nil => return JObject::null(),
+        Value::BulkString(data) => data.as_mut_slice(),
+        Value::SimpleString(text) => unsafe { text.as_bytes_mut() },
+        _ => {
+            let _ = env.throw_new(
+                "glide/api/models/exceptions/RedisException",
+                "Unexpected return type from Redis: expected a string value",
+            );
+            return JObject::null();
+        }
+    };
+    match unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) } {
+        Ok(buffer) => buffer.into(),
+        Err(err) => {
+            throw_java_exception(env, err.to_string());
+            JObject::null()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_RedisValueResolver_bytesArrayFromPointerNative<
+    'local,
+>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    pointer: jlong,
+) -> JObject<'local> {
+    // The value stays owned by the pointer: the buffers are valid until `dropValue` is called.
+    let value = unsafe { &mut *(pointer as *mut Value) };
+    let elements: Vec<&mut Value> = match value {
+        Value::Nil => return JObject::null(),
+        Value::Array(array) | Value::Set(array) => array.iter_mut().collect(),
+        Value::Map(map) => map
+            .iter_mut()
+            .flat_map(|(key, value)| [key, value])
+            .collect(),
+        _ => {
+            let _ = env.throw_new(
+                "glide/api/models/exceptions/RedisException",
+                "Unexpected return type from Redis: expected an array or a map",
+            );
+            return JObject::null();
+        }
+    };
+    let buffers = match env.new_object_array(
+        elements.len() as i32,
+        "java/nio/ByteBuffer",
+        JObject::null(),
+    ) {
+        Ok(buffers) => buffers,
+        Err(err) => {
+            throw_java_exception(env, err.to_string());
+            return JObject::null();
+        }
+    };
+    for (i, element) in elements.into_iter().enumerate() {
+        let bytes: &mut [u8] = match element {
+            Value::Nil => continue,
+            Value::BulkString(data) => data.as_mut_slice(),
+            Value::SimpleString(text) => unsafe { text.as_bytes_mut() },
+            _ => {
+                let _ = env.throw_new(
+                    "glide/api/models/exceptions/RedisException",
+                    "Unexpected return type from Redis: expected string elements",
+                );
+                return JObject::null();
+            }
+        };
+        let buffer = match unsafe { env.new_direct_byte_buffer(bytes.as_mut_ptr(), bytes.len()) } {
+            Ok(buffer) => buffer,
+            Err(err) => {
+                throw_java_exception(env, err.to_string());
+                return JObject::null();
+            }
+        };
+        if let Err(err) = env.set_object_array_element(&buffers, i as i32, buffer) {
+            throw_java_exception(env, err.to_string());
+            return JObject::null();
+        }
+    }
+    buffers.into()
+}
+
 #[no_mangle]
 pub extern "system" fn Java_glide_ffi_resolvers_SocketListenerResolver_startSocketListener<
     'local,
@@ -133,6 +235,41 @@ pub extern "system" fn Java_glide_ffi_resolvers_SocketListenerResolver_startSock
     }
 }
 
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_ScriptResolver_storeScriptNative<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    code: JString<'local>,
+) -> JObject<'local> {
+    let code: String = match env.get_string(&code).map(String::from) {
+        Ok(code) => code,
+        Err(err) => {
+            throw_java_exception(env, err.to_string());
+            return JObject::null();
+        }
+    };
+    let hash = glide_core::scripts_container::add_script(&code);
+    match env.new_string(hash) {
+        Ok(hash) => hash.into(),
+        Err(err) => {
+            throw_java_exception(env, err.to_string());
+            JObject::null()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_glide_ffi_resolvers_ScriptResolver_dropScriptNative<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    hash: JString<'local>,
+) {
+    match env.get_string(&hash).map(String::from) {
+        Ok(hash) => glide_core::scripts_container::remove_script(&hash),
+        Err(err) => throw_java_exception(env, err.to_string()),
+    }
+}
+
 fn throw_java_exception(mut env: JNIEnv, message: String) {
     let res = env.new_object(
         "java/lang/Exception",